@@ -0,0 +1,219 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.repository.SearchCandidateRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 저장된 검색 N개를 단건 검색 N번으로 실행하는 경우와 일괄 검색 한 번으로 실행하는 경우를 비교합니다.
+ * - singleSearches: 검색마다 후보 쿼리를 실행하고 점수를 매깁니다. (검색 API를 N번 호출하는 것과 같은 DB 부하)
+ * - batchedSearch: 모든 조건의 합집합으로 후보 쿼리를 한 번 실행하고, 검색별 점수 계산은 메모리에서 합니다. (BatchSearchService)
+ * H2 인메모리 DB에 실제 bookmarks/tags/bookmark_tags 테이블과 같은 컬럼을 만들어 측정하며, 점수/순위는 BatchSearchService.rank를 그대로 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "stream", "kotlin", "react", "docker", "kubernetes", "redis", "kafka",
+            "여행", "맛집", "정리", "가이드", "튜토리얼", "성능", "인덱스", "검색", "트러블슈팅", "회고"
+    };
+    private static final String[] TAGS = {"java", "spring", "devops", "frontend", "database", "travel", "food", "career"};
+    private static final int PAGE_SIZE = 10;
+    private static final ToDoubleFunction<Long> NO_VISITS = bookmarkId -> Frecency.NONE; // 방문 기록 없음 (동점은 생성일/ID 순)
+
+    @Param({"10000", "100000"})
+    private int bookmarkCount;
+
+    @Param({"10", "20"})
+    private int queryCount;
+
+    private Connection connection;
+    private List<String> keywords;
+    private List<List<String>> tagNames;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:batch-search-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bookmark_tags");
+            statement.execute("DROP TABLE IF EXISTS bookmarks");
+            statement.execute("DROP TABLE IF EXISTS tags");
+            statement.execute("CREATE TABLE bookmarks (bookmark_id BIGINT PRIMARY KEY, title_normalized VARCHAR(255), " +
+                    "description_normalized VARCHAR(1000), created_at TIMESTAMP)");
+            statement.execute("CREATE TABLE tags (tag_id BIGINT PRIMARY KEY, name_normalized VARCHAR(100))");
+            statement.execute("CREATE INDEX idx_tags_name_normalized ON tags (name_normalized)");
+            statement.execute("CREATE TABLE bookmark_tags (bookmark_id BIGINT, tag_id BIGINT, PRIMARY KEY (bookmark_id, tag_id))");
+        }
+
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO tags (tag_id, name_normalized) VALUES (?, ?)")) {
+            for (int i = 0; i < TAGS.length; i++) {
+                insert.setLong(1, i + 1);
+                insert.setString(2, TAGS[i]);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bookmarks (bookmark_id, title_normalized, description_normalized, created_at) VALUES (?, ?, ?, ?)");
+             PreparedStatement link = connection.prepareStatement("INSERT INTO bookmark_tags (bookmark_id, tag_id) VALUES (?, ?)")) {
+            for (long id = 1; id <= bookmarkCount; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, sentence(random, 4));
+                insert.setString(3, sentence(random, 12));
+                insert.setTimestamp(4, Timestamp.valueOf(base.plusMinutes(random.nextInt(1_000_000))));
+                insert.addBatch();
+                int first = random.nextInt(TAGS.length);
+                link.setLong(1, id);
+                link.setLong(2, first + 1);
+                link.addBatch();
+                if (random.nextBoolean()) {
+                    link.setLong(1, id);
+                    link.setLong(2, (first + 1) % TAGS.length + 1);
+                    link.addBatch();
+                }
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                    link.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            link.executeBatch();
+        }
+
+        // 대시보드의 저장된 검색처럼, 드문 키워드 + 태그 조합을 섞어 만듭니다.
+        keywords = new ArrayList<>(queryCount);
+        tagNames = new ArrayList<>(queryCount);
+        for (int i = 0; i < queryCount; i++) {
+            keywords.add(i % 3 == 2 ? null : WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+            tagNames.add(i % 2 == 0 ? List.of(TAGS[random.nextInt(TAGS.length)]) : null);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE bookmark_tags");
+            statement.execute("DROP TABLE bookmarks");
+            statement.execute("DROP TABLE tags");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long singleSearches() throws SQLException {
+        long total = 0;
+        for (int i = 0; i < queryCount; i++) {
+            String keyword = keywords.get(i);
+            List<String> tags = tagNames.get(i);
+            List<SearchCandidate> candidates = findCandidates(
+                    keyword != null ? List.of(keyword) : List.of(), tags != null ? tags : List.of());
+            total += BatchSearchService.rank(candidates, keyword, tags, 0, PAGE_SIZE, NO_VISITS).totalElements();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long batchedSearch() throws SQLException {
+        Set<String> allKeywords = new LinkedHashSet<>();
+        Set<String> allTagNames = new LinkedHashSet<>();
+        for (int i = 0; i < queryCount; i++) {
+            if (keywords.get(i) != null) {
+                allKeywords.add(keywords.get(i));
+            }
+            if (tagNames.get(i) != null) {
+                allTagNames.addAll(tagNames.get(i));
+            }
+        }
+        List<SearchCandidate> candidates = findCandidates(allKeywords, allTagNames);
+        long total = 0;
+        for (int i = 0; i < queryCount; i++) {
+            total += BatchSearchService.rank(candidates, keywords.get(i), tagNames.get(i), 0, PAGE_SIZE, NO_VISITS).totalElements();
+        }
+        return total;
+    }
+
+    // BookmarkBatchSearchRepositoryImpl과 같은 모양의 쿼리 (키워드마다 LIKE, 태그는 IN)
+    private List<SearchCandidate> findCandidates(Iterable<String> keywordSet, Iterable<String> tagSet) throws SQLException {
+        List<String> keywordList = new ArrayList<>();
+        keywordSet.forEach(keywordList::add);
+        List<String> tagList = new ArrayList<>();
+        tagSet.forEach(tagList::add);
+
+        StringJoiner conditions = new StringJoiner(" OR ");
+        for (int i = 0; i < keywordList.size(); i++) {
+            conditions.add("b2.title_normalized LIKE ? OR b2.description_normalized LIKE ?");
+        }
+        if (!tagList.isEmpty()) {
+            StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+            tagList.forEach(tag -> placeholders.add("?"));
+            conditions.add("t.name_normalized IN " + placeholders);
+        }
+        String sql = "SELECT b.bookmark_id, b.title_normalized, b.description_normalized, b.created_at, tag.name_normalized " +
+                "FROM bookmarks b LEFT JOIN bookmark_tags bt ON bt.bookmark_id = b.bookmark_id " +
+                "LEFT JOIN tags tag ON tag.tag_id = bt.tag_id " +
+                "WHERE b.bookmark_id IN (SELECT b2.bookmark_id FROM bookmarks b2 " +
+                "LEFT JOIN bookmark_tags bt2 ON bt2.bookmark_id = b2.bookmark_id LEFT JOIN tags t ON t.tag_id = bt2.tag_id " +
+                "WHERE " + conditions + ")";
+
+        List<SearchCandidateRow> rows = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement(sql)) {
+            int parameter = 1;
+            for (String keyword : keywordList) {
+                query.setString(parameter++, "%" + keyword + "%");
+                query.setString(parameter++, "%" + keyword + "%");
+            }
+            for (String tag : tagList) {
+                query.setString(parameter++, tag);
+            }
+            try (ResultSet resultSet = query.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.add(new Row(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                            resultSet.getTimestamp(4).toLocalDateTime(), null, null, resultSet.getString(5)));
+                }
+            }
+        }
+        return SearchCandidate.group(rows);
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < wordCount; i++) {
+            joiner.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return joiner.toString();
+    }
+
+    private record Row(Long getId, String getTitle, String getDescription, LocalDateTime getCreatedAt, Long getFolderId,
+                       Long getTagId, String getTagName)
+            implements SearchCandidateRow {
+    }
+}
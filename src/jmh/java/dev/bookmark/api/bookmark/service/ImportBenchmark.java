@@ -0,0 +1,110 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.ApiApplication;
+import dev.bookmark.api.bookmark.dto.BookmarkImportResultDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netscape HTML 파일에서 북마크 100,000개를 가져오는 시간을 측정합니다. (bookmark.import.chunk-size=1000, H2 인메모리 DB)
+ * 파일은 폴더 2단계(10 x 10)에 북마크를 고르게 나누고, 태그와 설명을 섞고, URL 일부를 겹치게 만듭니다. (dedupe 측정용)
+ * 실제 애플리케이션 컨텍스트로 BookmarkImportService를 실행하며, 반복마다 컨텍스트를 새로 띄워 빈 DB에서 가져옵니다. (시작 시간은 측정에서 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImportBenchmark {
+
+    private static final String[] TAGS = {"spring", "java", "docker", "kafka", "redis", "여행", "맛집", "정리"};
+    private static final int FOLDERS_PER_LEVEL = 10;
+    private static final int DUPLICATE_EVERY = 20; // 20개 중 하나는 앞서 나온 URL을 다시 씀 (5%)
+
+    @Param({"100000"})
+    private int bookmarkCount;
+
+    @Param({"false", "true"})
+    private boolean dedupe;
+
+    private byte[] html;
+    private ConfigurableApplicationContext context;
+    private BookmarkImportService importService;
+
+    @Setup(Level.Trial)
+    public void generateFile() {
+        html = netscapeHtml(bookmarkCount, new Random(42)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Iteration)
+    public void startContext() {
+        // ddl-auto=create이므로 컨텍스트를 띄울 때마다 테이블이 다시 만들어집니다.
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:import-benchmark;DB_CLOSE_DELAY=-1",
+                        "bookmark.import.chunk-size=1000",
+                        "bookmark.search.index.enabled=false",
+                        "logging.level.org.hibernate.SQL=OFF",
+                        "logging.level.dev.bookmark=WARN")
+                .run();
+        importService = context.getBean(BookmarkImportService.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public long importHtml() throws IOException {
+        BookmarkImportResultDto result = importService.importBookmarks(
+                new ByteArrayInputStream(html), BookmarkImportFormat.NETSCAPE_HTML, null, dedupe);
+        return result.getImported();
+    }
+
+    private static String netscapeHtml(int bookmarkCount, Random random) {
+        StringBuilder html = new StringBuilder(bookmarkCount * 160)
+                .append("<!DOCTYPE NETSCAPE-Bookmark-file-1>\n")
+                .append("<META HTTP-EQUIV=\"Content-Type\" CONTENT=\"text/html; charset=UTF-8\">\n")
+                .append("<TITLE>Bookmarks</TITLE>\n<H1>Bookmarks</H1>\n<DL><p>\n");
+        int perFolder = Math.max(1, bookmarkCount / (FOLDERS_PER_LEVEL * FOLDERS_PER_LEVEL));
+        int written = 0;
+        for (int i = 0; i < FOLDERS_PER_LEVEL && written < bookmarkCount; i++) {
+            html.append("    <DT><H3 ADD_DATE=\"1700000000\">폴더 ").append(i).append("</H3>\n    <DL><p>\n");
+            for (int j = 0; j < FOLDERS_PER_LEVEL && written < bookmarkCount; j++) {
+                html.append("        <DT><H3>하위 폴더 ").append(j).append("</H3>\n        <DL><p>\n");
+                int last = (i == FOLDERS_PER_LEVEL - 1 && j == FOLDERS_PER_LEVEL - 1) ? bookmarkCount : written + perFolder;
+                for (; written < Math.min(last, bookmarkCount); written++) {
+                    int urlId = (written > 0 && written % DUPLICATE_EVERY == 0) ? random.nextInt(written) : written;
+                    html.append("            <DT><A HREF=\"https://example.com/articles/").append(urlId)
+                            .append("?ref=import\" ADD_DATE=\"").append(1700000000L + written)
+                            .append("\" TAGS=\"").append(TAGS[random.nextInt(TAGS.length)]).append(',')
+                            .append(TAGS[random.nextInt(TAGS.length)]).append("\">북마크 ").append(written)
+                            .append(' ').append(TAGS[random.nextInt(TAGS.length)]).append("</A>\n");
+                    if (random.nextInt(4) == 0) {
+                        html.append("            <DD>설명 ").append(written).append(" &amp; 메모\n");
+                    }
+                }
+                html.append("        </DL><p>\n");
+            }
+            html.append("    </DL><p>\n");
+        }
+        return html.append("</DL><p>\n").toString();
+    }
+}
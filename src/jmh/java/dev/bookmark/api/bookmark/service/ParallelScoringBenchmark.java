@@ -0,0 +1,75 @@
+package dev.bookmark.api.bookmark.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검색 후보 수별로 순차 점수 계산/정렬과 fork-join 병렬 경로를 비교합니다.
+ * 점수 계산은 AppLevelSortSearchStrategy와 같은 SearchScoring 규칙을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelScoringBenchmark {
+
+    private static final String[] WORDS = {"spring", "boot", "java", "stream", "jpa", "docker", "redis", "검색", "성능", "회고"};
+    private static final String KEYWORD = "java";
+    private static final List<String> TAG_NAMES = List.of("Java", "Spring");
+
+    @Param({"1000", "10000", "50000", "200000"})
+    private int candidateCount;
+
+    // 전체 정렬(FULL_SORT)과 첫 페이지 상위 20개(TOP_K)
+    @Param({"2147483647", "20"})
+    private int limit;
+
+    private List<SearchCandidate> candidates;
+    private ParallelScoringExecutor executor;
+    private Function<SearchCandidate, ScoredCandidate> scorer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        candidates = new ArrayList<>(candidateCount);
+        for (long id = 1; id <= candidateCount; id++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            String description = WORDS[random.nextInt(WORDS.length)] + " 정리";
+            List<String> tagNames = List.of(random.nextBoolean() ? "Java" : "Kotlin", "Spring");
+            candidates.add(new SearchCandidate(id, title, description, base.plusMinutes(random.nextInt(100_000)), tagNames));
+        }
+        executor = new ParallelScoringExecutor(0, Runtime.getRuntime().availableProcessors(), 1);
+        scorer = candidate -> new ScoredCandidate(candidate, SearchScoring.calculateScore(
+                candidate.getTitle(), candidate.getDescription(), candidate.getTagNames(), KEYWORD, TAG_NAMES), Frecency.NONE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public List<ScoredCandidate> sequential() {
+        return ParallelScoringExecutor.rankSequentially(candidates, 0, candidates.size(), scorer, ScoredCandidate.RANKING, limit);
+    }
+
+    @Benchmark
+    public List<ScoredCandidate> parallel() {
+        return executor.scoreAndRank(candidates, scorer, ScoredCandidate.RANKING, limit);
+    }
+}
@@ -0,0 +1,136 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 앞에 %가 붙은 LIKE 전체 비교와 트라이그램 후보 + LIKE 확인 방식의 검색 지연 시간을 북마크 수별로 비교합니다.
+ * H2 인메모리 DB에 실제 bookmarks 테이블과 같은 컬럼을 만들어 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TrigramSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "stream", "kotlin", "react", "docker", "kubernetes", "redis", "kafka",
+            "여행", "맛집", "정리", "가이드", "튜토리얼", "성능", "인덱스", "검색", "트러블슈팅", "회고"
+    };
+    private static final int MAX_CANDIDATES = 5000; // bookmark.search.trigram.max-candidates 기본값
+    private static final String LIKE_SQL =
+            "SELECT bookmark_id FROM bookmarks WHERE LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) " +
+            "OR LOWER(description) LIKE LOWER(CONCAT('%', ?, '%'))";
+
+    @Param({"10000", "100000", "1000000"})
+    private int bookmarkCount;
+
+    // 드문 키워드(후보가 적음)와 흔한 키워드(후보가 많음)를 모두 측정합니다.
+    @Param({"트러블슈팅 회고", "spring"})
+    private String keyword;
+
+    private Connection connection;
+    private TrigramIndex trigramIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:trigram-benchmark;DB_CLOSE_DELAY=-1");
+        trigramIndex = new TrigramIndex();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bookmarks");
+            statement.execute("CREATE TABLE bookmarks (bookmark_id BIGINT PRIMARY KEY, title VARCHAR(255), description CLOB)");
+        }
+
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bookmarks (bookmark_id, title, description) VALUES (?, ?, ?)")) {
+            for (long id = 1; id <= bookmarkCount; id++) {
+                String title = sentence(random, 4);
+                String description = sentence(random, 12);
+                insert.setLong(1, id);
+                insert.setString(2, title);
+                insert.setString(3, description);
+                insert.addBatch();
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                }
+                trigramIndex.add(BookmarkSnapshot.builder().id(id).title(title).description(description).build());
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE bookmarks");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int likeScan() throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(LIKE_SQL)) {
+            query.setString(1, keyword);
+            query.setString(2, keyword);
+            return count(query);
+        }
+    }
+
+    @Benchmark
+    public int trigramThenVerify() throws SQLException {
+        RoaringBitmap candidates = trigramIndex.findCandidates(keyword);
+        if (candidates.getLongCardinality() > MAX_CANDIDATES) {
+            return likeScan(); // AppLevelSortSearchStrategy와 같이 후보가 너무 많으면 전체 LIKE 비교로 돌아갑니다.
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        StringJoiner ids = new StringJoiner(",", "(", ")");
+        candidates.forEach((int id) -> ids.add(Integer.toString(id)));
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT bookmark_id FROM bookmarks WHERE bookmark_id IN " + ids + " AND (" +
+                "LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(description) LIKE LOWER(CONCAT('%', ?, '%')))")) {
+            query.setString(1, keyword);
+            query.setString(2, keyword);
+            return count(query);
+        }
+    }
+
+    private static int count(PreparedStatement query) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < wordCount; i++) {
+            joiner.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return joiner.toString();
+    }
+}
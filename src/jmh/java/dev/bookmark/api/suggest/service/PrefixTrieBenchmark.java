@@ -0,0 +1,82 @@
+package dev.bookmark.api.suggest.service;
+
+import dev.bookmark.api.suggest.dto.SuggestionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 조회(PrefixTrie.find)와 사용 횟수 갱신(adjust)의 지연 시간 분포를 항목 수별로 측정합니다.
+ * SampleTime 모드이므로 결과의 p0.99가 목표(100만 항목에서 1 ms 미만)를 넘지 않는지 확인합니다.
+ * 트라이 설정은 SuggestionIndex와 같습니다. (깊이 12, 노드당 상위 10개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrefixTrieBenchmark {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "stream", "kotlin", "react", "docker", "kubernetes", "redis", "kafka",
+            "여행", "맛집", "정리", "가이드", "튜토리얼", "성능", "인덱스", "검색", "트러블슈팅", "회고"
+    };
+    private static final int PREFIX_COUNT = 4096;
+
+    @Param({"100000", "1000000"})
+    private int entryCount;
+
+    private PrefixTrie trie;
+    private String[] titles;
+    private String[] prefixes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        trie = new PrefixTrie(12, SuggestionIndex.MAX_SUGGESTIONS);
+        titles = new String[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            // 같은 단어로 시작하는 제목이 많도록 만들고, 번호를 붙여 항목을 구분합니다.
+            titles[i] = sentence(random, 3) + " " + i;
+            trie.put(titles[i], 1 + random.nextInt(1000));
+        }
+        // 1~8글자 접두어 (짧을수록 후보가 많은 노드)
+        prefixes = new String[PREFIX_COUNT];
+        for (int i = 0; i < PREFIX_COUNT; i++) {
+            String title = titles[random.nextInt(entryCount)];
+            prefixes[i] = title.substring(0, Math.min(title.length(), 1 + random.nextInt(8)));
+        }
+    }
+
+    @Benchmark
+    public List<SuggestionDto> find() {
+        return trie.find(prefixes[ThreadLocalRandom.current().nextInt(PREFIX_COUNT)], SuggestionIndex.MAX_SUGGESTIONS);
+    }
+
+    // 북마크 생성/삭제 이벤트와 같이 사용 횟수를 하나 올렸다 내립니다. (내릴 때 상위 목록을 다시 계산할 수 있음)
+    @Benchmark
+    public Long adjust() {
+        String title = titles[ThreadLocalRandom.current().nextInt(entryCount)];
+        trie.adjust(title, 1);
+        trie.adjust(title, -1);
+        return trie.weightOf(title);
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < wordCount; i++) {
+            joiner.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return joiner.toString();
+    }
+}
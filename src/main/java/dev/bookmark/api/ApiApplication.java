@@ -2,8 +2,10 @@ package dev.bookmark.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 검색 인덱스 스냅샷 주기적 저장 등
 public class ApiApplication {
 
 	public static void main(String[] args) {
@@ -1,10 +1,28 @@
 package dev.bookmark.api.bookmark.controller; // 1. 패키지 선언
 
+import dev.bookmark.api.bookmark.dto.BatchSearchRequestDto;
+import dev.bookmark.api.bookmark.dto.BatchSearchResponseDto;
+import dev.bookmark.api.bookmark.dto.BookmarkBulkRequestDto;
+import dev.bookmark.api.bookmark.dto.BookmarkBulkResultDto;
 import dev.bookmark.api.bookmark.dto.BookmarkCreateRequestDto; // 2. DTO 및 서비스 임포트
+import dev.bookmark.api.bookmark.dto.BookmarkImportResultDto;
 import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
 // import dev.bookmark.api.bookmark.dto.BookmarkUpdateRequestDto; // 나중에 북마크 수정 시 필요
 import dev.bookmark.api.bookmark.dto.BookmarkUpdateRequestDto;
+import dev.bookmark.api.bookmark.dto.CursorPageResponseDto;
+import dev.bookmark.api.bookmark.dto.SearchExplainResponseDto;
+import dev.bookmark.api.bookmark.service.BatchSearchService;
+import dev.bookmark.api.bookmark.service.BookmarkBulkService;
+import dev.bookmark.api.bookmark.service.BookmarkCreateResult;
+import dev.bookmark.api.bookmark.service.BookmarkExportFormat;
+import dev.bookmark.api.bookmark.service.BookmarkExporter;
+import dev.bookmark.api.bookmark.service.BookmarkImportFormat;
+import dev.bookmark.api.bookmark.service.BookmarkImportService;
+import dev.bookmark.api.bookmark.service.BookmarkSearchStreamer;
 import dev.bookmark.api.bookmark.service.BookmarkService;
+import dev.bookmark.api.bookmark.service.BookmarkVisitTracker;
+import dev.bookmark.api.bookmark.service.SearchExplainService;
+import dev.bookmark.api.common.ETagged;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,10 +32,17 @@ import org.springframework.data.domain.Page; // 페이징 처리
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault; // 기본 페이징 값 설정
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 // import java.util.List; // 만약 페이징 없이 전체 목록을 가져오는 API가 있다면
@@ -29,41 +54,123 @@ import java.util.List;
 public class BookmarkController {
 
     private final BookmarkService bookmarkService;
+    private final BookmarkSearchStreamer bookmarkSearchStreamer;
+    private final SearchExplainService searchExplainService;
+    private final BatchSearchService batchSearchService;
+    private final BookmarkImportService bookmarkImportService;
+    private final BookmarkExporter bookmarkExporter;
+    private final BookmarkBulkService bookmarkBulkService;
+    private final BookmarkVisitTracker bookmarkVisitTracker;
 
 
     /**
      * 새 북마크 생성 API
      * @param requestDto 북마크 생성 요청 데이터 (JSON)
-     * @return 생성된 북마크 정보 및 HTTP 201 Created
+     * @param dedupe true이면 같은 URL의 북마크가 있을 때 새로 만들지 않음
+     * @return 생성된 북마크 정보 및 HTTP 201 Created (dedupe로 기존 북마크를 반환하면 200 OK)
      */
-    @Operation(summary = "새 북마크 생성", description = "새로운 북마크를 특정 폴더에 생성하고 태그를 연결합니다.")
+    @Operation(summary = "새 북마크 생성", description = "새로운 북마크를 특정 폴더에 생성하고 태그를 연결합니다. dedupe=true이면 같은 URL의 북마크가 이미 있을 때 새로 만들지 않고 기존 북마크를 200 OK로 반환합니다.")
     @PostMapping("/bookmarks") // 4. POST /api/v1/bookmarks
-    public ResponseEntity<BookmarkResponseDto> createBookmark(@Valid @RequestBody BookmarkCreateRequestDto requestDto) {
-        BookmarkResponseDto createdBookmark = bookmarkService.createBookmark(requestDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdBookmark);
+    public ResponseEntity<BookmarkResponseDto> createBookmark(
+            @Valid @RequestBody BookmarkCreateRequestDto requestDto,
+            @Parameter(description = "같은 URL의 북마크가 있으면 새로 만들지 않고 기존 북마크를 반환", example = "false")
+            @RequestParam(name = "dedupe", defaultValue = "false") boolean dedupe) {
+        BookmarkCreateResult result = bookmarkService.createBookmark(requestDto, dedupe);
+        return ResponseEntity.status(result.created() ? HttpStatus.CREATED : HttpStatus.OK).body(result.bookmark());
+    }
+
+    /**
+     * 브라우저에서 내보낸 북마크 파일을 한 번에 가져오는 API
+     * @param format 파일 형식 (NETSCAPE_HTML 또는 JSON)
+     * @param folderId 가져올 대상 폴더의 ID (생략하면 최상위의 "가져온 북마크" 폴더)
+     * @param dedupe true이면 이미 있는 URL의 북마크는 가져오지 않음
+     * @param body 요청 본문 (파일 내용 그대로)
+     * @return 읽은/가져온/건너뛴/중복 수, 만든 폴더/태그 수, 소요 시간, 건너뛴 항목의 사유, 묶음별 진행 상황
+     */
+    @Operation(summary = "북마크 가져오기", description = "브라우저의 북마크 내보내기 HTML(format=NETSCAPE_HTML) 또는 JSON 배열(format=JSON) 파일을 요청 본문으로 받아 가져옵니다. 파일의 폴더 구조는 대상 폴더 아래에 같은 이름의 폴더로 만들어지고(이미 있으면 재사용), 태그도 없으면 만듭니다. 파일을 읽는 대로 묶음 단위로 저장하며, URL이 없는 항목 등은 건너뛰고 사유를 errors로 알려줍니다. dedupe=true이면 이미 있는 URL(파일 안에서 앞서 나온 URL 포함)의 북마크는 새로 만들지 않고 기존 북마크를 그대로 두며 duplicates로 셉니다.")
+    @PostMapping(value = "/bookmarks/import", // POST /api/v1/bookmarks/import
+            consumes = {MediaType.TEXT_HTML_VALUE, MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<BookmarkImportResultDto> importBookmarks(
+            @Parameter(description = "파일 형식", example = "NETSCAPE_HTML")
+            @RequestParam(name = "format", defaultValue = "NETSCAPE_HTML") BookmarkImportFormat format,
+            @Parameter(description = "가져올 대상 폴더의 ID (생략하면 최상위의 \"가져온 북마크\" 폴더)", example = "1")
+            @RequestParam(name = "folderId", required = false) Long folderId,
+            @Parameter(description = "이미 있는 URL의 북마크는 가져오지 않음", example = "false")
+            @RequestParam(name = "dedupe", defaultValue = "false") boolean dedupe,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(bookmarkImportService.importBookmarks(body, format, folderId, dedupe));
+    }
+
+    /**
+     * 모든 폴더와 북마크를 파일로 내보내는 API (백업/다른 브라우저로 옮기기용)
+     * @param format 파일 형식 (NDJSON 또는 NETSCAPE_HTML)
+     * @return 폴더 트리 순서로 쓰는 응답 본문 (첨부 파일)
+     */
+    @Operation(summary = "북마크 내보내기", description = "모든 북마크를 폴더 트리 순서로 내보냅니다. format=NDJSON이면 한 줄에 북마크 하나(폴더 이름 경로와 태그 포함), format=NETSCAPE_HTML이면 브라우저에서 바로 가져올 수 있는 북마크 HTML입니다. 서버는 DB 커서를 읽는 대로 바로 전송하므로 컬렉션 크기와 관계없이 메모리 사용량이 일정합니다.")
+    @GetMapping("/bookmarks/export") // GET /api/v1/bookmarks/export
+    public ResponseEntity<StreamingResponseBody> exportBookmarks(
+            @Parameter(description = "파일 형식", example = "NETSCAPE_HTML")
+            @RequestParam(name = "format", defaultValue = "NETSCAPE_HTML") BookmarkExportFormat format) {
+        StreamingResponseBody body = outputStream -> bookmarkExporter.write(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(format.getFileName()).build().toString())
+                .body(body);
     }
 
     /**
      * 특정 ID의 북마크 정보 조회 API
      * @param bookmarkId 조회할 북마크의 ID (URL 경로 변수)
-     * @return 조회된 북마크 정보 및 HTTP 200 OK
+     * @return 조회된 북마크 정보 및 HTTP 200 OK (If-None-Match가 현재 ETag와 같으면 본문 없이 304 Not Modified)
      */
-    @Operation(summary = "특정 ID의 북마크 정보 조회", description = "ID를 사용하여 특정 북마크의 상세 정보를 조회합니다.")
+    @Operation(summary = "특정 ID의 북마크 정보 조회", description = "ID를 사용하여 특정 북마크의 상세 정보를 조회합니다. 응답의 ETag를 If-None-Match로 보내면 그 뒤로 북마크(또는 폴더/태그)가 바뀌지 않은 경우 북마크를 불러오지 않고 304 Not Modified를 반환합니다.")
     @GetMapping("/bookmarks/{bookmarkId}") // 5. GET /api/v1/bookmarks/{bookmarkId}
     public ResponseEntity<BookmarkResponseDto> getBookmarkById(
             @Parameter(description = "조회할 북마크의 ID", required = true, example = "1")
-            @PathVariable("bookmarkId") Long bookmarkId) {
+            @PathVariable("bookmarkId") Long bookmarkId,
+            WebRequest webRequest) {
+        String eTag = bookmarkService.getBookmarkETag(bookmarkId); // 수정 시각만 조회
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified (상태 코드와 헤더는 checkNotModified가 설정)
+        }
         BookmarkResponseDto bookmark = bookmarkService.getBookmarkById(bookmarkId);
-        return ResponseEntity.ok(bookmark);
+        return ResponseEntity.ok().eTag(eTag).body(bookmark);
+    }
+
+    /**
+     * 북마크 방문(열기) 기록 API
+     * @param bookmarkId 방문한 북마크의 ID
+     * @return HTTP 202 Accepted (방문 수는 메모리에 모았다가 몇 초마다 한 번에 반영)
+     */
+    @Operation(summary = "북마크 방문 기록", description = "북마크를 열었음을 기록합니다. 방문 수는 모았다가 몇 초마다 한 번에 반영되며, 폴더 목록의 sort=frecency 정렬과 점수가 같은 검색 결과의 순서에 쓰입니다. 없는 북마크의 방문은 반영할 때 버립니다.")
+    @PostMapping("/bookmarks/{bookmarkId}/visit") // POST /api/v1/bookmarks/{bookmarkId}/visit
+    public ResponseEntity<Void> recordVisit(
+            @Parameter(description = "방문한 북마크의 ID", required = true, example = "1")
+            @PathVariable("bookmarkId") Long bookmarkId) {
+        bookmarkVisitTracker.recordVisit(bookmarkId);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * URL로 북마크를 찾는 API ("이 링크가 이미 있나?" 확인용)
+     * @param url 찾을 URL
+     * @return 같은 URL의 북마크 목록 (오래된 순, 없으면 빈 목록)
+     */
+    @Operation(summary = "URL로 북마크 찾기", description = "같은 URL의 북마크를 오래된 순으로 반환합니다. URL은 정규화해 비교하므로 scheme/호스트 대소문자, 기본 포트, 빈 경로, 프래그먼트(#), utm_* 등 추적 파라미터가 달라도 같은 URL로 봅니다. URL 해시 인덱스로 찾으므로 북마크 수와 관계없이 빠릅니다.")
+    @GetMapping("/bookmarks/lookup") // GET /api/v1/bookmarks/lookup
+    public ResponseEntity<List<BookmarkResponseDto>> lookupBookmarks(
+            @Parameter(description = "찾을 URL", required = true, example = "https://spring.io")
+            @RequestParam(name = "url") String url) {
+        return ResponseEntity.ok(bookmarkService.findBookmarksByUrl(url));
     }
 
     /**
      * 특정 폴더에 속한 북마크 목록 조회 API (페이징 처리)
      * @param folderId 북마크를 조회할 폴더의 ID (URL 경로 변수)
-     * @param pageable 페이징 정보 (예: ?page=0&size=10&sort=createdAt,desc)
+     * @param pageable 페이징 정보 (예: ?page=0&size=10&sort=createdAt,desc, 방문 빈도/최근성 순은 sort=frecency)
      * @return 페이징 처리된 북마크 정보 목록 및 HTTP 200 OK
      */
-    @Operation(summary = "특정 폴더 내 북마크 목록 조회 (페이징)", description = "지정한 폴더 ID에 속한 모든 북마크의 목록을 페이징 처리하여 조회합니다.")
+    @Operation(summary = "특정 폴더 내 북마크 목록 조회 (페이징)", description = "지정한 폴더 ID에 속한 모든 북마크의 목록을 페이징 처리하여 조회합니다. sort=frecency이면 자주, 최근에 방문한 북마크부터 보여주며 방문 기록이 없는 북마크는 뒤에 최신순으로 둡니다.")
     @GetMapping("/folders/{folderId}/bookmarks") // 6. GET /api/v1/folders/{folderId}/bookmarks
     public ResponseEntity<Page<BookmarkResponseDto>> getBookmarksByFolder(
             @Parameter(description = "북마크를 조회할 부모 폴더의 ID", required = true, example = "1")
@@ -75,21 +182,46 @@ public class BookmarkController {
         return ResponseEntity.ok(bookmarks);
     }
 
+    /**
+     * 특정 폴더에 속한 북마크 목록 조회 API (커서 기반 페이징, 최신순)
+     * @param folderId 북마크를 조회할 폴더의 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 북마크 목록과 다음 페이지 커서
+     */
+    @Operation(summary = "특정 폴더 내 북마크 목록 조회 (커서 페이징)", description = "무한 스크롤용 API입니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다. 전체 개수는 제공하지 않습니다.")
+    @GetMapping("/folders/{folderId}/bookmarks/cursor") // GET /api/v1/folders/{folderId}/bookmarks/cursor
+    public ResponseEntity<CursorPageResponseDto<BookmarkResponseDto>> getBookmarksByFolderCursor(
+            @Parameter(description = "북마크를 조회할 부모 폴더의 ID", required = true, example = "1")
+            @PathVariable("folderId") Long folderId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "10")
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(bookmarkService.getBookmarksByFolderCursor(folderId, cursor, size));
+    }
+
 
     /**
      * 키워드 및/또는 태그로 북마크를 검색하는 API (페이징 및 정렬 지원)
      * @param keyword 검색할 키워드 (제목/설명, 선택 사항)
      * @param tagNames 검색할 태그 이름 목록 (쉼표로 구분된 문자열, 선택 사항)
+     * @param folderId 검색 범위 폴더의 ID (이 폴더와 모든 하위 폴더, 선택 사항)
+     * @param facets true이면 태그별/폴더별 결과 수(facets)를 함께 반환
      * @param pageable 페이징 및 정렬 정보 (예: ?page=0&size=10&sort=createdAt,desc)
      * @return 페이징 및 우선순위 정렬이 적용된 북마크 목록
      */
-    @Operation(summary = "북마크 검색 (키워드/태그)", description = "키워드(제목,설명) 또는 태그 목록으로 북마크를 검색합니다. 검색 결과는 관련도 높은 순으로 정렬됩니다.")
+    @Operation(summary = "북마크 검색 (키워드/태그)", description = "키워드(제목,설명) 또는 태그 목록으로 북마크를 검색합니다. 검색 결과는 관련도 높은 순으로 정렬됩니다. folderId를 지정하면 그 폴더와 모든 하위 폴더 안에서만 검색합니다. facets=true이면 검색 결과 전체의 태그별/폴더별 개수를 facets 필드로 함께 반환합니다.")
     @GetMapping("/bookmarks/search")    // GET /api/v1/bookmarks/search
     public ResponseEntity<Page<BookmarkResponseDto>> searchBookmarks(
             @Parameter(description = "검색할 키워드 (선택 사항)", example = "JPA")
             @RequestParam(name = "keyword", required = false) String keyword,
             @Parameter(description = "검색할 태그 이름 목록 (쉼표로 구분, 선택 사항)", example = "Java,Spring")
             @RequestParam(name = "tags", required = false)List<String> tagNames,
+            @Parameter(description = "검색 범위 폴더의 ID (이 폴더와 모든 하위 폴더, 선택 사항)", example = "1")
+            @RequestParam(name = "folderId", required = false) Long folderId,
+            @Parameter(description = "태그별/폴더별 결과 수(facets) 포함 여부", example = "false")
+            @RequestParam(name = "facets", defaultValue = "false") boolean facets,
             @Parameter(hidden = true)
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         // 1. @RequestParam으로 쿼리 파라미터를 받습니다.
@@ -98,27 +230,118 @@ public class BookmarkController {
         // 2. @PageableDefault: 페이징 파라미터가 없을 경우 기본값을 설정합니다.
         //    - direction = Sort.Direction.DESC: 기본 정렬 방향을 내림차순(최신순)으로 설정합니다.
 
-        Page<BookmarkResponseDto> searchResult = bookmarkService.searchBookmarks(keyword, tagNames, pageable);
+        Page<BookmarkResponseDto> searchResult;
+        if (folderId != null) {
+            searchResult = bookmarkService.searchBookmarksInFolder(keyword, tagNames, folderId, pageable, facets);
+        } else if (facets) {
+            searchResult = bookmarkService.searchBookmarksWithFacets(keyword, tagNames, pageable);
+        } else {
+            searchResult = bookmarkService.searchBookmarks(keyword, tagNames, pageable);
+        }
         return ResponseEntity.ok(searchResult);
     }
+    /**
+     * 키워드 및/또는 태그로 북마크를 검색하는 API (커서 기반 페이징, 관련도 순)
+     * @param keyword 검색할 키워드 (선택 사항)
+     * @param tagNames 검색할 태그 이름 목록 (선택 사항)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 북마크 목록과 다음 페이지 커서
+     */
+    @Operation(summary = "북마크 검색 (커서 페이징)", description = "무한 스크롤용 검색 API입니다. 결과는 관련도 높은 순으로 정렬되며, 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.")
+    @GetMapping("/bookmarks/search/cursor") // GET /api/v1/bookmarks/search/cursor
+    public ResponseEntity<CursorPageResponseDto<BookmarkResponseDto>> searchBookmarksByCursor(
+            @Parameter(description = "검색할 키워드 (선택 사항)", example = "JPA")
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @Parameter(description = "검색할 태그 이름 목록 (쉼표로 구분, 선택 사항)", example = "Java,Spring")
+            @RequestParam(name = "tags", required = false) List<String> tagNames,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "10")
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(bookmarkService.searchBookmarksByCursor(keyword, tagNames, cursor, size));
+    }
 
+    /**
+     * 키워드 및/또는 태그로 검색한 결과 전체를 NDJSON으로 스트리밍하는 API (내보내기/동기화용)
+     * @param keyword 검색할 키워드 (선택 사항)
+     * @param tagNames 검색할 태그 이름 목록 (선택 사항)
+     * @return 한 줄에 북마크 하나씩, 관련도 높은 순으로 쓰는 응답 본문
+     */
+    @Operation(summary = "북마크 검색 (NDJSON 스트리밍)", description = "검색 결과 전체를 페이지 없이 한 줄에 하나씩(application/x-ndjson) 관련도 높은 순으로 전송합니다. 서버는 결과를 나누어 읽으며 바로바로 전송합니다.")
+    @GetMapping(value = "/bookmarks/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE) // GET /api/v1/bookmarks/search/stream
+    public ResponseEntity<StreamingResponseBody> streamSearchBookmarks(
+            @Parameter(description = "검색할 키워드 (선택 사항)", example = "JPA")
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @Parameter(description = "검색할 태그 이름 목록 (쉼표로 구분, 선택 사항)", example = "Java,Spring")
+            @RequestParam(name = "tags", required = false) List<String> tagNames) {
+        bookmarkSearchStreamer.validate(keyword, tagNames); // 응답을 시작하기 전에 검증해야 400으로 응답할 수 있습니다.
+        StreamingResponseBody body = outputStream -> bookmarkSearchStreamer.write(keyword, tagNames, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 
+    /**
+     * 검색 한 번을 프로파일링하여 단계별 소요 시간, 실행된 SQL, 결과별 점수 내역을 반환하는 API (성능 분석용)
+     * @param keyword 검색할 키워드 (선택 사항)
+     * @param tagNames 검색할 태그 이름 목록 (선택 사항)
+     * @param pageable 페이징 정보
+     * @return 후보 수, 단계별 나노초, SQL 목록, 결과별 점수 내역
+     */
+    @Operation(summary = "북마크 검색 분석 (explain)", description = "설정된 검색 전략을 캐시 없이 실행하고 후보 수, 실행된 SQL, 단계별 소요 시간(나노초), 결과별 점수 내역(제목/설명 일치, 태그 일치 수, AND 보너스, 키워드+태그 보너스)을 반환합니다.")
+    @GetMapping("/bookmarks/search/explain") // GET /api/v1/bookmarks/search/explain
+    public ResponseEntity<SearchExplainResponseDto> explainSearchBookmarks(
+            @Parameter(description = "검색할 키워드 (선택 사항)", example = "JPA")
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @Parameter(description = "검색할 태그 이름 목록 (쉼표로 구분, 선택 사항)", example = "Java,Spring")
+            @RequestParam(name = "tags", required = false) List<String> tagNames,
+            @Parameter(hidden = true)
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(searchExplainService.explain(keyword, tagNames, pageable));
+    }
 
+    /**
+     * 여러 검색(키워드/태그/페이지)을 한 번의 요청으로 실행하는 API (대시보드의 저장된 검색 등)
+     * @param requestDto 검색 목록 (최대 20개)
+     * @return 요청 순서와 같은 순서의 검색별 결과 페이지
+     */
+    @Operation(summary = "북마크 일괄 검색", description = "여러 검색을 한 번에 실행합니다. 후보는 모든 검색 조건의 합집합으로 한 번만 조회하고, 검색별 점수 계산과 정렬은 메모리에서 수행합니다. 결과는 단건 검색과 같은 관련도 순입니다.")
+    @PostMapping("/bookmarks/search/batch") // POST /api/v1/bookmarks/search/batch
+    public ResponseEntity<BatchSearchResponseDto> batchSearchBookmarks(@Valid @RequestBody BatchSearchRequestDto requestDto) {
+        return ResponseEntity.ok(batchSearchService.search(requestDto.getQueries()));
+    }
+
+
+
+    /**
+     * 여러 북마크를 한 번에 이동/태그 추가/태그 제거/삭제하는 API (폴더 정리 등)
+     * @param requestDto 작업, 대상(ids 또는 filter), 작업에 필요한 folderId/tagNames
+     * @return 대상 수, 바뀐 북마크 수, 추가/삭제된 태그 연결 수
+     */
+    @Operation(summary = "북마크 일괄 작업", description = "ids(북마크 ID 목록) 또는 filter(검색 API와 같은 keyword/tags 조건과 폴더 범위 folderId)로 고른 북마크에 작업을 한 번에 적용합니다. operation=MOVE는 folderId 폴더로 이동, ADD_TAGS는 tagNames 태그 연결(없는 태그는 생성), REMOVE_TAGS는 tagNames 태그 연결 해제, DELETE는 삭제입니다. 북마크마다 수정하지 않고 묶음 단위의 UPDATE/INSERT/DELETE 몇 번으로 처리하며, 전체가 한 트랜잭션입니다.")
+    @PostMapping("/bookmarks/bulk") // POST /api/v1/bookmarks/bulk
+    public ResponseEntity<BookmarkBulkResultDto> bulkBookmarks(@Valid @RequestBody BookmarkBulkRequestDto requestDto) {
+        return ResponseEntity.ok(bookmarkBulkService.execute(requestDto));
+    }
 
     /**
      * 특정 ID의 북마크 정보 수정 API
      * @param bookmarkId 수정할 북마크의 ID
      * @param requestDto 수정할 북마크 정보 (JSON)
-     * @return 수정된 북마크 정보 및 HTTP 200 OK
+     * @param ifMatch 조회 때 받은 ETag (있으면 그 뒤로 다른 요청이 수정하지 않았을 때만 수정)
+     * @return 수정된 북마크 정보 및 HTTP 200 OK (If-Match가 현재 ETag와 다르면 412 Precondition Failed)
      */
-    @Operation(summary = "북마크 정보 수정", description = "특정 ID의 북마크 정보를 수정합니다. 제목, URL, 설명, 소속 폴더, 태그 등을 변경할 수 있습니다.")
+    @Operation(summary = "북마크 정보 수정", description = "특정 ID의 북마크 정보를 수정합니다. 제목, URL, 설명, 소속 폴더, 태그 등을 변경할 수 있습니다. 조회 때 받은 ETag를 If-Match로 보내면, 그 사이 다른 요청이 먼저 수정한 경우 덮어쓰지 않고 412 Precondition Failed를 반환합니다. 응답의 ETag는 수정 후의 ETag입니다.")
     @PutMapping("/bookmarks/{bookmarkId}")
     public ResponseEntity<BookmarkResponseDto> updateBookmark(
             @Parameter(description = "수정할 북마크의 ID", required = true)
             @PathVariable("bookmarkId") Long bookmarkId,
-            @Valid @RequestBody BookmarkUpdateRequestDto requestDto) { // 방금 만든 DTO 사용
-        BookmarkResponseDto updatedBookmark = bookmarkService.updateBookmark(bookmarkId, requestDto); // 서비스 메소드 호출
-        return ResponseEntity.ok(updatedBookmark);
+            @Valid @RequestBody BookmarkUpdateRequestDto requestDto, // 방금 만든 DTO 사용
+            @Parameter(description = "조회 때 받은 ETag (낙관적 동시성 제어)")
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ETagged<BookmarkResponseDto> updated = bookmarkService.updateBookmark(bookmarkId, requestDto, ifMatch); // 서비스 메소드 호출
+        return ResponseEntity.ok().eTag(updated.eTag()).body(updated.body());
     }
 
     /**
@@ -1,5 +1,7 @@
 package dev.bookmark.api.bookmark.domain;
 
+import dev.bookmark.api.common.CanonicalUrl;
+import dev.bookmark.api.common.SearchText;
 import dev.bookmark.api.folder.domain.Folder;
 import dev.bookmark.api.tag.domain.Tag;
 import jakarta.persistence.*;
@@ -17,7 +19,14 @@ import java.util.Set;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "bookmarks") // 데이터베이스 테이블 이름을 "bookmarks"로 지정
+@Table(name = "bookmarks", // 데이터베이스 테이블 이름을 "bookmarks"로 지정
+        indexes = {
+                @Index(name = "idx_bookmarks_folder_created", columnList = "folder_id, created_at, bookmark_id"), // 폴더별 커서 페이징용
+                @Index(name = "idx_bookmarks_title_normalized", columnList = "title_normalized"),                  // 검색용 정규화 컬럼
+                @Index(name = "idx_bookmarks_description_normalized", columnList = "description_normalized"),
+                @Index(name = "idx_bookmarks_url_hash", columnList = "url_hash")                                   // 같은 URL의 북마크 조회용
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_bookmarks_dedupe_key", columnNames = "dedupe_key"))
 public class Bookmark {
 
     @Id
@@ -34,6 +43,26 @@ public class Bookmark {
     @Column(name = "description", length = 1000) // 2. 대신 @Column의 length 속성으로 길이를 지정합니다. (예: 1000자)
     private String description; // 북마크 설명
 
+    // 검색 비교용 정규화 값 (소문자 + NFC, SearchText 참고). 제목/설명이 바뀔 때 함께 갱신되며 직접 수정하지 않습니다.
+    @Column(name = "title_normalized", nullable = false, length = 255)
+    private String normalizedTitle;
+
+    @Column(name = "description_normalized", length = 1000)
+    private String normalizedDescription;
+
+    // 중복 확인용 정규화 URL과 그 해시 (CanonicalUrl 참고). URL이 바뀔 때 함께 갱신되며 직접 수정하지 않습니다.
+    // 정규화하면 빈 경로에 '/'가 붙을 수 있어 url보다 조금 길게 둡니다. 같은 URL의 북마크가 여럿일 수 있으므로 유니크 인덱스는 아닙니다.
+    @Column(name = "url_canonical", nullable = false, length = 2100)
+    private String canonicalUrl;
+
+    @Column(name = "url_hash", nullable = false, length = CanonicalUrl.HASH_LENGTH)
+    private String urlHash;
+
+    // 중복 제거(dedupe) 모드로 만든 북마크의 URL 해시 (그 외에는 null). 유니크 제약이 있어 같은 URL의 dedupe 생성이 동시에 실행되어도 하나만 저장됩니다.
+    // URL이 다른 값으로 바뀌면 비워서 그 URL을 다른 북마크가 다시 차지할 수 있게 합니다.
+    @Column(name = "dedupe_key", length = CanonicalUrl.HASH_LENGTH)
+    private String dedupeKey;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -63,6 +92,8 @@ public class Bookmark {
         this.url = url;
         this.description = description;
         this.folder = folder;
+        normalizeSearchColumns();
+        canonicalizeUrl();
         // tags는 북마크 생성 후 별도로 추가/관리하는 것이 일반적입니다.
     }
 
@@ -75,19 +106,39 @@ public class Bookmark {
 
     // Tag 추가
     public void addTag(Tag tag) {
-        this.tags.add(tag);
+        if (this.tags.add(tag)) {
+            touch();
+        }
         // 만약 Tag 엔티티에서 북마크 목록을 관리한다면, 여기서 tag.getBookmarks().add(this); 와 같은 코드도 필요할 수 있음
     }
 
     // Tag 제거
     public void removeTag(Tag tag) {
-        this.tags.remove(tag);
+        if (this.tags.remove(tag)) {
+            touch();
+        }
         // 만약 Tag 엔티티에서 북마크 목록을 관리한다면, 여기서 tag.getBookmarks().remove(this); 와 같은 코드도 필요할 수 있음
     }
 
     // 모든 Tags 제거 (북마크 수정 시 태그 전체 교체 등에 사용 가능)
     public void clearTags() {
-        this.tags.clear();
+        if (!this.tags.isEmpty()) {
+            this.tags.clear();
+            touch();
+        }
+    }
+
+    // 태그 컬렉션만 바뀌면 엔티티가 변경된 것으로 감지되지 않아 updatedAt이 갱신되지 않습니다.
+    // 필드 값을 바꿔 UPDATE가 실행되게 하고, 실제 저장 값은 @UpdateTimestamp가 채웁니다. (검색 인덱스 스냅샷 따라잡기가 updatedAt을 사용)
+    private void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 이 북마크를 URL의 대표로 표시합니다. (dedupe 생성용, 같은 URL로 표시된 북마크가 이미 있으면 저장할 때 유니크 제약 위반)
+     */
+    public void claimUrl() {
+        this.dedupeKey = this.urlHash;
     }
 
     /**
@@ -102,12 +153,28 @@ public class Bookmark {
             this.title = title;
         }
         if (url != null && !url.isBlank()) {
+            String previousHash = this.urlHash;
             this.url = url;
+            canonicalizeUrl();
+            if (!this.urlHash.equals(previousHash)) {
+                this.dedupeKey = null;
+            }
         }
         // description은 null이나 빈 문자열로도 업데이트될 수 있도록 허용할 수 있습니다.
         // 만약 null이거나 비어있지 않을 때만 업데이트하고 싶다면 위와 유사한 조건을 추가합니다.
         if (description != null) { // description은 null로도 업데이트 가능하도록
             this.description = description;
         }
+        normalizeSearchColumns();
+    }
+
+    private void normalizeSearchColumns() {
+        this.normalizedTitle = SearchText.normalize(this.title);
+        this.normalizedDescription = SearchText.normalize(this.description);
+    }
+
+    private void canonicalizeUrl() {
+        this.canonicalUrl = CanonicalUrl.canonicalize(this.url);
+        this.urlHash = CanonicalUrl.hash(this.canonicalUrl);
     }
 }
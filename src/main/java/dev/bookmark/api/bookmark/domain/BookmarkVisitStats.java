@@ -0,0 +1,38 @@
+package dev.bookmark.api.bookmark.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크별 방문 통계입니다. (방문 수, 마지막 방문 시각, frecency 키)
+ * 방문은 BookmarkVisitTracker가 메모리에서 모아 주기적으로 JDBC 배치로 반영하므로 이 엔티티로 직접 저장하지 않으며,
+ * 스키마 생성과 폴더 목록의 frecency 정렬(JPQL 조인)에 사용합니다.
+ * 북마크 삭제를 막지 않도록 외래 키 없이 bookmark_id만 저장합니다. (삭제된 북마크의 통계는 변경 이벤트로 함께 삭제)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "bookmark_visit_stats")
+public class BookmarkVisitStats {
+
+    @Id
+    @Column(name = "bookmark_id")
+    private Long bookmarkId;
+
+    @Column(name = "visit_count", nullable = false)
+    private long visitCount;
+
+    @Column(name = "last_visited_at", nullable = false)
+    private LocalDateTime lastVisitedAt;
+
+    // Frecency 참고. 값이 클수록 자주/최근 방문한 북마크입니다.
+    @Column(name = "frecency", nullable = false)
+    private double frecency;
+}
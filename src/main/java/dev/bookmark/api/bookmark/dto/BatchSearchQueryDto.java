@@ -0,0 +1,37 @@
+package dev.bookmark.api.bookmark.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 일괄 검색 요청에 포함되는 검색 하나 (키워드/태그 조건과 페이지)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchSearchQueryDto {
+
+    private String keyword;     // 검색할 키워드 (선택 사항)
+
+    private List<String> tags;  // 검색할 태그 이름 목록 (선택 사항)
+
+    @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.")
+    private int page = 0;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+    private int size = 10;
+
+    // 모든 필드를 받는 생성자 (테스트 등에 사용)
+    public BatchSearchQueryDto(String keyword, List<String> tags, int page, int size) {
+        this.keyword = keyword;
+        this.tags = tags;
+        this.page = page;
+        this.size = size;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.bookmark.api.bookmark.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 검색을 한 번에 실행하는 일괄 검색 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchSearchRequestDto {
+
+    @NotEmpty(message = "검색을 하나 이상 입력해주세요.")
+    @Size(max = 20, message = "한 번에 최대 20개의 검색까지 요청할 수 있습니다.")
+    private List<@Valid BatchSearchQueryDto> queries;
+
+    public BatchSearchRequestDto(List<BatchSearchQueryDto> queries) {
+        this.queries = queries;
+    }
+}
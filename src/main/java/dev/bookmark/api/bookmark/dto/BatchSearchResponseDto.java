@@ -0,0 +1,42 @@
+package dev.bookmark.api.bookmark.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 검색 응답. results는 요청한 queries와 같은 순서입니다.
+ */
+@Getter
+public class BatchSearchResponseDto {
+
+    private final List<Result> results;
+
+    public BatchSearchResponseDto(List<Result> results) {
+        this.results = results;
+    }
+
+    /**
+     * 검색 하나의 결과 페이지 (관련도 순)
+     */
+    @Getter
+    public static class Result {
+
+        private final String keyword;
+        private final List<String> tags;
+        private final int page;
+        private final int size;
+        private final long totalElements;
+        private final List<BookmarkResponseDto> content;
+
+        public Result(String keyword, List<String> tags, int page, int size, long totalElements,
+                      List<BookmarkResponseDto> content) {
+            this.keyword = keyword;
+            this.tags = tags;
+            this.page = page;
+            this.size = size;
+            this.totalElements = totalElements;
+            this.content = content;
+        }
+    }
+}
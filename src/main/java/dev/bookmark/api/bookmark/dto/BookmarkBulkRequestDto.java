@@ -0,0 +1,68 @@
+package dev.bookmark.api.bookmark.dto;
+
+import dev.bookmark.api.bookmark.service.BookmarkBulkOperation;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 북마크를 한 번에 이동/태그 추가/태그 제거/삭제하는 요청
+ * 대상은 ids(북마크 ID 목록) 또는 filter(검색 조건) 중 하나로 지정합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookmarkBulkRequestDto {
+
+    public static final int MAX_TARGETS = 10000; // ids 최대 개수 (bookmark.bulk.max-targets 기본값)
+
+    @NotNull(message = "작업(operation)을 입력해주세요.")
+    private BookmarkBulkOperation operation;
+
+    @Size(max = MAX_TARGETS, message = "한 번에 최대 10000개의 북마크까지 지정할 수 있습니다.")
+    private List<Long> ids;         // 대상 북마크 ID 목록 (filter와 함께 쓸 수 없음)
+
+    @Valid
+    private Filter filter;          // 대상 북마크 검색 조건 (ids와 함께 쓸 수 없음)
+
+    private Long folderId;          // MOVE: 옮길 폴더
+
+    @Size(max = 20, message = "한 번에 최대 20개의 태그까지 지정할 수 있습니다.")
+    private List<String> tagNames;  // ADD_TAGS, REMOVE_TAGS: 태그 이름 목록
+
+    // 모든 필드를 받는 생성자 (테스트 등에 사용)
+    public BookmarkBulkRequestDto(BookmarkBulkOperation operation, List<Long> ids, Filter filter, Long folderId, List<String> tagNames) {
+        this.operation = operation;
+        this.ids = ids;
+        this.filter = filter;
+        this.folderId = folderId;
+        this.tagNames = tagNames;
+    }
+
+    /**
+     * 대상 북마크 검색 조건 (검색 API와 같은 규칙: 키워드 또는 태그가 일치하고, folderId가 있으면 그 폴더와 모든 하위 폴더 안)
+     * 키워드/태그 없이 folderId만 주면 그 폴더 아래의 모든 북마크가 대상입니다.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Filter {
+
+        private String keyword;     // 검색할 키워드 (선택 사항)
+
+        private List<String> tags;  // 검색할 태그 이름 목록 (선택 사항)
+
+        private Long folderId;      // 검색 범위 폴더 (선택 사항)
+
+        public Filter(String keyword, List<String> tags, Long folderId) {
+            this.keyword = keyword;
+            this.tags = tags;
+            this.folderId = folderId;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.bookmark.api.bookmark.dto;
+
+import lombok.Getter;
+
+/**
+ * 일괄 작업 결과 요약입니다.
+ * matched는 대상으로 선택된 (존재하는) 북마크 수, bookmarksAffected는 실제로 바뀐(이동/태그 변경/삭제된) 북마크 수,
+ * tagLinksAffected는 추가되거나 삭제된 북마크-태그 연결 수입니다. (이미 그 상태인 북마크는 바뀌지 않습니다)
+ */
+@Getter
+public class BookmarkBulkResultDto {
+
+    private final String operation;
+    private final int matched;
+    private final int bookmarksAffected;
+    private final int tagLinksAffected;
+    private final long elapsedMs;
+
+    public BookmarkBulkResultDto(String operation, int matched, int bookmarksAffected, int tagLinksAffected, long elapsedMs) {
+        this.operation = operation;
+        this.matched = matched;
+        this.bookmarksAffected = bookmarksAffected;
+        this.tagLinksAffected = tagLinksAffected;
+        this.elapsedMs = elapsedMs;
+    }
+}
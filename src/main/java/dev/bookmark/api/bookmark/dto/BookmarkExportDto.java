@@ -0,0 +1,38 @@
+package dev.bookmark.api.bookmark.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내보내기(NDJSON) 한 줄에 해당하는 북마크입니다.
+ * 폴더는 ID와 함께 최상위부터의 이름 경로(folderPath)로 담고, 태그는 이름만 담습니다.
+ * 필드 이름은 JSON 가져오기 형식(title, url, description, folderPath, tags, createdAt)과 같습니다.
+ */
+@Getter
+public class BookmarkExportDto {
+
+    private final Long id;
+    private final String title;
+    private final String url;
+    private final String description;
+    private final Long folderId;
+    private final List<String> folderPath;
+    private final List<String> tags;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public BookmarkExportDto(Long id, String title, String url, String description, Long folderId,
+                             List<String> folderPath, List<String> tags, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.url = url;
+        this.description = description;
+        this.folderId = folderId;
+        this.folderPath = folderPath;
+        this.tags = tags;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
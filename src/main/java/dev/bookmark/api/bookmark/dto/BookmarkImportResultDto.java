@@ -0,0 +1,76 @@
+package dev.bookmark.api.bookmark.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 북마크 가져오기 결과 요약입니다.
+ * parsed = imported + skipped + duplicates 이며 (duplicates는 dedupe 모드에서 이미 있는 URL이라 가져오지 않은 수), 건너뛴 항목의 사유는 errors에 앞에서부터 일부만 담습니다.
+ * progress는 묶음(chunk)을 커밋할 때마다의 누적 진행 상황입니다.
+ * completed가 false이면 묶음 저장이 실패해 중간에 멈춘 것이며, 실패한 묶음은 errors에, 그 전까지 커밋된 묶음은 progress에 있습니다.
+ */
+@Getter
+public class BookmarkImportResultDto {
+
+    private final String format;
+    private final boolean completed;
+    private final long parsed;
+    private final long imported;
+    private final long skipped;
+    private final long duplicates;
+    private final int foldersCreated;
+    private final int tagsCreated;
+    private final long elapsedMs;
+    private final long bookmarksPerSecond;
+    private final List<Error> errors;
+    private final List<Progress> progress;
+
+    public BookmarkImportResultDto(String format, boolean completed, long parsed, long imported, long skipped, long duplicates, int foldersCreated,
+                                   int tagsCreated, long elapsedMs, List<Error> errors, List<Progress> progress) {
+        this.format = format;
+        this.completed = completed;
+        this.parsed = parsed;
+        this.imported = imported;
+        this.skipped = skipped;
+        this.duplicates = duplicates;
+        this.foldersCreated = foldersCreated;
+        this.tagsCreated = tagsCreated;
+        this.elapsedMs = elapsedMs;
+        this.bookmarksPerSecond = elapsedMs > 0 ? imported * 1000 / elapsedMs : imported;
+        this.errors = errors;
+        this.progress = progress;
+    }
+
+    /**
+     * 가져오지 못한 항목 하나 (index: 파일 안에서의 순서, 0부터)
+     */
+    @Getter
+    public static class Error {
+
+        private final long index;
+        private final String message;
+
+        public Error(long index, String message) {
+            this.index = index;
+            this.message = message;
+        }
+    }
+
+    /**
+     * 커밋한 묶음 하나까지의 누적 진행 상황
+     */
+    @Getter
+    public static class Progress {
+
+        private final int chunk;
+        private final long imported;
+        private final long elapsedMs;
+
+        public Progress(int chunk, long imported, long elapsedMs) {
+            this.chunk = chunk;
+            this.imported = imported;
+            this.elapsedMs = elapsedMs;
+        }
+    }
+}
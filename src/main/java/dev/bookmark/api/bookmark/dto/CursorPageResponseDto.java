@@ -0,0 +1,25 @@
+package dev.bookmark.api.bookmark.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답입니다. (무한 스크롤용)
+ * 다음 페이지는 nextCursor 값을 cursor 파라미터로 전달하여 요청합니다. 전체 개수(count)는 계산하지 않습니다.
+ */
+@Getter
+public class CursorPageResponseDto<T> {
+
+    private final List<T> content;
+    private final int size;          // 요청한 페이지 크기
+    private final boolean hasNext;   // 다음 페이지 존재 여부
+    private final String nextCursor; // 다음 페이지 요청용 커서 (마지막 페이지면 null)
+
+    public CursorPageResponseDto(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
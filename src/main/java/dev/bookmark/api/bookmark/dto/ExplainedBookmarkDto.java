@@ -0,0 +1,41 @@
+package dev.bookmark.api.bookmark.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색 explain 결과의 북마크 하나와 점수 내역
+ * score = keywordScore + tagScore + allTagsBonus + comboBonus
+ * 점수가 같으면 frecency → 생성일 → ID 내림차순으로 정렬됩니다.
+ */
+@Getter
+public class ExplainedBookmarkDto {
+
+    private final Long id;
+    private final String title;
+    private final boolean titleHit;       // 제목에 키워드 포함
+    private final boolean descriptionHit; // 설명에 키워드 포함 (제목에 없을 때만 확인)
+    private final long tagMatchCount;     // 요청 태그 중 일치한 개수
+    private final int keywordScore;
+    private final int tagScore;
+    private final int allTagsBonus;       // 요청 태그 모두 일치 (AND 보너스)
+    private final int comboBonus;         // 키워드와 태그 모두 일치
+    private final int score;
+    private final double frecency;        // 점수가 같을 때 순서를 정하는 frecency 키 (점수에는 더하지 않음)
+
+    @Builder
+    public ExplainedBookmarkDto(Long id, String title, boolean titleHit, boolean descriptionHit, long tagMatchCount,
+                                int keywordScore, int tagScore, int allTagsBonus, int comboBonus, int score, double frecency) {
+        this.id = id;
+        this.title = title;
+        this.titleHit = titleHit;
+        this.descriptionHit = descriptionHit;
+        this.tagMatchCount = tagMatchCount;
+        this.keywordScore = keywordScore;
+        this.tagScore = tagScore;
+        this.allTagsBonus = allTagsBonus;
+        this.comboBonus = comboBonus;
+        this.score = score;
+        this.frecency = frecency;
+    }
+}
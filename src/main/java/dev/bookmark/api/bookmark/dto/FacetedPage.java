@@ -0,0 +1,29 @@
+package dev.bookmark.api.bookmark.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 검색 패싯을 함께 담은 페이지입니다.
+ * 일반 Page 응답에 facets 필드만 추가되므로, 패싯을 요청하지 않는 클라이언트는 기존과 같이 읽을 수 있습니다.
+ */
+public class FacetedPage<T> extends PageImpl<T> {
+
+    private final SearchFacetsDto facets;
+
+    public FacetedPage(List<T> content, Pageable pageable, long total, SearchFacetsDto facets) {
+        super(content, pageable, total);
+        this.facets = facets;
+    }
+
+    public FacetedPage(Page<T> page, SearchFacetsDto facets) {
+        this(page.getContent(), page.getPageable(), page.getTotalElements(), facets);
+    }
+
+    public SearchFacetsDto getFacets() {
+        return facets;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.bookmark.api.bookmark.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 explain 응답 (느린 검색의 원인을 찾기 위한 단계별 소요 시간, 실행된 SQL, 결과별 점수 내역)
+ */
+@Getter
+public class SearchExplainResponseDto {
+
+    private final String strategy;               // 실행한 검색 전략 (캐시는 거치지 않음)
+    private final String keyword;
+    private final List<String> tags;
+    private final long candidateCount;           // 점수를 매긴 후보 수 (전략이 기록하지 않으면 -1)
+    private final long totalElements;            // 페이지 응답의 전체 결과 수
+    private final long totalNanos;               // 전략 실행 전체 소요 시간
+    private final Map<String, Long> stageNanos;  // 단계 이름 → 소요 나노초 (실행 순서)
+    private final List<String> statements;       // 실행된 SQL (실행 순서)
+    private final List<ExplainedBookmarkDto> results;
+
+    public SearchExplainResponseDto(String strategy, String keyword, List<String> tags, long candidateCount,
+                                    long totalElements, long totalNanos, Map<String, Long> stageNanos,
+                                    List<String> statements, List<ExplainedBookmarkDto> results) {
+        this.strategy = strategy;
+        this.keyword = keyword;
+        this.tags = tags;
+        this.candidateCount = candidateCount;
+        this.totalElements = totalElements;
+        this.totalNanos = totalNanos;
+        this.stageNanos = stageNanos;
+        this.statements = statements;
+        this.results = results;
+    }
+}
@@ -0,0 +1,38 @@
+package dev.bookmark.api.bookmark.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 패싯: 검색 조건에 맞는 북마크 수를 태그별/폴더별로 센 값입니다. (많은 순, 상위 일부만)
+ * 페이지와 무관하게 검색 결과 전체(totalElements)를 기준으로 셉니다.
+ */
+@Getter
+public class SearchFacetsDto {
+
+    private final List<Count> tags;
+    private final List<Count> folders;
+
+    public SearchFacetsDto(List<Count> tags, List<Count> folders) {
+        this.tags = tags;
+        this.folders = folders;
+    }
+
+    /**
+     * 태그 또는 폴더 하나와 그에 속한 검색 결과 수
+     */
+    @Getter
+    public static class Count {
+
+        private final Long id;
+        private final String name;
+        private final int count;
+
+        public Count(Long id, String name, int count) {
+            this.id = id;
+            this.name = name;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package dev.bookmark.api.bookmark.event;
+
+import lombok.Getter;
+
+/**
+ * 북마크가 생성, 수정, 삭제되었을 때 발행되는 이벤트입니다.
+ * 변경 전(before)과 변경 후(after) 스냅샷을 함께 담아, 리스너가 별도의 조회 없이 차이를 반영할 수 있도록 합니다.
+ * - 생성: before == null
+ * - 삭제: after == null
+ */
+@Getter
+public class BookmarkChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long bookmarkId;
+    private final BookmarkSnapshot before;
+    private final BookmarkSnapshot after;
+
+    private BookmarkChangedEvent(Type type, Long bookmarkId, BookmarkSnapshot before, BookmarkSnapshot after) {
+        this.type = type;
+        this.bookmarkId = bookmarkId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static BookmarkChangedEvent created(BookmarkSnapshot after) {
+        return new BookmarkChangedEvent(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static BookmarkChangedEvent updated(BookmarkSnapshot before, BookmarkSnapshot after) {
+        return new BookmarkChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static BookmarkChangedEvent deleted(BookmarkSnapshot before) {
+        return new BookmarkChangedEvent(Type.DELETED, before.getId(), before, null);
+    }
+}
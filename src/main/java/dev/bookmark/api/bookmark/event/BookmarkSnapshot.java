@@ -0,0 +1,91 @@
+package dev.bookmark.api.bookmark.event;
+
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.tag.domain.Tag;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검색 인덱스 갱신에 필요한 북마크의 읽기 전용 스냅샷입니다.
+ * 트랜잭션이 끝난 뒤(커밋 이후)에도 지연 로딩 없이 안전하게 사용할 수 있도록 필요한 값만 복사해 둡니다.
+ */
+@Getter
+public class BookmarkSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final Long folderId;
+    private final List<String> tagNames; // 북마크에 연결된 태그 이름 목록 (불변)
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    @Builder
+    public BookmarkSnapshot(Long id, String title, String description, Long folderId,
+                            List<String> tagNames, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.folderId = folderId;
+        this.tagNames = (tagNames != null) ? List.copyOf(tagNames) : Collections.emptyList();
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Bookmark 엔티티로부터 스냅샷을 만드는 정적 팩토리 메소드 (태그 컬렉션이 초기화되어 있어야 합니다)
+    public static BookmarkSnapshot from(Bookmark bookmark) {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : bookmark.getTags()) {
+            tagNames.add(tag.getName());
+        }
+        return BookmarkSnapshot.builder()
+                .id(bookmark.getId())
+                .title(bookmark.getTitle())
+                .description(bookmark.getDescription())
+                .folderId(bookmark.getFolder() != null ? bookmark.getFolder().getId() : null)
+                .tagNames(tagNames)
+                .createdAt(bookmark.getCreatedAt())
+                .updatedAt(bookmark.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 태그 이름이 변경되기 전의 모습을 복원한 스냅샷을 반환합니다.
+     * 태그 이름 변경 시 인덱스에서 이전 값을 지우기 위해 사용합니다.
+     */
+    public BookmarkSnapshot withTagRenamed(String fromName, String toName) {
+        List<String> renamed = new ArrayList<>(tagNames.size());
+        for (String tagName : tagNames) {
+            renamed.add(tagName.equals(fromName) ? toName : tagName);
+        }
+        return BookmarkSnapshot.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .folderId(folderId)
+                .tagNames(renamed)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    /**
+     * 폴더, 태그, 수정 시각만 바꾼 스냅샷을 반환합니다. (엔티티를 불러오지 않는 일괄 변경의 변경 후 상태)
+     */
+    public BookmarkSnapshot withChanges(Long folderId, List<String> tagNames, LocalDateTime updatedAt) {
+        return BookmarkSnapshot.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .folderId(folderId)
+                .tagNames(tagNames)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
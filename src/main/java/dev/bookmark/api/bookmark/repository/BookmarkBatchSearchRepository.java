@@ -0,0 +1,21 @@
+package dev.bookmark.api.bookmark.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 여러 검색 조건의 후보를 한 번에 조회하는 리포지토리 조각입니다. (BookmarkRepository가 상속)
+ * 키워드 개수만큼 LIKE 조건이 늘어나므로 @Query 대신 구현 클래스에서 JPQL을 만듭니다.
+ */
+public interface BookmarkBatchSearchRepository {
+
+    /**
+     * 키워드 중 하나라도 제목/설명에 포함하거나, 태그 중 하나라도 가진 북마크를 (북마크, 태그) 행으로 조회합니다.
+     * 제목, 설명, 태그 이름은 정규화 컬럼 값이므로 검색별 일치 여부를 메모리에서 다시 확인할 수 있습니다.
+     * @param normalizedKeywords SearchText로 정규화한 키워드 (비어 있을 수 있음)
+     * @param normalizedTagNames SearchText로 정규화한 태그 이름 (비어 있을 수 있음)
+     * @return 북마크의 모든 태그를 포함한 후보 행 (태그가 없으면 tagName이 null인 한 행)
+     */
+    List<SearchCandidateRow> findSearchCandidateRowsForAny(Collection<String> normalizedKeywords,
+                                                            Collection<String> normalizedTagNames);
+}
@@ -0,0 +1,95 @@
+package dev.bookmark.api.bookmark.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * BookmarkBatchSearchRepository 구현. 조건 개수에 맞춰 JPQL을 만들어 한 번의 쿼리로 조회합니다.
+ */
+public class BookmarkBatchSearchRepositoryImpl implements BookmarkBatchSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SearchCandidateRow> findSearchCandidateRowsForAny(Collection<String> normalizedKeywords,
+                                                                   Collection<String> normalizedTagNames) {
+        if (normalizedKeywords.isEmpty() && normalizedTagNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        StringJoiner conditions = new StringJoiner(" OR ");
+        List<String> keywords = new ArrayList<>(normalizedKeywords);
+        for (int i = 0; i < keywords.size(); i++) {
+            conditions.add("b2.normalizedTitle LIKE :keyword" + i + " OR b2.normalizedDescription LIKE :keyword" + i);
+        }
+        if (!normalizedTagNames.isEmpty()) {
+            conditions.add("t.normalizedName IN :tagNames");
+        }
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "SELECT b.id, b.normalizedTitle, b.normalizedDescription, b.createdAt, b.folder.id, tag.id, tag.normalizedName " +
+                "FROM Bookmark b LEFT JOIN b.tags tag " +
+                "WHERE b.id IN (SELECT b2.id FROM Bookmark b2 LEFT JOIN b2.tags t WHERE " + conditions + ")", Tuple.class);
+        for (int i = 0; i < keywords.size(); i++) {
+            query.setParameter("keyword" + i, "%" + keywords.get(i) + "%");
+        }
+        if (!normalizedTagNames.isEmpty()) {
+            query.setParameter("tagNames", normalizedTagNames);
+        }
+
+        List<SearchCandidateRow> rows = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            rows.add(new Row(tuple.get(0, Long.class), tuple.get(1, String.class), tuple.get(2, String.class),
+                    tuple.get(3, LocalDateTime.class), tuple.get(4, Long.class), tuple.get(5, Long.class),
+                    tuple.get(6, String.class)));
+        }
+        return rows;
+    }
+
+    private record Row(Long id, String title, String description, LocalDateTime createdAt, Long folderId, Long tagId,
+                       String tagName)
+            implements SearchCandidateRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public Long getFolderId() {
+            return folderId;
+        }
+
+        @Override
+        public Long getTagId() {
+            return tagId;
+        }
+
+        @Override
+        public String getTagName() {
+            return tagName;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package dev.bookmark.api.bookmark.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 여러 북마크를 한 번에 바꾸는 집합 단위 JDBC 쿼리입니다. (BookmarkBulkService용)
+ * 북마크마다 엔티티를 불러와 변경 감지로 반영하지 않고, ID 목록(IN) 조건의 UPDATE/INSERT ... SELECT/DELETE 한 번으로 처리합니다.
+ * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 불러온 엔티티에는 반영되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookmarkBulkJdbcRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 검색 조건에 맞는 북마크 ID를 ID 순으로 조회합니다. (키워드 또는 태그 일치, 그리고 폴더 범위)
+     * 키워드와 태그 이름은 SearchText로 정규화된 값이어야 하며, null인 조건은 사용하지 않습니다. (조건이 하나 이상 있어야 함)
+     * @param folderPath 이 경로로 시작하는 폴더(지정한 폴더와 모든 하위 폴더)의 북마크만 조회합니다.
+     * @param limit 조회할 최대 개수
+     */
+    public List<Long> findIdsByFilter(String keyword, List<String> tagNames, String folderPath, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        List<String> matches = new ArrayList<>();
+        if (keyword != null) {
+            matches.add("b.title_normalized LIKE CONCAT('%', :keyword, '%') OR b.description_normalized LIKE CONCAT('%', :keyword, '%')");
+            params.addValue("keyword", keyword);
+        }
+        if (tagNames != null) {
+            matches.add("EXISTS (SELECT 1 FROM bookmark_tags bt JOIN tags t ON t.tag_id = bt.tag_id " +
+                    "WHERE bt.bookmark_id = b.bookmark_id AND t.name_normalized IN (:tagNames))");
+            params.addValue("tagNames", tagNames);
+        }
+        List<String> conditions = new ArrayList<>();
+        if (!matches.isEmpty()) {
+            conditions.add("(" + String.join(" OR ", matches) + ")");
+        }
+        if (folderPath != null) {
+            conditions.add("b.folder_id IN (SELECT f.folder_id FROM folders f WHERE f.path LIKE CONCAT(:folderPath, '%'))");
+            params.addValue("folderPath", folderPath);
+        }
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("검색 조건이 하나 이상 필요합니다.");
+        }
+        return namedJdbcTemplate.queryForList("SELECT b.bookmark_id FROM bookmarks b WHERE " + String.join(" AND ", conditions) +
+                " ORDER BY b.bookmark_id LIMIT :limit", params, Long.class);
+    }
+
+    /**
+     * 북마크들을 folderId 폴더로 옮깁니다.
+     * @return 옮긴 북마크 수
+     */
+    public int moveToFolder(Collection<Long> bookmarkIds, Long folderId, LocalDateTime now) {
+        if (bookmarkIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update("UPDATE bookmarks SET folder_id = :folderId, updated_at = :now WHERE bookmark_id IN (:ids)",
+                new MapSqlParameterSource("ids", bookmarkIds)
+                        .addValue("folderId", folderId)
+                        .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    /**
+     * 북마크들의 수정 시각을 now로 바꿉니다. (태그만 바뀐 북마크)
+     */
+    public int touch(Collection<Long> bookmarkIds, LocalDateTime now) {
+        if (bookmarkIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update("UPDATE bookmarks SET updated_at = :now WHERE bookmark_id IN (:ids)",
+                new MapSqlParameterSource("ids", bookmarkIds).addValue("now", Timestamp.valueOf(now)));
+    }
+
+    /**
+     * 모든 (북마크, 태그) 조합 중 아직 없는 연결을 한 번에 추가합니다.
+     * @return 추가한 연결 수
+     */
+    public int insertTagLinks(Collection<Long> bookmarkIds, Collection<Long> tagIds) {
+        if (bookmarkIds.isEmpty() || tagIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update("INSERT INTO bookmark_tags (bookmark_id, tag_id) " +
+                        "SELECT b.bookmark_id, t.tag_id FROM bookmarks b CROSS JOIN tags t " +
+                        "WHERE b.bookmark_id IN (:ids) AND t.tag_id IN (:tagIds) " +
+                        "  AND NOT EXISTS (SELECT 1 FROM bookmark_tags bt WHERE bt.bookmark_id = b.bookmark_id AND bt.tag_id = t.tag_id)",
+                new MapSqlParameterSource("ids", bookmarkIds).addValue("tagIds", tagIds));
+    }
+
+    /**
+     * 북마크들과 이름이 정확히 같은 태그들의 연결을 한 번에 삭제합니다.
+     * @return 삭제한 연결 수
+     */
+    public int deleteTagLinks(Collection<Long> bookmarkIds, Collection<String> tagNames) {
+        if (bookmarkIds.isEmpty() || tagNames.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update("DELETE FROM bookmark_tags WHERE bookmark_id IN (:ids) " +
+                        "AND tag_id IN (SELECT t.tag_id FROM tags t WHERE t.name IN (:tagNames))",
+                new MapSqlParameterSource("ids", bookmarkIds).addValue("tagNames", tagNames));
+    }
+
+    /**
+     * 북마크들의 모든 태그 연결을 삭제합니다. (북마크를 삭제하기 전에 호출)
+     * @return 삭제한 연결 수
+     */
+    public int deleteAllTagLinks(Collection<Long> bookmarkIds) {
+        if (bookmarkIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update("DELETE FROM bookmark_tags WHERE bookmark_id IN (:ids)",
+                new MapSqlParameterSource("ids", bookmarkIds));
+    }
+
+    /**
+     * 북마크들을 삭제합니다. 태그 연결은 deleteAllTagLinks로 먼저 삭제해야 합니다. (태그 자체는 삭제하지 않음)
+     * @return 삭제한 북마크 수
+     */
+    public int deleteBookmarks(Collection<Long> bookmarkIds) {
+        if (bookmarkIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update("DELETE FROM bookmarks WHERE bookmark_id IN (:ids)",
+                new MapSqlParameterSource("ids", bookmarkIds));
+    }
+}
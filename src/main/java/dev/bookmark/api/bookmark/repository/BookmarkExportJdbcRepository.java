@@ -0,0 +1,63 @@
+package dev.bookmark.api.bookmark.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 북마크 내보내기 전용 JDBC 조회입니다.
+ * 전체 컬렉션을 한 번의 쿼리로 읽되, 결과를 목록으로 모으지 않고 커서를 앞으로만 넘기며 행마다 콜백을 호출합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookmarkExportJdbcRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    // 폴더 경로(materialized path)의 사전 순은 트리의 전위 순회 순서입니다. (부모가 먼저, 하위 폴더 전체가 연속해서 나옴)
+    // 한 북마크의 태그 행들이 연속해서 나오도록 북마크 정렬 키 뒤에 태그를 둡니다. 북마크가 없는 폴더도 한 행으로 나옵니다.
+    private static final String SQL = "SELECT f.folder_id, f.name, f.path, f.created_at, f.updated_at, " +
+            "b.bookmark_id, b.title, b.url, b.description, b.created_at, b.updated_at, t.name " +
+            "FROM folders f " +
+            "LEFT JOIN bookmarks b ON b.folder_id = f.folder_id " +
+            "LEFT JOIN bookmark_tags bt ON bt.bookmark_id = b.bookmark_id " +
+            "LEFT JOIN tags t ON t.tag_id = bt.tag_id " +
+            "ORDER BY f.path, b.created_at, b.bookmark_id, t.name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 폴더 하나, 북마크 하나, 태그 하나의 조합 (북마크가 없는 폴더는 bookmarkId == null, 태그가 없는 북마크는 tagName == null)
+     */
+    public record ExportRow(Long folderId, String folderName, String folderPath, LocalDateTime folderCreatedAt,
+                            LocalDateTime folderUpdatedAt, Long bookmarkId, String title, String url, String description,
+                            LocalDateTime createdAt, LocalDateTime updatedAt, String tagName) {
+    }
+
+    /**
+     * 모든 폴더와 북마크를 폴더 트리 순서로 한 행씩 전달합니다.
+     * 콜백에서 발생한 런타임 예외는 그대로 전파되며, 그 시점에 조회를 멈춥니다.
+     */
+    public void forEachInFolderOrder(Consumer<ExportRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ExportRow(
+                rs.getLong(1), rs.getString(2), rs.getString(3), toLocalDateTime(rs.getTimestamp(4)),
+                toLocalDateTime(rs.getTimestamp(5)), rs.getObject(6, Long.class), rs.getString(7), rs.getString(8),
+                rs.getString(9), toLocalDateTime(rs.getTimestamp(10)), toLocalDateTime(rs.getTimestamp(11)),
+                rs.getString(12))));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
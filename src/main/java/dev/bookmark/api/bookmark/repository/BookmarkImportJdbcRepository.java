@@ -0,0 +1,173 @@
+package dev.bookmark.api.bookmark.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 북마크 가져오기 전용 JDBC 배치 쿼리입니다.
+ * JPA의 save()는 IDENTITY 키 때문에 행마다 INSERT를 바로 실행하므로, 수천 건을 넣을 때는 JDBC 배치로 한 번에 보내고
+ * 생성된 키는 배치의 getGeneratedKeys로 받습니다. 정규화 컬럼(SearchText)과 폴더 경로는 호출하는 쪽에서 계산해 넘깁니다.
+ * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 불러온 엔티티에는 반영되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookmarkImportJdbcRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public record FolderRow(Long id, String name, Long parentId, String path) {
+    }
+
+    public record NewFolder(String name, Long parentId) {
+    }
+
+    public record NewBookmark(String title, String url, String description, String normalizedTitle,
+                              String normalizedDescription, String canonicalUrl, String urlHash, Long folderId,
+                              LocalDateTime createdAt) {
+    }
+
+    /**
+     * 지정한 부모 폴더들의 바로 아래 폴더를 조회합니다. (parentIds에 null이 있으면 최상위 폴더 포함)
+     */
+    public List<FolderRow> findChildFolders(Collection<Long> parentIds) {
+        List<Long> ids = parentIds.stream().filter(id -> id != null).toList();
+        boolean includeTopLevel = ids.size() < parentIds.size();
+        if (ids.isEmpty() && !includeTopLevel) {
+            return List.of();
+        }
+        String sql = "SELECT folder_id, name, parent_folder_id, path FROM folders WHERE "
+                + (ids.isEmpty() ? "1 = 0" : "parent_folder_id IN (:ids)")
+                + (includeTopLevel ? " OR parent_folder_id IS NULL" : "");
+        return namedJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> new FolderRow(rs.getLong(1), rs.getString(2), rs.getObject(3, Long.class), rs.getString(4)));
+    }
+
+    /**
+     * 폴더를 한 번의 배치로 추가하고 생성된 ID를 같은 순서로 반환합니다. 경로(path)는 ID가 필요하므로 updateFolderPaths로 채웁니다.
+     */
+    public List<Long> insertFolders(List<NewFolder> folders, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return insertReturningIds("INSERT INTO folders (name, parent_folder_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                "folder_id", folders.size(), (ps, i) -> {
+                    NewFolder folder = folders.get(i);
+                    ps.setString(1, folder.name());
+                    if (folder.parentId() != null) {
+                        ps.setLong(2, folder.parentId());
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                    }
+                    ps.setTimestamp(3, timestamp);
+                    ps.setTimestamp(4, timestamp);
+                });
+    }
+
+    public void updateFolderPaths(List<Long> ids, List<String> paths) {
+        namedJdbcTemplate.getJdbcTemplate().batchUpdate("UPDATE folders SET path = ? WHERE folder_id = ?",
+                setter(ids.size(), (ps, i) -> {
+                    ps.setString(1, paths.get(i));
+                    ps.setLong(2, ids.get(i));
+                }));
+    }
+
+    /**
+     * URL 해시가 주어진 값 중 하나인 북마크의 정규화 URL을 조회합니다. (가져오기 중복 확인, url_hash 인덱스 사용)
+     */
+    public Set<String> findCanonicalUrlsByHash(Collection<String> urlHashes) {
+        if (urlHashes.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList("SELECT url_canonical FROM bookmarks WHERE url_hash IN (:hashes)",
+                new MapSqlParameterSource("hashes", urlHashes), String.class));
+    }
+
+    /**
+     * 북마크를 한 번의 배치로 추가하고 생성된 ID를 같은 순서로 반환합니다. (updated_at은 now, created_at이 없으면 now)
+     */
+    public List<Long> insertBookmarks(List<NewBookmark> bookmarks, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        return insertReturningIds("INSERT INTO bookmarks (title, url, description, title_normalized, description_normalized, " +
+                        "url_canonical, url_hash, folder_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                "bookmark_id", bookmarks.size(), (ps, i) -> {
+                    NewBookmark bookmark = bookmarks.get(i);
+                    ps.setString(1, bookmark.title());
+                    ps.setString(2, bookmark.url());
+                    ps.setString(3, bookmark.description());
+                    ps.setString(4, bookmark.normalizedTitle());
+                    ps.setString(5, bookmark.normalizedDescription());
+                    ps.setString(6, bookmark.canonicalUrl());
+                    ps.setString(7, bookmark.urlHash());
+                    ps.setLong(8, bookmark.folderId());
+                    ps.setTimestamp(9, bookmark.createdAt() != null ? Timestamp.valueOf(bookmark.createdAt()) : updatedAt);
+                    ps.setTimestamp(10, updatedAt);
+                });
+    }
+
+    /**
+     * 북마크-태그 연결을 한 번의 배치로 추가합니다. (bookmarkIds[i] - tagIds[i])
+     */
+    public void insertBookmarkTags(long[] bookmarkIds, long[] tagIds, int count) {
+        if (count == 0) {
+            return;
+        }
+        namedJdbcTemplate.getJdbcTemplate().batchUpdate("INSERT INTO bookmark_tags (bookmark_id, tag_id) VALUES (?, ?)",
+                setter(count, (ps, i) -> {
+                    ps.setLong(1, bookmarkIds[i]);
+                    ps.setLong(2, tagIds[i]);
+                }));
+    }
+
+    private List<Long> insertReturningIds(String sql, String keyColumn, int size, RowSetter rowSetter) {
+        if (size == 0) {
+            return List.of();
+        }
+        JdbcTemplate jdbcTemplate = namedJdbcTemplate.getJdbcTemplate();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(sql, new String[]{keyColumn}),
+                setter(size, rowSetter), keyHolder);
+        List<Long> ids = new ArrayList<>(size);
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != size) {
+            throw new IllegalStateException("생성된 키 수(" + ids.size() + ")가 추가한 행 수(" + size + ")와 다릅니다.");
+        }
+        return ids;
+    }
+
+    private static BatchPreparedStatementSetter setter(int size, RowSetter rowSetter) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                rowSetter.set(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+}
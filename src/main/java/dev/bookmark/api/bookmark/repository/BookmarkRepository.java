@@ -1,18 +1,25 @@
 package dev.bookmark.api.bookmark.repository; // 1. 패키지 선언
 
 import dev.bookmark.api.bookmark.domain.Bookmark; // 2. Bookmark 엔티티 임포트
+import dev.bookmark.api.common.CanonicalUrl;
+import dev.bookmark.api.common.SearchText;
 import dev.bookmark.api.folder.domain.Folder;   // 3. Folder 엔티티 임포트 (폴더별 검색 등)
 // import dev.bookmark.api.tag.domain.Tag;      // (나중에 태그별 검색 시 필요할 수 있음)
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;     // 4. 페이징 처리를 위한 Page 임포트
 import org.springframework.data.domain.Pageable; // 4. 페이징 처리를 위한 Pageable 임포트
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query; // 5. JPQL 사용을 위한 @Query 임포트
 import org.springframework.data.repository.query.Param; // 5. @Query 파라미터 바인딩을 위한 @Param 임포트
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 // JpaRepository<엔티티 클래스, 엔티티의 ID 필드 타입> 인터페이스를 상속받습니다.
-public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
+public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, BookmarkBatchSearchRepository {
 
     // 특정 폴더 ID(folderId)에 속한 모든 북마크를 페이징 처리하여 조회하는 쿼리 메소드
     Page<Bookmark> findByFolder_Id(Long folderId, Pageable pageable);
@@ -24,19 +31,292 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
 
     /**
-     * 키워드(제목/설명) 또는 태그 이름 목록으로 북마크를 검색합니다. (수정된 쿼리)
+     * 키워드(제목/설명) 또는 태그 이름 목록으로 북마크를 검색합니다. (대소문자/유니코드 표현 무시)
      * 이 쿼리는 keyword 또는 tagNames 중 하나 이상이 제공되었을 때만 호출되는 것을 가정합니다.
      * @param keyword 검색할 키워드 (null 가능)
      * @param tagNames 검색할 태그 이름 목록 (null 또는 비어있을 수 있음)
      * @return 조건에 맞는 북마크 목록
      */
+    default List<Bookmark> findByKeywordOrTags(String keyword, List<String> tagNames) {
+        return findByNormalizedKeywordOrTags(SearchText.normalize(keyword), normalize(tagNames));
+    }
+
+    /**
+     * findByKeywordOrTags의 실제 쿼리입니다. 키워드와 태그 이름은 SearchText로 정규화된 값이어야 합니다.
+     * 저장 시 만들어 둔 정규화 컬럼과 비교하므로 행마다 LOWER()를 계산하지 않습니다.
+     */
+    @Query("SELECT DISTINCT b FROM Bookmark b LEFT JOIN b.tags t " +
+            "WHERE (:keyword IS NOT NULL AND (b.normalizedTitle LIKE CONCAT('%', :keyword, '%') OR b.normalizedDescription LIKE CONCAT('%', :keyword, '%'))) " +
+            "   OR (:tagNames IS NOT NULL AND t.normalizedName IN :tagNames)")
+    List<Bookmark> findByNormalizedKeywordOrTags(
+            @Param("keyword") String keyword,
+            @Param("tagNames") List<String> tagNames);
+
+
+
+    /**
+     * findByKeywordOrTags와 같지만, 키워드 조건은 트라이그램 인덱스가 좁혀 둔 후보 ID 안에서만 확인합니다.
+     * 앞에 %가 붙은 LIKE는 인덱스를 탈 수 없으므로, 기본 키(IN) 조건으로 비교할 행을 먼저 줄이고 LIKE로 최종 확인합니다.
+     * @param keywordCandidateIds 키워드를 포함할 수 있는 북마크 ID (비어 있으면 안 되므로 후보가 없으면 자리 표시용 ID 전달)
+     */
+    default List<Bookmark> findByKeywordCandidatesOrTags(String keyword, Collection<Long> keywordCandidateIds, List<String> tagNames) {
+        return findByNormalizedKeywordCandidatesOrTags(SearchText.normalize(keyword), keywordCandidateIds, normalize(tagNames));
+    }
+
     @Query("SELECT DISTINCT b FROM Bookmark b LEFT JOIN b.tags t " +
-            "WHERE (:keyword IS NOT NULL AND (LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(b.description) LIKE LOWER(CONCAT('%', :keyword, '%')))) " +
-            "   OR (:tagNames IS NOT NULL AND t.name IN :tagNames)")
-    List<Bookmark> findByKeywordOrTags(
+            "WHERE (:keyword IS NOT NULL AND b.id IN :keywordCandidateIds " +
+            "       AND (b.normalizedTitle LIKE CONCAT('%', :keyword, '%') OR b.normalizedDescription LIKE CONCAT('%', :keyword, '%'))) " +
+            "   OR (:tagNames IS NOT NULL AND t.normalizedName IN :tagNames)")
+    List<Bookmark> findByNormalizedKeywordCandidatesOrTags(
             @Param("keyword") String keyword,
+            @Param("keywordCandidateIds") Collection<Long> keywordCandidateIds,
             @Param("tagNames") List<String> tagNames);
 
+    /**
+     * findByKeywordOrTags와 같은 조건의 검색 후보를 엔티티 대신 가벼운 행(ID, 제목, 설명, 생성일, 폴더 ID, 태그 ID/이름)으로 조회합니다.
+     * 엔티티/DTO를 만들지 않고 점수를 계산한 뒤, 실제 페이지에 포함된 북마크만 다시 불러오기 위해 사용합니다.
+     * @param keyword 검색할 키워드 (null 가능)
+     * @param tagNames 검색할 태그 이름 목록 (null 가능)
+     * @return (북마크, 태그) 쌍마다 한 행 (북마크의 모든 태그가 포함됨)
+     */
+    default List<SearchCandidateRow> findSearchCandidateRows(String keyword, List<String> tagNames) {
+        return findSearchCandidateRowsNormalized(SearchText.normalize(keyword), normalize(tagNames));
+    }
+
+    @Query("SELECT b.id AS id, b.title AS title, b.description AS description, b.createdAt AS createdAt, " +
+            "b.folder.id AS folderId, tag.id AS tagId, tag.name AS tagName " +
+            "FROM Bookmark b LEFT JOIN b.tags tag " +
+            "WHERE b.id IN (SELECT b2.id FROM Bookmark b2 LEFT JOIN b2.tags t " +
+            "   WHERE (:keyword IS NOT NULL AND (b2.normalizedTitle LIKE CONCAT('%', :keyword, '%') OR b2.normalizedDescription LIKE CONCAT('%', :keyword, '%'))) " +
+            "      OR (:tagNames IS NOT NULL AND t.normalizedName IN :tagNames))")
+    List<SearchCandidateRow> findSearchCandidateRowsNormalized(
+            @Param("keyword") String keyword,
+            @Param("tagNames") List<String> tagNames);
+
+    /**
+     * findSearchCandidateRows와 같지만, 키워드 조건은 트라이그램 인덱스가 좁혀 둔 후보 ID 안에서만 확인합니다.
+     */
+    default List<SearchCandidateRow> findSearchCandidateRowsByKeywordCandidates(String keyword, Collection<Long> keywordCandidateIds,
+                                                                                List<String> tagNames) {
+        return findSearchCandidateRowsByKeywordCandidatesNormalized(SearchText.normalize(keyword), keywordCandidateIds, normalize(tagNames));
+    }
+
+    @Query("SELECT b.id AS id, b.title AS title, b.description AS description, b.createdAt AS createdAt, " +
+            "b.folder.id AS folderId, tag.id AS tagId, tag.name AS tagName " +
+            "FROM Bookmark b LEFT JOIN b.tags tag " +
+            "WHERE b.id IN (SELECT b2.id FROM Bookmark b2 LEFT JOIN b2.tags t " +
+            "   WHERE (:keyword IS NOT NULL AND b2.id IN :keywordCandidateIds " +
+            "          AND (b2.normalizedTitle LIKE CONCAT('%', :keyword, '%') OR b2.normalizedDescription LIKE CONCAT('%', :keyword, '%'))) " +
+            "      OR (:tagNames IS NOT NULL AND t.normalizedName IN :tagNames))")
+    List<SearchCandidateRow> findSearchCandidateRowsByKeywordCandidatesNormalized(
+            @Param("keyword") String keyword,
+            @Param("keywordCandidateIds") Collection<Long> keywordCandidateIds,
+            @Param("tagNames") List<String> tagNames);
+
+    /**
+     * findByKeywordOrTags와 같은 조건에 맞는 북마크 수를 태그별/폴더별로 집계합니다.
+     * 후보를 애플리케이션에서 훑지 않는 검색 전략(DB 정렬, 인덱스)의 검색 패싯을 구할 때 사용합니다.
+     * @param keyword 검색할 키워드 (null 가능)
+     * @param tagNames 검색할 태그 이름 목록 (null 가능)
+     * @param folderPath 이 경로로 시작하는 폴더의 북마크만 셉니다. (null이면 전체)
+     */
+    default List<FacetCountRow> countTagFacets(String keyword, List<String> tagNames, String folderPath) {
+        return countTagFacetsNormalized(SearchText.normalize(keyword), normalize(tagNames), folderPath);
+    }
+
+    default List<FacetCountRow> countFolderFacets(String keyword, List<String> tagNames, String folderPath) {
+        return countFolderFacetsNormalized(SearchText.normalize(keyword), normalize(tagNames), folderPath);
+    }
+
+    @Query("SELECT tag.id AS id, COUNT(b.id) AS matchCount FROM Bookmark b JOIN b.tags tag " +
+            "WHERE b.id IN (SELECT b2.id FROM Bookmark b2 LEFT JOIN b2.tags t " +
+            "   WHERE (:keyword IS NOT NULL AND (b2.normalizedTitle LIKE CONCAT('%', :keyword, '%') OR b2.normalizedDescription LIKE CONCAT('%', :keyword, '%'))) " +
+            "      OR (:tagNames IS NOT NULL AND t.normalizedName IN :tagNames)) " +
+            "  AND (:folderPath IS NULL OR b.folder.id IN (SELECT f.id FROM Folder f WHERE f.path LIKE CONCAT(:folderPath, '%'))) " +
+            "GROUP BY tag.id")
+    List<FacetCountRow> countTagFacetsNormalized(
+            @Param("keyword") String keyword,
+            @Param("tagNames") List<String> tagNames,
+            @Param("folderPath") String folderPath);
+
+    @Query("SELECT b.folder.id AS id, COUNT(b.id) AS matchCount FROM Bookmark b " +
+            "WHERE b.id IN (SELECT b2.id FROM Bookmark b2 LEFT JOIN b2.tags t " +
+            "   WHERE (:keyword IS NOT NULL AND (b2.normalizedTitle LIKE CONCAT('%', :keyword, '%') OR b2.normalizedDescription LIKE CONCAT('%', :keyword, '%'))) " +
+            "      OR (:tagNames IS NOT NULL AND t.normalizedName IN :tagNames)) " +
+            "  AND (:folderPath IS NULL OR b.folder.id IN (SELECT f.id FROM Folder f WHERE f.path LIKE CONCAT(:folderPath, '%'))) " +
+            "GROUP BY b.folder.id")
+    List<FacetCountRow> countFolderFacetsNormalized(
+            @Param("keyword") String keyword,
+            @Param("tagNames") List<String> tagNames,
+            @Param("folderPath") String folderPath);
+
+    // 태그 이름 목록을 검색 비교용으로 정규화합니다. (null은 그대로)
+    private static List<String> normalize(List<String> tagNames) {
+        return tagNames == null ? null : tagNames.stream().map(SearchText::normalize).toList();
+    }
+
+    /**
+     * 검색 점수 계산, 정렬, 페이징을 모두 DB에서 수행합니다. (DbLevelSortSearchStrategy에서 사용)
+     * 점수 규칙은 SearchScoring과 같습니다: 제목 20 / 설명 10, 태그 전체 일치 100, 태그당 5, 키워드+태그 30. (쿼리 조각은 ScoredSearchSql)
+     * 키워드와 태그 이름은 SearchText로 정규화된 값이어야 하며, 정규화 컬럼과 비교하므로 일치 조건과 점수 계산이 같은 기준을 씁니다.
+     * 검색 조건(WHERE)은 findByKeywordOrTags와 동일합니다.
+     * 점수가 같으면 방문 통계의 frecency 키(없으면 0) → 생성일 → ID 내림차순으로 정렬합니다. (ScoredCandidate.RANKING과 같은 순서)
+     * 파라미터가 null이면 안 되므로, 조건이 없을 때는 hasKeyword/hasTags를 false로 주고 자리 표시용 값을 전달합니다.
+     * @param hasFolder true이면 경로가 folderPath로 시작하는 폴더(지정한 폴더와 모든 하위 폴더)의 북마크만 검색합니다. (folders.path 인덱스 사용)
+     * @param pageable 정렬 정보가 없는 페이지 요청 (정렬은 쿼리에서 점수 기준으로 수행)
+     * @return 요청한 페이지 크기만큼의 (ID, 점수) 목록과 전체 개수
+     */
+    @Query(value = "SELECT s.\"id\", s.\"score\", s.\"frecency\" FROM (" + ScoredSearchSql.SCORED + ") s" + ScoredSearchSql.ORDER_BY,
+            countQuery = "SELECT COUNT(*) FROM bookmarks b WHERE " + ScoredSearchSql.MATCHES,
+            nativeQuery = true)
+    Page<ScoredBookmarkRow> searchScoredPage(
+            @Param("hasKeyword") boolean hasKeyword,
+            @Param("keyword") String keyword,
+            @Param("hasTags") boolean hasTags,
+            @Param("tagNames") List<String> tagNames,
+            @Param("tagCount") int tagCount,
+            @Param("hasFolder") boolean hasFolder,
+            @Param("folderPath") String folderPath,
+            Pageable pageable);
+
+    /**
+     * searchScoredPage와 같은 점수/정렬로, 커서(마지막으로 받은 점수, frecency 키, 생성일, ID) 다음의 북마크를 조회합니다. (커서 기반 페이징)
+     * 전체 개수를 세지 않으며, 첫 페이지는 hasCursor를 false로 주고 자리 표시용 커서 값을 전달합니다. (폴더 범위 파라미터는 searchScoredPage와 같음)
+     * @param pageable 조회할 개수만 담은 페이지 요청 (항상 첫 페이지, 다음 페이지 확인을 위해 보통 size + 1)
+     */
+    @Query(value = "SELECT s.\"id\", s.\"score\", s.\"frecency\" FROM (" + ScoredSearchSql.SCORED + ") s " +
+            "WHERE :hasCursor = FALSE " +
+            "   OR s.\"score\" < :cursorScore " +
+            "   OR (s.\"score\" = :cursorScore AND (s.\"frecency\" < :cursorFrecency " +
+            "       OR (s.\"frecency\" = :cursorFrecency AND (s.created_at < :cursorCreatedAt " +
+            "           OR (s.created_at = :cursorCreatedAt AND s.\"id\" < :cursorId)))))" +
+            ScoredSearchSql.ORDER_BY,
+            nativeQuery = true)
+    List<ScoredBookmarkRow> searchScoredAfter(
+            @Param("hasKeyword") boolean hasKeyword,
+            @Param("keyword") String keyword,
+            @Param("hasTags") boolean hasTags,
+            @Param("tagNames") List<String> tagNames,
+            @Param("tagCount") int tagCount,
+            @Param("hasFolder") boolean hasFolder,
+            @Param("folderPath") String folderPath,
+            @Param("hasCursor") boolean hasCursor,
+            @Param("cursorScore") int cursorScore,
+            @Param("cursorFrecency") double cursorFrecency,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 폴더의 최신 북마크 ID를 (생성일, ID) 내림차순으로 조회합니다. (커서 기반 페이징의 첫 페이지)
+     */
+    @Query("SELECT b.id FROM Bookmark b WHERE b.folder.id = :folderId ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsByFolderFirstPage(@Param("folderId") Long folderId, Pageable pageable);
+
+    /**
+     * 커서(마지막으로 받은 생성일, ID) 다음의 북마크 ID를 조회합니다.
+     * (folder_id, created_at, bookmark_id) 인덱스를 타므로 페이지가 깊어져도 앞의 행을 건너뛰는 비용이 없습니다.
+     */
+    @Query("SELECT b.id FROM Bookmark b WHERE b.folder.id = :folderId " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsByFolderAfter(
+            @Param("folderId") Long folderId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * 폴더의 북마크를 frecency(자주, 최근에 방문한) 순으로 페이징 조회합니다. 방문 기록이 없는 북마크는 뒤에 최신순으로 둡니다.
+     * 저장된 frecency 키는 시간이 지나도 순서가 바뀌지 않으므로(Frecency 참고) 그대로 정렬에 씁니다.
+     * @param pageable 정렬 정보가 없는 페이지 요청 (정렬은 쿼리에서 수행)
+     */
+    @Query(value = "SELECT b FROM Bookmark b LEFT JOIN BookmarkVisitStats v ON v.bookmarkId = b.id " +
+            "WHERE b.folder.id = :folderId ORDER BY v.frecency DESC NULLS LAST, b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM Bookmark b WHERE b.folder.id = :folderId")
+    Page<Bookmark> findByFolderIdOrderByFrecency(@Param("folderId") Long folderId, Pageable pageable);
+
+    /**
+     * 주어진 ID의 북마크들을 태그와 폴더까지 한 번에 조회합니다. (페이지에 보여줄 북마크만 불러올 때 사용)
+     * @param ids 조회할 북마크 ID 목록
+     * @return 태그와 폴더가 초기화된 북마크 목록 (순서는 보장되지 않음)
+     */
+    @Query("SELECT DISTINCT b FROM Bookmark b LEFT JOIN FETCH b.tags JOIN FETCH b.folder WHERE b.id IN :ids")
+    List<Bookmark> findAllWithTagsAndFolderByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ID 순으로 afterId 이후의 북마크를 필요한 컬럼만 조회합니다. (검색 인덱스 재구축 시 청크 단위 조회)
+     */
+    @Query("SELECT b.id AS id, b.title AS title, b.description AS description, b.folder.id AS folderId, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt " +
+            "FROM Bookmark b WHERE b.id > :afterId ORDER BY b.id")
+    List<BookmarkSnapshotRow> findSnapshotRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 주어진 ID의 북마크를 필요한 컬럼만 조회합니다.
+     */
+    @Query("SELECT b.id AS id, b.title AS title, b.description AS description, b.folder.id AS folderId, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt " +
+            "FROM Bookmark b WHERE b.id IN :ids")
+    List<BookmarkSnapshotRow> findSnapshotRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * since 이후에 생성/수정된 북마크를 필요한 컬럼만 조회합니다. (검색 인덱스 스냅샷 복원 후 따라잡기용)
+     */
+    @Query("SELECT b.id AS id, b.title AS title, b.description AS description, b.folder.id AS folderId, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt " +
+            "FROM Bookmark b WHERE b.updatedAt > :since")
+    List<BookmarkSnapshotRow> findSnapshotRowsUpdatedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * 모든 북마크의 ID를 조회합니다. (검색 인덱스 스냅샷 이후 삭제된 북마크 확인용)
+     */
+    @Query("SELECT b.id FROM Bookmark b")
+    List<Long> findAllIds();
+
+    /**
+     * 주어진 북마크들에 연결된 태그 이름을 (북마크 ID, 태그 이름) 쌍으로 조회합니다.
+     */
+    @Query("SELECT b.id AS bookmarkId, t.name AS tagName FROM Bookmark b JOIN b.tags t WHERE b.id IN :ids")
+    List<BookmarkTagNameRow> findTagNamesByBookmarkIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 태그가 연결된 모든 북마크의 ID를 조회합니다.
+     */
+    @Query("SELECT b.id FROM Bookmark b JOIN b.tags t WHERE t.id = :tagId")
+    List<Long> findIdsByTagId(@Param("tagId") Long tagId);
+
+    /**
+     * URL이 같은(CanonicalUrl로 정규화한 값이 같은) 북마크의 ID를 오래된 순으로 조회합니다.
+     * url_hash 인덱스로 찾고, 해시 충돌에 대비해 정규화 URL도 비교합니다.
+     */
+    default List<Long> findIdsByUrl(String url) {
+        String canonicalUrl = CanonicalUrl.canonicalize(url);
+        return findIdsByUrlHash(CanonicalUrl.hash(canonicalUrl), canonicalUrl);
+    }
+
+    @Query("SELECT b.id FROM Bookmark b WHERE b.urlHash = :urlHash AND b.canonicalUrl = :canonicalUrl ORDER BY b.id")
+    List<Long> findIdsByUrlHash(@Param("urlHash") String urlHash, @Param("canonicalUrl") String canonicalUrl);
+
+    /**
+     * 북마크와 소속 폴더의 수정 시각만 조회합니다. (엔티티를 불러오지 않고 ETag를 만들기 위해 사용)
+     */
+    @Query("SELECT b.updatedAt AS updatedAt, f.updatedAt AS folderUpdatedAt FROM Bookmark b LEFT JOIN b.folder f WHERE b.id = :id")
+    Optional<BookmarkVersionRow> findVersionById(@Param("id") Long id);
+
+    /**
+     * 북마크를 행 잠금(SELECT ... FOR UPDATE)과 함께 조회합니다.
+     * If-Match 확인과 수정 사이에 다른 트랜잭션이 같은 북마크를 수정하지 못하게 할 때 사용합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bookmark b WHERE b.id = :id")
+    Optional<Bookmark> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 제목별 북마크 수를 조회합니다. (자동완성 인덱스 구축 시 사용)
+     */
+    @Query("SELECT b.title AS title, COUNT(b.id) AS usageCount FROM Bookmark b GROUP BY b.title")
+    List<TitleCountRow> findTitleCounts();
 
 
     // JpaRepository를 상속받았으므로, 기본적인 CRUD 메소드들은 이미 사용 가능합니다.
@@ -0,0 +1,56 @@
+package dev.bookmark.api.bookmark.repository;
+
+import dev.bookmark.api.common.SearchText;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 검색 결과 스트리밍 전용 JDBC 조회입니다. (BookmarkSearchStreamer용)
+ * searchScoredPage와 같은 점수/정렬의 쿼리를 한 번만 실행하고, 결과를 목록으로 모으지 않고 커서를 앞으로만 넘기며 ID마다 콜백을 호출합니다.
+ */
+@Repository
+public class BookmarkSearchJdbcRepository {
+
+    private static final int FETCH_SIZE = 500;
+    // 조건이 없을 때 IN 절에 전달하는 자리 표시용 값 (hasTags = false이므로 실제로 비교되지 않음)
+    private static final List<String> NO_TAGS = List.of("");
+
+    // 점수 규칙과 정렬은 BookmarkRepository.searchScoredPage와 같습니다. (같은 ScoredSearchSql 조각으로 만듦)
+    private static final String SQL = "SELECT s.\"id\" FROM (" + ScoredSearchSql.SCORED + ") s" + ScoredSearchSql.ORDER_BY;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BookmarkSearchJdbcRepository(JdbcTemplate jdbcTemplate) {
+        // IN 절의 태그 목록을 펼치기 위해 이름 있는 파라미터를 씁니다. 문장은 기본(TYPE_FORWARD_ONLY, CONCUR_READ_ONLY)으로 만들어집니다.
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    /**
+     * 키워드 또는 태그 이름 목록에 맞는 북마크 ID를 검색 순위 순서로 하나씩 전달합니다.
+     * 콜백에서 발생한 런타임 예외는 그대로 전파되며, 그 시점에 조회를 멈춥니다.
+     * @param keyword 검색할 키워드 (null 가능)
+     * @param tagNames 검색할 태그 이름 목록 (null 가능)
+     */
+    public void forEachScoredId(String keyword, List<String> tagNames, LongConsumer consumer) {
+        boolean keywordExists = StringUtils.hasText(keyword);
+        boolean tagsExist = (tagNames != null && !tagNames.isEmpty());
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("hasKeyword", keywordExists)
+                .addValue("keyword", keywordExists ? SearchText.normalize(keyword) : "")
+                .addValue("hasTags", tagsExist)
+                .addValue("tagNames", tagsExist ? tagNames.stream().map(SearchText::normalize).toList() : NO_TAGS)
+                .addValue("tagCount", tagsExist ? tagNames.size() : 0)
+                .addValue("hasFolder", false)
+                .addValue("folderPath", "");
+        jdbcTemplate.query(SQL, params, (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1)));
+    }
+}
@@ -0,0 +1,15 @@
+package dev.bookmark.api.bookmark.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 구축을 위해 엔티티 대신 필요한 컬럼만 조회하는 프로젝션입니다.
+ */
+public interface BookmarkSnapshotRow {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    Long getFolderId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,9 @@
+package dev.bookmark.api.bookmark.repository;
+
+/**
+ * (북마크 ID, 태그 이름) 쌍을 조회하는 프로젝션입니다.
+ */
+public interface BookmarkTagNameRow {
+    Long getBookmarkId();
+    String getTagName();
+}
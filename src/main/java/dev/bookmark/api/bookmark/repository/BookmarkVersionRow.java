@@ -0,0 +1,12 @@
+package dev.bookmark.api.bookmark.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크 응답의 ETag를 만들기 위해 엔티티 대신 수정 시각만 조회하는 프로젝션입니다.
+ * 응답에 폴더 이름이 함께 담기므로 소속 폴더의 수정 시각도 포함합니다. (폴더가 없으면 null)
+ */
+public interface BookmarkVersionRow {
+    LocalDateTime getUpdatedAt();
+    LocalDateTime getFolderUpdatedAt();
+}
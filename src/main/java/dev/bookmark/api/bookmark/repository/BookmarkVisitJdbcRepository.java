@@ -0,0 +1,85 @@
+package dev.bookmark.api.bookmark.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방문 통계(bookmark_visit_stats) JDBC 배치 쿼리입니다. (BookmarkVisitTracker용)
+ * 방문 수와 frecency 키는 호출하는 쪽에서 계산해 넘기며, 여러 북마크의 통계를 배치 한 번으로 반영합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookmarkVisitJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 방문 visits번을 더하고 frecency 키를 바꿀 통계 한 행
+     */
+    public record VisitUpdate(Long bookmarkId, long visits, double frecency) {
+    }
+
+    /**
+     * 존재하는 북마크의 frecency 키를 모두 조회합니다.
+     */
+    public Map<Long, Double> findAllFrecencies() {
+        Map<Long, Double> frecencies = new HashMap<>();
+        jdbcTemplate.query("SELECT v.bookmark_id, v.frecency FROM bookmark_visit_stats v " +
+                        "JOIN bookmarks b ON b.bookmark_id = v.bookmark_id",
+                (RowCallbackHandler) rs -> frecencies.put(rs.getLong(1), rs.getDouble(2)));
+        return frecencies;
+    }
+
+    /**
+     * 이미 통계가 있는 북마크들의 방문 수를 더하고 frecency 키를 바꿉니다.
+     * @return 행마다 바뀐 행 수 (통계가 삭제되었으면 0)
+     */
+    public int[] updateAll(List<VisitUpdate> updates, LocalDateTime visitedAt) {
+        if (updates.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp timestamp = Timestamp.valueOf(visitedAt);
+        return jdbcTemplate.batchUpdate("UPDATE bookmark_visit_stats SET visit_count = visit_count + ?, last_visited_at = ?, frecency = ? " +
+                        "WHERE bookmark_id = ?",
+                updates, updates.size(), (ps, update) -> {
+                    ps.setLong(1, update.visits());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setDouble(3, update.frecency());
+                    ps.setLong(4, update.bookmarkId());
+                })[0]; // 배치 크기가 전체 행 수이므로 배치는 하나
+    }
+
+    /**
+     * 처음 방문한 북마크들의 통계를 추가합니다. 북마크가 없으면(삭제되었거나 잘못된 ID) 추가하지 않습니다.
+     * @return 행마다 추가한 행 수 (북마크가 없으면 0)
+     */
+    public int[] insertAll(List<VisitUpdate> inserts, LocalDateTime visitedAt) {
+        if (inserts.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp timestamp = Timestamp.valueOf(visitedAt);
+        return jdbcTemplate.batchUpdate("INSERT INTO bookmark_visit_stats (bookmark_id, visit_count, last_visited_at, frecency) " +
+                        "SELECT bookmark_id, ?, ?, ? FROM bookmarks WHERE bookmark_id = ?",
+                inserts, inserts.size(), (ps, insert) -> {
+                    ps.setLong(1, insert.visits());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setDouble(3, insert.frecency());
+                    ps.setLong(4, insert.bookmarkId());
+                })[0];
+    }
+
+    /**
+     * 북마크의 방문 통계를 삭제합니다. (북마크 삭제 후)
+     */
+    public void deleteByBookmarkId(Long bookmarkId) {
+        jdbcTemplate.update("DELETE FROM bookmark_visit_stats WHERE bookmark_id = ?", bookmarkId);
+    }
+}
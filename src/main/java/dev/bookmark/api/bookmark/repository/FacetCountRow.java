@@ -0,0 +1,9 @@
+package dev.bookmark.api.bookmark.repository;
+
+/**
+ * 태그/폴더 ID별 검색 결과 수 (검색 패싯 집계 쿼리 결과)
+ */
+public interface FacetCountRow {
+    Long getId();
+    Long getMatchCount();
+}
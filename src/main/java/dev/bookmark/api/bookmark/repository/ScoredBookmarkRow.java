@@ -0,0 +1,10 @@
+package dev.bookmark.api.bookmark.repository;
+
+/**
+ * DB에서 계산한 검색 점수와 북마크 ID를 담는 프로젝션입니다.
+ */
+public interface ScoredBookmarkRow {
+    Long getId();
+    Integer getScore();
+    Double getFrecency(); // 점수가 같을 때의 정렬 키 (방문 기록이 없으면 0)
+}
@@ -0,0 +1,45 @@
+package dev.bookmark.api.bookmark.repository;
+
+/**
+ * DB에서 점수를 계산하는 검색 쿼리(searchScoredPage, searchScoredAfter, BookmarkSearchJdbcRepository)가 함께 쓰는 SQL 조각입니다.
+ * 점수 규칙은 SearchScoring과 같고, 정렬은 점수 → frecency 키(방문 통계가 없으면 0) → 생성일 → ID 내림차순입니다. (ScoredCandidate.RANKING과 같은 순서)
+ * 파라미터: :hasKeyword, :keyword, :hasTags, :tagNames, :tagCount, :hasFolder, :folderPath (키워드와 태그 이름은 SearchText로 정규화된 값)
+ */
+final class ScoredSearchSql {
+
+    /**
+     * 검색 조건: 키워드가 제목/설명에 포함되거나 태그 중 하나가 일치하고, hasFolder이면 경로가 folderPath로 시작하는 폴더에 속한 북마크 (별칭 b)
+     */
+    static final String MATCHES =
+            "((:hasKeyword = TRUE AND (b.title_normalized LIKE CONCAT('%', :keyword, '%') OR b.description_normalized LIKE CONCAT('%', :keyword, '%'))) " +
+            "   OR (:hasTags = TRUE AND EXISTS (SELECT 1 FROM bookmark_tags bt2 JOIN tags t2 ON t2.tag_id = bt2.tag_id " +
+            "                                   WHERE bt2.bookmark_id = b.bookmark_id AND t2.name_normalized IN (:tagNames)))) " +
+            "  AND (:hasFolder = FALSE OR b.folder_id IN (SELECT f.folder_id FROM folders f WHERE f.path LIKE CONCAT(:folderPath, '%')))";
+
+    /**
+     * 검색 조건에 맞는 북마크의 "id", "score", "frecency", created_at 컬럼 (FROM 절에 별칭과 함께 사용)
+     */
+    static final String SCORED =
+            "SELECT m.bookmark_id AS \"id\", m.created_at, m.frecency AS \"frecency\", " +
+            "       m.kw_score + m.tag_count * 5 " +
+            "       + CASE WHEN :hasTags = TRUE AND m.tag_count = :tagCount THEN 100 ELSE 0 END " +
+            "       + CASE WHEN m.kw_score > 0 AND m.tag_count > 0 THEN 30 ELSE 0 END AS \"score\" " +
+            "FROM (" +
+            "   SELECT b.bookmark_id, b.created_at, COALESCE(v.frecency, 0) AS frecency, " +
+            "          CASE WHEN :hasKeyword = TRUE AND b.title_normalized LIKE CONCAT('%', :keyword, '%') THEN 20 " +
+            "               WHEN :hasKeyword = TRUE AND b.description_normalized LIKE CONCAT('%', :keyword, '%') THEN 10 " +
+            "               ELSE 0 END AS kw_score, " +
+            "          (SELECT COUNT(*) FROM bookmark_tags bt JOIN tags t ON t.tag_id = bt.tag_id " +
+            "            WHERE bt.bookmark_id = b.bookmark_id AND :hasTags = TRUE AND t.name_normalized IN (:tagNames)) AS tag_count " +
+            "   FROM bookmarks b LEFT JOIN bookmark_visit_stats v ON v.bookmark_id = b.bookmark_id " +
+            "   WHERE " + MATCHES +
+            ") m";
+
+    /**
+     * SCORED를 별칭 s로 감싼 쿼리의 정렬
+     */
+    static final String ORDER_BY = " ORDER BY s.\"score\" DESC, s.\"frecency\" DESC, s.created_at DESC, s.\"id\" DESC";
+
+    private ScoredSearchSql() {
+    }
+}
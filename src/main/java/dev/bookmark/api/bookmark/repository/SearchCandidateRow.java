@@ -0,0 +1,18 @@
+package dev.bookmark.api.bookmark.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점수 계산에 필요한 컬럼만 담은 검색 후보 행입니다.
+ * 북마크에 태그가 여러 개면 태그마다 한 행씩 조회되며, 태그가 없으면 tagName이 null인 한 행이 조회됩니다.
+ * 폴더/태그 ID는 검색 패싯을 셀 때 사용합니다.
+ */
+public interface SearchCandidateRow {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    LocalDateTime getCreatedAt();
+    Long getFolderId();
+    Long getTagId();
+    String getTagName();
+}
@@ -0,0 +1,9 @@
+package dev.bookmark.api.bookmark.repository;
+
+/**
+ * 제목별 북마크 수 (자동완성 인덱스 구축 시 사용)
+ */
+public interface TitleCountRow {
+    String getTitle();
+    Long getUsageCount();
+}
@@ -2,20 +2,27 @@ package dev.bookmark.api.bookmark.service;
 
 import dev.bookmark.api.bookmark.domain.Bookmark;
 import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.FacetedPage;
 import dev.bookmark.api.tag.dto.TagResponseDto;
 import dev.bookmark.api.bookmark.repository.BookmarkRepository;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Primary;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,21 +30,85 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Component  // 이 클래스를 스프링 빈으로 등록합니다. @Service와 유사합니다.
-@Primary    // 여러 BookmarkSearchStrategy 구현체 중, 이것을 기본으로 사용하도록 설정합니다.
+            // 실제로 사용할 전략은 SearchStrategyConfig에서 bookmark.search.strategy 설정으로 선택합니다.
 @RequiredArgsConstructor
 public class AppLevelSortSearchStrategy implements BookmarkSearchStrategy {
 
+    /**
+     * 점수 계산 후 순위를 정하는 방식
+     * - FULL_SORT: 모든 검색 결과를 DTO로 변환한 뒤 전체 정렬 (기존 방식)
+     * - TOP_K: 가벼운 행으로 점수를 계산하고 상위 (offset + size)개만 힙에 유지, 페이지에 포함된 북마크만 DTO로 변환
+     */
+    public enum RankingMode { FULL_SORT, TOP_K }
+
+    private static final long NO_CANDIDATE_ID = -1L;
+
     private final BookmarkRepository bookmarkRepository;
 
+    @Value("${bookmark.search.ranking-mode:FULL_SORT}")
+    private RankingMode rankingMode = RankingMode.FULL_SORT;
+
+    // 태그 비트맵 인덱스 (bookmark.search.index.enabled=true일 때만 주입). 있으면 태그 일치 개수를 비트맵에서 구합니다.
+    private TagBitmapIndex tagBitmapIndex;
+
+    @Autowired(required = false)
+    public void setTagBitmapIndex(TagBitmapIndex tagBitmapIndex) {
+        this.tagBitmapIndex = tagBitmapIndex;
+    }
+
+    // 트라이그램 인덱스 (bookmark.search.index.enabled=true일 때만 주입). 있으면 키워드 LIKE 비교 대상을 후보 ID로 좁힙니다.
+    private TrigramIndex trigramIndex;
+
+    // 트라이그램 후보가 이보다 많으면 IN 목록이 오히려 비싸므로 기존 LIKE 전체 비교로 돌아갑니다.
+    @Value("${bookmark.search.trigram.max-candidates:5000}")
+    private int trigramMaxCandidates = 5000;
+
+    @Autowired(required = false)
+    public void setTrigramIndex(TrigramIndex trigramIndex) {
+        this.trigramIndex = trigramIndex;
+    }
+
+    // 후보가 많을 때 점수 계산/정렬을 병렬로 처리하는 실행기. 없으면 요청 스레드에서 순차로 처리합니다.
+    private ParallelScoringExecutor scoringExecutor;
+
+    @Autowired(required = false)
+    public void setScoringExecutor(ParallelScoringExecutor scoringExecutor) {
+        this.scoringExecutor = scoringExecutor;
+    }
+
+    // 방문 기록. 있으면 점수가 같은 북마크를 frecency 키 순으로 정렬합니다. (없으면 모두 Frecency.NONE)
+    private BookmarkVisitTracker visitTracker;
+
+    @Autowired(required = false)
+    public void setVisitTracker(BookmarkVisitTracker visitTracker) {
+        this.visitTracker = visitTracker;
+    }
+
     @Override
     public Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable) {
-        log.info("Searching with AppLevelSortSearchStrategy. Keyword: '{}', Tags: {}", keyword, tagNames);
-        // 여기에 방법 B의 로직을 그대로 구현합니다.
-        //    - DB에서 OR 조건으로 넓게 북마크 목록 조회 (bookmarkRepository.findByKeywordAndTags(...))
-        //    - 조회된 결과를 바탕으로 점수 매기기 (calculateScore 헬퍼 메소드)
-        //    - 점수 기준으로 재정렬하기
-        //    - 최종 결과를 Page 객체로 만들어 반환하기
+        return search(keyword, tagNames, pageable, null);
+    }
+
+    /**
+     * 두 순위 방식 모두 모든 검색 결과를 한 번씩 훑으므로(FULL_SORT: DTO 변환, TOP_K: 행 묶기) 그 순회에서 패싯을 함께 셉니다.
+     */
+    @Override
+    public boolean supportsFacets() {
+        return true;
+    }
+
+    @Override
+    public FacetedPage<BookmarkResponseDto> searchWithFacets(String keyword, List<String> tagNames, Pageable pageable, int facetLimit) {
+        SearchFacetCounts facets = new SearchFacetCounts();
+        Page<BookmarkResponseDto> page = search(keyword, tagNames, pageable, facets);
+        return new FacetedPage<>(page, facets.top(facetLimit));
+    }
 
+    /**
+     * @param facets 패싯을 셀 집계기 (null이면 세지 않음)
+     */
+    private Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable, SearchFacetCounts facets) {
+        log.info("Searching with AppLevelSortSearchStrategy. Keyword: '{}', Tags: {}", keyword, tagNames);
 
         // 1. 검색 조건이 유효한지 확인합니다.
         boolean keywordExists = StringUtils.hasText(keyword);
@@ -51,33 +122,47 @@ public class AppLevelSortSearchStrategy implements BookmarkSearchStrategy {
             throw new IllegalArgumentException("검색 조건(키워드 또는 태그)을 하나 이상 입력해주세요.");
         }
 
+        // 태그 조건이 있고 비트맵 인덱스가 있으면, 요청 태그별 일치 개수를 비트맵 연산으로 한 번에 계산해 둡니다.
+        TagMatchCounts tagMatches = (tagsExist && tagBitmapIndex != null) ? tagBitmapIndex.countMatches(tagNames) : null;
+
+        // 키워드가 있고 트라이그램 인덱스로 좁힐 수 있으면, LIKE는 후보 ID 안에서만 확인합니다. (null이면 기존 전체 비교)
+        Collection<Long> keywordCandidateIds = keywordExists ? findKeywordCandidateIds(keyword) : null;
+
+        if (rankingMode == RankingMode.TOP_K) {
+            return searchTopK(keywordExists ? keyword : null, tagsExist ? tagNames : null, keywordCandidateIds,
+                    keyword, tagNames, tagMatches, pageable, facets);
+        }
+
         // 3. 조건이 하나라도 있으면 커스텀 쿼리를 사용하여 조회합니다.
         log.debug("Search criteria present. Using custom query.");
-        List<Bookmark> foundBookmarks = bookmarkRepository.findByKeywordOrTags(
-                keywordExists ? keyword : null,
-                tagsExist ? tagNames : null
-        );
-
-
-        // 각 북마크를 DTO로 변환하고 점수를 매깁니다.
-        List<ScoredBookmarkDto> scoredList = foundBookmarks.stream()
-                .map(bookmark -> {
-                    BookmarkResponseDto dto = BookmarkResponseDto.fromEntity(bookmark);
-                    int score = calculateScore(dto, keyword, tagNames);
-                    return new ScoredBookmarkDto(dto, score);
-                })
-                .collect(Collectors.toList());
+        List<Bookmark> foundBookmarks = SearchProfiler.time("query", () -> keywordCandidateIds != null
+                ? bookmarkRepository.findByKeywordCandidatesOrTags(keyword, keywordCandidateIds, tagsExist ? tagNames : null)
+                : bookmarkRepository.findByKeywordOrTags(
+                        keywordExists ? keyword : null,
+                        tagsExist ? tagNames : null
+                ));
+        SearchProfiler.recordCandidates(foundBookmarks.size());
 
-        // 점수가 높은 순서대로 재정렬합니다.
-        scoredList.sort((o1, o2) -> {
-            int scoreCompare = Integer.compare(o2.getScore(), o1.getScore()); // 점수 내림차순
-            if (scoreCompare == 0) { // 점수가 같다면
-                // 생성일 내림차순 (최신순)으로 2차 정렬
-                return o2.getBookmark().getCreatedAt().compareTo(o1.getBookmark().getCreatedAt());
+        // 각 북마크를 DTO로 변환합니다. (태그 지연 로딩이 일어나므로 요청 스레드에서 변환)
+        // 패싯을 요청했다면 같은 순회에서 DTO의 폴더/태그 ID로 함께 셉니다.
+        List<BookmarkResponseDto> dtos = SearchProfiler.time("toDto", () -> {
+            List<BookmarkResponseDto> converted = new ArrayList<>(foundBookmarks.size());
+            for (Bookmark bookmark : foundBookmarks) {
+                BookmarkResponseDto dto = BookmarkResponseDto.fromEntity(bookmark);
+                if (facets != null) {
+                    facets.count(dto);
+                }
+                converted.add(dto);
             }
-            return scoreCompare;
+            return converted;
         });
 
+        // 점수를 매기고 점수가 높은 순서대로 정렬합니다. (후보가 많으면 전용 풀에서 병렬로 처리)
+        Function<BookmarkResponseDto, ScoredBookmarkDto> scorer =
+                dto -> new ScoredBookmarkDto(dto, calculateScore(dto, keyword, tagNames, tagMatches), frecencyKey(dto.getId()));
+        List<ScoredBookmarkDto> scoredList = SearchProfiler.time("rank", () -> rank(dtos,
+                SearchProfiler.timeEach("score", scorer), ScoredBookmarkDto.RANKING, Integer.MAX_VALUE));
+
         // 정렬된 목록에서 순수한 DTO만 다시 리스트로 만듭니다.
         List<BookmarkResponseDto> sortedResult = scoredList.stream()
                 .map(ScoredBookmarkDto::getBookmark)
@@ -94,43 +179,93 @@ public class AppLevelSortSearchStrategy implements BookmarkSearchStrategy {
     }
 
     /**
-     * 북마크 DTO와 검색 조건에 따라 점수를 계산하는 헬퍼 메소드
+     * TOP_K 모드 검색: 가벼운 행으로 점수를 매기고, 크기 (offset + size)의 힙으로 상위 결과만 남깁니다.
+     * DTO는 요청한 페이지에 포함된 북마크에 대해서만 만듭니다.
      */
-    private int calculateScore(BookmarkResponseDto dto, String keyword, List<String> tagNames) {
-        int score = 0;
-        boolean keywordProvided = (keyword != null && !keyword.isBlank());
-        boolean tagsProvided = (tagNames != null && !tagNames.isEmpty());
-
-        // 키워드 점수
-        boolean keywordMatch = false;
-        if (keywordProvided && dto.getTitle().contains(keyword)) {
-            keywordMatch = true;
-            score += 20; // 제목에 포함되면 높은 점수
-        } else if (keywordProvided && dto.getDescription() != null && dto.getDescription().contains(keyword)) {
-            keywordMatch = true;
-            score += 10; // 설명에 포함되면 중간 점수
+    private Page<BookmarkResponseDto> searchTopK(String queryKeyword, List<String> queryTagNames, Collection<Long> keywordCandidateIds,
+                                                 String keyword, List<String> tagNames, TagMatchCounts tagMatches,
+                                                 Pageable pageable, SearchFacetCounts facets) {
+        List<SearchCandidate> candidates = SearchProfiler.time("query", () -> SearchCandidate.group(keywordCandidateIds != null
+                ? bookmarkRepository.findSearchCandidateRowsByKeywordCandidates(queryKeyword, keywordCandidateIds, queryTagNames)
+                : bookmarkRepository.findSearchCandidateRows(queryKeyword, queryTagNames), facets));
+        SearchProfiler.recordCandidates(candidates.size());
+
+        int start = (int) pageable.getOffset();
+        Function<SearchCandidate, ScoredCandidate> scorer = candidate -> {
+            int score = tagMatches != null
+                    ? scoreWithTagMatches(candidate.getTitle(), candidate.getDescription(), candidate.getId(), keyword, tagNames, tagMatches)
+                    : SearchScoring.calculateScore(candidate.getTitle(), candidate.getDescription(), candidate.getTagNames(), keyword, tagNames);
+            return new ScoredCandidate(candidate, score, frecencyKey(candidate.getId()));
+        };
+        List<ScoredCandidate> top = SearchProfiler.time("rank", () -> rank(candidates,
+                SearchProfiler.timeEach("score", scorer), ScoredCandidate.RANKING, start + pageable.getPageSize()));
+        if (start >= top.size()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, candidates.size());
         }
 
-        // 태그 점수
-        long tagMatchCount = 0;
-        if (tagsProvided) {
-            tagMatchCount = dto.getTags().stream()
-                    .map(TagResponseDto::getName)
-                    .filter(tagName -> tagNames.stream().anyMatch(reqTag -> reqTag.equalsIgnoreCase(tagName)))
-                    .count();
+        List<Long> pageIds = top.subList(start, top.size()).stream()
+                .map(scoredCandidate -> scoredCandidate.getCandidate().getId())
+                .collect(Collectors.toList());
+        return new PageImpl<>(SearchResultLoader.loadInOrder(bookmarkRepository, pageIds), pageable, candidates.size());
+    }
 
-            if (tagMatchCount == tagNames.size()) { // 모든 요청 태그와 일치 (AND 조건 만족)
-                score += 100; // 매우 높은 보너스 점수
-            }
-            score += tagMatchCount * 5; // 일치하는 태그 수만큼 점수 추가
+    /**
+     * 점수를 계산하고 ranking 순서로 상위 limit개를 남깁니다.
+     */
+    private <T, S> List<S> rank(List<T> items, Function<? super T, ? extends S> scorer, Comparator<? super S> ranking, int limit) {
+        if (scoringExecutor != null) {
+            return scoringExecutor.scoreAndRank(items, scorer, ranking, limit);
         }
+        return ParallelScoringExecutor.rankSequentially(items, 0, items.size(), scorer, ranking, limit);
+    }
 
-        // 키워드와 태그 모두 일치 시 추가 보너스 점수
-        if (keywordMatch && tagMatchCount > 0) {
-            score += 30;
+    /**
+     * 트라이그램 인덱스로 키워드를 포함할 수 있는 북마크 ID를 구합니다.
+     * 인덱스가 없거나, 트라이그램으로 좁힐 수 없는 키워드이거나, 후보가 너무 많으면 null을 반환합니다.
+     * 후보는 상위 집합일 뿐이므로 실제 포함 여부는 쿼리의 LIKE 조건이 그대로 확인합니다.
+     */
+    private Collection<Long> findKeywordCandidateIds(String keyword) {
+        if (trigramIndex == null) {
+            return null;
+        }
+        RoaringBitmap candidates = trigramIndex.findCandidates(keyword);
+        if (candidates == null || candidates.getLongCardinality() > trigramMaxCandidates) {
+            return null;
+        }
+        if (candidates.isEmpty()) {
+            return List.of(NO_CANDIDATE_ID); // IN ()는 허용되지 않으므로 존재하지 않는 ID를 자리 표시용으로 넘깁니다.
         }
+        List<Long> ids = new ArrayList<>(candidates.getCardinality());
+        candidates.forEach((int id) -> ids.add((long) id));
+        return ids;
+    }
 
-        return score;
+    /**
+     * 북마크 DTO와 검색 조건에 따라 점수를 계산하는 헬퍼 메소드
+     */
+    private int calculateScore(BookmarkResponseDto dto, String keyword, List<String> tagNames, TagMatchCounts tagMatches) {
+        if (tagMatches != null) {
+            return scoreWithTagMatches(dto.getTitle(), dto.getDescription(), dto.getId(), keyword, tagNames, tagMatches);
+        }
+        List<String> bookmarkTagNames = dto.getTags().stream()
+                .map(TagResponseDto::getName)
+                .collect(Collectors.toList());
+        return SearchScoring.calculateScore(dto.getTitle(), dto.getDescription(), bookmarkTagNames, keyword, tagNames);
+    }
+
+    /**
+     * 점수가 같을 때 순서를 정하는 frecency 키 (방문 기록을 사용하지 않으면 Frecency.NONE)
+     */
+    private double frecencyKey(Long bookmarkId) {
+        return visitTracker == null ? Frecency.NONE : visitTracker.frecencyKey(bookmarkId);
+    }
+
+    /**
+     * 태그 일치 개수를 북마크의 태그 목록을 훑는 대신 비트맵 층에서 조회하여 점수를 계산합니다.
+     */
+    private static int scoreWithTagMatches(String title, String description, Long bookmarkId,
+                                           String keyword, List<String> tagNames, TagMatchCounts tagMatches) {
+        return SearchScoring.calculateScore(title, description, keyword, tagMatches.count(bookmarkId), tagNames.size());
     }
 
     /**
@@ -138,14 +273,32 @@ public class AppLevelSortSearchStrategy implements BookmarkSearchStrategy {
      */
     @Getter
     private static class ScoredBookmarkDto {
+
+        // ScoredCandidate.RANKING과 같은 순서: 점수 → frecency 키 → 생성일(최신순) → ID 내림차순
+        static final Comparator<ScoredBookmarkDto> RANKING = (o1, o2) -> {
+            int scoreCompare = Integer.compare(o2.getScore(), o1.getScore());
+            if (scoreCompare != 0) {
+                return scoreCompare;
+            }
+            int frecencyCompare = Double.compare(o2.getFrecency(), o1.getFrecency());
+            if (frecencyCompare != 0) {
+                return frecencyCompare;
+            }
+            int createdAtCompare = o2.getBookmark().getCreatedAt().compareTo(o1.getBookmark().getCreatedAt());
+            if (createdAtCompare != 0) {
+                return createdAtCompare;
+            }
+            return o2.getBookmark().getId().compareTo(o1.getBookmark().getId());
+        };
+
         private final BookmarkResponseDto bookmark;
         private final int score;
+        private final double frecency;
 
-        public ScoredBookmarkDto(BookmarkResponseDto bookmark, int score) {
+        public ScoredBookmarkDto(BookmarkResponseDto bookmark, int score, double frecency) {
             this.bookmark = bookmark;
             this.score = score;
+            this.frecency = frecency;
         }
     }
-
-
 }
@@ -0,0 +1,155 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BatchSearchQueryDto;
+import dev.bookmark.api.bookmark.dto.BatchSearchResponseDto;
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.common.SearchText;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 검색을 한 번에 실행합니다. (대시보드의 저장된 검색처럼 같은 화면에서 여러 검색을 보내는 경우)
+ *
+ * 1. 모든 검색의 키워드/태그 합집합으로 후보를 한 번만 조회합니다.
+ * 2. 검색마다 후보 중 자기 조건에 맞는 북마크만 골라 SearchScoring 규칙으로 점수를 매기고 상위 페이지를 구합니다.
+ * 3. 모든 검색의 페이지에 포함된 북마크를 한 번의 쿼리로 불러와 DTO로 변환합니다.
+ * 따라서 검색 수와 관계없이 DB 조회는 두 번이며, 순서는 단건 검색과 같은 규칙(점수 → frecency 키 → 생성일 → ID 내림차순)을 따릅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchSearchService {
+
+    private final BookmarkRepository bookmarkRepository;
+
+    // 방문 기록. 있으면 점수가 같은 북마크를 frecency 키 순으로 정렬합니다. (없으면 모두 Frecency.NONE)
+    private ToDoubleFunction<Long> frecencyKeys = bookmarkId -> Frecency.NONE;
+
+    @Autowired(required = false)
+    public void setVisitTracker(BookmarkVisitTracker visitTracker) {
+        this.frecencyKeys = visitTracker::frecencyKey;
+    }
+
+    @Transactional(readOnly = true)
+    public BatchSearchResponseDto search(List<BatchSearchQueryDto> queries) {
+        log.info("Batch searching {} queries", queries.size());
+        for (BatchSearchQueryDto query : queries) {
+            BookmarkSearchStrategy.requireCriteria(query.getKeyword(), query.getTags());
+        }
+
+        // 1. 키워드/태그 합집합으로 후보를 한 번에 조회합니다.
+        List<String> keywords = new ArrayList<>(queries.size());
+        List<List<String>> tagNames = new ArrayList<>(queries.size());
+        Set<String> allKeywords = new LinkedHashSet<>();
+        Set<String> allTagNames = new LinkedHashSet<>();
+        for (BatchSearchQueryDto query : queries) {
+            String keyword = StringUtils.hasText(query.getKeyword()) ? SearchText.normalize(query.getKeyword()) : null;
+            List<String> tags = (query.getTags() != null && !query.getTags().isEmpty())
+                    ? query.getTags().stream().map(SearchText::normalize).collect(Collectors.toList())
+                    : null;
+            keywords.add(keyword);
+            tagNames.add(tags);
+            if (keyword != null) {
+                allKeywords.add(keyword);
+            }
+            if (tags != null) {
+                allTagNames.addAll(tags);
+            }
+        }
+        List<SearchCandidate> candidates = SearchProfiler.time("query", () ->
+                SearchCandidate.group(bookmarkRepository.findSearchCandidateRowsForAny(allKeywords, allTagNames)));
+        SearchProfiler.recordCandidates(candidates.size());
+
+        // 2. 검색별로 점수를 매기고 요청한 페이지의 ID만 남깁니다.
+        List<RankedPage> rankedPages = new ArrayList<>(queries.size());
+        Set<Long> pageIds = new HashSet<>();
+        SearchProfiler.run("rank", () -> {
+            for (int i = 0; i < queries.size(); i++) {
+                BatchSearchQueryDto query = queries.get(i);
+                RankedPage rankedPage = rank(candidates, keywords.get(i), tagNames.get(i),
+                        (long) query.getPage() * query.getSize(), query.getSize(), frecencyKeys);
+                rankedPages.add(rankedPage);
+                pageIds.addAll(rankedPage.ids());
+            }
+        });
+
+        // 3. 모든 페이지의 북마크를 한 번에 불러옵니다.
+        Map<Long, BookmarkResponseDto> bookmarks = SearchResultLoader.loadById(bookmarkRepository, pageIds);
+        List<BatchSearchResponseDto.Result> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            BatchSearchQueryDto query = queries.get(i);
+            RankedPage rankedPage = rankedPages.get(i);
+            List<BookmarkResponseDto> content = rankedPage.ids().stream()
+                    .map(bookmarks::get)
+                    .filter(Objects::nonNull) // 순위 계산 이후 삭제된 북마크는 건너뜁니다.
+                    .collect(Collectors.toList());
+            results.add(new BatchSearchResponseDto.Result(query.getKeyword(), query.getTags(), query.getPage(),
+                    query.getSize(), rankedPage.totalElements(), content));
+        }
+        return new BatchSearchResponseDto(results);
+    }
+
+    /**
+     * 공유 후보 중 검색 조건에 맞는 북마크만 골라 점수를 매기고, offset부터 size개의 ID를 순위대로 반환합니다.
+     * @param normalizedKeyword 정규화한 키워드 (없으면 null)
+     * @param normalizedTagNames 정규화한 태그 이름 (없으면 null)
+     * @param frecencyKeys 북마크 ID → frecency 키 (동점 정렬용)
+     */
+    static RankedPage rank(List<SearchCandidate> candidates, String normalizedKeyword, List<String> normalizedTagNames,
+                           long offset, int size, ToDoubleFunction<Long> frecencyKeys) {
+        Set<String> requestedTags = normalizedTagNames != null ? new HashSet<>(normalizedTagNames) : Collections.emptySet();
+        List<ScoredCandidate> matched = new ArrayList<>();
+        for (SearchCandidate candidate : candidates) {
+            if (matches(candidate, normalizedKeyword, requestedTags)) {
+                matched.add(new ScoredCandidate(candidate, SearchScoring.calculateScore(candidate.getTitle(),
+                        candidate.getDescription(), candidate.getTagNames(), normalizedKeyword, normalizedTagNames),
+                        frecencyKeys.applyAsDouble(candidate.getId())));
+            }
+        }
+        if (offset >= matched.size()) {
+            return new RankedPage(matched.size(), List.of());
+        }
+        List<ScoredCandidate> top = TopKSelector.select(matched, ScoredCandidate.RANKING, (int) offset + size);
+        List<Long> ids = top.subList((int) offset, top.size()).stream()
+                .map(scored -> scored.getCandidate().getId())
+                .collect(Collectors.toList());
+        return new RankedPage(matched.size(), ids);
+    }
+
+    // 후보의 제목/설명/태그 이름은 정규화 컬럼 값이므로 그대로 비교합니다.
+    private static boolean matches(SearchCandidate candidate, String normalizedKeyword, Set<String> requestedTags) {
+        if (normalizedKeyword != null
+                && ((candidate.getTitle() != null && candidate.getTitle().contains(normalizedKeyword))
+                || (candidate.getDescription() != null && candidate.getDescription().contains(normalizedKeyword)))) {
+            return true;
+        }
+        for (String tagName : candidate.getTagNames()) {
+            if (requestedTags.contains(tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 검색 하나의 결과: 조건에 맞는 전체 개수와 요청한 페이지의 북마크 ID (순위 순)
+     */
+    record RankedPage(long totalElements, List<Long> ids) {
+    }
+}
@@ -0,0 +1,199 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * BM25 점수 계산에 필요한 통계(단어 빈도, 문서 길이, 문서 빈도, 평균 문서 길이)를 북마크 변경 시 증분으로 유지합니다.
+ * 검색 시에는 질의 단어의 posting만 읽어 점수를 계산하므로 제목/설명 텍스트를 다시 훑지 않습니다.
+ *
+ * 제목 단어는 title-weight번 등장한 것으로 셉니다. (제목 일치가 설명 일치보다 높게 평가되도록 하는 단순한 필드 가중치)
+ */
+@Component
+@ConditionalOnProperty(name = "bookmark.search.index.enabled", havingValue = "true")
+public class Bm25Index implements BookmarkIndex {
+
+    private final double k1;
+    private final double b;
+    private final int titleWeight;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); // 단어 → (북마크 ID → 단어 빈도)
+    private final Map<Long, DocumentTerms> documents = new HashMap<>();      // 교체/제거 시 이전 통계를 빼기 위해 보관
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public Bm25Index(@Value("${bookmark.search.bm25.k1:1.2}") double k1,
+                     @Value("${bookmark.search.bm25.b:0.75}") double b,
+                     @Value("${bookmark.search.bm25.title-weight:2}") int titleWeight) {
+        this.k1 = k1;
+        this.b = b;
+        this.titleWeight = titleWeight;
+    }
+
+    @Override
+    public void add(BookmarkSnapshot snapshot) {
+        DocumentTerms terms = DocumentTerms.of(snapshot, titleWeight);
+        lock.writeLock().lock();
+        try {
+            unindex(snapshot.getId());
+            index(snapshot.getId(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookmarkSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            unindex(snapshot.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목/설명이 바뀐 경우에만 통계를 다시 계산합니다. (태그만 바뀐 경우 아무것도 하지 않음)
+     */
+    @Override
+    public void update(BookmarkSnapshot before, BookmarkSnapshot after) {
+        if (Objects.equals(before.getTitle(), after.getTitle()) && Objects.equals(before.getDescription(), after.getDescription())) {
+            return;
+        }
+        add(after);
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 단어 중 하나 이상을 포함하는 북마크의 BM25 점수를 계산합니다. (단어 간 OR, 여러 단어가 일치할수록 점수 합이 커짐)
+     * @param keyword 검색 키워드 (SearchTokenizer로 단어를 나누며, 중복 단어는 한 번만 계산)
+     * @return 북마크 ID → BM25 점수
+     */
+    public Map<Long, Double> score(String keyword) {
+        Set<String> queryTerms = new LinkedHashSet<>(SearchTokenizer.tokenize(keyword));
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return scores;
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = idf(documentCount, posting.size());
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    int length = documents.get(entry.getKey()).length;
+                    double normalized = frequency * (k1 + 1) / (frequency + k1 * (1 - b + b * length / averageLength));
+                    scores.merge(entry.getKey(), idf * normalized, Double::sum);
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 단어를 포함하는 북마크 수 (문서 빈도)
+     */
+    public int documentFrequency(String term) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> posting = postings.get(term);
+            return posting != null ? posting.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 항상 0보다 큰 BM25 idf (Lucene과 같은 +1 변형)
+    private static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void index(Long bookmarkId, DocumentTerms terms) {
+        documents.put(bookmarkId, terms);
+        totalLength += terms.length;
+        terms.frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(bookmarkId, frequency));
+    }
+
+    private void unindex(Long bookmarkId) {
+        DocumentTerms previous = documents.remove(bookmarkId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length;
+        for (String term : previous.frequencies.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(bookmarkId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 북마크 하나의 단어 빈도와 문서 길이
+     */
+    private static final class DocumentTerms {
+        private final Map<String, Integer> frequencies;
+        private final int length;
+
+        private DocumentTerms(Map<String, Integer> frequencies, int length) {
+            this.frequencies = frequencies;
+            this.length = length;
+        }
+
+        static DocumentTerms of(BookmarkSnapshot snapshot, int titleWeight) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = 0;
+            for (String token : SearchTokenizer.tokenize(snapshot.getTitle())) {
+                frequencies.merge(token, titleWeight, Integer::sum);
+                length += titleWeight;
+            }
+            for (String token : SearchTokenizer.tokenize(snapshot.getDescription())) {
+                frequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+            return new DocumentTerms(frequencies, length);
+        }
+    }
+}
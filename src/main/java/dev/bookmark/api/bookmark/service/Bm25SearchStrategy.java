@@ -0,0 +1,126 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 키워드를 여러 단어로 나누어 BM25로 순위를 매기는 검색 전략입니다.
+ * 기존 전략은 키워드 전체가 그대로 포함되어야 하지만, 이 전략은 "spring jpa docs"처럼 단어 중 일부만 있어도 검색되고
+ * 더 많은 단어가, 더 드문 단어가, 더 짧은 문서에서 일치할수록 높은 점수를 받습니다.
+ *
+ * 단어 통계는 Bm25Index가 북마크 변경 시 증분으로 유지하므로, 검색 시 텍스트를 다시 훑지 않습니다.
+ * 요청한 태그가 일치하면 태그 하나당 tag-boost만큼 점수를 더합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bookmark.search.index.enabled", havingValue = "true")
+public class Bm25SearchStrategy implements BookmarkSearchStrategy {
+
+    private final Bm25Index bm25Index;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final BookmarkDocumentStore documentStore;
+    private final BookmarkRepository bookmarkRepository;
+    private final double tagBoost;
+
+    // 방문 기록. 있으면 BM25 점수가 같은 북마크를 frecency 키 순으로 정렬합니다. (없으면 모두 Frecency.NONE)
+    private ToDoubleFunction<Long> frecencyKeys = bookmarkId -> Frecency.NONE;
+
+    public Bm25SearchStrategy(Bm25Index bm25Index, TagBitmapIndex tagBitmapIndex, BookmarkDocumentStore documentStore,
+                              BookmarkRepository bookmarkRepository,
+                              @Value("${bookmark.search.bm25.tag-boost:1.5}") double tagBoost) {
+        this.bm25Index = bm25Index;
+        this.tagBitmapIndex = tagBitmapIndex;
+        this.documentStore = documentStore;
+        this.bookmarkRepository = bookmarkRepository;
+        this.tagBoost = tagBoost;
+    }
+
+    @Autowired(required = false)
+    public void setVisitTracker(BookmarkVisitTracker visitTracker) {
+        this.frecencyKeys = visitTracker::frecencyKey;
+    }
+
+    @Override
+    public Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable) {
+        log.info("Searching with Bm25SearchStrategy. Keyword: '{}', Tags: {}", keyword, tagNames);
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames);
+        boolean keywordExists = StringUtils.hasText(keyword);
+        boolean tagsExist = (tagNames != null && !tagNames.isEmpty());
+
+        // 1. 키워드 단어별 BM25 점수 (단어 중 하나라도 포함하면 후보)
+        Map<Long, Double> scores = SearchProfiler.time("score", () -> keywordExists ? bm25Index.score(keyword) : new HashMap<>());
+
+        // 2. 태그 일치 개수만큼 점수를 더합니다. (태그만 일치하는 북마크도 후보)
+        if (tagsExist) {
+            SearchProfiler.run("tagBoost", () -> {
+                TagMatchCounts tagMatches = tagBitmapIndex.countMatches(tagNames);
+                tagMatches.getMatched().forEach((int id) ->
+                        scores.merge((long) id, tagBoost * tagMatches.count((long) id), Double::sum));
+            });
+        }
+
+        // 3. 점수 → frecency 키 → 생성일 → ID 내림차순으로 요청 페이지까지만 고릅니다.
+        List<ScoredDocument> scored = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> {
+            BookmarkSnapshot document = documentStore.get(id);
+            if (document != null) { // 후보 계산 도중 삭제된 북마크는 건너뜁니다.
+                scored.add(new ScoredDocument(document, score, frecencyKeys.applyAsDouble(id)));
+            }
+        });
+        SearchProfiler.recordCandidates(scored.size());
+        int start = (int) pageable.getOffset();
+        List<ScoredDocument> top = SearchProfiler.time("rank", () -> TopKSelector.select(scored, ScoredDocument.ORDER, start + pageable.getPageSize()));
+        if (start >= top.size()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, scored.size());
+        }
+
+        // 4. 요청한 페이지에 해당하는 북마크만 DB에서 불러와 DTO로 변환합니다.
+        List<Long> pageIds = top.subList(start, top.size()).stream()
+                .map(document -> document.getDocument().getId())
+                .collect(Collectors.toList());
+        return new PageImpl<>(SearchResultLoader.loadInOrder(bookmarkRepository, pageIds), pageable, scored.size());
+    }
+
+    /**
+     * BM25 점수와 스냅샷을 함께 관리하기 위한 내부 헬퍼 클래스
+     */
+    @Getter
+    private static class ScoredDocument {
+        private static final Comparator<ScoredDocument> ORDER = Comparator
+                .comparingDouble(ScoredDocument::getScore).reversed()
+                .thenComparing(Comparator.comparingDouble(ScoredDocument::getFrecency).reversed())
+                .thenComparing(scored -> scored.getDocument().getCreatedAt(), Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(scored -> scored.getDocument().getId(), Comparator.reverseOrder());
+
+        private final BookmarkSnapshot document;
+        private final double score;
+        private final double frecency;
+
+        ScoredDocument(BookmarkSnapshot document, double score, double frecency) {
+            this.document = document;
+            this.score = score;
+            this.frecency = frecency;
+        }
+    }
+}
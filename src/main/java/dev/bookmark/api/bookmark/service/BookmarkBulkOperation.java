@@ -0,0 +1,15 @@
+package dev.bookmark.api.bookmark.service;
+
+/**
+ * 여러 북마크에 한 번에 적용하는 작업
+ * - MOVE: folderId 폴더로 이동
+ * - ADD_TAGS: tagNames 태그를 연결 (없는 태그는 생성)
+ * - REMOVE_TAGS: tagNames 태그의 연결을 해제 (태그 자체는 삭제하지 않음)
+ * - DELETE: 북마크 삭제
+ */
+public enum BookmarkBulkOperation {
+    MOVE,
+    ADD_TAGS,
+    REMOVE_TAGS,
+    DELETE
+}
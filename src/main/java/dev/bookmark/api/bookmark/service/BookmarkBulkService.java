@@ -0,0 +1,204 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkBulkRequestDto;
+import dev.bookmark.api.bookmark.dto.BookmarkBulkResultDto;
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.bookmark.repository.BookmarkBulkJdbcRepository;
+import dev.bookmark.api.common.SearchText;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.folder.repository.FolderRepository;
+import dev.bookmark.api.tag.service.TagResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 북마크를 한 번에 이동/태그 추가/태그 제거/삭제합니다.
+ * 대상 ID를 최대 CHUNK_SIZE개씩 나누어, 묶음마다 스냅샷 조회 1~2번과 집합 단위 UPDATE/INSERT/DELETE 몇 번으로 처리합니다.
+ * (북마크마다 엔티티를 불러와 태그 Set을 비교하고 따로 flush하는 updateBookmark를 반복하지 않습니다)
+ * 한 요청의 대상은 bookmark.bulk.max-targets개까지이며(filter로 고른 경우 포함), 넘으면 아무것도 바꾸지 않고 거부합니다.
+ * 전체 작업은 한 트랜잭션이며, 실제로 바뀐 북마크에 대해서만 updateBookmark/deleteBookmark와 같은 변경 이벤트를 발행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkBulkService {
+
+    private static final int CHUNK_SIZE = 1000; // IN 조건 하나에 넣는 ID 수
+
+    private final BookmarkBulkJdbcRepository bulkRepository;
+    private final FolderRepository folderRepository;
+    private final BookmarkSnapshotLoader snapshotLoader;
+    private final TagResolver tagResolver;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${bookmark.bulk.max-targets:" + BookmarkBulkRequestDto.MAX_TARGETS + "}")
+    private int maxTargets = BookmarkBulkRequestDto.MAX_TARGETS;
+
+    /**
+     * 요청의 대상 북마크(ids 또는 filter)에 작업을 적용하고 바뀐 개수를 반환합니다.
+     * 존재하지 않는 ID는 무시합니다.
+     *
+     * @throws IllegalArgumentException ids와 filter를 모두 주거나 모두 주지 않은 경우, 대상이 bookmark.bulk.max-targets개를 넘는 경우,
+     *                                  작업에 필요한 folderId/tagNames가 없는 경우, 폴더를 찾을 수 없는 경우
+     */
+    @Transactional
+    public BookmarkBulkResultDto execute(BookmarkBulkRequestDto request) {
+        long startedAt = System.nanoTime();
+        BookmarkBulkOperation operation = request.getOperation();
+        List<Long> ids = targetIds(request);
+        Operation work = switch (operation) {
+            case MOVE -> move(request.getFolderId());
+            case ADD_TAGS -> addTags(tagNames(request));
+            case REMOVE_TAGS -> removeTags(tagNames(request));
+            case DELETE -> this::delete;
+        };
+
+        LocalDateTime now = LocalDateTime.now();
+        Counts counts = new Counts();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<BookmarkSnapshot> before = snapshotLoader.loadByIds(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+            counts.matched += before.size();
+            work.apply(before, now, counts);
+        }
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Bulk {}: {} matched, {} bookmarks and {} tag links affected in {} ms",
+                operation, counts.matched, counts.bookmarks, counts.tagLinks, elapsedMs);
+        return new BookmarkBulkResultDto(operation.name(), counts.matched, counts.bookmarks, counts.tagLinks, elapsedMs);
+    }
+
+    // 대상 북마크 ID (중복 제거, filter는 ID 순)
+    private List<Long> targetIds(BookmarkBulkRequestDto request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (hasIds == (request.getFilter() != null)) {
+            throw new IllegalArgumentException("대상은 ids 또는 filter 중 하나만 지정해야 합니다.");
+        }
+        if (hasIds) {
+            return requireWithinLimit(new ArrayList<>(new LinkedHashSet<>(request.getIds())));
+        }
+
+        BookmarkBulkRequestDto.Filter filter = request.getFilter();
+        String keyword = StringUtils.hasText(filter.getKeyword()) ? SearchText.normalize(filter.getKeyword()) : null;
+        List<String> tags = (filter.getTags() != null && !filter.getTags().isEmpty())
+                ? filter.getTags().stream().map(SearchText::normalize).toList() : null;
+        String folderPath = null;
+        if (filter.getFolderId() != null) {
+            folderPath = findFolder(filter.getFolderId()).getPath();
+        }
+        if (keyword == null && tags == null && folderPath == null) {
+            throw new IllegalArgumentException("filter에는 keyword, tags, folderId 중 하나 이상을 입력해주세요.");
+        }
+        // 한도보다 하나 더 조회해 넘는지만 확인합니다. (맞는 북마크를 모두 불러오지 않음)
+        return requireWithinLimit(bulkRepository.findIdsByFilter(keyword, tags, folderPath, maxTargets + 1));
+    }
+
+    private List<Long> requireWithinLimit(List<Long> ids) {
+        if (ids.size() > maxTargets) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxTargets + "개의 북마크까지 변경할 수 있습니다. 대상을 나누거나 filter 조건을 좁혀주세요.");
+        }
+        return ids;
+    }
+
+    private Operation move(Long folderId) {
+        if (folderId == null) {
+            throw new IllegalArgumentException("이동할 폴더(folderId)를 입력해주세요.");
+        }
+        Long targetId = findFolder(folderId).getId();
+        return (before, now, counts) -> {
+            List<BookmarkSnapshot> changed = before.stream()
+                    .filter(snapshot -> !targetId.equals(snapshot.getFolderId()))
+                    .toList();
+            counts.bookmarks += bulkRepository.moveToFolder(ids(changed), targetId, now);
+            for (BookmarkSnapshot snapshot : changed) {
+                publishUpdated(snapshot, snapshot.withChanges(targetId, snapshot.getTagNames(), now));
+            }
+        };
+    }
+
+    private Operation addTags(List<String> tagNames) {
+        Map<String, Long> tagIds = tagResolver.resolve(tagNames).ids();
+        return (before, now, counts) -> {
+            List<BookmarkSnapshot> changed = before.stream()
+                    .filter(snapshot -> !snapshot.getTagNames().containsAll(tagIds.keySet()))
+                    .toList();
+            counts.tagLinks += bulkRepository.insertTagLinks(ids(changed), tagIds.values());
+            counts.bookmarks += bulkRepository.touch(ids(changed), now);
+            for (BookmarkSnapshot snapshot : changed) {
+                Set<String> after = new LinkedHashSet<>(snapshot.getTagNames());
+                after.addAll(tagIds.keySet());
+                publishUpdated(snapshot, snapshot.withChanges(snapshot.getFolderId(), List.copyOf(after), now));
+            }
+        };
+    }
+
+    private Operation removeTags(List<String> tagNames) {
+        Set<String> removed = new LinkedHashSet<>(tagNames);
+        return (before, now, counts) -> {
+            List<BookmarkSnapshot> changed = before.stream()
+                    .filter(snapshot -> snapshot.getTagNames().stream().anyMatch(removed::contains))
+                    .toList();
+            counts.tagLinks += bulkRepository.deleteTagLinks(ids(changed), removed);
+            counts.bookmarks += bulkRepository.touch(ids(changed), now);
+            for (BookmarkSnapshot snapshot : changed) {
+                List<String> after = snapshot.getTagNames().stream().filter(name -> !removed.contains(name)).toList();
+                publishUpdated(snapshot, snapshot.withChanges(snapshot.getFolderId(), after, now));
+            }
+        };
+    }
+
+    private void delete(List<BookmarkSnapshot> before, LocalDateTime now, Counts counts) {
+        List<Long> ids = ids(before);
+        counts.tagLinks += bulkRepository.deleteAllTagLinks(ids);
+        counts.bookmarks += bulkRepository.deleteBookmarks(ids);
+        for (BookmarkSnapshot snapshot : before) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.deleted(snapshot));
+        }
+    }
+
+    private void publishUpdated(BookmarkSnapshot before, BookmarkSnapshot after) {
+        eventPublisher.publishEvent(BookmarkChangedEvent.updated(before, after));
+    }
+
+    private Folder findFolder(Long folderId) {
+        return folderRepository.findById(folderId)
+                .orElseThrow(() -> new IllegalArgumentException("지정한 폴더를 찾을 수 없습니다. ID: " + folderId));
+    }
+
+    private static List<String> tagNames(BookmarkBulkRequestDto request) {
+        List<String> tagNames = request.getTagNames() == null ? List.of()
+                : request.getTagNames().stream().filter(StringUtils::hasText).distinct().toList();
+        if (tagNames.isEmpty()) {
+            throw new IllegalArgumentException("추가하거나 제거할 태그(tagNames)를 입력해주세요.");
+        }
+        return tagNames;
+    }
+
+    private static List<Long> ids(List<BookmarkSnapshot> snapshots) {
+        return snapshots.stream().map(BookmarkSnapshot::getId).toList();
+    }
+
+    // 대상 묶음 하나(변경 전 스냅샷)에 작업을 적용하고 바뀐 수를 counts에 더합니다.
+    @FunctionalInterface
+    private interface Operation {
+        void apply(List<BookmarkSnapshot> before, LocalDateTime now, Counts counts);
+    }
+
+    private static class Counts {
+        private int matched;
+        private int bookmarks;
+        private int tagLinks;
+    }
+}
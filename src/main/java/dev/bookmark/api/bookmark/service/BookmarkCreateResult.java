@@ -0,0 +1,9 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+
+/**
+ * 북마크 생성 결과입니다. 중복 제거(dedupe)로 기존 북마크를 반환했으면 created가 false입니다. (응답 상태 201/200 결정용)
+ */
+public record BookmarkCreateResult(BookmarkResponseDto bookmark, boolean created) {
+}
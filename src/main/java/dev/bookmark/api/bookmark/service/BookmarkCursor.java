@@ -0,0 +1,66 @@
+package dev.bookmark.api.bookmark.service;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징에서 마지막으로 전달한 항목의 정렬 키입니다.
+ * - 폴더 목록: (생성일, ID)
+ * - 검색: (점수, frecency 키, 생성일, ID)
+ * 클라이언트에는 내용을 알 수 없는 URL-safe Base64 문자열로 전달합니다.
+ */
+@Getter
+public class BookmarkCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "유효하지 않은 커서입니다.";
+
+    private final Integer score; // 폴더 목록 커서에서는 null
+    private final Double frecency; // 폴더 목록 커서에서는 null
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private BookmarkCursor(Integer score, Double frecency, LocalDateTime createdAt, Long id) {
+        this.score = score;
+        this.frecency = frecency;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static BookmarkCursor of(LocalDateTime createdAt, Long id) {
+        return new BookmarkCursor(null, null, createdAt, id);
+    }
+
+    public static BookmarkCursor of(int score, double frecency, LocalDateTime createdAt, Long id) {
+        return new BookmarkCursor(score, frecency, createdAt, id);
+    }
+
+    public String encode() {
+        String raw = (score != null ? score.toString() : "") + SEPARATOR + (frecency != null ? frecency.toString() : "")
+                + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param requireScore 검색 커서이면 true (점수나 frecency 키가 없으면 잘못된 커서로 간주)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static BookmarkCursor decode(String cursor, boolean requireScore) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || (requireScore && (parts[0].isEmpty() || parts[1].isEmpty()))) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+            Integer score = parts[0].isEmpty() ? null : Integer.valueOf(parts[0]);
+            Double frecency = parts[1].isEmpty() ? null : Double.valueOf(parts[1]);
+            return new BookmarkCursor(score, frecency, LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) { // NumberFormatException, Base64 오류 포함
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
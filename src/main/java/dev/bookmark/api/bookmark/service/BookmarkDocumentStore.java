@@ -0,0 +1,52 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 검색에서 점수 계산에 필요한 북마크 스냅샷을 ID로 보관하는 저장소입니다.
+ * 검색 시 후보마다 DB를 조회하지 않고 여기서 제목/설명/태그를 읽어 점수를 계산합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "bookmark.search.index.enabled", havingValue = "true")
+public class BookmarkDocumentStore implements BookmarkIndex {
+
+    private final Map<Long, BookmarkSnapshot> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(BookmarkSnapshot snapshot) {
+        documents.put(snapshot.getId(), snapshot);
+    }
+
+    @Override
+    public void remove(BookmarkSnapshot snapshot) {
+        documents.remove(snapshot.getId());
+    }
+
+    @Override
+    public void update(BookmarkSnapshot before, BookmarkSnapshot after) {
+        documents.put(after.getId(), after); // ID가 바뀌지 않으므로 교체만 하면 됩니다.
+    }
+
+    @Override
+    public void clear() {
+        documents.clear();
+    }
+
+    public BookmarkSnapshot get(Long bookmarkId) {
+        return documents.get(bookmarkId);
+    }
+
+    public Collection<BookmarkSnapshot> all() {
+        return documents.values();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+}
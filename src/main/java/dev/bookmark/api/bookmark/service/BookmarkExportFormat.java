@@ -0,0 +1,25 @@
+package dev.bookmark.api.bookmark.service;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 북마크 내보내기 형식
+ * - NDJSON: 한 줄에 북마크 하나 (BookmarkExportDto, 폴더 트리 순서)
+ * - NETSCAPE_HTML: 브라우저에서 바로 가져올 수 있는 "북마크 내보내기" HTML (폴더 구조 포함)
+ */
+@Getter
+public enum BookmarkExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "bookmarks.ndjson"),
+    NETSCAPE_HTML(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8), "bookmarks.html");
+
+    private final MediaType mediaType;
+    private final String fileName; // 다운로드 시 기본 파일 이름
+
+    BookmarkExportFormat(MediaType mediaType, String fileName) {
+        this.mediaType = mediaType;
+        this.fileName = fileName;
+    }
+}
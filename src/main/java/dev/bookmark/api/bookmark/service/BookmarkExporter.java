@@ -0,0 +1,274 @@
+package dev.bookmark.api.bookmark.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.bookmark.api.bookmark.dto.BookmarkExportDto;
+import dev.bookmark.api.bookmark.repository.BookmarkExportJdbcRepository;
+import dev.bookmark.api.bookmark.repository.BookmarkExportJdbcRepository.ExportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 전체 북마크 컬렉션을 NDJSON 또는 Netscape 북마크 HTML로 출력 스트림에 씁니다. (백업/다른 브라우저로 옮기기용)
+ * 폴더 경로 순서(트리의 전위 순회)로 정렬된 커서를 한 행씩 읽으며 바로 쓰므로, 메모리에는 열린 폴더 스택(트리 깊이만큼)과
+ * 쓰고 있는 북마크 하나만 남습니다. 폴더 트리 API(getFolderTree)처럼 전체를 DTO로 만들지 않아 컬렉션 크기와 관계없이 힙 사용량이 일정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkExporter {
+
+    private static final int FLUSH_INTERVAL = 500; // 이 수만큼 북마크를 쓸 때마다 클라이언트로 내보냅니다.
+
+    private final BookmarkExportJdbcRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 모든 폴더와 북마크를 format 형식으로 씁니다.
+     * 클라이언트 연결이 끊겨 쓰기에 실패하면 더 이상 조회하지 않고 조용히 종료합니다.
+     */
+    public void write(BookmarkExportFormat format, OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        Output output = format == BookmarkExportFormat.NDJSON ? new NdjsonOutput(writer) : new NetscapeHtmlOutput(writer);
+        Traversal traversal = new Traversal(output, writer);
+        try {
+            output.begin();
+            exportRepository.forEachInFolderOrder(row -> {
+                try {
+                    traversal.accept(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            traversal.finish();
+            output.end();
+            writer.flush();
+            log.info("Exported {} bookmarks in {} folders as {}", traversal.bookmarks, traversal.folders, format);
+        } catch (IOException | UncheckedIOException e) {
+            log.info("Export stream closed by client after {} bookmarks", traversal.bookmarks);
+        }
+    }
+
+    /**
+     * 폴더/북마크/태그 조합 행을 폴더 시작/끝과 북마크 단위로 묶어 Output에 전달합니다.
+     */
+    private static class Traversal {
+
+        private final Output output;
+        private final Writer writer;
+        private final Deque<ExportRow> openFolders = new ArrayDeque<>(); // 최상위부터 현재 폴더까지 (행의 폴더 정보만 사용)
+        private final List<String> folderNames = new ArrayList<>();
+        private ExportRow bookmark;   // 태그를 모으는 중인 북마크
+        private final List<String> tagNames = new ArrayList<>();
+        private long bookmarks;
+        private long folders;
+
+        Traversal(Output output, Writer writer) {
+            this.output = output;
+            this.writer = writer;
+        }
+
+        void accept(ExportRow row) throws IOException {
+            ExportRow current = openFolders.peekLast();
+            if (current == null || !current.folderId().equals(row.folderId())) {
+                flushBookmark();
+                // 새 폴더의 조상이 아닌 폴더는 모두 닫습니다. (경로가 접두사이면 조상)
+                while (!openFolders.isEmpty() && !row.folderPath().startsWith(openFolders.peekLast().folderPath())) {
+                    closeFolder();
+                }
+                openFolders.addLast(row);
+                folderNames.add(row.folderName());
+                folders++;
+                output.startFolder(row, openFolders.size() - 1);
+            }
+            if (row.bookmarkId() == null) {
+                return;
+            }
+            if (bookmark == null || !bookmark.bookmarkId().equals(row.bookmarkId())) {
+                flushBookmark();
+                bookmark = row;
+            }
+            if (row.tagName() != null) {
+                tagNames.add(row.tagName());
+            }
+        }
+
+        void finish() throws IOException {
+            flushBookmark();
+            while (!openFolders.isEmpty()) {
+                closeFolder();
+            }
+        }
+
+        private void closeFolder() throws IOException {
+            openFolders.removeLast();
+            folderNames.remove(folderNames.size() - 1);
+            output.endFolder(openFolders.size());
+        }
+
+        private void flushBookmark() throws IOException {
+            if (bookmark == null) {
+                return;
+            }
+            output.bookmark(bookmark, List.copyOf(tagNames), folderNames, openFolders.size());
+            bookmark = null;
+            tagNames.clear();
+            if (++bookmarks % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    private interface Output {
+
+        default void begin() throws IOException {
+        }
+
+        /**
+         * @param depth 최상위 폴더는 0
+         */
+        void startFolder(ExportRow folder, int depth) throws IOException;
+
+        void bookmark(ExportRow bookmark, List<String> tagNames, List<String> folderNames, int depth) throws IOException;
+
+        void endFolder(int depth) throws IOException;
+
+        default void end() throws IOException {
+        }
+    }
+
+    /**
+     * 한 줄에 북마크 하나 (폴더 자체는 쓰지 않고, 북마크마다 폴더 이름 경로를 담습니다.)
+     */
+    private class NdjsonOutput implements Output {
+
+        private final Writer writer;
+
+        NdjsonOutput(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void startFolder(ExportRow folder, int depth) {
+        }
+
+        @Override
+        public void bookmark(ExportRow bookmark, List<String> tagNames, List<String> folderNames, int depth) throws IOException {
+            BookmarkExportDto dto = new BookmarkExportDto(bookmark.bookmarkId(), bookmark.title(), bookmark.url(),
+                    bookmark.description(), bookmark.folderId(), List.copyOf(folderNames), tagNames,
+                    bookmark.createdAt(), bookmark.updatedAt());
+            writer.write(objectMapper.writeValueAsString(dto));
+            writer.write('\n');
+        }
+
+        @Override
+        public void endFolder(int depth) {
+        }
+    }
+
+    /**
+     * 브라우저 "북마크 내보내기"와 같은 Netscape Bookmark File 형식 (NetscapeBookmarkParser로 다시 가져올 수 있음)
+     */
+    private static class NetscapeHtmlOutput implements Output {
+
+        private final Writer writer;
+
+        NetscapeHtmlOutput(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write("<!DOCTYPE NETSCAPE-Bookmark-file-1>\n"
+                    + "<META HTTP-EQUIV=\"Content-Type\" CONTENT=\"text/html; charset=UTF-8\">\n"
+                    + "<TITLE>Bookmarks</TITLE>\n"
+                    + "<H1>Bookmarks</H1>\n"
+                    + "<DL><p>\n");
+        }
+
+        @Override
+        public void startFolder(ExportRow folder, int depth) throws IOException {
+            indent(depth + 1);
+            writer.write("<DT><H3 ADD_DATE=\"" + epochSeconds(folder.folderCreatedAt())
+                    + "\" LAST_MODIFIED=\"" + epochSeconds(folder.folderUpdatedAt()) + "\">");
+            escape(folder.folderName());
+            writer.write("</H3>\n");
+            indent(depth + 1);
+            writer.write("<DL><p>\n");
+        }
+
+        @Override
+        public void bookmark(ExportRow bookmark, List<String> tagNames, List<String> folderNames, int depth) throws IOException {
+            indent(depth + 1);
+            writer.write("<DT><A HREF=\"");
+            escape(bookmark.url());
+            writer.write("\" ADD_DATE=\"" + epochSeconds(bookmark.createdAt())
+                    + "\" LAST_MODIFIED=\"" + epochSeconds(bookmark.updatedAt()) + "\"");
+            if (!tagNames.isEmpty()) {
+                writer.write(" TAGS=\"");
+                escape(String.join(",", tagNames));
+                writer.write('"');
+            }
+            writer.write('>');
+            escape(bookmark.title());
+            writer.write("</A>\n");
+            if (bookmark.description() != null && !bookmark.description().isBlank()) {
+                indent(depth + 1);
+                writer.write("<DD>");
+                escape(bookmark.description());
+                writer.write('\n');
+            }
+        }
+
+        @Override
+        public void endFolder(int depth) throws IOException {
+            indent(depth + 1);
+            writer.write("</DL><p>\n");
+        }
+
+        @Override
+        public void end() throws IOException {
+            writer.write("</DL><p>\n");
+        }
+
+        private void indent(int depth) throws IOException {
+            for (int i = 0; i < depth; i++) {
+                writer.write("    ");
+            }
+        }
+
+        private void escape(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&' -> writer.write("&amp;");
+                    case '<' -> writer.write("&lt;");
+                    case '>' -> writer.write("&gt;");
+                    case '"' -> writer.write("&quot;");
+                    default -> writer.write(c);
+                }
+            }
+        }
+
+        private static long epochSeconds(LocalDateTime dateTime) {
+            return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() : 0;
+        }
+    }
+}
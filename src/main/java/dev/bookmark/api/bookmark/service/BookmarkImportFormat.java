@@ -0,0 +1,18 @@
+package dev.bookmark.api.bookmark.service;
+
+/**
+ * 북마크 가져오기 파일 형식
+ * - NETSCAPE_HTML: 브라우저의 "북마크 내보내기" HTML (Chrome, Firefox, Safari, Edge 공통 형식)
+ * - JSON: [{"title", "url", "description", "folderPath": [...], "tags": [...], "createdAt"}] 배열
+ */
+public enum BookmarkImportFormat {
+    NETSCAPE_HTML,
+    JSON;
+
+    BookmarkImportParser newParser() {
+        return switch (this) {
+            case NETSCAPE_HTML -> new NetscapeBookmarkParser();
+            case JSON -> new JsonBookmarkParser();
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package dev.bookmark.api.bookmark.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 가져오기 파일을 처음부터 끝까지 한 번 읽으면서 북마크를 하나씩 sink에 전달합니다.
+ * 파일 전체를 메모리에 올리지 않으므로, 파일 크기와 관계없이 사용하는 메모리가 일정합니다.
+ */
+interface BookmarkImportParser {
+
+    /**
+     * @throws IllegalArgumentException 파일 형식이 올바르지 않은 경우 (그 전까지 읽은 북마크는 이미 전달됨)
+     */
+    void parse(InputStream in, Consumer<ImportedBookmark> sink) throws IOException;
+}
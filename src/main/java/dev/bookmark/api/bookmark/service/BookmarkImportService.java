@@ -0,0 +1,419 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkImportResultDto;
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.bookmark.repository.BookmarkImportJdbcRepository;
+import dev.bookmark.api.bookmark.repository.BookmarkImportJdbcRepository.FolderRow;
+import dev.bookmark.api.bookmark.repository.BookmarkImportJdbcRepository.NewBookmark;
+import dev.bookmark.api.bookmark.repository.BookmarkImportJdbcRepository.NewFolder;
+import dev.bookmark.api.common.CanonicalUrl;
+import dev.bookmark.api.common.SearchText;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.folder.event.FolderChangedEvent;
+import dev.bookmark.api.folder.repository.FolderRepository;
+import dev.bookmark.api.tag.service.TagResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 브라우저 내보내기 파일(Netscape HTML, JSON)의 북마크를 한 번에 가져옵니다.
+ * 파일은 파서가 읽는 대로 chunk-size 개씩 모아 묶음마다 별도 트랜잭션으로 저장하므로, 파일 크기와 관계없이
+ * 한 묶음 크기의 메모리만 사용하고 앞 묶음의 결과는 뒤 묶음이 실패해도 남습니다. 묶음 저장이 실패하면 결과에 기록하고 가져오기를 멈춥니다.
+ * 묶음 하나는 TagResolver의 태그 조회/INSERT, 폴더 깊이별 조회/INSERT 배치, 북마크 INSERT 배치, bookmark_tags INSERT 배치로 저장되며,
+ * 폴더 ID는 가져오기 동안 캐시해 다음 묶음에서 다시 조회하지 않습니다. 태그도 묶음 트랜잭션에서 만들므로 묶음과 함께 롤백됩니다.
+ * dedupe 모드에서는 묶음마다 URL 해시 IN 조회 한 번으로 이미 있는 URL(앞 묶음에서 가져온 URL 포함)을 걸러 냅니다.
+ * 변경 이벤트는 createBookmark 등과 같은 방식으로 발행하므로 검색 인덱스와 캐시는 묶음이 커밋될 때마다 갱신됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkImportService {
+
+    static final String DEFAULT_FOLDER_NAME = "가져온 북마크"; // 대상 폴더를 지정하지 않으면 이 최상위 폴더 아래로 가져옵니다.
+    private static final String UNNAMED_FOLDER_NAME = "이름 없는 폴더";
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_URL_LENGTH = 2083;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+    private static final int MAX_NAME_LENGTH = 100;  // 폴더/태그 이름
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final BookmarkImportJdbcRepository importRepository;
+    private final FolderRepository folderRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagResolver tagResolver;
+
+    @Value("${bookmark.import.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    /**
+     * 파일을 끝까지 읽으며 북마크를 가져오고 결과 요약을 반환합니다.
+     * URL이 없거나 너무 긴 항목은 건너뛰고 errors에 기록하며, 제목이 없으면 URL을 제목으로 사용합니다.
+     * 파일이 중간에 깨져 있으면 그 전까지 읽은 북마크는 가져오고 errors에 기록합니다. (하나도 읽지 못했으면 예외)
+     * 묶음 저장이 실패하면 그 묶음의 항목을 건너뛴 것으로 세고 errors에 기록한 뒤, 나머지 파일은 읽지 않고 completed=false로 반환합니다.
+     *
+     * @param folderId 가져올 대상 폴더 (null이면 최상위의 "가져온 북마크" 폴더, 없으면 생성)
+     * @param dedupe true이면 URL이 같은(CanonicalUrl 기준) 북마크가 이미 있거나 파일 안에서 앞서 나온 항목은 만들지 않고 duplicates로 셉니다.
+     * @throws IllegalArgumentException 대상 폴더가 없거나, 파일에서 북마크를 하나도 읽지 못한 경우
+     */
+    public BookmarkImportResultDto importBookmarks(InputStream in, BookmarkImportFormat format, Long folderId,
+                                                   boolean dedupe) throws IOException {
+        ImportRun run;
+        if (folderId != null) {
+            Folder folder = folderRepository.findById(folderId)
+                    .orElseThrow(() -> new IllegalArgumentException("가져올 대상 폴더를 찾을 수 없습니다. ID: " + folderId));
+            run = new ImportRun(format, new FolderRef(folder.getId(), folder.getPath()), List.of(), dedupe);
+        } else {
+            run = new ImportRun(format, new FolderRef(null, "/"), List.of(DEFAULT_FOLDER_NAME), dedupe);
+        }
+
+        try {
+            format.newParser().parse(in, run::accept);
+        } catch (ChunkFailedException e) {
+            // 실패한 묶음은 run에 기록되어 있고, 앞 묶음은 이미 커밋되었으므로 지금까지의 결과를 반환합니다.
+            return run.result();
+        } catch (IllegalArgumentException e) {
+            if (run.parsed == 0) {
+                throw e;
+            }
+            run.error(run.parsed, "파일을 끝까지 읽지 못했습니다: " + e.getMessage());
+        }
+        try {
+            run.flush();
+        } catch (ChunkFailedException e) {
+            // 실패한 묶음은 run에 기록되어 있습니다.
+        }
+        return run.result();
+    }
+
+    /**
+     * 묶음 저장이 실패해 파싱을 멈출 때 사용합니다. (ImportRun이 실패를 기록한 뒤 던짐)
+     */
+    private static class ChunkFailedException extends RuntimeException {
+
+        ChunkFailedException(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    private record FolderRef(Long id, String path) {
+    }
+
+    // 검증을 마친 가져올 북마크 (폴더 경로는 대상 폴더 기준 전체 경로)
+    private record PendingBookmark(long index, String title, String url, String canonicalUrl, String urlHash, String description,
+                                   List<String> folderPath, Set<String> tagNames, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 가져오기 한 번의 상태 (파서가 한 스레드에서 호출하므로 스레드 안전하지 않음)
+     */
+    private class ImportRun {
+
+        private final BookmarkImportFormat format;
+        private final FolderRef root;
+        private final List<String> rootPath; // 모든 폴더 경로 앞에 붙는 폴더 이름 (기본 폴더 사용 시)
+        private final boolean dedupe;
+        private final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        private final long startedAt = System.nanoTime();
+
+        // 부모 폴더 ID(최상위는 null) → 이름 → 폴더. 키가 있으면 그 부모의 하위 폴더를 이미 모두 알고 있다는 뜻입니다.
+        private final Map<Long, Map<String, FolderRef>> children = new HashMap<>();
+
+        private List<PendingBookmark> pending;
+        private long parsed;
+        private long imported;
+        private long skipped;
+        private long duplicates;
+        private int foldersCreated;
+        private int tagsCreated;
+        private int chunks;
+        private boolean completed = true;
+        private final List<BookmarkImportResultDto.Error> errors = new ArrayList<>();
+        private final List<BookmarkImportResultDto.Progress> progress = new ArrayList<>();
+
+        ImportRun(BookmarkImportFormat format, FolderRef root, List<String> rootPath, boolean dedupe) {
+            this.format = format;
+            this.root = root;
+            this.rootPath = rootPath;
+            this.dedupe = dedupe;
+            this.pending = new ArrayList<>(chunkSize);
+        }
+
+        void accept(ImportedBookmark item) {
+            parsed++;
+            String url = item.getUrl() != null ? item.getUrl().trim() : "";
+            if (url.isEmpty()) {
+                error(item.getIndex(), "URL이 없습니다.");
+                return;
+            }
+            if (url.length() > MAX_URL_LENGTH) {
+                error(item.getIndex(), "URL은 " + MAX_URL_LENGTH + "자를 초과할 수 없습니다.");
+                return;
+            }
+            String title = item.getTitle() != null && !item.getTitle().isBlank() ? item.getTitle().trim() : url;
+            String description = item.getDescription() != null && !item.getDescription().isBlank()
+                    ? truncate(item.getDescription().trim(), MAX_DESCRIPTION_LENGTH) : null;
+
+            List<String> folderPath = new ArrayList<>(rootPath.size() + item.getFolderPath().size());
+            folderPath.addAll(rootPath);
+            for (String name : item.getFolderPath()) {
+                folderPath.add(name != null && !name.isBlank() ? truncate(name.trim(), MAX_NAME_LENGTH) : UNNAMED_FOLDER_NAME);
+            }
+            Set<String> tagNames = new LinkedHashSet<>();
+            for (String name : item.getTagNames()) {
+                if (name != null && !name.isBlank()) {
+                    tagNames.add(truncate(name.trim(), MAX_NAME_LENGTH));
+                }
+            }
+
+            String canonicalUrl = CanonicalUrl.canonicalize(url);
+            pending.add(new PendingBookmark(item.getIndex(), truncate(title, MAX_TITLE_LENGTH), url, canonicalUrl, CanonicalUrl.hash(canonicalUrl),
+                    description, List.copyOf(folderPath), tagNames, item.getCreatedAt()));
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void error(long index, String message) {
+            skipped++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BookmarkImportResultDto.Error(index, message));
+            }
+        }
+
+        /**
+         * 모아 둔 묶음을 저장합니다.
+         */
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<PendingBookmark> chunk = dedupe ? withoutDuplicates(pending) : pending;
+            pending = new ArrayList<>(chunkSize);
+            if (!chunk.isEmpty()) {
+                save(chunk, chunks + 1);
+            }
+            imported += chunk.size();
+            chunks++;
+            long elapsedMs = elapsedMs();
+            progress.add(new BookmarkImportResultDto.Progress(chunks, imported, elapsedMs));
+            log.info("Imported chunk {} ({} bookmarks so far, {} ms)", chunks, imported, elapsedMs);
+        }
+
+        // 이미 저장된 URL과 묶음 안에서 앞서 나온 URL의 항목을 뺍니다. (앞 묶음은 이미 커밋되어 DB 조회로 걸러집니다)
+        private List<PendingBookmark> withoutDuplicates(List<PendingBookmark> chunk) {
+            Set<String> hashes = new HashSet<>();
+            chunk.forEach(bookmark -> hashes.add(bookmark.urlHash()));
+            Set<String> seen = importRepository.findCanonicalUrlsByHash(hashes);
+            List<PendingBookmark> unique = new ArrayList<>(chunk.size());
+            for (PendingBookmark bookmark : chunk) {
+                if (seen.add(bookmark.canonicalUrl())) {
+                    unique.add(bookmark);
+                } else {
+                    duplicates++;
+                }
+            }
+            return unique;
+        }
+
+        // 실패하면 묶음의 항목을 건너뛴 것으로 기록하고 ChunkFailedException을 던집니다.
+        private void save(List<PendingBookmark> chunk, int chunkNumber) {
+            ChunkChanges changes = new ChunkChanges();
+            try {
+                transaction.executeWithoutResult(status -> saveInTransaction(chunk, changes));
+            } catch (RuntimeException e) {
+                changes.rollback();
+                log.warn("Failed to import chunk {} ({} bookmarks), stopping import", chunkNumber, chunk.size(), e);
+                completed = false;
+                error(chunk.get(0).index(), "묶음 " + chunkNumber + "의 북마크 " + chunk.size()
+                        + "개를 저장하지 못해 가져오기를 중단했습니다: " + e.getMessage());
+                skipped += chunk.size() - 1; // 묶음의 나머지 항목 (첫 항목은 error에서 셉니다)
+                throw new ChunkFailedException(e);
+            }
+            foldersCreated += changes.folders.size();
+            tagsCreated += changes.tagsCreated;
+        }
+
+        private void saveInTransaction(List<PendingBookmark> chunk, ChunkChanges changes) {
+            LocalDateTime now = LocalDateTime.now();
+            Set<String> tagNames = new LinkedHashSet<>();
+            chunk.forEach(bookmark -> tagNames.addAll(bookmark.tagNames()));
+            TagResolver.Resolution tags = tagResolver.resolve(tagNames);
+            Map<String, Long> tagIds = tags.ids();
+            changes.tagsCreated = tags.createdNames().size();
+            Map<List<String>, FolderRef> folders = resolveFolders(chunk, changes, now);
+
+            List<NewBookmark> rows = new ArrayList<>(chunk.size());
+            int tagLinks = 0;
+            for (PendingBookmark bookmark : chunk) {
+                rows.add(new NewBookmark(bookmark.title(), bookmark.url(), bookmark.description(),
+                        SearchText.normalize(bookmark.title()), SearchText.normalize(bookmark.description()),
+                        bookmark.canonicalUrl(), bookmark.urlHash(),
+                        folders.get(bookmark.folderPath()).id(), bookmark.createdAt()));
+                tagLinks += bookmark.tagNames().size();
+            }
+            List<Long> bookmarkIds = importRepository.insertBookmarks(rows, now);
+
+            long[] linkBookmarkIds = new long[tagLinks];
+            long[] linkTagIds = new long[tagLinks];
+            int link = 0;
+            for (int i = 0; i < chunk.size(); i++) {
+                for (String tagName : chunk.get(i).tagNames()) {
+                    linkBookmarkIds[link] = bookmarkIds.get(i);
+                    linkTagIds[link++] = tagIds.get(tagName);
+                }
+            }
+            importRepository.insertBookmarkTags(linkBookmarkIds, linkTagIds, tagLinks);
+
+            // 커밋 이후에 리스너(검색 인덱스, 캐시 버전 등)가 처리합니다.
+            changes.folders.forEach(folder -> eventPublisher.publishEvent(FolderChangedEvent.created(folder.id())));
+            for (int i = 0; i < chunk.size(); i++) {
+                PendingBookmark bookmark = chunk.get(i);
+                eventPublisher.publishEvent(BookmarkChangedEvent.created(BookmarkSnapshot.builder()
+                        .id(bookmarkIds.get(i))
+                        .title(bookmark.title())
+                        .description(bookmark.description())
+                        .folderId(folders.get(bookmark.folderPath()).id())
+                        .tagNames(List.copyOf(bookmark.tagNames()))
+                        .createdAt(bookmark.createdAt() != null ? bookmark.createdAt() : now)
+                        .updatedAt(now)
+                        .build()));
+            }
+        }
+
+        /**
+         * 묶음에 나오는 모든 폴더 경로를 폴더 ID로 바꿉니다. 없는 폴더는 만듭니다.
+         * 깊이별로 한 번씩, 아직 모르는 부모의 하위 폴더를 한 번에 조회하고 없는 폴더를 한 번의 배치로 추가합니다.
+         */
+        private Map<List<String>, FolderRef> resolveFolders(List<PendingBookmark> chunk, ChunkChanges changes, LocalDateTime now) {
+            Set<List<String>> paths = new HashSet<>();
+            int maxDepth = 0;
+            for (PendingBookmark bookmark : chunk) {
+                paths.add(bookmark.folderPath());
+                maxDepth = Math.max(maxDepth, bookmark.folderPath().size());
+            }
+            Map<List<String>, FolderRef> resolved = new HashMap<>();
+            resolved.put(List.of(), root);
+
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                Set<List<String>> level = new LinkedHashSet<>();
+                for (List<String> path : paths) {
+                    if (path.size() >= depth) {
+                        level.add(path.subList(0, depth));
+                    }
+                }
+                Set<Long> unknownParents = new HashSet<>();
+                for (List<String> prefix : level) {
+                    Long parentId = resolved.get(prefix.subList(0, depth - 1)).id();
+                    if (!children.containsKey(parentId)) {
+                        unknownParents.add(parentId);
+                    }
+                }
+                loadChildren(unknownParents);
+
+                List<List<String>> missing = new ArrayList<>();
+                List<NewFolder> newFolders = new ArrayList<>();
+                for (List<String> prefix : level) {
+                    FolderRef parent = resolved.get(prefix.subList(0, depth - 1));
+                    String name = prefix.get(depth - 1);
+                    FolderRef existing = children.get(parent.id()).get(name);
+                    if (existing != null) {
+                        resolved.put(prefix, existing);
+                    } else {
+                        missing.add(prefix);
+                        newFolders.add(new NewFolder(name, parent.id()));
+                    }
+                }
+                if (newFolders.isEmpty()) {
+                    continue;
+                }
+                List<Long> ids = importRepository.insertFolders(newFolders, now);
+                List<String> folderPaths = new ArrayList<>(ids.size());
+                for (int i = 0; i < ids.size(); i++) {
+                    List<String> prefix = missing.get(i);
+                    FolderRef parent = resolved.get(prefix.subList(0, depth - 1));
+                    FolderRef created = new FolderRef(ids.get(i), parent.path() + ids.get(i) + "/"); // Folder.refreshPath와 같은 규칙
+                    children.get(parent.id()).put(prefix.get(depth - 1), created);
+                    children.put(created.id(), new HashMap<>()); // 새 폴더에는 하위 폴더가 없습니다.
+                    changes.folders.add(created);
+                    changes.folderParents.add(parent.id());
+                    resolved.put(prefix, created);
+                    folderPaths.add(created.path());
+                }
+                importRepository.updateFolderPaths(ids, folderPaths);
+            }
+            return resolved;
+        }
+
+        private void loadChildren(Collection<Long> parentIds) {
+            if (parentIds.isEmpty()) {
+                return;
+            }
+            parentIds.forEach(parentId -> children.put(parentId, new HashMap<>()));
+            for (FolderRow row : importRepository.findChildFolders(parentIds)) {
+                // 같은 부모 아래 같은 이름의 폴더가 여럿이면 먼저 조회된 폴더를 사용합니다.
+                children.get(row.parentId()).putIfAbsent(row.name(), new FolderRef(row.id(), row.path()));
+            }
+        }
+
+        BookmarkImportResultDto result() {
+            long elapsedMs = elapsedMs();
+            log.info("Imported {} of {} bookmarks ({} skipped, {} folders and {} tags created) in {} ms",
+                    imported, parsed, skipped + duplicates, foldersCreated, tagsCreated, elapsedMs);
+            return new BookmarkImportResultDto(format.name(), completed, parsed, imported, skipped, duplicates, foldersCreated,
+                    tagsCreated, elapsedMs, errors, progress);
+        }
+
+        private long elapsedMs() {
+            return (System.nanoTime() - startedAt) / 1_000_000;
+        }
+
+        /**
+         * 묶음 하나에서 새로 만든 폴더와 태그 수. 트랜잭션이 롤백되면 폴더를 캐시에서 지워 다시 조회하게 합니다.
+         */
+        private class ChunkChanges {
+
+            private final List<FolderRef> folders = new ArrayList<>();
+            private final List<Long> folderParents = new ArrayList<>();
+            private int tagsCreated;
+
+            void rollback() {
+                for (int i = 0; i < folders.size(); i++) {
+                    FolderRef folder = folders.get(i);
+                    children.remove(folder.id());
+                    Map<String, FolderRef> siblings = children.get(folderParents.get(i));
+                    if (siblings != null) {
+                        siblings.values().remove(folder);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        // 서로게이트 쌍(이모지 등)의 가운데를 자르지 않습니다.
+        int end = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return value.substring(0, end);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+
+/**
+ * 북마크 변경에 따라 증분 갱신되는 인메모리 검색 구조를 위한 인터페이스입니다.
+ * 구현체는 스프링 빈으로 등록되기만 하면 BookmarkIndexMaintainer가 시작 시 재구축과 변경 반영을 담당합니다.
+ */
+public interface BookmarkIndex {
+
+    /**
+     * 북마크를 인덱스에 추가합니다. 같은 ID가 이미 있으면 새 내용으로 교체해야 합니다.
+     */
+    void add(BookmarkSnapshot snapshot);
+
+    /**
+     * 북마크를 인덱스에서 제거합니다.
+     */
+    void remove(BookmarkSnapshot snapshot);
+
+    /**
+     * 북마크 변경 내용을 반영합니다. 구현체가 차이만 반영하도록 재정의할 수 있습니다.
+     */
+    default void update(BookmarkSnapshot before, BookmarkSnapshot after) {
+        remove(before);
+        add(after);
+    }
+
+    /**
+     * 인덱스의 모든 내용을 비웁니다. (전체 재구축 전에 호출)
+     */
+    void clear();
+}
@@ -0,0 +1,101 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.tag.event.TagChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * 등록된 모든 BookmarkIndex 구현체를 DB와 동기화합니다.
+ * - 애플리케이션 시작 시: DB에서 전체 북마크를 읽어 인덱스를 재구축합니다. (스냅샷이 있으면 파일에서 복원 후 변경분만 반영)
+ * - 북마크/태그 변경 시: 트랜잭션 커밋 이후 변경 내용만 증분 반영합니다. (롤백된 변경은 반영되지 않음)
+ *   검색 결과 캐시의 데이터 버전(DataVersionTracker)보다 먼저 반영해, 새 버전으로 캐시되는 결과가 반영 후 인덱스에서 나오도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkIndexMaintainer {
+
+    private final List<BookmarkIndex> indexes; // 등록된 인덱스가 없으면 빈 리스트가 주입됩니다.
+    private final BookmarkSnapshotLoader snapshotLoader;
+
+    // 검색 인덱스 스냅샷 (bookmark.search.snapshot.enabled=true일 때만 주입). 있으면 시작 시 DB 전체 대신 파일에서 복원합니다.
+    private BookmarkIndexSnapshotter snapshotter;
+
+    @Autowired(required = false)
+    public void setSnapshotter(BookmarkIndexSnapshotter snapshotter) {
+        this.snapshotter = snapshotter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup(ApplicationReadyEvent event) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean restored = snapshotter != null && snapshotter.restore(indexes);
+        if (!restored) {
+            rebuild();
+        }
+        log.info("Search indexes ready {} ms after JVM start (context started in {} ms, indexes {} in {} ms)",
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1,
+                restored ? "restored from snapshot" : "rebuilt from database",
+                (System.nanoTime() - start) / 1_000_000);
+        if (snapshotter != null) {
+            snapshotter.markReady();
+            if (!restored) {
+                snapshotter.write(); // 다음 시작부터 바로 복원할 수 있도록 재구축 직후 한 번 저장합니다.
+            }
+        }
+    }
+
+    /**
+     * 모든 인덱스를 비우고 DB의 내용으로 다시 구축합니다.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        indexes.forEach(BookmarkIndex::clear);
+        long count = snapshotLoader.forEachSnapshot(snapshot -> indexes.forEach(index -> index.add(snapshot)));
+        log.info("Rebuilt {} search index(es) with {} bookmarks in {} ms",
+                indexes.size(), count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        for (BookmarkIndex index : indexes) {
+            switch (event.getType()) {
+                case CREATED -> index.add(event.getAfter());
+                case UPDATED -> index.update(event.getBefore(), event.getAfter());
+                case DELETED -> index.remove(event.getBefore());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTagChanged(TagChangedEvent event) {
+        // 이름 변경만 기존 북마크의 인덱스 내용에 영향을 줍니다. (사용 중인 태그는 삭제할 수 없음)
+        if (indexes.isEmpty() || event.getType() != TagChangedEvent.Type.RENAMED) {
+            return;
+        }
+        List<BookmarkSnapshot> affected = snapshotLoader.loadByTagId(event.getTagId());
+        for (BookmarkSnapshot after : affected) {
+            BookmarkSnapshot before = after.withTagRenamed(event.getNewName(), event.getOldName());
+            indexes.forEach(index -> index.update(before, after));
+        }
+        log.debug("Re-indexed {} bookmarks after tag rename '{}' -> '{}'", affected.size(), event.getOldName(), event.getNewName());
+    }
+}
@@ -0,0 +1,174 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 검색 인덱스 스냅샷 파일을 쓰고 읽는 헬퍼입니다.
+ * 인덱스 구조 자체가 아니라 인덱스를 만드는 북마크 스냅샷을 저장하므로, 모든 BookmarkIndex 구현체를 이 파일 하나로 복원할 수 있습니다.
+ *
+ * 형식 (빅 엔디언):
+ * <pre>
+ * int    MAGIC ("BMIX")
+ * int    FORMAT_VERSION
+ * long   스냅샷 시각 (LocalDateTime을 UTC 기준 epoch 나노초로 인코딩)
+ * int    북마크 수 N
+ * N × { long id, long folderId(-1 = null), long createdAt, long updatedAt (-1 = null),
+ *       string title, string description, int tagCount, string × tagCount }
+ * int    MAGIC (끝 표시, 잘린 파일 확인용)
+ * string = int 바이트 길이(-1 = null) + UTF-8 바이트
+ * </pre>
+ * 읽을 때는 파일을 메모리 매핑하여 힙으로 복사하지 않고 바로 해석합니다.
+ */
+public final class BookmarkIndexSnapshotFile {
+
+    static final int MAGIC = 0x424D4958; // "BMIX"
+    static final int FORMAT_VERSION = 1;
+    private static final long NULL_VALUE = -1L;
+
+    private BookmarkIndexSnapshotFile() {
+    }
+
+    /**
+     * 스냅샷을 임시 파일에 쓴 뒤 원자적으로 교체합니다. (쓰는 도중 종료되어도 이전 스냅샷은 그대로 남습니다)
+     */
+    public static void write(Path path, LocalDateTime snapshotTime, Collection<BookmarkSnapshot> snapshots) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(encodeTime(snapshotTime));
+            out.writeInt(snapshots.size());
+            for (BookmarkSnapshot snapshot : snapshots) {
+                out.writeLong(snapshot.getId());
+                out.writeLong(snapshot.getFolderId() != null ? snapshot.getFolderId() : NULL_VALUE);
+                out.writeLong(encodeTime(snapshot.getCreatedAt()));
+                out.writeLong(encodeTime(snapshot.getUpdatedAt()));
+                writeString(out, snapshot.getTitle());
+                writeString(out, snapshot.getDescription());
+                out.writeInt(snapshot.getTagNames().size());
+                for (String tagName : snapshot.getTagNames()) {
+                    writeString(out, tagName);
+                }
+            }
+            out.writeInt(MAGIC);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 파일을 메모리 매핑하여 북마크 스냅샷을 순서대로 consumer에 전달합니다.
+     * @return 스냅샷 시각
+     * @throws IOException 파일을 읽을 수 없거나, 형식/버전이 다르거나, 파일이 잘린 경우
+     *                     (consumer에 일부 스냅샷이 이미 전달되었을 수 있으므로 호출자는 인덱스를 다시 구축해야 합니다)
+     */
+    public static LocalDateTime read(Path path, Consumer<BookmarkSnapshot> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("검색 인덱스 스냅샷 파일이 아닙니다: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 형식 버전입니다: " + version + " (지원: " + FORMAT_VERSION + ")");
+            }
+            LocalDateTime snapshotTime = decodeTime(buffer.getLong());
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                long id = buffer.getLong();
+                long folderId = buffer.getLong();
+                LocalDateTime createdAt = decodeTime(buffer.getLong());
+                LocalDateTime updatedAt = decodeTime(buffer.getLong());
+                String title = readString(buffer);
+                String description = readString(buffer);
+                int tagCount = requireRemaining(buffer, buffer.getInt());
+                List<String> tagNames = new ArrayList<>(tagCount);
+                for (int j = 0; j < tagCount; j++) {
+                    tagNames.add(readString(buffer));
+                }
+                consumer.accept(BookmarkSnapshot.builder()
+                        .id(id)
+                        .title(title)
+                        .description(description)
+                        .folderId(folderId != NULL_VALUE ? folderId : null)
+                        .tagNames(tagNames)
+                        .createdAt(createdAt)
+                        .updatedAt(updatedAt)
+                        .build());
+            }
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("검색 인덱스 스냅샷 파일의 끝 표시가 없습니다: " + path);
+            }
+            return snapshotTime;
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new IOException("검색 인덱스 스냅샷 파일이 손상되었습니다: " + path, e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[requireRemaining(buffer, length)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 손상된 길이 값으로 큰 배열을 만들지 않도록, 남은 바이트보다 큰 길이는 잘린 파일로 취급합니다.
+    private static int requireRemaining(MappedByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private static long encodeTime(LocalDateTime time) {
+        if (time == null) {
+            return NULL_VALUE;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime decodeTime(long encoded) {
+        if (encoded == NULL_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(encoded, 1_000_000_000L),
+                (int) Math.floorMod(encoded, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,170 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.tag.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 인덱스를 주기적으로 스냅샷 파일에 저장하고, 시작 시 파일에서 복원한 뒤 DB와의 차이만 따라잡습니다.
+ * DB 전체를 읽어 재구축하는 대신 메모리 매핑한 파일을 읽으므로 재시작 후 검색 준비 시간이 짧아집니다.
+ *
+ * 따라잡기 (스냅샷 시각 - catch-up-margin 이후 기준):
+ * - updatedAt이 기준 이후인 북마크는 DB에서 다시 읽어 반영합니다. (새로 생긴 북마크 포함)
+ * - DB에 더 이상 없는 북마크는 인덱스에서 제거합니다.
+ * - 스냅샷의 태그 이름이 DB에 없으면 (태그 이름 변경) 해당 태그를 가진 북마크를 다시 읽어 반영합니다.
+ * margin은 스냅샷을 쓰는 동안 커밋된 변경이나 서버 간 시계 차이로 놓치는 변경이 없도록 둡니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"bookmark.search.index.enabled", "bookmark.search.snapshot.enabled"}, havingValue = "true")
+public class BookmarkIndexSnapshotter {
+
+    private final BookmarkDocumentStore documentStore;
+    private final BookmarkSnapshotLoader snapshotLoader;
+    private final TagRepository tagRepository;
+    private final Path path;
+    private final Duration catchUpMargin;
+
+    // 인덱스가 복원/재구축을 마치기 전에는 불완전한 내용을 저장하지 않습니다.
+    private volatile boolean ready;
+
+    public BookmarkIndexSnapshotter(BookmarkDocumentStore documentStore, BookmarkSnapshotLoader snapshotLoader,
+                                    TagRepository tagRepository,
+                                    @Value("${bookmark.search.snapshot.path:data/search-index.snapshot}") Path path,
+                                    @Value("${bookmark.search.snapshot.catch-up-margin:PT1M}") Duration catchUpMargin) {
+        this.documentStore = documentStore;
+        this.snapshotLoader = snapshotLoader;
+        this.tagRepository = tagRepository;
+        this.path = path;
+        this.catchUpMargin = catchUpMargin;
+    }
+
+    /**
+     * 스냅샷 파일로 인덱스를 복원하고 DB의 변경분을 반영합니다.
+     * @return 복원했으면 true, 파일이 없거나 읽을 수 없으면 false (호출자는 인덱스를 비우고 전체 재구축해야 합니다)
+     */
+    public boolean restore(List<BookmarkIndex> indexes) {
+        if (!Files.isRegularFile(path)) {
+            log.info("No search index snapshot at {}. Rebuilding from the database.", path.toAbsolutePath());
+            return false;
+        }
+        long start = System.nanoTime();
+        indexes.forEach(BookmarkIndex::clear);
+        Map<Long, BookmarkSnapshot> restored = new HashMap<>();
+        LocalDateTime snapshotTime;
+        try {
+            snapshotTime = BookmarkIndexSnapshotFile.read(path, snapshot -> {
+                restored.put(snapshot.getId(), snapshot);
+                indexes.forEach(index -> index.add(snapshot));
+            });
+        } catch (IOException e) {
+            log.warn("Failed to read search index snapshot {}. Rebuilding from the database.", path.toAbsolutePath(), e);
+            return false;
+        }
+        long mappedNanos = System.nanoTime() - start;
+
+        int[] counts = catchUp(indexes, restored, snapshotTime.minus(catchUpMargin));
+        log.info("Restored {} bookmarks from search index snapshot ({}) in {} ms, caught up in {} ms "
+                        + "({} updated, {} removed, {} re-tagged)",
+                restored.size(), snapshotTime, mappedNanos / 1_000_000, (System.nanoTime() - start - mappedNanos) / 1_000_000,
+                counts[0], counts[1], counts[2]);
+        return true;
+    }
+
+    private int[] catchUp(List<BookmarkIndex> indexes, Map<Long, BookmarkSnapshot> restored, LocalDateTime since) {
+        // 1. 스냅샷 이후 생성/수정된 북마크
+        Set<Long> applied = new HashSet<>();
+        for (BookmarkSnapshot after : snapshotLoader.loadUpdatedAfter(since)) {
+            apply(indexes, restored.get(after.getId()), after);
+            applied.add(after.getId());
+        }
+
+        // 2. 스냅샷 이후 삭제된 북마크
+        Set<Long> existingIds = snapshotLoader.loadAllIds();
+        int removed = 0;
+        for (BookmarkSnapshot before : restored.values()) {
+            if (!existingIds.contains(before.getId())) {
+                indexes.forEach(index -> index.remove(before));
+                removed++;
+            }
+        }
+
+        // 3. 이름이 바뀐 태그를 가진 북마크 (태그 이름 변경은 북마크의 updatedAt을 바꾸지 않습니다)
+        Set<String> tagNames = new HashSet<>(tagRepository.findAllNames());
+        List<Long> retagIds = new ArrayList<>();
+        for (BookmarkSnapshot before : restored.values()) {
+            if (existingIds.contains(before.getId()) && !applied.contains(before.getId())
+                    && !tagNames.containsAll(before.getTagNames())) {
+                retagIds.add(before.getId());
+            }
+        }
+        for (BookmarkSnapshot after : snapshotLoader.loadByIds(retagIds)) {
+            apply(indexes, restored.get(after.getId()), after);
+        }
+        return new int[]{applied.size(), removed, retagIds.size()};
+    }
+
+    private static void apply(List<BookmarkIndex> indexes, BookmarkSnapshot before, BookmarkSnapshot after) {
+        if (before == null) {
+            indexes.forEach(index -> index.add(after));
+        } else {
+            indexes.forEach(index -> index.update(before, after));
+        }
+    }
+
+    /**
+     * 인덱스가 완성되었음을 알립니다. 이후부터 스냅샷을 저장합니다.
+     */
+    public void markReady() {
+        this.ready = true;
+    }
+
+    @Scheduled(initialDelayString = "${bookmark.search.snapshot.interval:PT10M}",
+            fixedDelayString = "${bookmark.search.snapshot.interval:PT10M}")
+    public void writePeriodically() {
+        write();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void writeOnShutdown() {
+        write();
+    }
+
+    /**
+     * 현재 인덱스 내용을 스냅샷 파일로 저장합니다.
+     * 스냅샷 시각은 문서를 복사하기 전에 정하므로, 복사 도중 반영된 변경은 다음 시작 시 따라잡기 대상에 포함됩니다.
+     */
+    public synchronized void write() {
+        if (!ready) {
+            return;
+        }
+        long start = System.nanoTime();
+        LocalDateTime snapshotTime = LocalDateTime.now();
+        List<BookmarkSnapshot> documents = new ArrayList<>(documentStore.all());
+        try {
+            BookmarkIndexSnapshotFile.write(path, snapshotTime, documents);
+            log.info("Wrote search index snapshot with {} bookmarks to {} in {} ms",
+                    documents.size(), path.toAbsolutePath(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            log.warn("Failed to write search index snapshot to {}", path.toAbsolutePath(), e);
+        }
+    }
+}
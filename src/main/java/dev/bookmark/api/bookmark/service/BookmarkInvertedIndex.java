@@ -0,0 +1,105 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 제목/설명 토큰 → 북마크 ID 목록(posting)을 관리하는 역색인입니다.
+ * 토큰은 정렬된 맵에 저장하여 접두어(prefix) 검색을 지원합니다. (태그는 TagBitmapIndex가 담당)
+ * 쓰기는 북마크 변경 시에만 일어나므로 동기화하고, 읽기는 잠금 없이 수행합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "bookmark.search.index.enabled", havingValue = "true")
+public class BookmarkInvertedIndex implements BookmarkIndex {
+
+    private final ConcurrentSkipListMap<String, Set<Long>> textPostings = new ConcurrentSkipListMap<>();
+    private final Map<Long, BookmarkSnapshot> indexed = new ConcurrentHashMap<>(); // 제거 시 어떤 토큰을 지울지 알기 위해 보관
+
+    @Override
+    public synchronized void add(BookmarkSnapshot snapshot) {
+        BookmarkSnapshot previous = indexed.put(snapshot.getId(), snapshot);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (String token : textTokens(snapshot)) {
+            textPostings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(snapshot.getId());
+        }
+    }
+
+    @Override
+    public synchronized void remove(BookmarkSnapshot snapshot) {
+        BookmarkSnapshot previous = indexed.remove(snapshot.getId());
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        textPostings.clear();
+        indexed.clear();
+    }
+
+    /**
+     * 키워드의 모든 토큰이 (접두어로) 제목 또는 설명에 등장하는 북마크 ID를 찾습니다.
+     * 예: "spring da" → "spring"과 "data"를 모두 가진 북마크
+     */
+    public Set<Long> findByKeyword(String keyword) {
+        List<String> queryTokens = SearchTokenizer.tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<Long> result = null;
+        for (String queryToken : queryTokens) {
+            Set<Long> matches = new HashSet<>();
+            NavigableMap<String, Set<Long>> range = textPostings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, true);
+            for (Set<Long> posting : range.values()) {
+                matches.addAll(posting);
+            }
+            if (result == null) {
+                result = matches;
+            } else {
+                result.retainAll(matches); // 토큰 간에는 AND 조건
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return indexed.size();
+    }
+
+    private void unindex(BookmarkSnapshot snapshot) {
+        for (String token : textTokens(snapshot)) {
+            removePosting(textPostings, token, snapshot.getId());
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Long>> postings, String key, Long bookmarkId) {
+        Set<Long> posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(bookmarkId);
+            if (posting.isEmpty()) {
+                postings.remove(key); // 빈 posting은 정리하여 접두어 검색 범위를 줄입니다.
+            }
+        }
+    }
+
+    private static Set<String> textTokens(BookmarkSnapshot snapshot) {
+        Set<String> tokens = new HashSet<>(SearchTokenizer.tokenize(snapshot.getTitle()));
+        tokens.addAll(SearchTokenizer.tokenize(snapshot.getDescription()));
+        return tokens;
+    }
+}
@@ -1,8 +1,10 @@
 package dev.bookmark.api.bookmark.service;
 
 import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.FacetedPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -21,4 +23,31 @@ public interface BookmarkSearchStrategy {
      * @return 페이징 처리된 북마크 DTO 목록
      */
     Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable);
+
+    /**
+     * 검색 후보를 훑는 순회에서 태그별/폴더별 결과 수(패싯)를 함께 셀 수 있는 전략인지 여부입니다.
+     * false이면 BookmarkService가 search 결과와 별도로 DB 집계 쿼리로 패싯을 구합니다.
+     */
+    default boolean supportsFacets() {
+        return false;
+    }
+
+    /**
+     * search와 같은 결과에 패싯(태그/폴더별 결과 수, 각각 상위 facetLimit개)을 함께 담아 반환합니다.
+     * 패싯 항목의 이름은 비어 있으며 호출하는 쪽에서 채웁니다. supportsFacets()가 true인 전략만 구현합니다.
+     */
+    default FacetedPage<BookmarkResponseDto> searchWithFacets(String keyword, List<String> tagNames, Pageable pageable, int facetLimit) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not count facets");
+    }
+
+    /**
+     * 검색 조건(키워드 또는 태그)이 하나도 없으면 예외를 발생시킵니다. 모든 전략이 같은 메시지를 사용하도록 공통으로 둡니다.
+     */
+    static void requireCriteria(String keyword, List<String> tagNames) {
+        boolean keywordExists = StringUtils.hasText(keyword);
+        boolean tagsExist = (tagNames != null && !tagNames.isEmpty());
+        if (!keywordExists && !tagsExist) {
+            throw new IllegalArgumentException("검색 조건(키워드 또는 태그)을 하나 이상 입력해주세요.");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package dev.bookmark.api.bookmark.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.repository.BookmarkSearchJdbcRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 전체를 NDJSON(한 줄에 북마크 하나)으로 출력 스트림에 씁니다. (내보내기/동기화 작업용)
+ * 관련도 순서로 정렬한 검색 쿼리를 한 번만 실행해 ID를 앞으로만 읽고, chunk-size 개가 모일 때마다 그 북마크만 불러와 쓰고 flush 합니다.
+ * 묶음마다 처음부터 다시 검색하지 않으므로 전체 비용이 결과 수에 비례하고, 메모리는 한 묶음 크기만큼만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkSearchStreamer {
+
+    private static final int NEW_LINE = '\n';
+
+    private final BookmarkSearchJdbcRepository searchJdbcRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Value("${bookmark.search.stream.chunk-size:500}")
+    private int chunkSize = 500;
+
+    /**
+     * 검색 조건을 검증합니다. 응답을 쓰기 시작한 뒤에는 400으로 응답할 수 없으므로 스트리밍 전에 호출합니다.
+     */
+    public void validate(String keyword, List<String> tagNames) {
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames);
+    }
+
+    /**
+     * 검색 결과를 모두 쓸 때까지 한 번의 검색 쿼리를 따라 읽습니다.
+     * 검색 쿼리와 묶음별 조회가 같은 커넥션을 쓰도록 읽기 전용 트랜잭션 안에서 실행합니다.
+     * 클라이언트 연결이 끊겨 쓰기에 실패하면 더 이상 조회하지 않고 조용히 종료합니다.
+     */
+    @Transactional(readOnly = true)
+    public void write(String keyword, List<String> tagNames, OutputStream outputStream) {
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames);
+        Chunk chunk = new Chunk(outputStream);
+        try {
+            searchJdbcRepository.forEachScoredId(keyword, tagNames, id -> {
+                chunk.ids.add(id);
+                if (chunk.ids.size() >= chunkSize) {
+                    chunk.write();
+                }
+            });
+            chunk.write();
+            log.info("Streamed {} search results. Keyword: '{}', Tags: {}", chunk.written, keyword, tagNames);
+        } catch (UncheckedIOException e) {
+            log.info("Search stream closed by client after {} results. Keyword: '{}', Tags: {}", chunk.written, keyword, tagNames);
+        }
+    }
+
+    /**
+     * 순위 순서로 모은 ID 한 묶음을 불러와 쓰는 헬퍼
+     */
+    private class Chunk {
+
+        private final OutputStream outputStream;
+        private final List<Long> ids = new ArrayList<>();
+        private long written;
+
+        Chunk(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        void write() {
+            if (ids.isEmpty()) {
+                return;
+            }
+            try {
+                for (BookmarkResponseDto bookmark : SearchResultLoader.loadInOrder(bookmarkRepository, ids)) {
+                    outputStream.write(objectMapper.writeValueAsBytes(bookmark));
+                    outputStream.write(NEW_LINE);
+                    written++;
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ids.clear();
+            // 이미 쓴 엔티티가 영속성 컨텍스트에 쌓이지 않도록 비웁니다. (읽기 전용이라 flush할 변경 없음)
+            entityManager.clear();
+        }
+    }
+}
@@ -4,20 +4,38 @@ import dev.bookmark.api.bookmark.domain.Bookmark; // 2. 관련 엔티티, DTO, 
 import dev.bookmark.api.bookmark.dto.BookmarkCreateRequestDto;
 import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
 import dev.bookmark.api.bookmark.dto.BookmarkUpdateRequestDto; // 나중에 북마크 수정 시 필요
+import dev.bookmark.api.bookmark.dto.CursorPageResponseDto;
+import dev.bookmark.api.bookmark.dto.FacetedPage;
+import dev.bookmark.api.bookmark.dto.SearchFacetsDto;
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
 import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.repository.BookmarkVersionRow;
+import dev.bookmark.api.common.ETagged;
+import dev.bookmark.api.common.ResourceETags;
+import dev.bookmark.api.exception.PreconditionFailedException;
 import dev.bookmark.api.folder.domain.Folder;
 import dev.bookmark.api.folder.repository.FolderRepository;
 import dev.bookmark.api.tag.domain.Tag;
 import dev.bookmark.api.tag.repository.TagRepository;
+import dev.bookmark.api.tag.service.TagResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page; // 페이징 처리
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,8 +46,17 @@ public class BookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
     private final FolderRepository folderRepository; // Folder 존재 여부 확인을 위해 필요
-    private final TagRepository tagRepository;       // Tag 처리(조회 또는 생성)를 위해 필요
+    private final TagRepository tagRepository;       // 패싯의 태그 이름 조회용
+    private final TagResolver tagResolver;           // Tag 처리(조회 또는 생성)를 위해 필요
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_FACET_VALUES = 20; // 태그/폴더 패싯을 각각 최대 몇 개까지 반환할지
+    public static final String FRECENCY_SORT = "frecency"; // 폴더 목록을 방문 빈도/최근성 순으로 정렬하는 sort 값
+
     private final BookmarkSearchStrategy searchStrategy;
+    private final DbLevelSortSearchStrategy dbLevelSearchStrategy; // 커서 기반 검색 페이징, 폴더 범위 검색용
+    private final ApplicationEventPublisher eventPublisher; // 검색 인덱스 등에 변경 사항을 알리기 위해 필요
+    private final ResourceETags resourceETags; // 조건부 요청용 ETag
+    private final PlatformTransactionManager transactionManager; // dedupe 생성에서 유니크 제약 위반 시 롤백 후 다시 조회하기 위해 필요
 
     /**
      * 새로운 북마크를 생성합니다.
@@ -40,20 +67,18 @@ public class BookmarkService {
      */
     @Transactional
     public BookmarkResponseDto createBookmark(BookmarkCreateRequestDto requestDto) {
+        return create(requestDto, false);
+    }
+
+    // createBookmark의 실제 생성 (claimUrl이면 URL의 대표 북마크로 표시해 dedupe 유니크 제약을 적용)
+    private BookmarkResponseDto create(BookmarkCreateRequestDto requestDto, boolean claimUrl) {
         // 1. Folder 엔티티 조회 (존재하지 않으면 예외 발생)
         Folder folder = folderRepository.findById(requestDto.getFolderId())
                 .orElseThrow(() -> new IllegalArgumentException("지정한 폴더를 찾을 수 없습니다. ID: " + requestDto.getFolderId()));
 
         // 2. Tag 엔티티 처리 (기존 태그 조회 또는 새 태그 생성)
-        Set<Tag> tagsToAssociate = new HashSet<>();
-        if (requestDto.getTagNames() != null && !requestDto.getTagNames().isEmpty()) {
-            for (String tagName : requestDto.getTagNames()) {
-                // 태그 이름으로 기존 태그를 찾거나, 없으면 새로 생성하여 저장
-                Tag tag = tagRepository.findByName(tagName)
-                        .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
-                tagsToAssociate.add(tag);
-            }
-        }
+        // 모든 태그 이름을 한 번에 조회하고, 없는 태그는 한 번의 배치로 생성 (TagResolver 참고)
+        List<Tag> tagsToAssociate = tagResolver.resolveTags(requestDto.getTagNames());
 
         // 3. Bookmark 엔티티 생성
         Bookmark newBookmark = Bookmark.builder()
@@ -67,14 +92,60 @@ public class BookmarkService {
         for (Tag tag : tagsToAssociate) {
             newBookmark.addTag(tag); // Bookmark 엔티티 내 addTag 메소드 호출
         }
+        if (claimUrl) {
+            newBookmark.claimUrl();
+        }
 
         // 5. Bookmark 엔티티 저장 (이때 @ManyToMany 관계에 따라 bookmark_tags 테이블에도 데이터 삽입됨)
         Bookmark savedBookmark = bookmarkRepository.save(newBookmark);
+        eventPublisher.publishEvent(BookmarkChangedEvent.created(BookmarkSnapshot.from(savedBookmark)));
 
         // 6. 저장된 엔티티를 응답 DTO로 변환하여 반환
         return BookmarkResponseDto.fromEntity(savedBookmark);
     }
 
+    /**
+     * createBookmark와 같지만, dedupe가 true이면 같은 URL(findBookmarksByUrl 기준)의 북마크가 이미 있을 때
+     * 새로 만들지 않고 가장 오래된 북마크를 반환합니다.
+     * dedupe로 만든 북마크는 URL 해시를 유니크 컬럼(dedupe_key)에 기록하므로, 같은 URL로 동시에 요청해 모두 조회에서 찾지 못해도
+     * 하나만 저장되고 나머지는 유니크 제약 위반으로 롤백된 뒤 먼저 저장된 북마크를 반환합니다.
+     *
+     * @param requestDto 북마크 생성 요청 데이터
+     * @param dedupe true이면 같은 URL의 북마크가 있을 때 새로 만들지 않음
+     * @return 북마크 정보와 새로 만들었는지 여부
+     */
+    public BookmarkCreateResult createBookmark(BookmarkCreateRequestDto requestDto, boolean dedupe) {
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                if (dedupe) {
+                    Optional<BookmarkResponseDto> existing = findOldestByUrl(requestDto.getUrl());
+                    if (existing.isPresent()) {
+                        return new BookmarkCreateResult(existing.get(), false);
+                    }
+                }
+                return new BookmarkCreateResult(create(requestDto, dedupe), true);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!dedupe) {
+                throw e;
+            }
+            // 다른 요청이 같은 URL의 북마크를 먼저 저장한 경우입니다. (이 트랜잭션은 롤백되었으므로 새 트랜잭션에서 조회)
+            TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+            readOnlyTransaction.setReadOnly(true);
+            BookmarkResponseDto existing = readOnlyTransaction.execute(status -> findOldestByUrl(requestDto.getUrl()))
+                    .orElseThrow(() -> e);
+            return new BookmarkCreateResult(existing, false);
+        }
+    }
+
+    private Optional<BookmarkResponseDto> findOldestByUrl(String url) {
+        List<Long> existingIds = bookmarkRepository.findIdsByUrl(url);
+        if (existingIds.isEmpty()) {
+            return Optional.empty();
+        }
+        return SearchResultLoader.loadInOrder(bookmarkRepository, existingIds.subList(0, 1)).stream().findFirst();
+    }
+
     /**
      * ID로 특정 북마크를 조회합니다.
      *
@@ -88,11 +159,44 @@ public class BookmarkService {
         return BookmarkResponseDto.fromEntity(bookmark);
     }
 
+    /**
+     * 북마크의 ETag를 엔티티를 불러오지 않고 수정 시각만 조회해 만듭니다. (조건부 조회/수정용)
+     * 응답에 폴더 이름과 태그 이름이 함께 담기므로 소속 폴더가 수정되거나 태그 이름이 바뀌어도 ETag가 달라집니다.
+     *
+     * @param bookmarkId 북마크의 ID
+     * @return getBookmarkById 응답의 ETag
+     */
+    @Transactional(readOnly = true)
+    public String getBookmarkETag(Long bookmarkId) {
+        BookmarkVersionRow version = bookmarkRepository.findVersionById(bookmarkId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 북마크를 찾을 수 없습니다. ID: " + bookmarkId));
+        return resourceETags.ofEntity(version.getUpdatedAt(), version.getFolderUpdatedAt());
+    }
+
+    private String bookmarkETag(Bookmark bookmark) {
+        return resourceETags.ofEntity(bookmark.getUpdatedAt(), bookmark.getFolder() != null ? bookmark.getFolder().getUpdatedAt() : null);
+    }
+
+    /**
+     * URL이 같은 북마크를 오래된 순으로 조회합니다. ("이 링크가 이미 있나?" 확인, 중복 제거용)
+     * URL은 CanonicalUrl 규칙으로 정규화해 비교하므로 scheme/호스트 대소문자, 기본 포트, 프래그먼트, 추적 파라미터 등이 달라도 같은 URL로 봅니다.
+     *
+     * @param url 찾을 URL
+     * @return 같은 URL의 북마크 목록 (없으면 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public List<BookmarkResponseDto> findBookmarksByUrl(String url) {
+        if (!StringUtils.hasText(url)) {
+            throw new IllegalArgumentException("찾을 URL을 입력해주세요.");
+        }
+        return SearchResultLoader.loadInOrder(bookmarkRepository, bookmarkRepository.findIdsByUrl(url));
+    }
+
     /**
      * 특정 폴더에 속한 모든 북마크를 페이징 처리하여 조회합니다.
      *
      * @param folderId 북마크를 조회할 폴더의 ID
-     * @param pageable 페이징 정보 (페이지 번호, 페이지당 개수, 정렬 등)
+     * @param pageable 페이징 정보 (페이지 번호, 페이지당 개수, 정렬 등). 정렬에 frecency가 있으면 자주/최근 방문한 순으로 정렬합니다.
      * @return 페이징 처리된 북마크 정보 목록
      */
     @Transactional(readOnly = true)
@@ -101,10 +205,49 @@ public class BookmarkService {
         if (!folderRepository.existsById(folderId)) {
             throw new IllegalArgumentException("지정한 폴더를 찾을 수 없습니다. ID: " + folderId);
         }
-        Page<Bookmark> bookmarksPage = bookmarkRepository.findByFolder_Id(folderId, pageable);
+        // frecency는 Bookmark의 속성이 아니므로 방문 통계를 조인하는 쿼리로 정렬합니다. (방향은 항상 높은 순)
+        Page<Bookmark> bookmarksPage = pageable.getSort().getOrderFor(FRECENCY_SORT) != null
+                ? bookmarkRepository.findByFolderIdOrderByFrecency(folderId,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                : bookmarkRepository.findByFolder_Id(folderId, pageable);
         return bookmarksPage.map(BookmarkResponseDto::fromEntity); // Page<Bookmark>를 Page<BookmarkResponseDto>로 변환
     }
 
+    /**
+     * 특정 폴더의 북마크를 최신순(생성일, ID 내림차순)으로 커서 기반 페이징하여 조회합니다. (무한 스크롤용)
+     * offset/count 쿼리 없이 커서 다음의 행만 읽으므로, 페이지가 깊어져도 조회 비용이 일정합니다.
+     *
+     * @param folderId 북마크를 조회할 폴더의 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 북마크 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BookmarkResponseDto> getBookmarksByFolderCursor(Long folderId, String cursor, int size) {
+        validateCursorPageSize(size);
+        if (!folderRepository.existsById(folderId)) {
+            throw new IllegalArgumentException("지정한 폴더를 찾을 수 없습니다. ID: " + folderId);
+        }
+        // 다음 페이지가 있는지 알기 위해 한 개 더 조회합니다.
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Long> ids;
+        if (cursor == null) {
+            ids = bookmarkRepository.findIdsByFolderFirstPage(folderId, limit);
+        } else {
+            BookmarkCursor after = BookmarkCursor.decode(cursor, false);
+            ids = bookmarkRepository.findIdsByFolderAfter(folderId, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        boolean hasNext = ids.size() > size;
+        List<BookmarkResponseDto> content = SearchResultLoader.loadInOrder(bookmarkRepository, hasNext ? ids.subList(0, size) : ids);
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            BookmarkResponseDto last = content.get(content.size() - 1);
+            nextCursor = BookmarkCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponseDto<>(content, size, hasNext, nextCursor);
+    }
+
     /**
      * 기존 북마크의 정보를 수정합니다.
      * 제목, URL, 설명, 소속 폴더, 태그 목록 등을 변경할 수 있습니다.
@@ -118,6 +261,34 @@ public class BookmarkService {
         // 1. 수정할 Bookmark 엔티티 조회
         Bookmark bookmarkToUpdate = bookmarkRepository.findById(bookmarkId)
                 .orElseThrow(() -> new IllegalArgumentException("수정하려는 북마크를 찾을 수 없습니다. ID: " + bookmarkId));
+        applyUpdate(bookmarkToUpdate, requestDto);
+        return BookmarkResponseDto.fromEntity(bookmarkToUpdate); // 변경된 엔티티로 DTO 생성 후 반환
+    }
+
+    /**
+     * updateBookmark와 같지만, ifMatch(If-Match 헤더 값)가 있으면 북마크의 현재 ETag와 일치할 때만 수정합니다. (낙관적 동시성 제어)
+     * 확인과 수정 사이에 다른 요청이 같은 북마크를 수정하지 못하도록 북마크 행을 잠근 뒤 비교합니다.
+     *
+     * @param ifMatch 클라이언트가 마지막으로 받은 ETag (null이면 확인하지 않음)
+     * @return 수정된 북마크 정보와 수정 후 ETag
+     * @throws PreconditionFailedException ifMatch가 현재 ETag와 일치하지 않는 경우 (다른 요청이 먼저 수정함)
+     */
+    @Transactional
+    public ETagged<BookmarkResponseDto> updateBookmark(Long bookmarkId, BookmarkUpdateRequestDto requestDto, String ifMatch) {
+        Bookmark bookmarkToUpdate = (ifMatch == null ? bookmarkRepository.findById(bookmarkId) : bookmarkRepository.findByIdForUpdate(bookmarkId))
+                .orElseThrow(() -> new IllegalArgumentException("수정하려는 북마크를 찾을 수 없습니다. ID: " + bookmarkId));
+        if (!ResourceETags.matches(ifMatch, bookmarkETag(bookmarkToUpdate))) {
+            throw new PreconditionFailedException("북마크가 다른 요청으로 먼저 수정되었습니다. 다시 조회한 뒤 수정해주세요. ID: " + bookmarkId);
+        }
+        applyUpdate(bookmarkToUpdate, requestDto);
+
+        bookmarkRepository.flush(); // @UpdateTimestamp가 채운 수정 시각을 응답과 ETag에 반영
+        return new ETagged<>(BookmarkResponseDto.fromEntity(bookmarkToUpdate), getBookmarkETag(bookmarkId));
+    }
+
+    // updateBookmark의 실제 변경 (기본 정보, 폴더, 태그) 및 변경 이벤트 발행
+    private void applyUpdate(Bookmark bookmarkToUpdate, BookmarkUpdateRequestDto requestDto) {
+        BookmarkSnapshot before = BookmarkSnapshot.from(bookmarkToUpdate); // 검색 인덱스 갱신을 위한 변경 전 상태
 
         // 2. 기본 정보 업데이트 (제목, URL, 설명) - DTO의 값이 null이 아닐 때만 업데이트
         // Bookmark 엔티티 내부에 updateDetails 메소드가 있다고 가정합니다.
@@ -138,14 +309,7 @@ public class BookmarkService {
         // 4. 태그 변경 처리 (요청 DTO에 tagNames가 제공된 경우)
         if (requestDto.getTagNames() != null) {
             // a. 요청으로 들어온 태그 이름들로 실제 Tag 엔티티 Set 만들기 (없으면 생성)
-            Set<Tag> newRequestedTags = new HashSet<>();
-            if (!requestDto.getTagNames().isEmpty()) {
-                for (String tagName : requestDto.getTagNames()) {
-                    Tag tag = tagRepository.findByName(tagName)
-                            .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
-                    newRequestedTags.add(tag);
-                }
-            }
+            Set<Tag> newRequestedTags = new HashSet<>(tagResolver.resolveTags(requestDto.getTagNames()));
 
             // b. 현재 북마크에 연결된 태그 Set 가져오기 (수정을 위해 복사본 사용)
             Set<Tag> currentTags = new HashSet<>(bookmarkToUpdate.getTags()); // 복사본 생성
@@ -170,8 +334,7 @@ public class BookmarkService {
         // JPA의 변경 감지(Dirty Checking)에 의해 bookmarkToUpdate 객체의 변경사항이
         // (tags 컬렉션의 변경 포함) 트랜잭션 커밋 시 자동으로 반영됩니다.
         // 중간 테이블인 bookmark_tags에 대한 INSERT, DELETE SQL이 실행됩니다.
-
-        return BookmarkResponseDto.fromEntity(bookmarkToUpdate); // 변경된 엔티티로 DTO 생성 후 반환
+        eventPublisher.publishEvent(BookmarkChangedEvent.updated(before, BookmarkSnapshot.from(bookmarkToUpdate)));
     }
 
     /**
@@ -182,19 +345,20 @@ public class BookmarkService {
      */
     @Transactional
     public void deleteBookmark(Long bookmarkId) {
-        // 1. 삭제할 북마크가 존재하는지 확인
-        if (!bookmarkRepository.existsById(bookmarkId)) {
-            throw new IllegalArgumentException("삭제하려는 북마크를 찾을 수 없습니다. ID: " + bookmarkId);
-        }
+        // 1. 삭제할 북마크 조회 (검색 인덱스에서 제거할 내용을 알기 위해 존재 확인 대신 엔티티를 불러옵니다)
+        Bookmark bookmarkToDelete = bookmarkRepository.findById(bookmarkId)
+                .orElseThrow(() -> new IllegalArgumentException("삭제하려는 북마크를 찾을 수 없습니다. ID: " + bookmarkId));
+        BookmarkSnapshot before = BookmarkSnapshot.from(bookmarkToDelete);
 
         // 2. 북마크 삭제
-        // JpaRepository의 deleteById를 사용하면 해당 ID의 엔티티를 삭제합니다.
+        // 이미 조회한 엔티티를 delete로 삭제합니다. (deleteById도 내부적으로 조회 후 삭제합니다)
         // @ManyToMany 관계에서 Bookmark 엔티티가 삭제될 때, 중간 테이블(bookmark_tags)에서 해당 북마크와 관련된 레코드들도
         // JPA에 의해 (또는 데이터베이스의 외래 키 제약조건 ON DELETE CASCADE 설정에 의해) 함께 삭제되는 것이 일반적입니다.
         // (Bookmark 엔티티의 tags 필드에 cascade=CascadeType.REMOVE 등을 설정하지 않는 것이 보통입니다.
         //  태그는 공유 자원이므로 북마크 삭제 시 태그까지 삭제되면 안 됩니다.)
         //  JPA는 관계의 주인이 아닌 쪽(또는 컬렉션에서 해당 엔티티를 제거하면) 연결 테이블 레코드를 정리합니다.
-        bookmarkRepository.deleteById(bookmarkId);
+        bookmarkRepository.delete(bookmarkToDelete);
+        eventPublisher.publishEvent(BookmarkChangedEvent.deleted(before));
     }
 
 
@@ -210,7 +374,96 @@ public class BookmarkService {
     public Page<BookmarkResponseDto> searchBookmarks(String keyword, List<String> tagNames, Pageable pageable) {
         log.info("Searching bookmarks with keyword: '{}', tags: {}", keyword, tagNames);
         // 모든 검색 작업을 searchStrategy 객체에 위임합니다.
-        // 나중에 DbLevelSortSearchStrategy로 바꾸고 싶다면, 이 서비스 코드는 전혀 수정할 필요가 없습니다.
+        // 다른 전략(예: DbLevelSortSearchStrategy)으로 바꾸고 싶다면 bookmark.search.strategy 설정만 바꾸면 되고, 이 서비스 코드는 전혀 수정할 필요가 없습니다.
         return searchStrategy.search(keyword, tagNames, pageable);
     }
+
+    /**
+     * searchBookmarks와 같은 결과에 태그별/폴더별 결과 수(패싯)를 함께 반환합니다.
+     * 후보를 애플리케이션에서 훑는 전략(AppLevelSortSearchStrategy)은 점수를 매기기 위한 같은 순회에서 패싯을 세고,
+     * 그렇지 않은 전략은 같은 조건의 집계 쿼리로 패싯을 구합니다. 패싯 이름은 상위 항목만 골라 한 번에 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<BookmarkResponseDto> searchBookmarksWithFacets(String keyword, List<String> tagNames, Pageable pageable) {
+        log.info("Searching bookmarks with facets. keyword: '{}', tags: {}", keyword, tagNames);
+        FacetedPage<BookmarkResponseDto> result;
+        if (searchStrategy.supportsFacets()) {
+            result = searchStrategy.searchWithFacets(keyword, tagNames, pageable, MAX_FACET_VALUES);
+        } else {
+            Page<BookmarkResponseDto> page = searchStrategy.search(keyword, tagNames, pageable);
+            result = new FacetedPage<>(page, countFacets(keyword, tagNames, null));
+        }
+        return new FacetedPage<>(result, withNames(result.getFacets()));
+    }
+
+    /**
+     * 지정한 폴더와 그 모든 하위 폴더 안에서만 검색합니다.
+     * 폴더 범위는 폴더 경로(materialized path) 접두사 조건 하나로 걸러야 하므로, 설정한 검색 전략과 무관하게
+     * 점수 계산과 페이징을 DB에서 하는 DbLevelSortSearchStrategy를 사용합니다. (순서 규칙은 일반 검색과 같습니다.)
+     * @param folderId 검색 범위 폴더의 ID
+     * @param facets true이면 같은 범위의 태그별/폴더별 결과 수를 함께 반환
+     */
+    @Transactional(readOnly = true)
+    public Page<BookmarkResponseDto> searchBookmarksInFolder(String keyword, List<String> tagNames, Long folderId,
+                                                             Pageable pageable, boolean facets) {
+        log.info("Searching bookmarks in folder {} with keyword: '{}', tags: {}", folderId, keyword, tagNames);
+        Folder folder = folderRepository.findById(folderId)
+                .orElseThrow(() -> new IllegalArgumentException("검색 범위로 지정한 폴더를 찾을 수 없습니다. ID: " + folderId));
+        Page<BookmarkResponseDto> page = dbLevelSearchStrategy.searchInFolder(keyword, tagNames, folder.getPath(), pageable);
+        if (!facets) {
+            return page;
+        }
+        return new FacetedPage<>(page, withNames(countFacets(keyword, tagNames, folder.getPath())));
+    }
+
+    private SearchFacetsDto countFacets(String keyword, List<String> tagNames, String folderPath) {
+        String queryKeyword = StringUtils.hasText(keyword) ? keyword : null;
+        List<String> queryTagNames = (tagNames != null && !tagNames.isEmpty()) ? tagNames : null;
+        SearchFacetCounts facets = new SearchFacetCounts();
+        facets.addTags(bookmarkRepository.countTagFacets(queryKeyword, queryTagNames, folderPath));
+        facets.addFolders(bookmarkRepository.countFolderFacets(queryKeyword, queryTagNames, folderPath));
+        return facets.top(MAX_FACET_VALUES);
+    }
+
+    // 패싯 항목에 태그/폴더 이름을 채웁니다. (검색 이후 삭제된 태그/폴더는 건너뜁니다.)
+    private SearchFacetsDto withNames(SearchFacetsDto facets) {
+        Map<Long, String> tagNames = tagRepository.findAllById(ids(facets.getTags())).stream()
+                .collect(Collectors.toMap(Tag::getId, Tag::getName));
+        Map<Long, String> folderNames = folderRepository.findAllById(ids(facets.getFolders())).stream()
+                .collect(Collectors.toMap(Folder::getId, Folder::getName));
+        return new SearchFacetsDto(withNames(facets.getTags(), tagNames), withNames(facets.getFolders(), folderNames));
+    }
+
+    private static List<Long> ids(List<SearchFacetsDto.Count> counts) {
+        return counts.stream().map(SearchFacetsDto.Count::getId).collect(Collectors.toList());
+    }
+
+    private static List<SearchFacetsDto.Count> withNames(List<SearchFacetsDto.Count> counts, Map<Long, String> names) {
+        return counts.stream()
+                .filter(count -> names.containsKey(count.getId()))
+                .map(count -> new SearchFacetsDto.Count(count.getId(), names.get(count.getId()), count.getCount()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 키워드와 태그로 북마크를 검색하고, 관련도 순서(점수, 생성일, ID)로 커서 기반 페이징합니다. (무한 스크롤용)
+     * 커서에 점수까지 담아야 하므로 점수 계산과 정렬을 DB에서 하는 DbLevelSortSearchStrategy를 사용합니다.
+     * (모든 전략이 SearchScoring과 같은 점수 규칙을 사용하므로 순서는 일반 검색과 같습니다.)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 북마크 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BookmarkResponseDto> searchBookmarksByCursor(String keyword, List<String> tagNames, String cursor, int size) {
+        log.info("Cursor searching bookmarks with keyword: '{}', tags: {}", keyword, tagNames);
+        validateCursorPageSize(size);
+        return dbLevelSearchStrategy.searchAfter(keyword, tagNames, cursor, size);
+    }
+
+    private void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.repository.BookmarkSnapshotRow;
+import dev.bookmark.api.bookmark.repository.BookmarkTagNameRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * DB에서 북마크 스냅샷을 엔티티 로딩 없이 프로젝션으로 읽어오는 컴포넌트입니다.
+ * 검색 인덱스의 전체 재구축, 태그 이름 변경 반영 등에 사용됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookmarkSnapshotLoader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final BookmarkRepository bookmarkRepository;
+
+    /**
+     * 모든 북마크를 ID 순으로 청크 단위(키셋 방식)로 읽어 consumer에 전달합니다.
+     * 한 번에 한 청크만 메모리에 올리므로 북마크 수가 많아도 메모리 사용량이 일정합니다.
+     * @return 읽은 북마크 수
+     */
+    @Transactional(readOnly = true)
+    public long forEachSnapshot(Consumer<BookmarkSnapshot> consumer) {
+        long count = 0;
+        long lastId = 0L;
+        while (true) {
+            List<BookmarkSnapshotRow> rows = bookmarkRepository.findSnapshotRowsAfter(lastId, PageRequest.of(0, DEFAULT_CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                return count;
+            }
+            for (BookmarkSnapshot snapshot : toSnapshots(rows)) {
+                consumer.accept(snapshot);
+                count++;
+            }
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 주어진 ID의 북마크 스냅샷을 조회합니다. (존재하지 않는 ID는 결과에서 빠집니다)
+     */
+    @Transactional(readOnly = true)
+    public List<BookmarkSnapshot> loadByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toSnapshots(bookmarkRepository.findSnapshotRowsByIdIn(ids));
+    }
+
+    /**
+     * 특정 태그가 연결된 모든 북마크의 스냅샷을 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<BookmarkSnapshot> loadByTagId(Long tagId) {
+        return loadByIds(bookmarkRepository.findIdsByTagId(tagId));
+    }
+
+    /**
+     * since 이후에 생성/수정된 북마크의 스냅샷을 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<BookmarkSnapshot> loadUpdatedAfter(LocalDateTime since) {
+        return toSnapshots(bookmarkRepository.findSnapshotRowsUpdatedAfter(since));
+    }
+
+    /**
+     * 현재 존재하는 모든 북마크의 ID를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> loadAllIds() {
+        return new HashSet<>(bookmarkRepository.findAllIds());
+    }
+
+    // 행 목록과 태그 이름을 조합하여 스냅샷을 만듭니다. (태그는 한 번의 IN 쿼리로 조회)
+    private List<BookmarkSnapshot> toSnapshots(List<BookmarkSnapshotRow> rows) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (BookmarkSnapshotRow row : rows) {
+            ids.add(row.getId());
+        }
+        Map<Long, List<String>> tagNamesById = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (BookmarkTagNameRow tagRow : bookmarkRepository.findTagNamesByBookmarkIdIn(ids)) {
+                tagNamesById.computeIfAbsent(tagRow.getBookmarkId(), id -> new ArrayList<>()).add(tagRow.getTagName());
+            }
+        }
+
+        List<BookmarkSnapshot> snapshots = new ArrayList<>(rows.size());
+        for (BookmarkSnapshotRow row : rows) {
+            snapshots.add(BookmarkSnapshot.builder()
+                    .id(row.getId())
+                    .title(row.getTitle())
+                    .description(row.getDescription())
+                    .folderId(row.getFolderId())
+                    .tagNames(tagNamesById.get(row.getId()))
+                    .createdAt(row.getCreatedAt())
+                    .updatedAt(row.getUpdatedAt())
+                    .build());
+        }
+        return snapshots;
+    }
+}
@@ -0,0 +1,248 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.bookmark.repository.BookmarkVisitJdbcRepository;
+import dev.bookmark.api.bookmark.repository.BookmarkVisitJdbcRepository.VisitUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * 북마크 방문(열기)을 기록하고 frecency 키(Frecency 참고)를 제공합니다.
+ * 방문마다 DB를 수정하지 않고 북마크별 LongAdder(경합하는 스레드마다 셀을 나누는 lock-free 카운터)에 더해 두었다가,
+ * bookmark.visit.flush-interval마다 북마크당 한 행으로 합쳐 bookmark_visit_stats에 JDBC 배치로 반영합니다.
+ * 반영 전에 종료되면(비정상 종료) 마지막 주기의 방문은 잃을 수 있습니다. 정상 종료 시에는 남은 방문을 반영합니다.
+ * 메트릭: bookmark.visit.recorded(기록), bookmark.visit.dropped(버린 방문, reason=capacity/missing),
+ * bookmark.visit.coalesced(한 행으로 합쳐진 방문), bookmark.visit.flush.lag(가장 오래 기다린 방문이 반영되기까지 걸린 시간),
+ * bookmark.visit.pending(반영을 기다리는 북마크 수)
+ */
+@Slf4j
+@Component
+public class BookmarkVisitTracker {
+
+    private static final int WRITE_BATCH_SIZE = 1000; // JDBC 배치 하나에 넣는 행 수
+
+    private final BookmarkVisitJdbcRepository visitRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPending;
+
+    // 반영을 기다리는 방문 수 (북마크 ID → 카운터). 방문이 없던 주기가 지나면 맵에서 뺍니다.
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 반영된 frecency 키 (북마크 ID → 키). 통계를 쓰는 곳은 flush뿐이므로 처음 불러온 뒤에는 DB와 같습니다.
+    private final Map<Long, Double> frecencyKeys = new ConcurrentHashMap<>();
+    // 지난 flush 이후 첫 방문 시각 (없으면 0)
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private volatile boolean loaded;
+
+    private final Counter recorded;
+    private final Counter droppedOverCapacity;
+    private final Counter droppedMissing;
+    private final Counter coalesced;
+    private final Timer flushLag;
+
+    public BookmarkVisitTracker(BookmarkVisitJdbcRepository visitRepository,
+                                PlatformTransactionManager transactionManager,
+                                ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                @Value("${bookmark.visit.max-pending:100000}") int maxPending) {
+        this.visitRepository = visitRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPending = maxPending;
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.recorded = Counter.builder("bookmark.visit.recorded").register(meterRegistry);
+        this.droppedOverCapacity = Counter.builder("bookmark.visit.dropped").tag("reason", "capacity").register(meterRegistry);
+        this.droppedMissing = Counter.builder("bookmark.visit.dropped").tag("reason", "missing").register(meterRegistry);
+        this.coalesced = Counter.builder("bookmark.visit.coalesced").register(meterRegistry);
+        this.flushLag = Timer.builder("bookmark.visit.flush.lag").register(meterRegistry);
+        Gauge.builder("bookmark.visit.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 방문 한 번을 기록합니다. DB에 접근하지 않으며, 없는 북마크의 방문은 flush할 때 버립니다.
+     * 반영을 기다리는 북마크가 bookmark.visit.max-pending개에 이르면 새 북마크의 방문은 버립니다. (이미 기다리는 북마크는 계속 셈)
+     */
+    public void recordVisit(Long bookmarkId) {
+        LongAdder counter = pending.get(bookmarkId);
+        if (counter == null) {
+            if (pending.size() >= maxPending) {
+                droppedOverCapacity.increment();
+                return;
+            }
+            counter = pending.computeIfAbsent(bookmarkId, id -> new LongAdder());
+        }
+        counter.increment();
+        if (pending.get(bookmarkId) != counter) {
+            // flush가 빈 카운터로 보고 맵에서 뺀 뒤에 더한 경우입니다. 새 카운터로 옮기지 않으면 이 방문을 잃습니다.
+            long moved = counter.sumThenReset();
+            if (moved > 0) {
+                pending.computeIfAbsent(bookmarkId, id -> new LongAdder()).add(moved);
+            }
+        }
+        recorded.increment();
+        if (oldestPendingAt.get() == 0) {
+            oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 북마크의 frecency 키(Frecency 참고)를 반환합니다. 방문 기록이 없으면 Frecency.NONE입니다.
+     * bookmark_visit_stats.frecency에 반영한 값과 같으므로, 메모리에서 정렬하는 검색 전략과 SQL로 정렬하는 검색 전략이 같은 순서를 냅니다.
+     * 아직 flush되지 않은 방문은 포함하지 않습니다.
+     */
+    public double frecencyKey(Long bookmarkId) {
+        if (!loaded) {
+            load();
+        }
+        Double key = frecencyKeys.get(bookmarkId);
+        return key == null ? Frecency.NONE : key;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        frecencyKeys.putAll(visitRepository.findAllFrecencies());
+        loaded = true;
+        log.info("Loaded frecency of {} bookmarks", frecencyKeys.size());
+    }
+
+    @Scheduled(initialDelayString = "${bookmark.visit.flush-interval:PT5S}",
+            fixedDelayString = "${bookmark.visit.flush-interval:PT5S}")
+    public void flushPeriodically() {
+        flush();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 모아 둔 방문 수를 북마크당 한 행으로 합쳐 방문 통계에 반영합니다.
+     * 반영에 실패하면 방문 수를 다시 카운터에 돌려 두고 다음 주기에 재시도합니다.
+     * @return 통계를 반영한 북마크 수
+     */
+    public synchronized int flush() {
+        load();
+        long firstPendingAt = oldestPendingAt.getAndSet(0);
+        Map<Long, Long> visits = drain();
+        if (visits.isEmpty()) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        LocalDateTime visitedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+        List<VisitUpdate> updates = new ArrayList<>();
+        List<VisitUpdate> inserts = new ArrayList<>();
+        visits.forEach((bookmarkId, count) -> {
+            Double key = frecencyKeys.get(bookmarkId);
+            VisitUpdate row = new VisitUpdate(bookmarkId, count, Frecency.add(key, count, now));
+            (key == null ? inserts : updates).add(row);
+        });
+
+        int[][] results;
+        try {
+            results = transactionTemplate.execute(status -> new int[][]{
+                    writeInBatches(updates, visitedAt, visitRepository::updateAll),
+                    writeInBatches(inserts, visitedAt, visitRepository::insertAll)});
+        } catch (RuntimeException e) {
+            visits.forEach((bookmarkId, count) -> pending.computeIfAbsent(bookmarkId, id -> new LongAdder()).add(count));
+            oldestPendingAt.accumulateAndGet(firstPendingAt, (current, previous) -> current == 0 ? previous : Math.min(current, previous));
+            log.warn("Failed to flush visits of {} bookmarks. Retrying on next flush.", visits.size(), e);
+            return 0;
+        }
+
+        int written = apply(updates, results[0]) + apply(inserts, results[1]);
+        if (firstPendingAt > 0) {
+            flushLag.record(System.currentTimeMillis() - firstPendingAt, TimeUnit.MILLISECONDS);
+        }
+        log.debug("Flushed visits of {} bookmarks ({} missing)", written, visits.size() - written);
+        return written;
+    }
+
+    /**
+     * 삭제된 북마크의 방문 통계와 기다리던 방문을 지웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        if (event.getType() != BookmarkChangedEvent.Type.DELETED) {
+            return;
+        }
+        pending.remove(event.getBookmarkId());
+        frecencyKeys.remove(event.getBookmarkId());
+        visitRepository.deleteByBookmarkId(event.getBookmarkId());
+    }
+
+    // 카운터를 0으로 돌리며 방문 수를 모읍니다. (북마크 ID → 방문 수)
+    private Map<Long, Long> drain() {
+        Map<Long, Long> visits = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                visits.put(entry.getKey(), count);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 방문이 없던 북마크는 맵에서 뺍니다. 빼기 직전에 더해진 방문은 여기서, 뺀 뒤에 더해진 방문은 recordVisit이 옮깁니다.
+                long late = entry.getValue().sumThenReset();
+                if (late > 0) {
+                    visits.put(entry.getKey(), late);
+                }
+            }
+        }
+        return visits;
+    }
+
+    private static int[] writeInBatches(List<VisitUpdate> rows, LocalDateTime visitedAt,
+                                        BiFunction<List<VisitUpdate>, LocalDateTime, int[]> writer) {
+        int[] results = new int[rows.size()];
+        for (int from = 0; from < rows.size(); from += WRITE_BATCH_SIZE) {
+            int to = Math.min(from + WRITE_BATCH_SIZE, rows.size());
+            int[] batch = writer.apply(rows.subList(from, to), visitedAt);
+            System.arraycopy(batch, 0, results, from, batch.length);
+        }
+        return results;
+    }
+
+    // 반영 결과로 frecency 키와 메트릭을 갱신하고 반영한 행 수를 반환합니다. (0: 북마크가 없어 반영하지 못함)
+    private int apply(List<VisitUpdate> rows, int[] results) {
+        int written = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            VisitUpdate row = rows.get(i);
+            if (results[i] == 0) {
+                frecencyKeys.remove(row.bookmarkId());
+                droppedMissing.increment(row.visits());
+                continue;
+            }
+            frecencyKeys.put(row.bookmarkId(), row.frecency());
+            coalesced.increment(row.visits() - 1);
+            written++;
+        }
+        return written;
+    }
+}
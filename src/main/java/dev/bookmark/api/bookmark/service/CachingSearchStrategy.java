@@ -0,0 +1,133 @@
+package dev.bookmark.api.bookmark.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.FacetedPage;
+import dev.bookmark.api.common.DataVersionTracker;
+import dev.bookmark.api.common.SearchText;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 다른 검색 전략의 결과를 캐시하는 데코레이터입니다. (SearchStrategyConfig에서 실제 전략을 감싸서 사용)
+ *
+ * 캐시 키는 (데이터 버전, 정규화한 키워드, 정렬한 태그 목록, 페이지 정보, 패싯 개수)입니다. 패싯을 함께 요청한 결과는 별도 항목으로 저장합니다.
+ * 북마크/태그/폴더가 변경되어 DataVersionTracker의 버전이 올라가면 이전 버전의 항목은 더 이상 조회되지 않고,
+ * 크기 제한이나 TTL에 의해 자연스럽게 제거됩니다.
+ */
+@Slf4j
+public class CachingSearchStrategy implements BookmarkSearchStrategy {
+
+    private final BookmarkSearchStrategy delegate;
+    private final DataVersionTracker dataVersionTracker;
+    private final Cache<SearchCacheKey, Page<BookmarkResponseDto>> cache;
+
+    public CachingSearchStrategy(BookmarkSearchStrategy delegate, DataVersionTracker dataVersionTracker,
+                                 long maximumSize, Duration timeToLive) {
+        this.delegate = delegate;
+        this.dataVersionTracker = dataVersionTracker;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable) {
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames); // 잘못된 요청은 캐시를 거치지 않습니다.
+
+        // 버전은 검색을 실행하기 전에 읽어야 합니다. 검색 도중 변경이 커밋되면 이 결과는 이전 버전 키로 저장되어 다시 사용되지 않습니다.
+        SearchCacheKey key = new SearchCacheKey(dataVersionTracker.getGlobalVersion(), keyword, tagNames, pageable, 0);
+        // 같은 키에 대한 동시 요청은 한 번만 검색을 실행합니다. 예외가 발생하면 캐시에 저장되지 않습니다.
+        return cache.get(key, k -> {
+            log.debug("Search cache miss. Key: {}", k);
+            return delegate.search(keyword, tagNames, pageable);
+        });
+    }
+
+    @Override
+    public boolean supportsFacets() {
+        return delegate.supportsFacets();
+    }
+
+    @Override
+    public FacetedPage<BookmarkResponseDto> searchWithFacets(String keyword, List<String> tagNames, Pageable pageable, int facetLimit) {
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames);
+
+        SearchCacheKey key = new SearchCacheKey(dataVersionTracker.getGlobalVersion(), keyword, tagNames, pageable, facetLimit);
+        return (FacetedPage<BookmarkResponseDto>) cache.get(key, k -> {
+            log.debug("Search cache miss. Key: {}", k);
+            return delegate.searchWithFacets(keyword, tagNames, pageable, facetLimit);
+        });
+    }
+
+    /**
+     * 캐시로 감싼 실제 검색 전략 (캐시를 거치지 않고 실행해야 하는 explain에서 사용)
+     */
+    public BookmarkSearchStrategy getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 적중/실패/제거 횟수 등 캐시 통계 (캐시 크기 조정에 사용)
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Micrometer 등 외부 모니터링에 등록하기 위해 캐시 객체를 제공합니다.
+     */
+    public Cache<SearchCacheKey, Page<BookmarkResponseDto>> getCache() {
+        return cache;
+    }
+
+    /**
+     * 검색 결과 캐시 키
+     * - 키워드: 공백만 있는 키워드는 null로 취급합니다. 검색과 점수 계산이 모두 정규화(SearchText) 기준이므로 정규화한 값으로 비교합니다.
+     * - 태그: 정규화한 뒤 요청 순서와 무관하도록 정렬합니다. 태그 개수가 점수(모든 태그 일치 보너스)에 영향을 주므로 중복은 제거하지 않습니다.
+     */
+    @EqualsAndHashCode
+    static final class SearchCacheKey {
+        private final long dataVersion;
+        private final String keyword;
+        private final List<String> tagNames;
+        private final int pageNumber;
+        private final int pageSize;
+        private final Sort sort;
+        private final int facetLimit; // 0이면 패싯 없는 검색
+
+        SearchCacheKey(long dataVersion, String keyword, List<String> tagNames, Pageable pageable, int facetLimit) {
+            this.dataVersion = dataVersion;
+            this.keyword = StringUtils.hasText(keyword) ? SearchText.normalize(keyword) : null;
+            List<String> sortedTags = new ArrayList<>();
+            if (tagNames != null) {
+                tagNames.forEach(tagName -> sortedTags.add(SearchText.normalize(tagName)));
+                Collections.sort(sortedTags);
+            }
+            this.tagNames = sortedTags;
+            this.pageNumber = pageable.isPaged() ? pageable.getPageNumber() : -1;
+            this.pageSize = pageable.isPaged() ? pageable.getPageSize() : -1;
+            this.sort = pageable.getSort();
+            this.facetLimit = facetLimit;
+        }
+
+        @Override
+        public String toString() {
+            return "v" + dataVersion + " keyword='" + keyword + "' tags=" + tagNames + " page=" + pageNumber + "/" + pageSize
+                    + (facetLimit > 0 ? " facets=" + facetLimit : "");
+        }
+    }
+}
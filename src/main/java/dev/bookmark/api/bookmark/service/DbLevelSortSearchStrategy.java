@@ -0,0 +1,129 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.CursorPageResponseDto;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.repository.ScoredBookmarkRow;
+import dev.bookmark.api.common.SearchText;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 점수 계산, 정렬, 페이징을 모두 DB 쿼리에서 수행하는 검색 전략입니다.
+ * DB에서는 요청한 페이지 크기만큼의 (ID, 점수)만 받아오고, 해당 북마크만 태그/폴더와 함께 불러와 DTO로 변환합니다.
+ * 따라서 첫 페이지 조회 비용이 전체 검색 결과 수에 비례하여 늘어나지 않습니다. (전체 개수는 별도 count 쿼리로 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DbLevelSortSearchStrategy implements BookmarkSearchStrategy {
+
+    // 조건이 없을 때 IN 절에 전달하는 자리 표시용 값 (hasTags = false이므로 실제로 비교되지 않음)
+    private static final List<String> NO_TAGS = List.of("");
+    // 첫 페이지에서 커서 파라미터에 전달하는 자리 표시용 값 (hasCursor = false이므로 실제로 비교되지 않음)
+    private static final LocalDateTime NO_CURSOR_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final BookmarkRepository bookmarkRepository;
+
+    @Override
+    public Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable) {
+        return searchInFolder(keyword, tagNames, null, pageable);
+    }
+
+    /**
+     * search와 같지만, 경로가 folderPath로 시작하는 폴더(지정한 폴더와 모든 하위 폴더)의 북마크만 검색합니다.
+     * 폴더 범위는 폴더 경로(Folder.path) 접두사 조건 하나로 걸러내므로 하위 폴더를 재귀적으로 조회하지 않습니다.
+     * @param folderPath 검색 범위 폴더의 경로 (null이면 전체)
+     */
+    public Page<BookmarkResponseDto> searchInFolder(String keyword, List<String> tagNames, String folderPath, Pageable pageable) {
+        log.info("Searching with DbLevelSortSearchStrategy. Keyword: '{}', Tags: {}, Folder path: {}", keyword, tagNames, folderPath);
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames);
+        boolean keywordExists = StringUtils.hasText(keyword);
+        boolean tagsExist = (tagNames != null && !tagNames.isEmpty());
+
+        // 쿼리는 정규화 컬럼과 비교하므로 검색어도 같은 규칙으로 정규화해 전달합니다.
+        List<String> normalizedTagNames = tagsExist ? normalize(tagNames) : NO_TAGS;
+
+        // 정렬은 쿼리에서 점수 기준으로 하므로, 요청의 Sort 정보는 제외하고 페이지 번호/크기만 전달합니다.
+        Page<ScoredBookmarkRow> scoredPage = SearchProfiler.time("query", () -> bookmarkRepository.searchScoredPage(
+                keywordExists,
+                keywordExists ? SearchText.normalize(keyword) : "",
+                tagsExist,
+                normalizedTagNames,
+                tagsExist ? tagNames.size() : 0,
+                folderPath != null,
+                folderPath != null ? folderPath : "",
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())));
+        SearchProfiler.recordCandidates(scoredPage.getTotalElements());
+
+        List<Long> pageIds = scoredPage.getContent().stream()
+                .map(ScoredBookmarkRow::getId)
+                .collect(Collectors.toList());
+        List<BookmarkResponseDto> content = SearchResultLoader.loadInOrder(bookmarkRepository, pageIds);
+
+        return new PageImpl<>(content, pageable, scoredPage.getTotalElements());
+    }
+
+    /**
+     * 같은 점수/정렬 규칙으로 커서 다음의 검색 결과를 조회합니다. (커서 기반 페이징)
+     * offset 없이 (점수, 생성일, ID) 조건으로 이어서 읽으므로 페이지가 깊어져도 건너뛰는 행이 없고, count 쿼리도 실행하지 않습니다.
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    public CursorPageResponseDto<BookmarkResponseDto> searchAfter(String keyword, List<String> tagNames, String cursor, int size) {
+        log.info("Cursor search with DbLevelSortSearchStrategy. Keyword: '{}', Tags: {}, Cursor: {}", keyword, tagNames, cursor);
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames);
+        boolean keywordExists = StringUtils.hasText(keyword);
+        boolean tagsExist = (tagNames != null && !tagNames.isEmpty());
+        BookmarkCursor after = (cursor != null) ? BookmarkCursor.decode(cursor, true) : null;
+
+        // 다음 페이지가 있는지 알기 위해 한 개 더 조회합니다.
+        List<ScoredBookmarkRow> rows = bookmarkRepository.searchScoredAfter(
+                keywordExists,
+                keywordExists ? SearchText.normalize(keyword) : "",
+                tagsExist,
+                tagsExist ? normalize(tagNames) : NO_TAGS,
+                tagsExist ? tagNames.size() : 0,
+                false,
+                "",
+                after != null,
+                after != null ? after.getScore() : 0,
+                after != null ? after.getFrecency() : Frecency.NONE,
+                after != null ? after.getCreatedAt() : NO_CURSOR_CREATED_AT,
+                after != null ? after.getId() : 0L,
+                PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<ScoredBookmarkRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+        List<Long> pageIds = pageRows.stream()
+                .map(ScoredBookmarkRow::getId)
+                .collect(Collectors.toList());
+        List<BookmarkResponseDto> content = SearchResultLoader.loadInOrder(bookmarkRepository, pageIds);
+
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            // 조회 도중 삭제된 북마크는 content에서 빠지므로, 실제로 전달한 마지막 북마크의 점수와 frecency 키를 찾아 커서를 만듭니다.
+            BookmarkResponseDto last = content.get(content.size() - 1);
+            ScoredBookmarkRow lastRow = pageRows.stream()
+                    .filter(row -> row.getId().equals(last.getId()))
+                    .findFirst()
+                    .orElseThrow();
+            nextCursor = BookmarkCursor.of(lastRow.getScore(), lastRow.getFrecency(), last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponseDto<>(content, size, hasNext, nextCursor);
+    }
+
+    private static List<String> normalize(List<String> tagNames) {
+        return tagNames.stream().map(SearchText::normalize).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,46 @@
+package dev.bookmark.api.bookmark.service;
+
+import java.time.Duration;
+
+/**
+ * 방문 빈도와 최근성을 합친 frecency 계산 규칙입니다.
+ * 방문 한 번의 가치는 HALF_LIFE마다 절반이 되며, 현재 점수는 모든 방문의 남은 가치의 합(최근 방문 수 환산값)입니다.
+ * 저장 값(key)은 log2(Σ 2^(방문 시각 / HALF_LIFE))로, 시간이 지나도 바뀌지 않고 키 순서가 곧 현재 점수 순서이므로
+ * 주기적으로 감쇠를 다시 계산하지 않고 DB 컬럼 그대로 정렬할 수 있습니다. (현재 점수 = 2^(key - 현재 시각 / HALF_LIFE))
+ * HALF_LIFE를 바꾸면 저장된 키의 의미가 달라지므로 기존 키를 다시 계산해야 합니다.
+ * 검색 결과에서는 점수에 더하지 않고, 점수가 같은 북마크의 순서를 정하는 데만 씁니다. (SearchScoring 참고)
+ */
+public final class Frecency {
+
+    public static final Duration HALF_LIFE = Duration.ofDays(30);
+    // 방문 기록이 없는 북마크의 키. 1970년 이후의 방문으로 만든 키는 모두 이보다 크므로 정렬에서 가장 뒤에 옵니다. (SQL에서는 COALESCE(frecency, 0))
+    public static final double NONE = 0;
+
+    private static final double HALF_LIFE_MILLIS = HALF_LIFE.toMillis();
+    private static final double LN_2 = Math.log(2);
+
+    private Frecency() {
+    }
+
+    /**
+     * 기존 키에 atMillis 시각의 방문 visits번을 더한 키를 반환합니다.
+     * @param key 기존 키 (방문 기록이 없으면 null)
+     */
+    public static double add(Double key, long visits, long atMillis) {
+        double visitKey = atMillis / HALF_LIFE_MILLIS + Math.log(visits) / LN_2;
+        if (key == null) {
+            return visitKey;
+        }
+        // log2(2^a + 2^b)를 큰 쪽 기준으로 계산해 2^key가 넘치지 않게 합니다.
+        double high = Math.max(key, visitKey);
+        double low = Math.min(key, visitKey);
+        return high + Math.log1p(Math.pow(2, low - high)) / LN_2;
+    }
+
+    /**
+     * nowMillis 시각의 점수(반감기를 적용한 방문 수의 합)를 반환합니다.
+     */
+    public static double score(double key, long nowMillis) {
+        return Math.pow(2, key - nowMillis / HALF_LIFE_MILLIS);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.bookmark.api.bookmark.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가져오기 파일에서 읽은 북마크 하나입니다. (아직 검증/저장 전)
+ * 폴더는 가져오기 대상 폴더 아래의 상대 경로(폴더 이름 목록)로 표현합니다. 빈 목록이면 대상 폴더 바로 아래입니다.
+ */
+@Getter
+public class ImportedBookmark {
+
+    private final long index;          // 파일 안에서의 순서 (0부터, 오류 보고용)
+    private final String title;
+    private final String url;
+    private final String description;
+    private final List<String> folderPath;
+    private final List<String> tagNames;
+    private final LocalDateTime createdAt; // 파일에 추가 시각이 없으면 null
+
+    public ImportedBookmark(long index, String title, String url, String description,
+                            List<String> folderPath, List<String> tagNames, LocalDateTime createdAt) {
+        this.index = index;
+        this.title = title;
+        this.url = url;
+        this.description = description;
+        this.folderPath = folderPath != null ? List.copyOf(folderPath) : List.of();
+        this.tagNames = tagNames != null ? tagNames : List.of();
+        this.createdAt = createdAt;
+    }
+}
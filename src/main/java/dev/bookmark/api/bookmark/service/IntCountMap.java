@@ -0,0 +1,108 @@
+package dev.bookmark.api.bookmark.service;
+
+import java.util.Arrays;
+
+/**
+ * int 키 → int 개수를 세는 오픈 어드레싱 해시 테이블입니다. (검색 패싯 집계용)
+ * 키와 개수를 기본형 배열에 그대로 저장하므로 HashMap&lt;Integer, Integer&gt;와 달리 셀 때마다 객체를 만들지 않습니다.
+ * 스레드 안전하지 않습니다.
+ */
+final class IntCountMap {
+
+    private static final int EMPTY = Integer.MIN_VALUE; // 빈 칸 표시 (이 값은 키로 사용할 수 없음)
+
+    private int[] keys;
+    private int[] counts;
+    private int mask;
+    private int size;
+
+    IntCountMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1; // 부하율 0.5 이하
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        counts = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * key의 개수를 delta만큼 늘립니다.
+     */
+    void add(int key, int delta) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("사용할 수 없는 키입니다: " + key);
+        }
+        int slot = slot(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                counts[slot] = delta;
+                grow();
+                return;
+            }
+        }
+        counts[slot] += delta;
+    }
+
+    void increment(int key) {
+        add(key, 1);
+    }
+
+    /**
+     * key의 개수 (없으면 0)
+     */
+    int get(int key) {
+        int slot = slot(key);
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 저장된 모든 (키, 개수)를 순서 없이 전달합니다.
+     */
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], counts[i]);
+            }
+        }
+    }
+
+    // 선형 탐사: key가 있는 칸 또는 key를 넣을 빈 칸
+    private int slot(int key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        counts = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    // 연속된 ID가 한쪽에 몰리지 않도록 비트를 섞습니다.
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int key, int count);
+    }
+}
@@ -0,0 +1,139 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.common.SearchText;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 인메모리 역색인으로 후보를 찾고, 문서 저장소의 스냅샷으로 점수를 매기는 검색 전략입니다.
+ * DB는 최종 페이지에 포함된 북마크를 불러올 때만 조회합니다.
+ *
+ * 키워드는 토큰 단위 접두어로 후보를 좁힌 뒤, 기존 전략과 같이 제목/설명에 키워드 전체가 포함되는지(대소문자 무시) 확인합니다.
+ * 따라서 단어 중간에서 시작하는 부분 문자열(예: "JPA"의 "PA")은 이 전략에서 검색되지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bookmark.search.index.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class InvertedIndexSearchStrategy implements BookmarkSearchStrategy {
+
+    private final BookmarkInvertedIndex invertedIndex;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final BookmarkDocumentStore documentStore;
+    private final BookmarkRepository bookmarkRepository;
+
+    // 방문 기록. 있으면 점수가 같은 북마크를 frecency 키 순으로 정렬합니다. (없으면 모두 Frecency.NONE)
+    private ToDoubleFunction<Long> frecencyKeys = bookmarkId -> Frecency.NONE;
+
+    @Autowired(required = false)
+    public void setVisitTracker(BookmarkVisitTracker visitTracker) {
+        this.frecencyKeys = visitTracker::frecencyKey;
+    }
+
+    @Override
+    public Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable) {
+        log.info("Searching with InvertedIndexSearchStrategy. Keyword: '{}', Tags: {}", keyword, tagNames);
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames);
+        boolean keywordExists = StringUtils.hasText(keyword);
+        boolean tagsExist = (tagNames != null && !tagNames.isEmpty());
+
+        // 1. 인덱스에서 후보 ID를 찾습니다. (키워드 조건 OR 태그 조건)
+        Set<Long> candidateIds = new HashSet<>();
+        if (keywordExists) {
+            String normalizedKeyword = SearchText.normalize(keyword);
+            for (Long id : invertedIndex.findByKeyword(keyword)) {
+                BookmarkSnapshot document = documentStore.get(id);
+                if (document != null && containsNormalized(document, normalizedKeyword)) {
+                    candidateIds.add(id);
+                }
+            }
+        }
+        // 태그별 일치 개수는 비트맵 층으로 한 번에 계산합니다. (OR 결과 = 태그 후보, AND 결과 = 모든 태그 일치)
+        TagMatchCounts tagMatches = tagsExist ? tagBitmapIndex.countMatches(tagNames) : null;
+        if (tagMatches != null) {
+            tagMatches.getMatched().forEach((int id) -> candidateIds.add((long) id));
+            log.debug("Tag bitmap matches. Any: {}, All: {}",
+                    tagMatches.getMatched().getCardinality(), tagMatches.getAllMatched().getCardinality());
+        }
+
+        SearchProfiler.recordCandidates(candidateIds.size());
+
+        // 2. 스냅샷으로 점수를 계산하고 정렬합니다. (점수 → frecency 키 → 생성일 → ID 내림차순)
+        List<ScoredDocument> ranked = SearchProfiler.time("score", () -> {
+            List<ScoredDocument> scored = new ArrayList<>(candidateIds.size());
+            for (Long id : candidateIds) {
+                BookmarkSnapshot document = documentStore.get(id);
+                if (document == null) {
+                    continue; // 후보 계산 도중 삭제된 북마크
+                }
+                int tagMatchCount = tagMatches != null ? tagMatches.count(id) : 0;
+                int score = SearchScoring.calculateScore(document.getTitle(), document.getDescription(), keyword,
+                        tagMatchCount, tagsExist ? tagNames.size() : 0);
+                scored.add(new ScoredDocument(document, score, frecencyKeys.applyAsDouble(id)));
+            }
+            return scored;
+        });
+        SearchProfiler.run("rank", () -> ranked.sort(ScoredDocument.ORDER));
+
+        // 3. 요청한 페이지에 해당하는 북마크만 DB에서 불러와 DTO로 변환합니다.
+        int start = (int) pageable.getOffset();
+        if (start >= ranked.size()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, ranked.size());
+        }
+        int end = Math.min(start + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(start, end).stream()
+                .map(scored -> scored.getDocument().getId())
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(SearchResultLoader.loadInOrder(bookmarkRepository, pageIds), pageable, ranked.size());
+    }
+
+    // DB 검색의 정규화 컬럼 비교와 같은 기준(SearchText)으로 포함 여부를 확인합니다.
+    private static boolean containsNormalized(BookmarkSnapshot document, String normalizedKeyword) {
+        return (document.getTitle() != null && SearchText.normalize(document.getTitle()).contains(normalizedKeyword))
+                || (document.getDescription() != null && SearchText.normalize(document.getDescription()).contains(normalizedKeyword));
+    }
+
+    /**
+     * 점수와 스냅샷을 함께 관리하기 위한 내부 헬퍼 클래스
+     */
+    @Getter
+    private static class ScoredDocument {
+        private static final Comparator<ScoredDocument> ORDER = Comparator
+                .comparingInt(ScoredDocument::getScore).reversed()
+                .thenComparing(Comparator.comparingDouble(ScoredDocument::getFrecency).reversed())
+                .thenComparing(scored -> scored.getDocument().getCreatedAt(), Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(scored -> scored.getDocument().getId(), Comparator.reverseOrder());
+
+        private final BookmarkSnapshot document;
+        private final int score;
+        private final double frecency;
+
+        ScoredDocument(BookmarkSnapshot document, int score, double frecency) {
+            this.document = document;
+            this.score = score;
+            this.frecency = frecency;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package dev.bookmark.api.bookmark.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JSON 배열 형식의 가져오기 파일을 Jackson 스트리밍 파서로 객체 하나씩 읽습니다.
+ * 배열 전체를 트리로 만들지 않고 원소마다 작은 객체로 바인딩하므로 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+ * createdAt은 ISO-8601 형식(오프셋 포함/미포함)을 받으며, 읽을 수 없으면 가져오는 시각을 사용합니다.
+ */
+class JsonBookmarkParser implements BookmarkImportParser {
+
+    private static final ObjectReader ITEM_READER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(Item.class);
+
+    @Override
+    public void parse(InputStream in, Consumer<ImportedBookmark> sink) throws IOException {
+        try (JsonParser parser = ITEM_READER.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 가져오기 파일은 북마크 객체의 배열이어야 합니다.");
+            }
+            long index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                Item item = ITEM_READER.readValue(parser);
+                sink.accept(new ImportedBookmark(index++, item.getTitle(), item.getUrl(), item.getDescription(),
+                        item.getFolderPath(), item.getTags(), createdAt(item.getCreatedAt())));
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new IllegalArgumentException("JSON 가져오기 파일의 " + index + "번째 항목이 객체가 아닙니다.");
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 가져오기 파일을 읽을 수 없습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private static LocalDateTime createdAt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    // 배열 원소 하나의 모양 (알 수 없는 필드는 무시)
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class Item {
+        private String title;
+        private String url;
+        private String description;
+        private List<String> folderPath;
+        private List<String> tags;
+        private String createdAt;
+    }
+}
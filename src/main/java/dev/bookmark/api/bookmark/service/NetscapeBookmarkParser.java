@@ -0,0 +1,296 @@
+package dev.bookmark.api.bookmark.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 브라우저 북마크 내보내기 HTML(Netscape Bookmark File 형식)을 한 글자씩 읽으며 북마크를 전달합니다.
+ *
+ * <pre>
+ * &lt;DL&gt;&lt;p&gt;
+ *     &lt;DT&gt;&lt;H3&gt;폴더 이름&lt;/H3&gt;
+ *     &lt;DL&gt;&lt;p&gt;
+ *         &lt;DT&gt;&lt;A HREF="https://..." ADD_DATE="1700000000" TAGS="java,spring"&gt;제목&lt;/A&gt;
+ *         &lt;DD&gt;설명
+ *     &lt;/DL&gt;&lt;p&gt;
+ * &lt;/DL&gt;&lt;p&gt;
+ * </pre>
+ *
+ * H3 바로 다음의 DL이 그 폴더의 내용이며, 폴더 경로는 열린 DL의 스택으로 추적합니다.
+ * 설명(DD)은 북마크(A) 뒤에 오므로, 북마크는 다음 항목이 시작되거나 목록이 닫힐 때 전달합니다.
+ * 실제 내보내기 파일은 닫는 태그가 빠진 HTML이므로 엄격한 파서 대신 필요한 태그만 인식합니다.
+ */
+class NetscapeBookmarkParser implements BookmarkImportParser {
+
+    private enum Capture { NONE, FOLDER_NAME, TITLE, DESCRIPTION }
+
+    private final Deque<String> folderPath = new ArrayDeque<>();
+    private final Deque<Boolean> listOpensFolder = new ArrayDeque<>(); // 열린 DL마다 폴더를 열었는지 여부
+    private final StringBuilder text = new StringBuilder();
+    private Capture capture = Capture.NONE;
+    private String pendingFolderName;
+
+    // 전달하기 전의 북마크 (설명이 뒤따를 수 있음)
+    private Map<String, String> pendingAttributes;
+    private String pendingTitle;
+    private String pendingDescription;
+    private long index;
+
+    @Override
+    public void parse(InputStream in, Consumer<ImportedBookmark> sink) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        StringBuilder tag = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c != '<') {
+                if (capture != Capture.NONE) {
+                    text.append((char) c);
+                }
+                continue;
+            }
+            tag.setLength(0);
+            char quote = 0;
+            while ((c = reader.read()) != -1) {
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = (char) c;
+                } else if (c == '>') {
+                    break;
+                }
+                tag.append((char) c);
+            }
+            onTag(tag, sink);
+        }
+        emitPending(sink);
+    }
+
+    private void onTag(CharSequence tag, Consumer<ImportedBookmark> sink) {
+        String name = tagName(tag);
+        switch (name) {
+            case "H3" -> {
+                emitPending(sink);
+                startCapture(Capture.FOLDER_NAME);
+            }
+            case "/H3" -> {
+                if (capture == Capture.FOLDER_NAME) {
+                    pendingFolderName = endCapture();
+                }
+            }
+            case "A" -> {
+                emitPending(sink);
+                pendingAttributes = attributes(tag);
+                startCapture(Capture.TITLE);
+            }
+            case "/A" -> {
+                if (capture == Capture.TITLE) {
+                    pendingTitle = endCapture();
+                }
+            }
+            case "DD" -> {
+                if (pendingAttributes != null) {
+                    startCapture(Capture.DESCRIPTION);
+                }
+            }
+            case "DL" -> {
+                emitPending(sink);
+                boolean opensFolder = pendingFolderName != null;
+                if (opensFolder) {
+                    folderPath.addLast(pendingFolderName);
+                    pendingFolderName = null;
+                }
+                listOpensFolder.push(opensFolder);
+            }
+            case "/DL" -> {
+                emitPending(sink);
+                if (!listOpensFolder.isEmpty() && listOpensFolder.pop()) {
+                    folderPath.removeLast();
+                }
+            }
+            case "DT" -> emitPending(sink);
+            default -> {
+                // P, /P, 알 수 없는 태그는 무시합니다. 설명 안의 서식 태그도 설명 본문으로 취급하지 않습니다.
+            }
+        }
+    }
+
+    private void startCapture(Capture next) {
+        endCapture();
+        capture = next;
+    }
+
+    // 모으던 텍스트를 반환하고 수집을 끝냅니다. 설명은 진행 중인 북마크에 붙입니다.
+    private String endCapture() {
+        Capture ended = capture;
+        capture = Capture.NONE;
+        String value = decodeEntities(text.toString().trim());
+        text.setLength(0);
+        if (ended == Capture.DESCRIPTION) {
+            pendingDescription = value.isEmpty() ? null : value;
+        }
+        return value;
+    }
+
+    private void emitPending(Consumer<ImportedBookmark> sink) {
+        if (capture == Capture.TITLE) {
+            pendingTitle = endCapture(); // </A>가 빠진 경우
+        } else if (capture == Capture.DESCRIPTION) {
+            endCapture();
+        }
+        if (pendingAttributes == null) {
+            return;
+        }
+        Map<String, String> attributes = pendingAttributes;
+        sink.accept(new ImportedBookmark(index++, pendingTitle, attributes.get("HREF"), pendingDescription,
+                new ArrayList<>(folderPath), tags(attributes.get("TAGS")), addDate(attributes.get("ADD_DATE"))));
+        pendingAttributes = null;
+        pendingTitle = null;
+        pendingDescription = null;
+    }
+
+    private static String tagName(CharSequence tag) {
+        int end = 0;
+        while (end < tag.length() && !Character.isWhitespace(tag.charAt(end))) {
+            end++;
+        }
+        return tag.subSequence(0, end).toString().toUpperCase(Locale.ROOT);
+    }
+
+    // NAME="value", NAME='value', NAME=value 형식의 속성을 대문자 이름으로 읽습니다.
+    static Map<String, String> attributes(CharSequence tag) {
+        Map<String, String> attributes = new HashMap<>();
+        int i = 0;
+        int length = tag.length();
+        while (i < length && !Character.isWhitespace(tag.charAt(i))) {
+            i++; // 태그 이름 건너뛰기
+        }
+        while (i < length) {
+            while (i < length && Character.isWhitespace(tag.charAt(i))) {
+                i++;
+            }
+            int nameStart = i;
+            while (i < length && tag.charAt(i) != '=' && !Character.isWhitespace(tag.charAt(i))) {
+                i++;
+            }
+            String name = tag.subSequence(nameStart, i).toString().toUpperCase(Locale.ROOT);
+            String value = "";
+            if (i < length && tag.charAt(i) == '=') {
+                i++;
+                if (i < length && (tag.charAt(i) == '"' || tag.charAt(i) == '\'')) {
+                    char quote = tag.charAt(i++);
+                    int valueStart = i;
+                    while (i < length && tag.charAt(i) != quote) {
+                        i++;
+                    }
+                    value = tag.subSequence(valueStart, i).toString();
+                    i++;
+                } else {
+                    int valueStart = i;
+                    while (i < length && !Character.isWhitespace(tag.charAt(i))) {
+                        i++;
+                    }
+                    value = tag.subSequence(valueStart, i).toString();
+                }
+            }
+            if (!name.isEmpty()) {
+                attributes.put(name, decodeEntities(value));
+            }
+        }
+        return attributes;
+    }
+
+    private static List<String> tags(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(tagName -> !tagName.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    // ADD_DATE는 유닉스 시간(초)입니다. 일부 도구가 밀리초/마이크로초로 내보내는 경우도 초로 맞춥니다.
+    private static LocalDateTime addDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long seconds = Long.parseLong(value.trim());
+            while (seconds > 100_000_000_000L) {
+                seconds /= 1000;
+            }
+            return seconds > 0 ? LocalDateTime.ofInstant(Instant.ofEpochSecond(seconds), ZoneId.systemDefault()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 내보내기 파일에 쓰이는 HTML 엔티티(&amp; &lt; &gt; &quot; &#39; &#NN; &#xHH;)를 문자로 바꿉니다.
+    static String decodeEntities(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        StringBuilder decoded = new StringBuilder(value.length());
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            int end = c == '&' ? value.indexOf(';', i) : -1;
+            if (end < 0 || end - i > 10) {
+                decoded.append(c);
+                i++;
+                continue;
+            }
+            String entity = value.substring(i + 1, end);
+            String replacement = switch (entity) {
+                case "amp" -> "&";
+                case "lt" -> "<";
+                case "gt" -> ">";
+                case "quot" -> "\"";
+                case "apos" -> "'";
+                case "nbsp" -> " ";
+                default -> numericEntity(entity);
+            };
+            if (replacement == null) {
+                decoded.append(c);
+                i++;
+            } else {
+                decoded.append(replacement);
+                i = end + 1;
+            }
+        }
+        return decoded.toString();
+    }
+
+    private static String numericEntity(String entity) {
+        if (entity.length() < 2 || entity.charAt(0) != '#') {
+            return null;
+        }
+        try {
+            int codePoint = (entity.charAt(1) == 'x' || entity.charAt(1) == 'X')
+                    ? Integer.parseInt(entity.substring(2), 16)
+                    : Integer.parseInt(entity.substring(1));
+            return Character.isValidCodePoint(codePoint) ? new String(Character.toChars(codePoint)) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
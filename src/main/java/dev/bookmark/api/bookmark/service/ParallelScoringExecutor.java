@@ -0,0 +1,142 @@
+package dev.bookmark.api.bookmark.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * 검색 후보의 점수 계산과 순위 정렬을 후보 수에 따라 순차 또는 fork-join 병렬로 수행합니다.
+ * 후보가 threshold 이상일 때만 구간을 나누어 각 구간을 점수 계산/정렬한 뒤 병합합니다.
+ * (병합은 왼쪽 구간을 우선하는 안정 병합이므로 결과 순서는 순차 정렬과 같습니다.)
+ *
+ * 공용 풀(commonPool) 대신 크기가 제한된 전용 풀을 사용하고, 동시에 병렬로 처리하는 검색 수도 제한합니다.
+ * 허용량을 넘는 검색은 기다리지 않고 요청 스레드에서 순차로 처리하므로, 무거운 검색 하나가 다른 요청을 굶기지 않습니다.
+ */
+@Slf4j
+@Component
+public class ParallelScoringExecutor {
+
+    private static final int LEAF_SIZE = 2048; // 이보다 작은 구간은 더 나누지 않고 순차로 처리
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+    private final Semaphore permits;
+
+    public ParallelScoringExecutor(
+            @Value("${bookmark.search.parallel.threshold:20000}") int threshold,
+            @Value("${bookmark.search.parallel.parallelism:0}") int parallelism,
+            @Value("${bookmark.search.parallel.max-concurrent-searches:2}") int maxConcurrentSearches) {
+        this.threshold = threshold;
+        int poolSize = parallelism > 0 ? parallelism : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(poolSize, ParallelScoringExecutor::newWorkerThread, null, false);
+        this.permits = new Semaphore(maxConcurrentSearches);
+        log.info("Search scoring pool started. Parallelism: {}, Threshold: {}, Max concurrent searches: {}",
+                poolSize, threshold, maxConcurrentSearches);
+    }
+
+    /**
+     * 각 항목의 점수를 계산하고 ranking 순서로 정렬된 상위 limit개를 반환합니다.
+     * @param items 점수를 계산할 후보 (요청 스레드 밖에서 읽으므로 지연 로딩이 필요 없는 객체여야 함)
+     * @param scorer 후보 하나의 점수를 계산하는 함수 (여러 스레드에서 동시에 호출됨)
+     * @param ranking 좋은 것이 앞에 오는 정렬 순서
+     * @param limit 남길 개수 (전체 정렬은 Integer.MAX_VALUE)
+     */
+    public <T, S> List<S> scoreAndRank(List<T> items, Function<? super T, ? extends S> scorer,
+                                       Comparator<? super S> ranking, int limit) {
+        if (items.size() < threshold || !permits.tryAcquire()) {
+            return rankSequentially(items, 0, items.size(), scorer, ranking, limit);
+        }
+        try {
+            return pool.invoke(new RankTask<>(items, 0, items.size(), scorer, ranking, limit));
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * [from, to) 구간의 점수를 순차로 계산하고 정렬합니다. (병렬 처리 시 작은 구간의 처리 방식과 같음)
+     */
+    static <T, S> List<S> rankSequentially(List<T> items, int from, int to, Function<? super T, ? extends S> scorer,
+                                           Comparator<? super S> ranking, int limit) {
+        List<S> scored = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            scored.add(scorer.apply(items.get(i)));
+        }
+        if (limit < scored.size()) {
+            return TopKSelector.select(scored, ranking, limit);
+        }
+        scored.sort(ranking); // 안정 정렬
+        return scored;
+    }
+
+    /**
+     * 정렬된 두 목록을 상위 limit개까지 병합합니다. 순서가 같으면 왼쪽 목록을 먼저 둡니다.
+     */
+    static <S> List<S> merge(List<S> left, List<S> right, Comparator<? super S> ranking, int limit) {
+        int size = (int) Math.min((long) left.size() + right.size(), limit);
+        List<S> merged = new ArrayList<>(size);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < size) {
+            if (j >= right.size() || (i < left.size() && ranking.compare(left.get(i), right.get(j)) <= 0)) {
+                merged.add(left.get(i++));
+            } else {
+                merged.add(right.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("search-scoring-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    private static class RankTask<T, S> extends RecursiveTask<List<S>> {
+
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final Function<? super T, ? extends S> scorer;
+        private final Comparator<? super S> ranking;
+        private final int limit;
+
+        RankTask(List<T> items, int from, int to, Function<? super T, ? extends S> scorer,
+                 Comparator<? super S> ranking, int limit) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.scorer = scorer;
+            this.ranking = ranking;
+            this.limit = limit;
+        }
+
+        @Override
+        protected List<S> compute() {
+            if (to - from <= LEAF_SIZE) {
+                return rankSequentially(items, from, to, scorer, ranking, limit);
+            }
+            int middle = (from + to) >>> 1;
+            RankTask<T, S> left = new RankTask<>(items, from, middle, scorer, ranking, limit);
+            left.fork();
+            List<S> rightResult = new RankTask<>(items, middle, to, scorer, ranking, limit).compute();
+            return merge(left.join(), rightResult, ranking, limit);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package dev.bookmark.api.bookmark.service;
+
+import lombok.Getter;
+
+/**
+ * SearchScoring 점수를 항목별로 나눈 값입니다. total은 SearchScoring.calculateScore와 같습니다.
+ * 제목에 키워드가 있으면 설명은 확인하지 않으므로 titleHit와 descriptionHit는 동시에 true가 되지 않습니다.
+ */
+@Getter
+public class ScoreBreakdown {
+
+    private final boolean titleHit;
+    private final boolean descriptionHit;
+    private final long tagMatchCount;
+    private final int keywordScore;  // 제목 또는 설명 일치 점수
+    private final int tagScore;      // 일치 태그 수 × TAG_MATCH_SCORE
+    private final int allTagsBonus;  // 요청 태그 모두 일치 (AND 보너스)
+    private final int comboBonus;    // 키워드와 태그 모두 일치
+    private final int total;
+
+    public ScoreBreakdown(boolean titleHit, boolean descriptionHit, long tagMatchCount,
+                          int keywordScore, int tagScore, int allTagsBonus, int comboBonus) {
+        this.titleHit = titleHit;
+        this.descriptionHit = descriptionHit;
+        this.tagMatchCount = tagMatchCount;
+        this.keywordScore = keywordScore;
+        this.tagScore = tagScore;
+        this.allTagsBonus = allTagsBonus;
+        this.comboBonus = comboBonus;
+        this.total = keywordScore + tagScore + allTagsBonus + comboBonus;
+    }
+}
@@ -0,0 +1,33 @@
+package dev.bookmark.api.bookmark.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 점수가 매겨진 검색 후보입니다.
+ */
+@Getter
+public class ScoredCandidate {
+
+    /**
+     * 검색 결과 정렬 순서: 점수 내림차순 → frecency 키 내림차순(자주/최근 방문) → 생성일 내림차순(최신순) → ID 내림차순
+     * DB 검색 쿼리(searchScoredPage/searchScoredAfter)의 ORDER BY와 같은 순서입니다.
+     */
+    public static final Comparator<ScoredCandidate> RANKING = Comparator
+            .comparingInt(ScoredCandidate::getScore).reversed()
+            .thenComparing(Comparator.comparingDouble(ScoredCandidate::getFrecency).reversed())
+            .thenComparing(scored -> scored.getCandidate().getCreatedAt(), Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(scored -> scored.getCandidate().getId(), Comparator.nullsLast(Comparator.<Long>reverseOrder()));
+
+    private final SearchCandidate candidate;
+    private final int score;
+    private final double frecency; // 방문 기록이 없으면 Frecency.NONE
+
+    public ScoredCandidate(SearchCandidate candidate, int score, double frecency) {
+        this.candidate = candidate;
+        this.score = score;
+        this.frecency = frecency;
+    }
+}
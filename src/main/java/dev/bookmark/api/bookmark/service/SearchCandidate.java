@@ -0,0 +1,64 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.repository.SearchCandidateRow;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점수 계산에만 필요한 값을 담은 가벼운 검색 후보입니다.
+ * BookmarkResponseDto와 달리 폴더/태그 엔티티를 지연 로딩하지 않습니다.
+ */
+@Getter
+public class SearchCandidate {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final LocalDateTime createdAt;
+    private final List<String> tagNames;
+
+    public SearchCandidate(Long id, String title, String description, LocalDateTime createdAt, List<String> tagNames) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.tagNames = tagNames;
+    }
+
+    /**
+     * (북마크, 태그) 단위로 조회된 행들을 북마크 단위 후보로 묶습니다. (조회 순서 유지)
+     */
+    public static List<SearchCandidate> group(List<SearchCandidateRow> rows) {
+        return group(rows, null);
+    }
+
+    /**
+     * group(rows)와 같으며, 묶는 순회에서 북마크마다 폴더를 한 번, 태그 행마다 태그를 한 번 facets에 셉니다.
+     * @param facets 패싯 집계기 (null이면 세지 않음)
+     */
+    public static List<SearchCandidate> group(List<SearchCandidateRow> rows, SearchFacetCounts facets) {
+        Map<Long, SearchCandidate> byId = new LinkedHashMap<>();
+        for (SearchCandidateRow row : rows) {
+            SearchCandidate candidate = byId.get(row.getId());
+            if (candidate == null) {
+                candidate = new SearchCandidate(row.getId(), row.getTitle(), row.getDescription(), row.getCreatedAt(), new ArrayList<>());
+                byId.put(row.getId(), candidate);
+                if (facets != null) {
+                    facets.countFolder(row.getFolderId());
+                }
+            }
+            if (row.getTagName() != null) {
+                candidate.tagNames.add(row.getTagName());
+                if (facets != null) {
+                    facets.countTag(row.getTagId());
+                }
+            }
+        }
+        return new ArrayList<>(byId.values());
+    }
+}
@@ -0,0 +1,93 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.ExplainedBookmarkDto;
+import dev.bookmark.api.bookmark.dto.SearchExplainResponseDto;
+import dev.bookmark.api.tag.dto.TagResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 설정된 검색 전략을 프로파일링하며 실행하고, 단계별 소요 시간/실행된 SQL/결과별 점수 내역을 반환합니다.
+ * 전략 실행 시간을 재야 하므로 검색 결과 캐시와 shadow 비교는 거치지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchExplainService {
+
+    private final BookmarkSearchStrategy searchStrategy;
+
+    // 방문 기록. 있으면 결과마다 점수가 같을 때 쓰인 frecency 키를 함께 보여줍니다. (없으면 모두 Frecency.NONE)
+    private ToDoubleFunction<Long> frecencyKeys = bookmarkId -> Frecency.NONE;
+
+    @Autowired(required = false)
+    public void setVisitTracker(BookmarkVisitTracker visitTracker) {
+        this.frecencyKeys = visitTracker::frecencyKey;
+    }
+
+    @Transactional(readOnly = true)
+    public SearchExplainResponseDto explain(String keyword, List<String> tagNames, Pageable pageable) {
+        log.info("Explaining search. Keyword: '{}', Tags: {}", keyword, tagNames);
+        BookmarkSearchStrategy.requireCriteria(keyword, tagNames);
+        BookmarkSearchStrategy strategy = searchStrategy;
+        if (strategy instanceof CachingSearchStrategy caching) {
+            strategy = caching.getDelegate();
+        }
+        if (strategy instanceof ShadowSearchStrategy shadow) {
+            strategy = shadow.getPrimary();
+        }
+
+        SearchProfile profile = SearchProfiler.start();
+        Page<BookmarkResponseDto> page;
+        long start = System.nanoTime();
+        try {
+            page = strategy.search(keyword, tagNames, pageable);
+        } finally {
+            SearchProfiler.stop();
+        }
+        long totalNanos = System.nanoTime() - start;
+
+        // 점수 내역은 공통 점수 규칙(SearchScoring)으로 계산합니다. (BM25 전략의 순위 점수와는 다를 수 있음)
+        String scoringKeyword = StringUtils.hasText(keyword) ? keyword : null;
+        int requestedTagCount = tagNames != null ? tagNames.size() : 0;
+        List<ExplainedBookmarkDto> results = page.getContent().stream()
+                .map(dto -> explain(dto, scoringKeyword, tagNames, requestedTagCount))
+                .collect(Collectors.toList());
+
+        return new SearchExplainResponseDto(strategy.getClass().getSimpleName(), keyword, tagNames,
+                profile.getCandidateCount(), page.getTotalElements(), totalNanos,
+                profile.getStageNanos(), profile.getStatements(), results);
+    }
+
+    private ExplainedBookmarkDto explain(BookmarkResponseDto dto, String keyword, List<String> tagNames, int requestedTagCount) {
+        List<String> bookmarkTagNames = dto.getTags().stream()
+                .map(TagResponseDto::getName)
+                .collect(Collectors.toList());
+        long tagMatchCount = requestedTagCount > 0 ? SearchScoring.countMatchingTags(bookmarkTagNames, tagNames) : 0;
+        ScoreBreakdown breakdown = SearchScoring.explain(dto.getTitle(), dto.getDescription(), keyword, tagMatchCount, requestedTagCount);
+        return ExplainedBookmarkDto.builder()
+                .id(dto.getId())
+                .title(dto.getTitle())
+                .titleHit(breakdown.isTitleHit())
+                .descriptionHit(breakdown.isDescriptionHit())
+                .tagMatchCount(breakdown.getTagMatchCount())
+                .keywordScore(breakdown.getKeywordScore())
+                .tagScore(breakdown.getTagScore())
+                .allTagsBonus(breakdown.getAllTagsBonus())
+                .comboBonus(breakdown.getComboBonus())
+                .score(breakdown.getTotal())
+                .frecency(frecencyKeys.applyAsDouble(dto.getId()))
+                .build();
+    }
+}
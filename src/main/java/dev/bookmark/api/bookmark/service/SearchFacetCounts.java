@@ -0,0 +1,83 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.SearchFacetsDto;
+import dev.bookmark.api.bookmark.repository.FacetCountRow;
+import dev.bookmark.api.tag.dto.TagResponseDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 검색 결과의 태그별/폴더별 개수를 세는 집계기입니다.
+ * 검색 전략이 후보를 훑는 순회에서 북마크마다 한 번씩 호출하며, 개수는 int 키 맵(IntCountMap)에 저장해 박싱 없이 셉니다.
+ * 이름은 세지 않고 ID만 셉니다. 이름은 상위 항목만 골라 BookmarkService에서 채웁니다.
+ * 스레드 안전하지 않으므로 한 검색 안에서 한 스레드만 사용해야 합니다.
+ */
+public class SearchFacetCounts {
+
+    private final IntCountMap tags = new IntCountMap(64);
+    private final IntCountMap folders = new IntCountMap(16);
+
+    /**
+     * 검색 결과 북마크 하나를 폴더와 모든 태그에 셉니다.
+     */
+    public void count(BookmarkResponseDto bookmark) {
+        countFolder(bookmark.getFolderId());
+        for (TagResponseDto tag : bookmark.getTags()) {
+            countTag(tag.getId());
+        }
+    }
+
+    public void countFolder(Long folderId) {
+        if (folderId != null) {
+            folders.increment(toKey(folderId));
+        }
+    }
+
+    public void countTag(Long tagId) {
+        if (tagId != null) {
+            tags.increment(toKey(tagId));
+        }
+    }
+
+    /**
+     * DB에서 이미 집계한 (ID, 개수) 행을 더합니다. (후보를 직접 훑지 않는 전략용)
+     */
+    public void addTags(List<FacetCountRow> rows) {
+        rows.forEach(row -> tags.add(toKey(row.getId()), Math.toIntExact(row.getMatchCount())));
+    }
+
+    public void addFolders(List<FacetCountRow> rows) {
+        rows.forEach(row -> folders.add(toKey(row.getId()), Math.toIntExact(row.getMatchCount())));
+    }
+
+    /**
+     * 개수가 많은 순(같으면 ID 오름차순)으로 태그/폴더를 각각 최대 limit개 반환합니다. 이름은 비어 있습니다.
+     */
+    public SearchFacetsDto top(int limit) {
+        return new SearchFacetsDto(top(tags, limit), top(folders, limit));
+    }
+
+    private static List<SearchFacetsDto.Count> top(IntCountMap counts, int limit) {
+        // 개수와 ID를 long 하나에 담아 정렬합니다. (상위 32비트: 개수, 하위 32비트: ID 반전 → 내림차순 정렬 시 ID 오름차순)
+        long[] packed = new long[counts.size()];
+        int[] index = {0};
+        counts.forEach((key, count) -> packed[index[0]++] = ((long) count << 32) | (~key & 0xFFFFFFFFL));
+        Arrays.sort(packed);
+
+        List<SearchFacetsDto.Count> result = new ArrayList<>(Math.min(limit, packed.length));
+        for (int i = packed.length - 1; i >= 0 && result.size() < limit; i--) {
+            int count = (int) (packed[i] >>> 32);
+            int key = ~(int) packed[i];
+            result.add(new SearchFacetsDto.Count((long) key, null, count));
+        }
+        return result;
+    }
+
+    // ID는 IDENTITY로 생성되는 양수이므로 int 범위를 넘으면 예외로 알립니다. (TagBitmapIndex와 같은 제약)
+    private static int toKey(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.bookmark.api.bookmark.service;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 한 번을 실행하는 동안 기록한 단계별 소요 시간, 실행된 SQL, 후보 수입니다. (SearchProfiler가 채웁니다)
+ * 점수 계산처럼 병렬로 실행될 수 있는 단계가 있으므로 기록 메소드는 동기화합니다.
+ */
+public class SearchProfile {
+
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>(); // 단계 이름 → 누적 나노초 (처음 기록된 순서)
+    private final List<String> statements = new ArrayList<>();
+    @Getter
+    private volatile long candidateCount = -1; // 기록하지 않았으면 -1
+
+    synchronized void addStageNanos(String stage, long nanos) {
+        stageNanos.merge(stage, nanos, Long::sum);
+    }
+
+    synchronized void addStatement(String sql) {
+        statements.add(sql);
+    }
+
+    void setCandidateCount(long candidateCount) {
+        this.candidateCount = candidateCount;
+    }
+
+    public synchronized Map<String, Long> getStageNanos() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(stageNanos));
+    }
+
+    public synchronized List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+}
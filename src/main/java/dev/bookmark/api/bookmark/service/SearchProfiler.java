@@ -0,0 +1,98 @@
+package dev.bookmark.api.bookmark.service;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 검색 전략의 단계별 소요 시간을 기록하는 헬퍼입니다. (GET /api/v1/bookmarks/search/explain에서 사용)
+ * 현재 스레드에서 start()를 호출한 경우에만 기록하며, 그 외에는 ThreadLocal 조회 한 번 외의 비용이 없습니다.
+ */
+public final class SearchProfiler {
+
+    private static final ThreadLocal<SearchProfile> CURRENT = new ThreadLocal<>();
+
+    private SearchProfiler() {
+    }
+
+    /**
+     * 현재 스레드에서 기록을 시작합니다. 반드시 finally 블록에서 stop()을 호출해야 합니다.
+     */
+    public static SearchProfile start() {
+        SearchProfile profile = new SearchProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 작업을 실행하고, 기록 중이면 소요 시간을 stage에 더합니다.
+     */
+    public static <T> T time(String stage, Supplier<T> work) {
+        SearchProfile profile = CURRENT.get();
+        if (profile == null) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            profile.addStageNanos(stage, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 반환값이 없는 작업을 실행하고, 기록 중이면 소요 시간을 stage에 더합니다.
+     */
+    public static void run(String stage, Runnable work) {
+        time(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 항목마다 호출되는 함수의 소요 시간을 stage에 누적하도록 감쌉니다. 기록 중이 아니면 그대로 반환합니다.
+     * 감싼 함수는 다른 스레드(병렬 점수 계산)에서 호출되어도 이 스레드의 기록에 더해지므로, 병렬 실행 시에는 스레드별 시간의 합입니다.
+     */
+    public static <T, R> Function<T, R> timeEach(String stage, Function<T, R> function) {
+        SearchProfile profile = CURRENT.get();
+        if (profile == null) {
+            return function;
+        }
+        return item -> {
+            long start = System.nanoTime();
+            try {
+                return function.apply(item);
+            } finally {
+                profile.addStageNanos(stage, System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * 점수를 매긴 후보의 수를 기록합니다.
+     */
+    public static void recordCandidates(long candidateCount) {
+        SearchProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.setCandidateCount(candidateCount);
+        }
+    }
+
+    /**
+     * 실행된 SQL을 기록합니다. (SqlStatementRecorder가 Hibernate에서 호출)
+     */
+    public static void recordStatement(String sql) {
+        SearchProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.addStatement(sql);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.bookmark.api.bookmark.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 두 검색 전략의 결과 순위(북마크 ID 목록)를 비교하는 지표입니다. (섀도 실행 결과 비교용)
+ */
+public final class SearchResultComparison {
+
+    private SearchResultComparison() {
+    }
+
+    /**
+     * 상위 k개 결과의 Jaccard 유사도 |A ∩ B| / |A ∪ B|. 둘 다 비어 있으면 1입니다.
+     */
+    public static double topKJaccard(List<Long> expected, List<Long> actual, int k) {
+        Set<Long> a = new HashSet<>(expected.subList(0, Math.min(k, expected.size())));
+        Set<Long> b = new HashSet<>(actual.subList(0, Math.min(k, actual.size())));
+        if (a.isEmpty() && b.isEmpty()) {
+            return 1.0;
+        }
+        Set<Long> union = new HashSet<>(a);
+        union.addAll(b);
+        a.retainAll(b);
+        return (double) a.size() / union.size();
+    }
+
+    /**
+     * 상위 k개 중 양쪽에 모두 있는 결과의 순위 상관계수 (Spearman, -1 ~ 1).
+     * 공통 결과 안에서 순위를 다시 매겨 계산하며, 공통 결과가 2개 미만이면 NaN을 반환합니다.
+     */
+    public static double topKRankCorrelation(List<Long> expected, List<Long> actual, int k) {
+        List<Long> a = expected.subList(0, Math.min(k, expected.size()));
+        List<Long> b = actual.subList(0, Math.min(k, actual.size()));
+        Set<Long> inB = new HashSet<>(b);
+        List<Long> common = new ArrayList<>();
+        for (Long id : a) {
+            if (inB.contains(id)) {
+                common.add(id);
+            }
+        }
+        int n = common.size();
+        if (n < 2) {
+            return Double.NaN;
+        }
+        // common은 expected 순서이므로 expected 쪽 순위는 인덱스 그대로입니다.
+        Set<Long> commonSet = new HashSet<>(common);
+        Map<Long, Integer> actualRank = new HashMap<>();
+        for (Long id : b) {
+            if (commonSet.contains(id)) {
+                actualRank.putIfAbsent(id, actualRank.size());
+            }
+        }
+        long sumSquaredDiff = 0;
+        for (int i = 0; i < n; i++) {
+            long diff = i - actualRank.get(common.get(i));
+            sumSquaredDiff += diff * diff;
+        }
+        return 1.0 - (6.0 * sumSquaredDiff) / ((double) n * ((long) n * n - 1));
+    }
+}
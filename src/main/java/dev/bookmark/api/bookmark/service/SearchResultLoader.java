@@ -0,0 +1,55 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 순위가 정해진 북마크 ID 목록을 한 번의 쿼리로 불러와 같은 순서의 DTO 목록으로 만드는 헬퍼입니다.
+ * 점수 계산을 DB나 인메모리 인덱스에서 끝낸 전략들이 최종 페이지를 만들 때 사용합니다.
+ */
+public final class SearchResultLoader {
+
+    private SearchResultLoader() {
+    }
+
+    public static List<BookmarkResponseDto> loadInOrder(BookmarkRepository bookmarkRepository, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Bookmark> byId = SearchProfiler.time("fetchPage", () -> bookmarkRepository.findAllWithTagsAndFolderByIdIn(ids).stream()
+                .collect(Collectors.toMap(Bookmark::getId, Function.identity())));
+        return SearchProfiler.time("toDto", () -> {
+            List<BookmarkResponseDto> result = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                Bookmark bookmark = byId.get(id);
+                if (bookmark != null) { // 순위 계산 이후 삭제된 북마크는 건너뜁니다.
+                    result.add(BookmarkResponseDto.fromEntity(bookmark));
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 여러 검색 결과 페이지에 걸친 북마크를 한 번의 쿼리로 불러와 ID → DTO로 반환합니다. (일괄 검색용)
+     * 이미 삭제된 북마크는 결과에 포함되지 않습니다.
+     */
+    public static Map<Long, BookmarkResponseDto> loadById(BookmarkRepository bookmarkRepository, Collection<Long> ids) {
+        Map<Long, BookmarkResponseDto> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        List<Bookmark> bookmarks = SearchProfiler.time("fetchPage", () -> bookmarkRepository.findAllWithTagsAndFolderByIdIn(ids));
+        SearchProfiler.run("toDto", () -> bookmarks.forEach(bookmark -> result.put(bookmark.getId(), BookmarkResponseDto.fromEntity(bookmark))));
+        return result;
+    }
+}
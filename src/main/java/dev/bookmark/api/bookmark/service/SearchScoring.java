@@ -0,0 +1,107 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.common.SearchText;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과의 관련도 점수를 계산하는 공통 규칙입니다.
+ * 어떤 검색 전략을 사용하더라도 같은 점수 체계로 정렬되도록 점수 계산을 한 곳에 모아 둡니다.
+ * 키워드/태그 비교는 검색 조건과 같이 정규화(SearchText)한 값으로 하므로, 검색된 북마크는 항상 해당 점수를 받습니다.
+ * 방문 기록(frecency)은 점수에 더하지 않습니다. 모든 전략은 점수 → frecency 키 → 생성일 → ID 내림차순으로 정렬합니다. (ScoredCandidate.RANKING)
+ */
+public final class SearchScoring {
+
+    public static final int TITLE_MATCH_SCORE = 20;       // 제목에 키워드 포함
+    public static final int DESCRIPTION_MATCH_SCORE = 10; // 설명에 키워드 포함
+    public static final int ALL_TAGS_MATCH_BONUS = 100;   // 요청한 태그를 모두 가진 경우 (AND 조건 만족)
+    public static final int TAG_MATCH_SCORE = 5;          // 일치하는 태그 하나당
+    public static final int KEYWORD_AND_TAG_BONUS = 30;   // 키워드와 태그가 모두 일치
+
+    private SearchScoring() {
+    }
+
+    /**
+     * 북마크의 제목, 설명, 태그 이름과 검색 조건으로 점수를 계산합니다.
+     */
+    public static int calculateScore(String title, String description, Collection<String> bookmarkTagNames,
+                                     String keyword, List<String> tagNames) {
+        boolean tagsProvided = (tagNames != null && !tagNames.isEmpty());
+        long tagMatchCount = tagsProvided ? countMatchingTags(bookmarkTagNames, tagNames) : 0;
+        return calculateScore(title, description, keyword, tagMatchCount, tagsProvided ? tagNames.size() : 0);
+    }
+
+    /**
+     * 태그 일치 개수를 이미 알고 있을 때 사용하는 점수 계산 메소드입니다.
+     * @param tagMatchCount 북마크 태그 중 요청 태그와 일치하는 개수
+     * @param requestedTagCount 요청한 태그의 개수 (태그 조건이 없으면 0)
+     */
+    public static int calculateScore(String title, String description, String keyword,
+                                     long tagMatchCount, int requestedTagCount) {
+        int score = 0;
+        boolean keywordProvided = (keyword != null && !keyword.isBlank());
+        String normalizedKeyword = keywordProvided ? SearchText.normalize(keyword) : null;
+
+        // 키워드 점수
+        boolean keywordMatch = false;
+        if (keywordProvided && containsNormalized(title, normalizedKeyword)) {
+            keywordMatch = true;
+            score += TITLE_MATCH_SCORE;
+        } else if (keywordProvided && containsNormalized(description, normalizedKeyword)) {
+            keywordMatch = true;
+            score += DESCRIPTION_MATCH_SCORE;
+        }
+
+        // 태그 점수
+        if (requestedTagCount > 0) {
+            if (tagMatchCount == requestedTagCount) {
+                score += ALL_TAGS_MATCH_BONUS;
+            }
+            score += (int) tagMatchCount * TAG_MATCH_SCORE;
+        }
+
+        // 키워드와 태그 모두 일치 시 추가 보너스 점수
+        if (keywordMatch && tagMatchCount > 0) {
+            score += KEYWORD_AND_TAG_BONUS;
+        }
+        return score;
+    }
+
+    /**
+     * calculateScore와 같은 규칙으로 점수를 항목별로 나누어 반환합니다. (검색 explain용)
+     */
+    public static ScoreBreakdown explain(String title, String description, String keyword,
+                                         long tagMatchCount, int requestedTagCount) {
+        boolean keywordProvided = (keyword != null && !keyword.isBlank());
+        String normalizedKeyword = keywordProvided ? SearchText.normalize(keyword) : null;
+        boolean titleHit = keywordProvided && containsNormalized(title, normalizedKeyword);
+        boolean descriptionHit = !titleHit && keywordProvided && containsNormalized(description, normalizedKeyword);
+
+        int keywordScore = titleHit ? TITLE_MATCH_SCORE : (descriptionHit ? DESCRIPTION_MATCH_SCORE : 0);
+        int tagScore = requestedTagCount > 0 ? (int) tagMatchCount * TAG_MATCH_SCORE : 0;
+        int allTagsBonus = (requestedTagCount > 0 && tagMatchCount == requestedTagCount) ? ALL_TAGS_MATCH_BONUS : 0;
+        int comboBonus = ((titleHit || descriptionHit) && tagMatchCount > 0) ? KEYWORD_AND_TAG_BONUS : 0;
+        return new ScoreBreakdown(titleHit, descriptionHit, tagMatchCount, keywordScore, tagScore, allTagsBonus, comboBonus);
+    }
+
+    /**
+     * 북마크의 태그 중 요청 태그와 (정규화 기준으로) 일치하는 태그의 개수를 셉니다.
+     */
+    public static long countMatchingTags(Collection<String> bookmarkTagNames, List<String> tagNames) {
+        if (bookmarkTagNames == null || tagNames == null) {
+            return 0;
+        }
+        Set<String> requested = tagNames.stream().map(SearchText::normalize).collect(Collectors.toSet());
+        return bookmarkTagNames.stream()
+                .filter(tagName -> requested.contains(SearchText.normalize(tagName)))
+                .count();
+    }
+
+    // text를 정규화했을 때 (이미 정규화된) 키워드를 포함하는지 확인합니다.
+    private static boolean containsNormalized(String text, String normalizedKeyword) {
+        return text != null && SearchText.normalize(text).contains(normalizedKeyword);
+    }
+}
@@ -0,0 +1,38 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.common.SearchText;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 인덱스에서 사용하는 단순 토크나이저입니다.
+ * 텍스트를 검색 비교용으로 정규화(SearchText)한 뒤, 문자/숫자가 아닌 글자를 구분자로 보고 토큰을 나눕니다.
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = SearchText.normalize(text);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                current.append(ch);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
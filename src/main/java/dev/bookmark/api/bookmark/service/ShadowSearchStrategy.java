@@ -0,0 +1,147 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.FacetedPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 기존(primary) 전략으로 응답하면서, 일부 검색은 후보(shadow) 전략으로도 비동기 실행해 결과와 지연 시간을 비교하는 데코레이터입니다.
+ * (SearchStrategyConfig에서 bookmark.search.shadow.strategy가 설정된 경우 사용)
+ *
+ * 기록하는 메트릭 (/actuator/metrics):
+ * - bookmark.search.shadow.latency (role=primary|shadow, strategy=빈 이름): 전략 실행 시간. primary는 모든 검색, shadow는 샘플링한 검색
+ * - bookmark.search.shadow.jaccard: 같은 요청에 대한 두 결과의 상위 k개 Jaccard 유사도
+ * - bookmark.search.shadow.rank-correlation: 상위 k개 공통 결과의 순위 상관계수 (Spearman, 공통 결과가 2개 이상일 때만)
+ * - bookmark.search.shadow.errors / bookmark.search.shadow.dropped: shadow 실행 실패 / 대기열이 가득 차 건너뛴 횟수
+ *
+ * shadow 실행은 별도 스레드의 읽기 전용 트랜잭션에서 수행하며, 실패하거나 밀려도 응답에는 영향을 주지 않습니다.
+ */
+@Slf4j
+public class ShadowSearchStrategy implements BookmarkSearchStrategy {
+
+    private final BookmarkSearchStrategy primary;
+    private final BookmarkSearchStrategy shadow;
+    private final double sampleRate;
+    private final int compareTopK;
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Timer primaryLatency;
+    private final Timer shadowLatency;
+    private final DistributionSummary jaccard;
+    private final DistributionSummary rankCorrelation;
+    private final Counter errors;
+    private final Counter dropped;
+
+    public ShadowSearchStrategy(BookmarkSearchStrategy primary, String primaryName,
+                                BookmarkSearchStrategy shadow, String shadowName,
+                                double sampleRate, int compareTopK, Executor executor,
+                                TransactionTemplate readOnlyTransaction, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.shadow = shadow;
+        this.sampleRate = sampleRate;
+        this.compareTopK = compareTopK;
+        this.executor = executor;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.primaryLatency = Timer.builder("bookmark.search.shadow.latency")
+                .tag("role", "primary").tag("strategy", primaryName)
+                .register(meterRegistry);
+        this.shadowLatency = Timer.builder("bookmark.search.shadow.latency")
+                .tag("role", "shadow").tag("strategy", shadowName)
+                .register(meterRegistry);
+        this.jaccard = DistributionSummary.builder("bookmark.search.shadow.jaccard")
+                .tag("primary", primaryName).tag("shadow", shadowName)
+                .register(meterRegistry);
+        this.rankCorrelation = DistributionSummary.builder("bookmark.search.shadow.rank-correlation")
+                .tag("primary", primaryName).tag("shadow", shadowName)
+                .register(meterRegistry);
+        this.errors = Counter.builder("bookmark.search.shadow.errors").tag("strategy", shadowName).register(meterRegistry);
+        this.dropped = Counter.builder("bookmark.search.shadow.dropped").tag("strategy", shadowName).register(meterRegistry);
+    }
+
+    @Override
+    public Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable) {
+        long start = System.nanoTime();
+        Page<BookmarkResponseDto> result = primary.search(keyword, tagNames, pageable);
+        primaryLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            List<Long> primaryIds = ids(result);
+            try {
+                executor.execute(() -> runShadow(keyword, tagNames, pageable, primaryIds));
+            } catch (RejectedExecutionException e) {
+                dropped.increment();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supportsFacets() {
+        return primary.supportsFacets();
+    }
+
+    /**
+     * 패싯 검색은 기존 전략으로만 실행합니다. (shadow 비교는 패싯 없는 검색으로 충분하므로 샘플링하지 않음)
+     */
+    @Override
+    public FacetedPage<BookmarkResponseDto> searchWithFacets(String keyword, List<String> tagNames, Pageable pageable, int facetLimit) {
+        long start = System.nanoTime();
+        FacetedPage<BookmarkResponseDto> result = primary.searchWithFacets(keyword, tagNames, pageable, facetLimit);
+        primaryLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    /**
+     * 응답에 사용되는 기존 전략 (explain처럼 실제 전략을 직접 실행해야 하는 곳에서 사용)
+     */
+    public BookmarkSearchStrategy getPrimary() {
+        return primary;
+    }
+
+    private void runShadow(String keyword, List<String> tagNames, Pageable pageable, List<Long> primaryIds) {
+        try {
+            long start = System.nanoTime();
+            Page<BookmarkResponseDto> shadowResult = readOnlyTransaction.execute(status -> shadow.search(keyword, tagNames, pageable));
+            shadowLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            List<Long> shadowIds = ids(shadowResult);
+            double similarity = SearchResultComparison.topKJaccard(primaryIds, shadowIds, compareTopK);
+            jaccard.record(similarity);
+            double correlation = SearchResultComparison.topKRankCorrelation(primaryIds, shadowIds, compareTopK);
+            if (!Double.isNaN(correlation)) {
+                rankCorrelation.record(correlation);
+            }
+            if (similarity < 1.0) {
+                log.debug("Shadow search differs. Keyword: '{}', Tags: {}, Jaccard: {}, Primary: {}, Shadow: {}",
+                        keyword, tagNames, similarity, primaryIds, shadowIds);
+            }
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("Shadow search failed. Keyword: '{}', Tags: {}", keyword, tagNames, e);
+        }
+    }
+
+    private static List<Long> ids(Page<BookmarkResponseDto> page) {
+        if (page == null) {
+            return List.of();
+        }
+        return page.getContent().stream()
+                .map(BookmarkResponseDto::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,215 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.common.SearchText;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 이름(정규화, SearchText) → 해당 태그를 가진 북마크 ID의 압축 비트맵(RoaringBitmap)을 관리하는 인덱스입니다.
+ * 태그 OR/AND 조건은 비트맵 합집합/교집합으로, 개수는 비트맵의 cardinality(popcount)로 계산합니다.
+ *
+ * RoaringBitmap은 스레드 안전하지 않으므로 쓰기는 쓰기 잠금, 조회는 읽기 잠금 안에서 수행하고
+ * 조회 결과는 항상 새 비트맵으로 만들어 반환합니다.
+ * 북마크 ID는 int 범위 안에 있다고 가정합니다. (범위를 넘으면 ArithmeticException)
+ */
+@Component
+@ConditionalOnProperty(name = "bookmark.search.index.enabled", havingValue = "true")
+public class TagBitmapIndex implements BookmarkIndex {
+
+    private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void add(BookmarkSnapshot snapshot) {
+        int bookmarkId = toBitmapId(snapshot.getId());
+        lock.writeLock().lock();
+        try {
+            for (String tagName : normalize(snapshot.getTagNames())) {
+                bitmaps.computeIfAbsent(tagName, key -> new RoaringBitmap()).add(bookmarkId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookmarkSnapshot snapshot) {
+        int bookmarkId = toBitmapId(snapshot.getId());
+        lock.writeLock().lock();
+        try {
+            for (String tagName : normalize(snapshot.getTagNames())) {
+                removeFromBitmap(tagName, bookmarkId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 추가/제거된 태그의 비트맵만 갱신합니다. (제목/설명만 바뀐 경우 아무것도 하지 않음)
+     */
+    @Override
+    public void update(BookmarkSnapshot before, BookmarkSnapshot after) {
+        int bookmarkId = toBitmapId(after.getId());
+        Set<String> beforeTags = normalize(before.getTagNames());
+        Set<String> afterTags = normalize(after.getTagNames());
+        lock.writeLock().lock();
+        try {
+            for (String tagName : beforeTags) {
+                if (!afterTags.contains(tagName)) {
+                    removeFromBitmap(tagName, bookmarkId);
+                }
+            }
+            for (String tagName : afterTags) {
+                if (!beforeTags.contains(tagName)) {
+                    bitmaps.computeIfAbsent(tagName, key -> new RoaringBitmap()).add(bookmarkId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            bitmaps.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 요청한 태그 중 하나라도 가진 북마크 ID (OR 조건, 대소문자 무시)
+     */
+    public RoaringBitmap anyOf(Collection<String> tagNames) {
+        RoaringBitmap result = new RoaringBitmap();
+        lock.readLock().lock();
+        try {
+            for (String tagName : normalize(tagNames)) {
+                RoaringBitmap tagBitmap = bitmaps.get(tagName);
+                if (tagBitmap != null) {
+                    result.or(tagBitmap);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 요청한 태그를 모두 가진 북마크 ID (AND 조건, 대소문자 무시)
+     * 가장 작은 비트맵부터 교집합을 구해 중간 결과를 작게 유지합니다.
+     */
+    public RoaringBitmap allOf(Collection<String> tagNames) {
+        Set<String> requested = normalize(tagNames);
+        if (requested.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> tagBitmaps = new ArrayList<>(requested.size());
+            for (String tagName : requested) {
+                RoaringBitmap tagBitmap = bitmaps.get(tagName);
+                if (tagBitmap == null) {
+                    return new RoaringBitmap(); // 한 태그라도 가진 북마크가 없으면 교집합은 비어 있습니다.
+                }
+                tagBitmaps.add(tagBitmap);
+            }
+            tagBitmaps.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+            RoaringBitmap result = tagBitmaps.get(0).clone();
+            for (int i = 1; i < tagBitmaps.size() && !result.isEmpty(); i++) {
+                result.and(tagBitmaps.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 요청한 태그마다 비트맵을 한 번씩 훑어, 북마크별로 일치하는 태그 개수를 계산합니다.
+     * 층(layer) j에는 j개 이상 일치한 북마크가 들어가며, 태그 비트맵 T를 처리할 때마다
+     * layer[j] |= layer[j-1] & T 로 갱신합니다. (layer[1]은 OR, 마지막 층은 AND 결과)
+     */
+    public TagMatchCounts countMatches(Collection<String> tagNames) {
+        Set<String> requested = normalize(tagNames);
+        List<RoaringBitmap> layers = new ArrayList<>(requested.size());
+        for (int j = 0; j < requested.size(); j++) {
+            layers.add(new RoaringBitmap());
+        }
+        lock.readLock().lock();
+        try {
+            int processed = 0;
+            for (String tagName : requested) {
+                RoaringBitmap tagBitmap = bitmaps.get(tagName);
+                if (tagBitmap != null) {
+                    for (int j = Math.min(processed, layers.size() - 1); j >= 1; j--) {
+                        layers.get(j).or(RoaringBitmap.and(layers.get(j - 1), tagBitmap));
+                    }
+                    layers.get(0).or(tagBitmap);
+                }
+                processed++;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new TagMatchCounts(layers);
+    }
+
+    /**
+     * 태그를 가진 북마크 수 (대소문자 무시)
+     */
+    public int cardinality(String tagName) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = bitmaps.get(SearchText.normalize(tagName));
+            return bitmap == null ? 0 : bitmap.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeFromBitmap(String tagName, int bookmarkId) {
+        RoaringBitmap bitmap = bitmaps.get(tagName);
+        if (bitmap != null) {
+            bitmap.remove(bookmarkId);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(tagName);
+            }
+        }
+    }
+
+    private static Set<String> normalize(Collection<String> tagNames) {
+        if (tagNames == null) {
+            return new HashSet<>();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            if (tagName != null) {
+                normalized.add(SearchText.normalize(tagName));
+            }
+        }
+        return normalized;
+    }
+
+    static int toBitmapId(Long bookmarkId) {
+        return Math.toIntExact(bookmarkId);
+    }
+}
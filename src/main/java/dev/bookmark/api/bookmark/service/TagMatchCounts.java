@@ -0,0 +1,51 @@
+package dev.bookmark.api.bookmark.service;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+/**
+ * TagBitmapIndex.countMatches의 결과입니다.
+ * layers.get(j)에는 요청 태그 중 (j + 1)개 이상을 가진 북마크 ID가 들어 있으며, 층은 아래로 갈수록 포함 관계입니다.
+ * (layers[0] ⊇ layers[1] ⊇ ... ⊇ layers[k-1])
+ */
+public class TagMatchCounts {
+
+    private final List<RoaringBitmap> layers;
+
+    TagMatchCounts(List<RoaringBitmap> layers) {
+        this.layers = layers;
+    }
+
+    /**
+     * 요청 태그를 하나라도 가진 북마크 ID (OR)
+     */
+    public RoaringBitmap getMatched() {
+        return layers.isEmpty() ? new RoaringBitmap() : layers.get(0);
+    }
+
+    /**
+     * 요청 태그를 모두 가진 북마크 ID (AND)
+     */
+    public RoaringBitmap getAllMatched() {
+        return layers.isEmpty() ? new RoaringBitmap() : layers.get(layers.size() - 1);
+    }
+
+    /**
+     * 북마크가 가진 요청 태그의 개수. 층이 포함 관계이므로 이진 탐색으로 찾습니다.
+     */
+    public int count(Long bookmarkId) {
+        int id = TagBitmapIndex.toBitmapId(bookmarkId);
+        int low = 0;
+        int high = layers.size(); // layers[0, low)에는 포함, layers[high, size)에는 미포함
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (layers.get(mid).contains(id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.bookmark.api.bookmark.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 크기가 k로 제한된 힙을 사용하여 상위 k개만 골라내는 헬퍼입니다.
+ * 전체 정렬(O(n log n)) 대신 O(n log k) 시간과 O(k) 메모리로 상위 결과를 구합니다.
+ */
+public final class TopKSelector {
+
+    private TopKSelector() {
+    }
+
+    /**
+     * @param items 전체 후보
+     * @param order 좋은 것이 앞에 오는 정렬 순서
+     * @param k 남길 개수
+     * @return order 순서로 정렬된 상위 최대 k개
+     */
+    public static <T> List<T> select(Iterable<T> items, Comparator<? super T> order, int k) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        // 힙의 맨 앞(head)에는 지금까지 남긴 것 중 가장 나쁜 항목이 오도록 역순으로 정렬합니다.
+        PriorityQueue<T> heap = new PriorityQueue<>(k, Collections.reverseOrder(order));
+        for (T item : items) {
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
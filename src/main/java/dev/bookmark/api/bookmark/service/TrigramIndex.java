@@ -0,0 +1,159 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.common.SearchText;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목/설명의 트라이그램(정규화한 텍스트의 연속한 3글자) → 북마크 ID 비트맵 인덱스입니다.
+ * 키워드의 모든 트라이그램을 가진 북마크만 후보로 좁히고, 실제 부분 문자열 포함 여부는 호출하는 쪽에서 다시 확인합니다.
+ * (트라이그램이 모두 있어도 키워드가 연속으로 등장하지 않을 수 있으므로 후보는 결과의 상위 집합입니다.)
+ *
+ * 3글자 미만의 키워드나 LIKE 와일드카드(%, _) 또는 이스케이프 문자(\)가 포함된 키워드는 좁힐 수 없으므로 null을 반환합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "bookmark.search.index.enabled", havingValue = "true")
+public class TrigramIndex implements BookmarkIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void add(BookmarkSnapshot snapshot) {
+        int bookmarkId = TagBitmapIndex.toBitmapId(snapshot.getId());
+        Set<String> grams = trigrams(snapshot);
+        lock.writeLock().lock();
+        try {
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(bookmarkId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookmarkSnapshot snapshot) {
+        int bookmarkId = TagBitmapIndex.toBitmapId(snapshot.getId());
+        Set<String> grams = trigrams(snapshot);
+        lock.writeLock().lock();
+        try {
+            for (String gram : grams) {
+                removePosting(gram, bookmarkId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 추가/제거된 트라이그램만 반영합니다. (태그만 바뀐 경우 아무것도 하지 않음)
+     */
+    @Override
+    public void update(BookmarkSnapshot before, BookmarkSnapshot after) {
+        int bookmarkId = TagBitmapIndex.toBitmapId(after.getId());
+        Set<String> beforeGrams = trigrams(before);
+        Set<String> afterGrams = trigrams(after);
+        lock.writeLock().lock();
+        try {
+            for (String gram : beforeGrams) {
+                if (!afterGrams.contains(gram)) {
+                    removePosting(gram, bookmarkId);
+                }
+            }
+            for (String gram : afterGrams) {
+                if (!beforeGrams.contains(gram)) {
+                    postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(bookmarkId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 또는 설명에 키워드가 (대소문자 무시) 포함될 수 있는 북마크 ID 후보를 찾습니다.
+     * @return 후보 ID 비트맵, 트라이그램으로 좁힐 수 없는 키워드이면 null (전체 검색 필요)
+     */
+    public RoaringBitmap findCandidates(String keyword) {
+        if (keyword == null || keyword.indexOf('%') >= 0 || keyword.indexOf('_') >= 0 || keyword.indexOf('\\') >= 0) {
+            return null; // LIKE 와일드카드/이스케이프 문자는 글자 그대로 비교되지 않으므로 트라이그램으로 좁힐 수 없습니다.
+        }
+        Set<String> keywordGrams = trigrams(keyword);
+        if (keywordGrams.isEmpty()) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> bitmaps = new ArrayList<>(keywordGrams.size());
+            for (String gram : keywordGrams) {
+                RoaringBitmap bitmap = postings.get(gram);
+                if (bitmap == null) {
+                    return new RoaringBitmap();
+                }
+                bitmaps.add(bitmap);
+            }
+            // 가장 작은 비트맵부터 교집합을 구해 중간 결과를 작게 유지합니다.
+            bitmaps.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+            RoaringBitmap result = bitmaps.get(0).clone();
+            for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+                result.and(bitmaps.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removePosting(String gram, int bookmarkId) {
+        RoaringBitmap bitmap = postings.get(gram);
+        if (bitmap != null) {
+            bitmap.remove(bookmarkId);
+            if (bitmap.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> trigrams(BookmarkSnapshot snapshot) {
+        Set<String> grams = trigrams(snapshot.getTitle());
+        grams.addAll(trigrams(snapshot.getDescription()));
+        return grams;
+    }
+
+    static Set<String> trigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        String normalized = SearchText.normalize(text);
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
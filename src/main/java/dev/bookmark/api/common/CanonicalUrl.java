@@ -0,0 +1,127 @@
+package dev.bookmark.api.common;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 중복 북마크 확인에 사용하는 URL 정규화 규칙입니다.
+ * 같은 페이지를 가리키지만 표기만 다른 URL(대소문자가 다른 scheme/호스트, 기본 포트, 빈 경로, 프래그먼트, 추적용 파라미터,
+ * 소문자 퍼센트 인코딩, ./.. 경로)을 같은 문자열로 바꿉니다. 경로와 나머지 쿼리는 대소문자와 순서를 그대로 둡니다.
+ * 엔티티는 정규화한 URL과 그 해시(고정 길이, 인덱스)를 함께 저장하고, 중복 조회는 해시로 찾은 뒤 정규화 URL로 확인합니다.
+ */
+public final class CanonicalUrl {
+
+    public static final int HASH_LENGTH = 64; // SHA-256 16진수
+
+    // 페이지 내용과 관계없는 광고/유입 추적 파라미터 (utm_* 포함)
+    private static final Set<String> TRACKING_PARAMETERS = Set.of("fbclid", "gclid", "msclkid", "mc_cid", "mc_eid");
+
+    private CanonicalUrl() {
+    }
+
+    /**
+     * URL을 정규화합니다. null은 null을 반환하고, 계층형 URL(scheme://host...)이 아니면 앞뒤 공백만 제거합니다.
+     */
+    public static String canonicalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.strip();
+        URI uri;
+        try {
+            uri = new URI(trimmed).normalize();
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getScheme() == null || uri.isOpaque() || uri.getHost() == null) {
+            return trimmed;
+        }
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        StringBuilder canonical = new StringBuilder(trimmed.length() + 1).append(scheme).append("://");
+        if (uri.getRawUserInfo() != null) {
+            canonical.append(uri.getRawUserInfo()).append('@');
+        }
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        canonical.append(host.endsWith(".") ? host.substring(0, host.length() - 1) : host);
+        if (uri.getPort() != -1 && uri.getPort() != defaultPort(scheme)) {
+            canonical.append(':').append(uri.getPort());
+        }
+        String path = uri.getRawPath();
+        canonical.append(path == null || path.isEmpty() ? "/" : upperCaseEscapes(path));
+        String query = withoutTrackingParameters(uri.getRawQuery());
+        if (query != null) {
+            canonical.append('?').append(upperCaseEscapes(query));
+        }
+        return canonical.toString(); // 프래그먼트(#...)는 버립니다.
+    }
+
+    /**
+     * 정규화한 URL의 SHA-256 해시를 16진수 문자열(HASH_LENGTH자)로 반환합니다. null은 null을 반환합니다.
+     */
+    public static String hash(String canonicalUrl) {
+        if (canonicalUrl == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonicalUrl.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e); // 모든 자바 플랫폼이 지원해야 하는 알고리즘
+        }
+    }
+
+    private static int defaultPort(String scheme) {
+        return switch (scheme) {
+            case "http" -> 80;
+            case "https" -> 443;
+            case "ftp" -> 21;
+            default -> -1;
+        };
+    }
+
+    // 추적 파라미터를 뺀 쿼리 (남는 파라미터가 없으면 null)
+    private static String withoutTrackingParameters(String query) {
+        if (query == null || query.isEmpty()) {
+            return null;
+        }
+        StringBuilder kept = new StringBuilder(query.length());
+        for (String parameter : query.split("&")) {
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            int equals = parameter.indexOf('=');
+            String name = (equals >= 0 ? parameter.substring(0, equals) : parameter).toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMETERS.contains(name)) {
+                continue;
+            }
+            if (!kept.isEmpty()) {
+                kept.append('&');
+            }
+            kept.append(parameter);
+        }
+        return kept.isEmpty() ? null : kept.toString();
+    }
+
+    // %2f → %2F (퍼센트 인코딩의 16진수는 대소문자를 구분하지 않음)
+    private static String upperCaseEscapes(String value) {
+        if (value.indexOf('%') < 0) {
+            return value;
+        }
+        char[] chars = value.toCharArray();
+        for (int i = 0; i + 2 < chars.length; i++) {
+            if (chars[i] == '%') {
+                chars[i + 1] = Character.toUpperCase(chars[i + 1]);
+                chars[i + 2] = Character.toUpperCase(chars[i + 2]);
+                i += 2;
+            }
+        }
+        return new String(chars);
+    }
+}
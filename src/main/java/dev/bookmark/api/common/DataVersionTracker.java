@@ -0,0 +1,90 @@
+package dev.bookmark.api.common;
+
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.folder.event.FolderChangedEvent;
+import dev.bookmark.api.tag.event.TagChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 데이터 변경 시마다 증가하는 버전 번호를 관리합니다.
+ * 북마크/태그/폴더 서비스가 발행하는 변경 이벤트를 트랜잭션 커밋 이후에 받아 버전을 올리므로,
+ * 버전을 키에 포함한 캐시는 변경이 커밋된 뒤에는 이전 결과를 더 이상 사용하지 않습니다.
+ * 버전은 검색 인덱스 등 다른 커밋 이후 리스너(BookmarkIndexMaintainer)가 변경을 반영한 뒤에 올립니다.
+ * 먼저 올리면 그 사이에 실행된 검색이 반영 전 인덱스의 결과를 새 버전 키로 캐시해 TTL까지 사용하게 됩니다.
+ */
+@Slf4j
+@Component
+public class DataVersionTracker {
+
+    public enum Scope { BOOKMARKS, TAGS, FOLDERS }
+
+    // 변경 이벤트 리스너 순서. 캐시되는 결과에 영향을 주는 리스너는 이보다 앞선 순서를 지정해야 합니다.
+    public static final int LISTENER_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final Map<Scope, AtomicLong> scopeVersions = new EnumMap<>(Scope.class);
+    private final AtomicLong tagNamesVersion = new AtomicLong();
+
+    public DataVersionTracker() {
+        for (Scope scope : Scope.values()) {
+            scopeVersions.put(scope, new AtomicLong());
+        }
+    }
+
+    /**
+     * 어떤 데이터든 변경될 때마다 증가하는 버전
+     */
+    public long getGlobalVersion() {
+        return globalVersion.get();
+    }
+
+    /**
+     * 특정 종류의 데이터가 변경될 때마다 증가하는 버전
+     */
+    public long getVersion(Scope scope) {
+        return scopeVersions.get(scope).get();
+    }
+
+    /**
+     * 이미 있는 태그의 이름이 바뀌거나 태그가 삭제될 때만 증가하는 버전
+     * 태그 생성은 기존 북마크의 태그 목록을 바꾸지 않으므로 포함하지 않습니다. (태그 이름이 담긴 개별 북마크 응답의 ETag용)
+     */
+    public long getTagNamesVersion() {
+        return tagNamesVersion.get();
+    }
+
+    public void bump(Scope scope) {
+        scopeVersions.get(scope).incrementAndGet();
+        long version = globalVersion.incrementAndGet();
+        log.debug("Data version bumped by {} change. Global version: {}", scope, version);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LISTENER_ORDER)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        bump(Scope.BOOKMARKS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LISTENER_ORDER)
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() != TagChangedEvent.Type.CREATED) {
+            tagNamesVersion.incrementAndGet();
+        }
+        bump(Scope.TAGS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LISTENER_ORDER)
+    public void onFolderChanged(FolderChangedEvent event) {
+        bump(Scope.FOLDERS);
+    }
+}
@@ -0,0 +1,8 @@
+package dev.bookmark.api.common;
+
+/**
+ * 응답 본문과, 본문과 같은 시점(같은 트랜잭션)에 만든 ETag입니다.
+ * 트랜잭션이 끝난 뒤 ETag를 따로 조회하면 그 사이의 다른 수정이 반영된 ETag가 붙을 수 있으므로 함께 반환할 때 사용합니다.
+ */
+public record ETagged<T>(T body, String eTag) {
+}
@@ -0,0 +1,70 @@
+package dev.bookmark.api.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조건부 요청(If-None-Match/If-Match)에 쓰는 ETag를 만듭니다.
+ * 목록/트리는 DataVersionTracker의 버전으로, 개별 엔티티는 응답에 담기는 엔티티들의 updatedAt으로 만들므로
+ * 엔티티를 불러오거나 응답 DTO를 만들지 않고도 ETag를 알 수 있습니다.
+ * DataVersionTracker의 버전은 메모리에만 있어 재시작하면 0부터 다시 시작하므로, 기동 시각을 앞에 붙여 이전 프로세스의 ETag와 겹치지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceETags {
+
+    private final DataVersionTracker dataVersionTracker;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    /**
+     * 주어진 종류의 데이터가 하나라도 바뀌면 달라지는 ETag (목록/트리용)
+     */
+    public String ofScopes(DataVersionTracker.Scope... scopes) {
+        StringBuilder eTag = new StringBuilder("\"").append(epoch);
+        for (DataVersionTracker.Scope scope : scopes) {
+            eTag.append('-').append(Long.toString(dataVersionTracker.getVersion(scope), Character.MAX_RADIX));
+        }
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * 응답에 담기는 엔티티들(본인과 소속 폴더 등) 중 하나라도 수정되거나(updatedAt), 태그 이름이 바뀌면 달라지는 ETag (개별 엔티티용)
+     * 태그에는 updatedAt이 없으므로 DataVersionTracker의 태그 이름 버전을 사용합니다. (태그 생성으로는 달라지지 않음)
+     * updatedAt은 DB에 저장되는 정밀도(마이크로초)로 잘라 쓰므로, 저장 전의 값과 다시 조회한 값이 같은 ETag가 됩니다.
+     * @param updatedAts 엔티티들의 수정 시각 (없는 엔티티는 null)
+     */
+    public String ofEntity(LocalDateTime... updatedAts) {
+        StringBuilder eTag = new StringBuilder("\"").append(epoch)
+                .append('-').append(Long.toString(dataVersionTracker.getTagNamesVersion(), Character.MAX_RADIX));
+        for (LocalDateTime updatedAt : updatedAts) {
+            long micros = 0;
+            if (updatedAt != null) {
+                LocalDateTime truncated = updatedAt.truncatedTo(ChronoUnit.MICROS);
+                micros = truncated.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + truncated.getNano() / 1_000;
+            }
+            eTag.append('-').append(Long.toString(micros, Character.MAX_RADIX));
+        }
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * If-Match 헤더 값이 eTag와 일치하는지 확인합니다. (강한 비교: W/로 시작하는 약한 ETag는 일치하지 않음, *는 항상 일치)
+     * @param ifMatch 쉼표로 구분한 ETag 목록 (null이면 조건 없음으로 보고 true)
+     */
+    public static boolean matches(String ifMatch, String eTag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.strip();
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
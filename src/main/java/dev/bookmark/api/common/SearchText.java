@@ -0,0 +1,41 @@
+package dev.bookmark.api.common;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색 비교에 사용하는 정규화 규칙입니다. (소문자 + 유니코드 NFC)
+ * 엔티티는 저장 시 이 규칙으로 만든 값을 정규화 컬럼에 함께 저장하고, 검색 전략은 검색어를 같은 규칙으로 바꿔 비교합니다.
+ * 조합형/완성형처럼 입력 방식이 달라도, 대소문자가 달라도 같은 글자로 취급되며 DB 쿼리는 행마다 LOWER()를 계산하지 않습니다.
+ */
+public final class SearchText {
+
+    // 이보다 작은 코드의 글자만 있으면 결합 문자가 없으므로 이미 NFC 형태입니다.
+    private static final char FIRST_COMBINING_CHAR = '\u0300';
+
+    private SearchText() {
+    }
+
+    /**
+     * 검색 비교용으로 문자열을 정규화합니다. null은 null을 반환합니다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (isBelowCombiningRange(lower) || Normalizer.isNormalized(lower, Normalizer.Form.NFC)) {
+            return lower;
+        }
+        return Normalizer.normalize(lower, Normalizer.Form.NFC);
+    }
+
+    private static boolean isBelowCombiningRange(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= FIRST_COMBINING_CHAR) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
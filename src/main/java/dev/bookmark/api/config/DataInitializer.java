@@ -56,6 +56,10 @@ public class DataInitializer implements CommandLineRunner { // 2. CommandLineRun
 
         Folder folderPlan = folderRepository.save(Folder.builder().name("기획").parentFolder(folderProjectA).build());
         Folder folderDev = folderRepository.save(Folder.builder().name("개발").parentFolder(folderProjectA).build());
+        // 폴더 경로는 ID가 정해진 뒤에 계산합니다. (부모부터 순서대로, 커밋 시 UPDATE)
+        for (Folder folder : List.of(folderWork, folderPersonal, folderProjectA, folderProjectB, folderPlan, folderDev)) {
+            folder.refreshPath();
+        }
 
         // 7. 북마크 생성
         Bookmark bm1 = Bookmark.builder()
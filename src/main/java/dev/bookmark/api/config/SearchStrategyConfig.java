@@ -0,0 +1,113 @@
+package dev.bookmark.api.config;
+
+import dev.bookmark.api.bookmark.service.BookmarkSearchStrategy;
+import dev.bookmark.api.bookmark.service.CachingSearchStrategy;
+import dev.bookmark.api.bookmark.service.ShadowSearchStrategy;
+import dev.bookmark.api.common.DataVersionTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 BookmarkSearchStrategy 구현체 중 실제로 사용할 전략을 설정으로 선택합니다.
+ * bookmark.search.strategy 값에는 전략 빈의 이름(예: appLevelSortSearchStrategy)을 지정합니다.
+ * bookmark.search.shadow.strategy를 지정하면 선택한 전략으로 응답하면서 일부 검색을 그 전략으로도 실행해 비교합니다.
+ * bookmark.search.cache.enabled=true이면 선택한 전략을 검색 결과 캐시로 감쌉니다.
+ */
+@Slf4j
+@Configuration
+public class SearchStrategyConfig {
+
+    @Bean
+    @Primary // BookmarkService 등 BookmarkSearchStrategy를 주입받는 곳에서는 이 빈이 사용됩니다.
+    public BookmarkSearchStrategy bookmarkSearchStrategy(
+            Map<String, BookmarkSearchStrategy> strategies,
+            @Value("${bookmark.search.strategy:appLevelSortSearchStrategy}") String strategyName,
+            @Value("${bookmark.search.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${bookmark.search.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${bookmark.search.cache.ttl:PT5M}") Duration cacheTtl,
+            @Value("${bookmark.search.shadow.strategy:}") String shadowStrategyName,
+            @Value("${bookmark.search.shadow.sample-rate:0.05}") double shadowSampleRate,
+            @Value("${bookmark.search.shadow.compare-top-k:10}") int shadowCompareTopK,
+            @Qualifier("searchShadowExecutor") ObjectProvider<ThreadPoolExecutor> shadowExecutor,
+            DataVersionTracker dataVersionTracker,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        BookmarkSearchStrategy strategy = strategies.get(strategyName);
+        if (strategy == null) {
+            throw new IllegalStateException("설정된 검색 전략을 찾을 수 없습니다: " + strategyName
+                    + " (사용 가능한 전략: " + strategies.keySet() + ")");
+        }
+        log.info("Using search strategy '{}'", strategyName);
+        if (StringUtils.hasText(shadowStrategyName)) {
+            strategy = shadow(strategy, strategyName, strategies, shadowStrategyName, shadowSampleRate, shadowCompareTopK,
+                    shadowExecutor.getObject(), transactionManager, meterRegistry);
+        }
+        if (!cacheEnabled) {
+            return strategy;
+        }
+
+        CachingSearchStrategy cachingStrategy = new CachingSearchStrategy(strategy, dataVersionTracker, cacheMaximumSize, cacheTtl);
+        // 적중/실패/제거 횟수는 /actuator/metrics/cache.gets, cache.evictions 등으로 확인할 수 있습니다. (cache=bookmarkSearch)
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cachingStrategy.getCache(), "bookmarkSearch"));
+        log.info("Search result cache enabled. Maximum size: {}, TTL: {}", cacheMaximumSize, cacheTtl);
+        return cachingStrategy;
+    }
+
+    /**
+     * shadow 검색을 실행하는 스레드 풀입니다. (bookmark.search.shadow.strategy를 지정한 경우에만 생성)
+     * 컨텍스트가 종료될 때 shutdown하며, 대기열이 가득 차면 shadow 실행을 건너뜁니다. (응답 스레드가 기다리거나 대신 실행하지 않음)
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnExpression("'${bookmark.search.shadow.strategy:}' != ''")
+    public ThreadPoolExecutor searchShadowExecutor(
+            @Value("${bookmark.search.shadow.threads:1}") int threads,
+            @Value("${bookmark.search.shadow.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "search-shadow-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 선택한 전략으로 응답하면서, 샘플링한 검색은 shadow 전략으로도 실행해 비교하도록 감쌉니다.
+     * 캐시보다 안쪽에 두므로 캐시 적중 시에는 어느 전략도 실행되지 않고, 비교도 하지 않습니다.
+     */
+    private static BookmarkSearchStrategy shadow(BookmarkSearchStrategy primary, String primaryName,
+                                                 Map<String, BookmarkSearchStrategy> strategies, String shadowName,
+                                                 double sampleRate, int compareTopK, ThreadPoolExecutor executor,
+                                                 PlatformTransactionManager transactionManager,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        BookmarkSearchStrategy shadow = strategies.get(shadowName);
+        if (shadow == null) {
+            throw new IllegalStateException("설정된 shadow 검색 전략을 찾을 수 없습니다: " + shadowName
+                    + " (사용 가능한 전략: " + strategies.keySet() + ")");
+        }
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        log.info("Shadow search enabled. Shadow strategy: '{}', Sample rate: {}, Compare top-k: {}", shadowName, sampleRate, compareTopK);
+        return new ShadowSearchStrategy(primary, primaryName, shadow, shadowName, sampleRate, compareTopK, executor,
+                readOnlyTransaction, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
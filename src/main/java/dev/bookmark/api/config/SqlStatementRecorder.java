@@ -0,0 +1,17 @@
+package dev.bookmark.api.config;
+
+import dev.bookmark.api.bookmark.service.SearchProfiler;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL을 검색 프로파일에 기록합니다. SQL은 바꾸지 않고 그대로 반환합니다.
+ * application.properties의 hibernate.session_factory.statement_inspector로 등록합니다.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SearchProfiler.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.bookmark.api.exception;
+
+/**
+ * 요청의 전제 조건(If-Match)이 현재 상태와 맞지 않을 때 발생합니다. (412 Precondition Failed)
+ * 클라이언트가 가진 버전 이후에 다른 요청이 먼저 수정한 경우로, 최신 상태를 다시 조회한 뒤 재시도해야 합니다.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,7 @@
 package dev.bookmark.api.folder.controller; // 1. 패키지 선언
 
+import dev.bookmark.api.common.DataVersionTracker;
+import dev.bookmark.api.common.ResourceETags;
 import dev.bookmark.api.folder.domain.Folder;
 import dev.bookmark.api.folder.dto.FolderCreateRequestDto; // 2. DTO 및 서비스 임포트
 import dev.bookmark.api.folder.dto.FolderResponseDto;
@@ -14,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,6 +27,7 @@ import java.util.List;
 public class FolderController {
 
     private final FolderService folderService; // 7. FolderService 주입
+    private final ResourceETags resourceETags; // 트리 조회의 ETag (조건부 요청)
 
     /**
      * 새 폴더 생성 API
@@ -80,13 +84,18 @@ public class FolderController {
 
     /**
      * 전체 폴더 계층 구조(트리)를 조회하는 API
-     * @return 계층 구조를 가진 폴더 정보 목록 및 HTTP 200 OK
+     * @return 계층 구조를 가진 폴더 정보 목록 및 HTTP 200 OK (If-None-Match가 현재 ETag와 같으면 본문 없이 304 Not Modified)
      */
-    @Operation(summary = "전체 폴더 계층 구조(트리) 조회", description = "모든 폴더와 북마크의 전체 계층 구조를 조회합니다.")
+    @Operation(summary = "전체 폴더 계층 구조(트리) 조회", description = "모든 폴더와 북마크의 전체 계층 구조를 조회합니다. 응답의 ETag를 If-None-Match로 보내면 그 뒤로 폴더/북마크/태그가 바뀌지 않은 경우 트리를 만들지 않고 304 Not Modified를 반환합니다.")
     @GetMapping("/tree")
-    public ResponseEntity<List<FolderTreeResponseDto>> getFolderTree() {
+    public ResponseEntity<List<FolderTreeResponseDto>> getFolderTree(WebRequest webRequest) {
+        // 트리에는 폴더, 북마크, 태그 이름이 모두 담기므로 셋 중 하나라도 바뀌면 ETag가 달라집니다.
+        String eTag = resourceETags.ofScopes(DataVersionTracker.Scope.FOLDERS, DataVersionTracker.Scope.BOOKMARKS, DataVersionTracker.Scope.TAGS);
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
         List<FolderTreeResponseDto> folderTree = folderService.getFolderTree();
-        return ResponseEntity.ok(folderTree);
+        return ResponseEntity.ok().eTag(eTag).body(folderTree);
     }
 
 
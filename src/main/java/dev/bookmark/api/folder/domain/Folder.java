@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "folders")
+@Table(name = "folders", indexes = @Index(name = "idx_folders_path", columnList = "path"))
 public class Folder {
 
     @Id
@@ -30,6 +30,12 @@ public class Folder {
     @JoinColumn(name = "parent_folder_id") // 이 컬럼은 null을 허용해야 최상위 폴더를 표현 가능 (기본적으로 FK는 null 허용)
     private Folder parentFolder; // 부모 폴더 참조
 
+    // 루트부터 이 폴더까지의 ID 경로 (materialized path, 예: /1/5/9/)
+    // 하위 폴더 전체가 같은 접두사를 가지므로 "path LIKE '/1/5/%'" 하나로 폴더 범위를 인덱스로 찾을 수 있습니다.
+    // ID가 정해진 뒤에 계산하므로 INSERT 직후에는 비어 있고, FolderService가 저장/이동할 때 채웁니다.
+    @Column(name = "path", length = 1000)
+    private String path;
+
     // 만약 Folder 엔티티가 자식 폴더 목록도 알아야 한다면 (양방향 관계)
     // @OneToMany(mappedBy = "parentFolder", cascade = CascadeType.ALL, orphanRemoval = true)
     // private List<Folder> childFolders = new ArrayList<>();
@@ -66,4 +72,19 @@ public class Folder {
         // (이러한 순환 참조 방지 로직은 서비스 계층에서 처리하는 것이 더 적절할 수도 있습니다.)
         this.parentFolder = newParentFolder;
     }
+
+    /**
+     * 부모 폴더의 경로 뒤에 자신의 ID를 붙여 경로를 다시 계산합니다.
+     * ID가 필요하므로 저장 이후에, 그리고 부모 폴더를 바꾼 뒤에 호출합니다. (하위 폴더의 경로는 FolderService에서 함께 바꿉니다.)
+     */
+    public void refreshPath() {
+        this.path = (parentFolder != null ? parentFolder.getPath() : "/") + id + "/";
+    }
+
+    /**
+     * 이 폴더가 other 자신이거나 other의 하위 폴더인지 여부 (경로 접두사로 판단)
+     */
+    public boolean isWithin(Folder other) {
+        return path != null && other.getPath() != null && path.startsWith(other.getPath());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package dev.bookmark.api.folder.event;
+
+import lombok.Getter;
+
+/**
+ * 폴더가 생성, 수정(이름/부모 변경), 삭제되었을 때 발행되는 이벤트입니다.
+ * 폴더 이름은 북마크 응답에도 포함되므로 검색 캐시 등을 무효화하는 데 사용됩니다.
+ */
+@Getter
+public class FolderChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long folderId;
+
+    private FolderChangedEvent(Type type, Long folderId) {
+        this.type = type;
+        this.folderId = folderId;
+    }
+
+    public static FolderChangedEvent created(Long folderId) {
+        return new FolderChangedEvent(Type.CREATED, folderId);
+    }
+
+    public static FolderChangedEvent updated(Long folderId) {
+        return new FolderChangedEvent(Type.UPDATED, folderId);
+    }
+
+    public static FolderChangedEvent deleted(Long folderId) {
+        return new FolderChangedEvent(Type.DELETED, folderId);
+    }
+}
@@ -2,6 +2,9 @@ package dev.bookmark.api.folder.repository; // 1. 패키지 선언
 
 import dev.bookmark.api.folder.domain.Folder; // 2. Folder 엔티티 임포트
 import org.springframework.data.jpa.repository.JpaRepository; // 3. JpaRepository 임포트
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,4 +34,21 @@ public interface FolderRepository extends JpaRepository<Folder, Long> {
 
     // 특정 폴더를 부모로 하는 하위 폴더가 하나라도 존재하는지 확인하는 메소드
     boolean existsByParentFolder(Folder parentFolder);
+
+    /**
+     * 경로가 pathPrefix로 시작하는 폴더(자신과 모든 하위 폴더)를 깊은 폴더부터 조회합니다.
+     */
+    @Query("SELECT f FROM Folder f WHERE f.path LIKE CONCAT(:pathPrefix, '%') ORDER BY LENGTH(f.path) DESC")
+    List<Folder> findSubtreeDeepestFirst(@Param("pathPrefix") String pathPrefix);
+
+    /**
+     * 폴더를 옮긴 뒤 하위 폴더들의 경로 접두사를 한 번에 바꿉니다. (oldPrefix → newPrefix)
+     * 옮긴 폴더 자신의 경로는 엔티티에서 바꾸며, 쿼리 실행 전에 flush되어 oldPrefix와 더 이상 일치하지 않습니다.
+     * 영속성 컨텍스트에 이미 불러온 하위 폴더 엔티티의 경로는 갱신되지 않으므로, 같은 트랜잭션에서 다시 읽어야 한다면 새로 조회해야 합니다.
+     * @return 경로가 바뀐 하위 폴더 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Folder f SET f.path = CONCAT(:newPrefix, SUBSTRING(f.path, LENGTH(:oldPrefix) + 1)) " +
+            "WHERE f.path LIKE CONCAT(:oldPrefix, '%')")
+    int replacePathPrefix(@Param("oldPrefix") String oldPrefix, @Param("newPrefix") String newPrefix);
 }
\ No newline at end of file
@@ -8,9 +8,11 @@ import dev.bookmark.api.folder.dto.FolderCreateRequestDto;
 import dev.bookmark.api.folder.dto.FolderResponseDto;
 import dev.bookmark.api.folder.dto.FolderTreeResponseDto;
 import dev.bookmark.api.folder.dto.FolderUpdateRequestDto;
+import dev.bookmark.api.folder.event.FolderChangedEvent;
 import dev.bookmark.api.folder.repository.FolderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class FolderService {
 
     private final FolderRepository folderRepository;
     private final BookmarkRepository bookmarkRepository; // 북마크 조회를 위해 필요
+    private final ApplicationEventPublisher eventPublisher; // 폴더 변경을 검색 캐시 등에 알리기 위해 필요
 
     @Transactional
     public FolderResponseDto createFolder(FolderCreateRequestDto requestDto) {
@@ -63,6 +66,8 @@ public class FolderService {
                 .build();
 
         Folder savedFolder = folderRepository.save(newFolder);
+        savedFolder.refreshPath(); // 경로에 자신의 ID가 들어가므로 저장 후에 계산합니다. (커밋 시 UPDATE)
+        eventPublisher.publishEvent(FolderChangedEvent.created(savedFolder.getId()));
         log.info("Folder created successfully with ID: {}", savedFolder.getId());
         return FolderResponseDto.fromEntity(savedFolder);
     }
@@ -153,12 +158,22 @@ public class FolderService {
                 }
                 newParentFolder = folderRepository.findById(requestDto.getParentFolderId())
                         .orElseThrow(() -> new IllegalArgumentException("새로운 부모 폴더를 찾을 수 없습니다. ID: " + requestDto.getParentFolderId()));
-                // TODO: 순환 참조 방지 로직 (새로운 부모가 현재 폴더의 하위 폴더인지 체크)은 여기에 추가해야 합니다.
-                //       이 로직은 조금 복잡할 수 있으므로 Phase 2에서 다루거나 지금은 생략할 수 있습니다.
+                // 순환 참조 방지: 새로운 부모가 현재 폴더의 하위 폴더이면 안 됩니다. (경로 접두사로 확인)
+                if (newParentFolder.isWithin(folderToUpdate)) {
+                    throw new IllegalArgumentException("하위 폴더를 부모 폴더로 지정할 수 없습니다.");
+                }
             }
             // newParentFolder가 null이면 최상위로 이동하는 것을 의미합니다.
+            String oldPath = folderToUpdate.getPath();
             folderToUpdate.changeParentFolder(newParentFolder);
+            folderToUpdate.refreshPath();
+            // 하위 폴더들의 경로도 같은 접두사만 바꾸면 되므로 UPDATE 한 번으로 처리합니다.
+            if (oldPath != null && !oldPath.equals(folderToUpdate.getPath())) {
+                int movedCount = folderRepository.replacePathPrefix(oldPath, folderToUpdate.getPath());
+                log.debug("Moved folder {} with {} descendants: {} -> {}", folderId, movedCount, oldPath, folderToUpdate.getPath());
+            }
         }
+        eventPublisher.publishEvent(FolderChangedEvent.updated(folderToUpdate.getId()));
         return FolderResponseDto.fromEntity(folderToUpdate);
     }
 
@@ -189,18 +204,23 @@ public class FolderService {
             // }
             folderRepository.delete(folderToDelete); // 하위 내용이 없으면 현재 폴더만 삭제
         }
+        eventPublisher.publishEvent(FolderChangedEvent.deleted(folderId));
     }
 
-    // 3-1. (헬퍼 메소드) 폴더 내용물 재귀적 삭제
+    // 3-1. (헬퍼 메소드) 폴더 내용물 삭제
     private void deleteFolderContentsRecursively(Folder parentFolder) {
         // a. 이 폴더에 속한 모든 북마크 삭제 (BookmarkRepository 필요)
         // bookmarkRepository.deleteAllByFolder(parentFolder); // 예시 메소드, 실제 구현 필요
 
-        // b. 이 폴더의 모든 하위 폴더들에 대해 재귀적으로 이 메소드를 호출하여 내용물 삭제 후 폴더 자체 삭제
-        List<Folder> childFolders = folderRepository.findByParentFolder_Id(parentFolder.getId());
-        for (Folder child : childFolders) {
-            deleteFolderContentsRecursively(child); // 재귀 호출
-            folderRepository.delete(child);         // 하위 폴더 삭제
+        // b. 경로 접두사로 모든 하위 폴더를 한 번에 조회해 삭제합니다.
+        //    자식의 경로는 항상 부모의 경로보다 길기 때문에, 긴 경로부터 삭제하면 자식이 부모보다 먼저 삭제됩니다. (외래 키 순서)
+        List<Folder> subtree = folderRepository.findSubtreeDeepestFirst(parentFolder.getPath());
+        for (Folder child : subtree) {
+            if (child.getId().equals(parentFolder.getId())) {
+                continue; // 자기 자신은 호출한 쪽에서 삭제합니다.
+            }
+            folderRepository.delete(child);
+            eventPublisher.publishEvent(FolderChangedEvent.deleted(child.getId()));
         }
     }
 
@@ -0,0 +1,38 @@
+package dev.bookmark.api.suggest.controller;
+
+import dev.bookmark.api.suggest.dto.SuggestResponseDto;
+import dev.bookmark.api.suggest.service.SuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Suggest API", description = "태그 이름과 북마크 제목 자동완성을 위한 API")
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestService suggestService;
+
+    /**
+     * 자동완성 후보 조회 API
+     * @param prefix 입력 중인 접두어
+     * @param limit 종류(태그/제목)별 최대 후보 수
+     * @return 사용 횟수 순으로 정렬된 태그 이름과 북마크 제목 후보
+     */
+    @Operation(summary = "자동완성 후보 조회", description = "접두어로 시작하는 태그 이름과 북마크 제목을 사용 횟수가 많은 순으로 조회합니다. 대소문자를 구분하지 않으며, DB를 조회하지 않고 메모리의 인덱스만 사용합니다.")
+    @GetMapping("/suggest") // GET /api/v1/suggest?prefix=
+    public ResponseEntity<SuggestResponseDto> suggest(
+            @Parameter(description = "입력 중인 접두어", required = true, example = "spr")
+            @RequestParam(name = "prefix") String prefix,
+            @Parameter(description = "종류별 최대 후보 수 (1 ~ 10)", example = "10")
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestService.suggest(prefix, limit));
+    }
+}
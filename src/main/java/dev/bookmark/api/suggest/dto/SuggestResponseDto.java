@@ -0,0 +1,22 @@
+package dev.bookmark.api.suggest.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 자동완성 응답 (태그 이름 후보와 북마크 제목 후보를 각각 사용 횟수 순으로 제공)
+ */
+@Getter
+public class SuggestResponseDto {
+
+    private final String prefix;
+    private final List<SuggestionDto> tags;
+    private final List<SuggestionDto> titles;
+
+    public SuggestResponseDto(String prefix, List<SuggestionDto> tags, List<SuggestionDto> titles) {
+        this.prefix = prefix;
+        this.tags = tags;
+        this.titles = titles;
+    }
+}
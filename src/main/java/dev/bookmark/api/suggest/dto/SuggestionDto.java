@@ -0,0 +1,18 @@
+package dev.bookmark.api.suggest.dto;
+
+import lombok.Getter;
+
+/**
+ * 자동완성 후보 하나 (표시할 텍스트와 사용 횟수)
+ */
+@Getter
+public class SuggestionDto {
+
+    private final String text;
+    private final long usageCount; // 태그: 이 태그를 사용하는 북마크 수, 제목: 같은 제목의 북마크 수
+
+    public SuggestionDto(String text, long usageCount) {
+        this.text = text;
+        this.usageCount = usageCount;
+    }
+}
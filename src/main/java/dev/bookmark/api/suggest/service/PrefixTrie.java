@@ -0,0 +1,281 @@
+package dev.bookmark.api.suggest.service;
+
+import dev.bookmark.api.suggest.dto.SuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 자동완성을 위한 접두어 트라이입니다. 노드마다 하위 트리에서 가중치(사용 횟수)가 가장 높은 topK개의 항목을 미리 계산해 둡니다.
+ * 따라서 조회는 접두어 길이만큼 노드를 따라 내려가 저장된 목록을 복사하는 것으로 끝나며, 전체 항목 수와 무관합니다.
+ *
+ * - 메모리를 제한하기 위해 트라이의 깊이를 maxDepth로 제한합니다. 더 긴 항목은 maxDepth 깊이의 노드에 모아 두고,
+ *   maxDepth보다 긴 접두어로 조회하면 그 노드의 항목을 직접 걸러냅니다.
+ * - 가중치가 오르면 경로상의 상위 목록에 끼워 넣기만 하고, 내려가거나 삭제되면 그 항목을 상위 목록에 가진 노드만 자식 목록으로 다시 계산합니다.
+ * - 대소문자를 구분하지 않고 비교하며, 표시 텍스트는 원래 값을 유지합니다.
+ * - 쓰기는 쓰기 잠금, 조회는 읽기 잠금 안에서 수행합니다.
+ */
+public class PrefixTrie {
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry entry) -> entry.weight).reversed()
+            .thenComparing(entry -> entry.text);
+
+    private final int maxDepth;
+    private final int topK;
+    private final Map<String, Entry> entries = new HashMap<>(); // 표시 텍스트 → 항목
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+
+    public PrefixTrie(int maxDepth, int topK) {
+        this.maxDepth = maxDepth;
+        this.topK = topK;
+    }
+
+    /**
+     * 항목의 가중치를 설정합니다. 없으면 새로 추가합니다.
+     */
+    public void put(String text, long weight) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(text);
+            if (entry == null) {
+                entry = new Entry(text, key, weight);
+                entries.put(text, entry);
+                List<Node> path = path(key, true);
+                path.get(path.size() - 1).bucket().put(text, entry);
+                for (Node node : path) {
+                    offer(node, entry);
+                }
+                return;
+            }
+            long oldWeight = entry.weight;
+            entry.weight = weight;
+            List<Node> path = path(key, false);
+            if (weight >= oldWeight) {
+                for (Node node : path) {
+                    offer(node, entry);
+                }
+            } else {
+                recomputeWhereRanked(path, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항목의 가중치를 delta만큼 바꿉니다. 없으면 delta를 가중치로 추가하고, 결과가 0 이하가 되면 제거합니다.
+     */
+    public void adjust(String text, long delta) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(text);
+            long weight = (entry != null ? entry.weight : 0) + delta;
+            if (weight <= 0) {
+                remove(text);
+            } else {
+                put(text, weight);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String text) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(text);
+            if (entry == null) {
+                return;
+            }
+            List<Node> path = path(entry.key, false);
+            path.get(path.size() - 1).bucket().remove(text);
+            recomputeWhereRanked(path, entry);
+            prune(path, entry.key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            root = new Node();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Long weightOf(String text) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(text);
+            return entry != null ? entry.weight : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 항목을 가중치 내림차순으로 최대 limit개(최대 topK개) 반환합니다.
+     */
+    public List<SuggestionDto> find(String prefix, int limit) {
+        String key = normalize(prefix);
+        int size = Math.min(limit, topK);
+        if (key.isEmpty() || size <= 0) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = Math.min(key.length(), maxDepth);
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.children != null ? node.children.get(key.charAt(i)) : null;
+            }
+            if (node == null) {
+                return new ArrayList<>();
+            }
+            if (key.length() <= maxDepth) {
+                return node.top.stream().limit(size).map(Entry::toDto).collect(Collectors.toList());
+            }
+            // 트라이 깊이보다 긴 접두어: 가장 깊은 노드에 모인 항목을 직접 걸러냅니다.
+            if (node.bucket == null) {
+                return new ArrayList<>();
+            }
+            return node.bucket.values().stream()
+                    .filter(entry -> entry.key.startsWith(key))
+                    .sorted(RANKING)
+                    .limit(size)
+                    .map(Entry::toDto)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 루트부터 항목이 저장될 노드(깊이 min(키 길이, maxDepth))까지의 경로
+    private List<Node> path(String key, boolean create) {
+        int depth = Math.min(key.length(), maxDepth);
+        List<Node> path = new ArrayList<>(depth + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < depth; i++) {
+            if (node.children == null) {
+                node.children = new HashMap<>(4);
+            }
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    throw new IllegalStateException("자동완성 인덱스가 손상되었습니다: " + key);
+                }
+                child = new Node();
+                node.children.put(key.charAt(i), child);
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    // 가중치가 올랐거나 새로 추가된 항목을 노드의 상위 목록에 반영합니다.
+    private void offer(Node node, Entry entry) {
+        List<Entry> top = node.top;
+        if (!top.contains(entry)) {
+            if (top.size() >= topK && RANKING.compare(entry, top.get(top.size() - 1)) >= 0) {
+                return; // 상위 목록에 들지 못함
+            }
+            top.add(entry);
+        }
+        top.sort(RANKING);
+        if (top.size() > topK) {
+            top.remove(top.size() - 1);
+        }
+    }
+
+    // 항목이 상위 목록에 있던 노드만 아래에서부터 다시 계산합니다. (자식 노드의 목록이 먼저 갱신되어야 함)
+    private void recomputeWhereRanked(List<Node> path, Entry entry) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            if (node.top.contains(entry)) {
+                List<Entry> candidates = new ArrayList<>();
+                if (node.bucket != null) {
+                    candidates.addAll(node.bucket.values());
+                }
+                if (node.children != null) {
+                    for (Node child : node.children.values()) {
+                        candidates.addAll(child.top);
+                    }
+                }
+                candidates.sort(RANKING);
+                node.top = new ArrayList<>(candidates.subList(0, Math.min(topK, candidates.size())));
+            }
+        }
+    }
+
+    // 비어 있는 노드를 아래에서부터 정리합니다.
+    private void prune(List<Node> path, String key) {
+        for (int i = path.size() - 1; i >= 1; i--) {
+            Node node = path.get(i);
+            boolean empty = (node.bucket == null || node.bucket.isEmpty()) && (node.children == null || node.children.isEmpty());
+            if (!empty) {
+                return;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private Map<Character, Node> children;
+        private Map<String, Entry> bucket; // 이 노드에서 끝나는(또는 maxDepth 깊이에 모인) 항목
+        private List<Entry> top = new ArrayList<>(2);
+
+        private Map<String, Entry> bucket() {
+            if (bucket == null) {
+                bucket = new HashMap<>(2);
+            }
+            return bucket;
+        }
+    }
+
+    private static final class Entry {
+        private final String text;
+        private final String key;
+        private long weight;
+
+        private Entry(String text, String key, long weight) {
+            this.text = text;
+            this.key = key;
+            this.weight = weight;
+        }
+
+        private SuggestionDto toDto() {
+            return new SuggestionDto(text, weight);
+        }
+    }
+}
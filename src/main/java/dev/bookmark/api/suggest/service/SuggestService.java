@@ -0,0 +1,30 @@
+package dev.bookmark.api.suggest.service;
+
+import dev.bookmark.api.suggest.dto.SuggestResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    private final SuggestionIndex suggestionIndex;
+
+    /**
+     * 접두어로 시작하는 태그 이름과 북마크 제목을 사용 횟수 순으로 조회합니다. (인메모리 인덱스만 사용)
+     * @param prefix 입력 중인 접두어 (대소문자 무시)
+     * @param limit 종류별 최대 후보 수 (1 ~ SuggestionIndex.MAX_SUGGESTIONS)
+     */
+    public SuggestResponseDto suggest(String prefix, int limit) {
+        if (!StringUtils.hasText(prefix)) {
+            throw new IllegalArgumentException("자동완성할 접두어(prefix)를 입력해주세요.");
+        }
+        if (limit < 1 || limit > SuggestionIndex.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("후보 개수(limit)는 1 이상 " + SuggestionIndex.MAX_SUGGESTIONS + " 이하여야 합니다.");
+        }
+        return new SuggestResponseDto(prefix,
+                suggestionIndex.suggestTags(prefix, limit),
+                suggestionIndex.suggestTitles(prefix, limit));
+    }
+}
@@ -0,0 +1,125 @@
+package dev.bookmark.api.suggest.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.repository.TitleCountRow;
+import dev.bookmark.api.suggest.dto.SuggestionDto;
+import dev.bookmark.api.tag.event.TagChangedEvent;
+import dev.bookmark.api.tag.repository.TagRepository;
+import dev.bookmark.api.tag.repository.TagUsageRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 태그 이름과 북마크 제목의 자동완성 트라이를 DB와 동기화합니다.
+ * - 애플리케이션 시작 시: 태그별 사용 횟수와 제목별 북마크 수를 집계 쿼리로 읽어 구축합니다.
+ * - 북마크/태그 변경 시: 트랜잭션 커밋 이후 사용 횟수만 증감합니다. (키 입력마다 DB를 조회하지 않음)
+ *
+ * 태그는 사용하는 북마크가 없어도(사용 횟수 0) 후보에 남고, 제목은 해당 제목의 북마크가 모두 삭제되면 제거됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndex {
+
+    public static final int MAX_SUGGESTIONS = 10; // 노드마다 미리 계산해 두는 후보 수 (요청 가능한 최대 개수)
+    private static final int MAX_DEPTH = 12;      // 트라이 깊이 제한 (더 긴 접두어는 가장 깊은 노드에서 걸러냄)
+
+    private final TagRepository tagRepository;
+    private final BookmarkRepository bookmarkRepository;
+
+    private final PrefixTrie tagTrie = new PrefixTrie(MAX_DEPTH, MAX_SUGGESTIONS);
+    private final PrefixTrie titleTrie = new PrefixTrie(MAX_DEPTH, MAX_SUGGESTIONS);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 트라이를 비우고 DB의 집계 결과로 다시 구축합니다.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        tagTrie.clear();
+        titleTrie.clear();
+        for (String tagName : tagRepository.findAllNames()) {
+            tagTrie.put(tagName, 0);
+        }
+        for (TagUsageRow row : tagRepository.findUsageCounts()) {
+            tagTrie.put(row.getName(), row.getUsageCount());
+        }
+        for (TitleCountRow row : bookmarkRepository.findTitleCounts()) {
+            titleTrie.put(row.getTitle(), row.getUsageCount());
+        }
+        log.info("Built suggestion index with {} tags and {} titles in {} ms",
+                tagTrie.size(), titleTrie.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public List<SuggestionDto> suggestTags(String prefix, int limit) {
+        return tagTrie.find(prefix, limit);
+    }
+
+    public List<SuggestionDto> suggestTitles(String prefix, int limit) {
+        return titleTrie.find(prefix, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookmarkChanged(BookmarkChangedEvent event) {
+        BookmarkSnapshot before = event.getBefore();
+        BookmarkSnapshot after = event.getAfter();
+        switch (event.getType()) {
+            case CREATED -> {
+                titleTrie.adjust(after.getTitle(), 1);
+                after.getTagNames().forEach(tagName -> adjustTagUsage(tagName, 1));
+            }
+            case UPDATED -> {
+                if (!Objects.equals(before.getTitle(), after.getTitle())) {
+                    titleTrie.adjust(before.getTitle(), -1);
+                    titleTrie.adjust(after.getTitle(), 1);
+                }
+                Set<String> beforeTags = new HashSet<>(before.getTagNames());
+                Set<String> afterTags = new HashSet<>(after.getTagNames());
+                beforeTags.stream().filter(tagName -> !afterTags.contains(tagName)).forEach(tagName -> adjustTagUsage(tagName, -1));
+                afterTags.stream().filter(tagName -> !beforeTags.contains(tagName)).forEach(tagName -> adjustTagUsage(tagName, 1));
+            }
+            case DELETED -> {
+                titleTrie.adjust(before.getTitle(), -1);
+                before.getTagNames().forEach(tagName -> adjustTagUsage(tagName, -1));
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTagChanged(TagChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> {
+                if (tagTrie.weightOf(event.getNewName()) == null) {
+                    tagTrie.put(event.getNewName(), 0);
+                }
+            }
+            case RENAMED -> {
+                Long usageCount = tagTrie.weightOf(event.getOldName());
+                tagTrie.remove(event.getOldName());
+                tagTrie.put(event.getNewName(), usageCount != null ? usageCount : 0);
+            }
+            case DELETED -> tagTrie.remove(event.getOldName());
+        }
+    }
+
+    // 태그는 사용 횟수가 0이 되어도 제거하지 않습니다. (태그 삭제 이벤트에서만 제거)
+    private void adjustTagUsage(String tagName, long delta) {
+        Long usageCount = tagTrie.weightOf(tagName);
+        tagTrie.put(tagName, Math.max(0, (usageCount != null ? usageCount : 0) + delta));
+    }
+}
@@ -1,5 +1,7 @@
 package dev.bookmark.api.tag.controller; // 1. 패키지 선언
 
+import dev.bookmark.api.common.DataVersionTracker;
+import dev.bookmark.api.common.ResourceETags;
 import dev.bookmark.api.tag.dto.TagCreateRequestDto; // 2. DTO 임포트
 import dev.bookmark.api.tag.dto.TagResponseDto;
 import dev.bookmark.api.tag.service.TagService; // 3. 서비스 임포트
@@ -11,6 +13,7 @@ import lombok.RequiredArgsConstructor; // 5. Lombok 임포트
 import org.springframework.http.HttpStatus; // 6. HTTP 상태 코드 임포트
 import org.springframework.http.ResponseEntity; // 7. HTTP 응답 객체 임포트
 import org.springframework.web.bind.annotation.*; // 8. Spring Web 어노테이션 임포트
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +24,7 @@ import java.util.List;
 public class TagController {
 
     private final TagService tagService; // 12. TagService를 주입받습니다.
+    private final ResourceETags resourceETags; // 목록 조회의 ETag (조건부 요청)
 
     /**
      * 새로운 태그를 생성하는 API 엔드포인트
@@ -59,13 +63,17 @@ public class TagController {
     /**
      * 모든 태그 목록을 조회하는 API 엔드포인트
      * HTTP GET 요청을 "/api/v1/tags" 경로로 받습니다.
-     * @return 모든 태그 정보 목록과 HTTP 상태 코드 200 (OK)
+     * @return 모든 태그 정보 목록과 HTTP 상태 코드 200 (OK) (If-None-Match가 현재 ETag와 같으면 본문 없이 304 Not Modified)
      */
-    @Operation(summary = "모든 태그 목록 조회", description = "시스템에 등록된 모든 태그의 목록을 조회합니다.")
+    @Operation(summary = "모든 태그 목록 조회", description = "시스템에 등록된 모든 태그의 목록을 조회합니다. 응답의 ETag를 If-None-Match로 보내면 그 뒤로 태그가 바뀌지 않은 경우 목록을 만들지 않고 304 Not Modified를 반환합니다.")
     @GetMapping // 19. HTTP GET 요청을 이 메소드와 매핑합니다. (경로 변수 없음)
-    public ResponseEntity<List<TagResponseDto>> getAllTags() {
+    public ResponseEntity<List<TagResponseDto>> getAllTags(WebRequest webRequest) {
+        String eTag = resourceETags.ofScopes(DataVersionTracker.Scope.TAGS); // 태그가 생성/변경/삭제될 때마다 달라짐
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
         List<TagResponseDto> tags = tagService.getAllTags();
-        return ResponseEntity.ok(tags);
+        return ResponseEntity.ok().eTag(eTag).body(tags);
     }
 
     /**
@@ -1,5 +1,6 @@
 package dev.bookmark.api.tag.domain;
 
+import dev.bookmark.api.common.SearchText;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,7 +13,8 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "tags")
+@Table(name = "tags",
+        indexes = @Index(name = "idx_tags_name_normalized", columnList = "name_normalized")) // 대소문자 무시 태그 검색용
 public class Tag {
 
     @Id
@@ -26,6 +28,10 @@ public class Tag {
     // unique = true: 이 컬럼의 값은 테이블 내에서 유일해야 함 (중복 불가)
     // length = 100: 문자열의 최대 길이를 100으로 제한
 
+    // 검색 비교용 정규화 이름 (소문자 + NFC, SearchText 참고). 이름이 바뀔 때 함께 갱신됩니다.
+    @Column(name = "name_normalized", nullable = false, length = 100)
+    private String normalizedName;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -33,6 +39,7 @@ public class Tag {
     @Builder
     public Tag(String name) {
         this.name = name;
+        this.normalizedName = SearchText.normalize(name);
     }
 
     
@@ -46,6 +53,7 @@ public class Tag {
         // (단순히 비어있지 않은지 등의 검사는 보통 요청 DTO에서 @NotBlank 등으로 처리합니다.)
         if (newName != null && !newName.isBlank()) { // 새로운 이름이 유효한 경우에만 변경
             this.name = newName;
+            this.normalizedName = SearchText.normalize(newName);
             // 만약 Tag 엔티티에 updatedAt 필드가 있고, @UpdateTimestamp를 사용하지 않는다면
             // 여기서 this.updatedAt = LocalDateTime.now(); 와 같이 수동으로 갱신할 수 있습니다.
         }
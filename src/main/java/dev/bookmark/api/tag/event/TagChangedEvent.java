@@ -0,0 +1,37 @@
+package dev.bookmark.api.tag.event;
+
+import lombok.Getter;
+
+/**
+ * 태그가 생성, 이름 변경, 삭제되었을 때 발행되는 이벤트입니다.
+ * 이름 변경 시 이 태그가 연결된 북마크들의 검색 인덱스를 다시 계산하는 데 사용됩니다.
+ */
+@Getter
+public class TagChangedEvent {
+
+    public enum Type { CREATED, RENAMED, DELETED }
+
+    private final Type type;
+    private final Long tagId;
+    private final String oldName; // 생성 시 null
+    private final String newName; // 삭제 시 null
+
+    private TagChangedEvent(Type type, Long tagId, String oldName, String newName) {
+        this.type = type;
+        this.tagId = tagId;
+        this.oldName = oldName;
+        this.newName = newName;
+    }
+
+    public static TagChangedEvent created(Long tagId, String name) {
+        return new TagChangedEvent(Type.CREATED, tagId, null, name);
+    }
+
+    public static TagChangedEvent renamed(Long tagId, String oldName, String newName) {
+        return new TagChangedEvent(Type.RENAMED, tagId, oldName, newName);
+    }
+
+    public static TagChangedEvent deleted(Long tagId, String name) {
+        return new TagChangedEvent(Type.DELETED, tagId, name, null);
+    }
+}
@@ -0,0 +1,93 @@
+package dev.bookmark.api.tag.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 이름 → ID 조회와 여러 태그 추가를 각각 쿼리 한 번으로 처리하는 JDBC 쿼리입니다. (TagResolver용)
+ * 영속성 컨텍스트를 거치지 않으므로 엔티티가 필요하면 조회한 ID로 따로 불러옵니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagJdbcRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 이름이 정확히 같은 태그의 ID를 조회합니다. (이름 → ID, 없는 이름은 포함되지 않음)
+     */
+    public Map<String, Long> findIdsByName(Collection<String> names) {
+        Map<String, Long> tagIds = new HashMap<>();
+        if (names.isEmpty()) {
+            return tagIds;
+        }
+        namedJdbcTemplate.query("SELECT tag_id, name FROM tags WHERE name IN (:names)",
+                new MapSqlParameterSource("names", names),
+                rs -> {
+                    tagIds.put(rs.getString(2), rs.getLong(1));
+                });
+        return tagIds;
+    }
+
+    /**
+     * 태그를 INSERT 문 하나(여러 행 VALUES)로 추가하고 생성된 ID를 같은 순서로 반환합니다.
+     * 같은 이름의 태그가 이미 있으면 name의 유니크 제약 때문에 DuplicateKeyException이 발생하며, 문장 하나이므로 어떤 행도 추가되지 않습니다.
+     * 트랜잭션 안에서는 INSERT를 세이브포인트로 감싸, 실패해도 (문장 하나가 실패하면 트랜잭션 전체를 중단시키는 PostgreSQL 등에서도)
+     * 트랜잭션을 계속 사용할 수 있습니다.
+     */
+    public List<Long> insertAll(List<String> names, List<String> normalizedNames, LocalDateTime now) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        Timestamp createdAt = Timestamp.valueOf(now);
+        String sql = "INSERT INTO tags (name, name_normalized, created_at) VALUES "
+                + String.join(", ", Collections.nCopies(names.size(), "(?, ?, ?)"));
+        List<Long> ids = namedJdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<List<Long>>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            List<Long> generated = new ArrayList<>(names.size());
+            try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"tag_id"})) {
+                int index = 1;
+                for (int i = 0; i < names.size(); i++) {
+                    ps.setString(index++, names.get(i));
+                    ps.setString(index++, normalizedNames.get(i));
+                    ps.setTimestamp(index++, createdAt);
+                }
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generated.add(keys.getLong(1));
+                    }
+                }
+            } catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                throw e; // JdbcTemplate이 DuplicateKeyException 등으로 변환합니다.
+            }
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return generated;
+        });
+        if (ids.size() != names.size()) {
+            throw new IllegalStateException("생성된 키 수(" + ids.size() + ")가 추가한 태그 수(" + names.size() + ")와 다릅니다.");
+        }
+        return ids;
+    }
+}
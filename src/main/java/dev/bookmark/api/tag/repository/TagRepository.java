@@ -2,7 +2,9 @@ package dev.bookmark.api.tag.repository;
 
 import dev.bookmark.api.tag.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 // <Tag, Long>: Tag는 이 리포지토리가 다룰 엔티티의 타입, Long은 해당 엔티티의 ID 필드 타입을 지정
@@ -14,6 +16,18 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     // Optional<T>은 결과가 없을 수도 있음을 명시적으로 표현하여 NullPointerException을 방지하는 데 도움을 줍니다.
     Optional<Tag> findByName(String name);
 
+    /**
+     * 모든 태그의 이름만 조회합니다.
+     */
+    @Query("SELECT t.name FROM Tag t")
+    List<String> findAllNames();
+
+    /**
+     * 북마크에 사용 중인 태그별 사용 횟수를 조회합니다. (사용되지 않는 태그는 포함되지 않음)
+     */
+    @Query("SELECT t.name AS name, COUNT(b.id) AS usageCount FROM Bookmark b JOIN b.tags t GROUP BY t.name")
+    List<TagUsageRow> findUsageCounts();
+
     // 6. JpaRepository를 상속받았기 때문에, 기본적인 CRUD 메소드들
     // (예: save(), findById(), findAll(), deleteById(), count(), existsById() 등)은
     // 우리가 직접 작성하지 않아도 바로 사용할 수 있습니다
@@ -0,0 +1,9 @@
+package dev.bookmark.api.tag.repository;
+
+/**
+ * 태그별 사용 횟수 (이 태그를 가진 북마크 수)
+ */
+public interface TagUsageRow {
+    String getName();
+    Long getUsageCount();
+}
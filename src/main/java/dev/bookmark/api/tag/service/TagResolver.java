@@ -0,0 +1,168 @@
+package dev.bookmark.api.tag.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.bookmark.api.common.SearchText;
+import dev.bookmark.api.tag.domain.Tag;
+import dev.bookmark.api.tag.event.TagChangedEvent;
+import dev.bookmark.api.tag.repository.TagJdbcRepository;
+import dev.bookmark.api.tag.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 태그 이름 목록을 태그 ID(또는 엔티티)로 바꾸고, 없는 태그는 호출한 트랜잭션에서 한 번의 INSERT로 만듭니다. (이름 → ID는 메모리에 캐시)
+ * 같은 이름을 다른 트랜잭션이 먼저 만들었으면 (INSERT만 세이브포인트로 되돌려지므로) 커밋된 태그를 다시 조회하고 나머지만 추가합니다.
+ */
+@Slf4j
+@Component
+public class TagResolver {
+
+    private final TagRepository tagRepository;
+    private final TagJdbcRepository tagJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<String, Long> idsByName;
+
+    public TagResolver(TagRepository tagRepository, TagJdbcRepository tagJdbcRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${bookmark.tag.cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.tagRepository = tagRepository;
+        this.tagJdbcRepository = tagJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.idsByName = Caffeine.newBuilder().maximumSize(cacheMaximumSize).build();
+    }
+
+    /**
+     * 이름 → 태그 ID와 이번 호출에서 새로 만든 태그 이름
+     */
+    public record Resolution(Map<String, Long> ids, List<String> createdNames) {
+    }
+
+    /**
+     * 태그 이름들을 ID로 바꿉니다. 없는 태그는 만듭니다. (null/빈 이름은 무시, 이름은 대소문자까지 정확히 비교)
+     */
+    public Resolution resolve(Collection<String> names) {
+        Set<String> distinct = new LinkedHashSet<>();
+        if (names != null) {
+            for (String name : names) {
+                if (name != null && !name.isBlank()) {
+                    distinct.add(name);
+                }
+            }
+        }
+        Map<String, Long> ids = new HashMap<>(idsByName.getAllPresent(distinct));
+        List<String> missing = missing(distinct, ids);
+        if (missing.isEmpty()) {
+            return new Resolution(ids, List.of());
+        }
+
+        // 호출한 트랜잭션에서 조회합니다. (이 트랜잭션에서 만든 태그도 보입니다.)
+        Map<String, Long> found = tagJdbcRepository.findIdsByName(missing);
+        ids.putAll(found);
+        cacheAfterCommit(found);
+        missing = missing(missing, ids);
+        if (missing.isEmpty()) {
+            return new Resolution(ids, List.of());
+        }
+        return new Resolution(ids, create(missing, ids));
+    }
+
+    /**
+     * 태그 이름들을 태그 엔티티로 바꿉니다. 없는 태그는 만듭니다. 엔티티는 ID 목록으로 한 번에 조회합니다.
+     */
+    public List<Tag> resolveTags(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+        Resolution resolution = resolve(names);
+        List<Tag> tags = tagRepository.findAllById(resolution.ids().values());
+        if (tags.size() == resolution.ids().size()) {
+            return tags;
+        }
+        // 캐시에 남아 있던 ID의 태그가 그 사이 삭제된 경우: 캐시를 비우고 한 번 더 확인합니다.
+        idsByName.invalidateAll(resolution.ids().keySet());
+        resolution = resolve(names);
+        return tagRepository.findAllById(resolution.ids().values());
+    }
+
+    // 없는 태그를 호출한 트랜잭션에서 추가합니다. 만든 이름 목록을 반환하고, ids에 ID를 채웁니다.
+    private List<String> create(List<String> missing, Map<String, Long> ids) {
+        List<String> names = new ArrayList<>(missing);
+        names.sort(null); // 여러 이름을 동시에 추가하는 트랜잭션들이 같은 순서로 잠그도록 정렬합니다.
+        while (!names.isEmpty()) {
+            List<String> normalizedNames = names.stream().map(SearchText::normalize).toList();
+            try {
+                List<Long> newIds = tagJdbcRepository.insertAll(names, normalizedNames, LocalDateTime.now());
+                Map<String, Long> created = new HashMap<>();
+                for (int i = 0; i < names.size(); i++) {
+                    created.put(names.get(i), newIds.get(i));
+                    eventPublisher.publishEvent(TagChangedEvent.created(newIds.get(i), names.get(i)));
+                }
+                ids.putAll(created);
+                cacheAfterCommit(created);
+                log.info("Created {} tags: {}", names.size(), names);
+                return names;
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 같은 이름을 먼저 만들고 커밋한 경우: INSERT만 되돌려지므로 다시 조회해 나머지만 추가합니다.
+                log.info("Tags were created concurrently by another transaction: {}", names);
+                Map<String, Long> found = tagJdbcRepository.findIdsByName(names);
+                ids.putAll(found);
+                cacheAfterCommit(found);
+                names = missing(names, found);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 태그 이름이 바뀌거나 태그가 삭제되면 이전 이름을 캐시에서 지웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() != TagChangedEvent.Type.CREATED && event.getOldName() != null) {
+            idsByName.invalidate(event.getOldName());
+        }
+    }
+
+    // 호출한 트랜잭션에서 조회한 ID는 그 트랜잭션이 만든 (아직 커밋되지 않은) 태그일 수 있으므로 커밋된 뒤에 캐시합니다.
+    private void cacheAfterCommit(Map<String, Long> found) {
+        if (found.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            idsByName.putAll(found);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idsByName.putAll(found);
+            }
+        });
+    }
+
+    private static List<String> missing(Collection<String> names, Map<String, Long> ids) {
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            if (!ids.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+}
@@ -3,9 +3,11 @@ package dev.bookmark.api.tag.service; // 1. 패키지 선언
 import dev.bookmark.api.tag.domain.Tag; // 2. Tag 엔티티 임포트
 import dev.bookmark.api.tag.dto.TagCreateRequestDto; // 3. Tag 생성 요청 DTO 임포트
 import dev.bookmark.api.tag.dto.TagResponseDto; // 4. Tag 응답 DTO 임포트
+import dev.bookmark.api.tag.event.TagChangedEvent;
 import dev.bookmark.api.tag.repository.TagRepository; // 5. Tag 리포지토리 임포트
 import lombok.RequiredArgsConstructor; // 6. Lombok: final 필드 생성자 자동 주입
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service; // 7. Spring: 이 클래스가 서비스 계층의 컴포넌트임을 선언
 import org.springframework.transaction.annotation.Transactional; // 8. Spring: 트랜잭션 관리 어노테이션
 
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository; // 11. TagRepository를 주입받습니다.
+    private final ApplicationEventPublisher eventPublisher; // 태그 변경을 검색 인덱스 등에 알리기 위해 필요
 
     /**
      * 새로운 태그를 생성합니다.
@@ -39,6 +42,7 @@ public class TagService {
 
         // 15. Repository를 통해 엔티티를 데이터베이스에 저장
         Tag savedTag = tagRepository.save(newTag);
+        eventPublisher.publishEvent(TagChangedEvent.created(savedTag.getId(), savedTag.getName()));
 
         // 16. 저장된 엔티티를 응답 DTO로 변환하여 반환
         return TagResponseDto.fromEntity(savedTag);
@@ -98,7 +102,9 @@ public class TagService {
             });
 
             // 4. Tag 엔티티에 직접 정의한 updateName 메소드를 호출하여 이름을 변경합니다.
+            String oldName = tag.getName();
             tag.updateName(newName);
+            eventPublisher.publishEvent(TagChangedEvent.renamed(tag.getId(), oldName, tag.getName()));
             // 이 시점에서 tag 객체의 name 필드 값이 메모리상에서 변경됩니다.
             // @Transactional 어노테이션 덕분에, 이 서비스 메소드가 성공적으로 종료(커밋)될 때
             // JPA의 변경 감지(Dirty Checking) 기능이 작동하여,
@@ -121,9 +127,9 @@ public class TagService {
     @Transactional
     public void deleteTag(Long tagId) {
         // 20. 삭제하려는 태그가 실제로 존재하는지 확인 (선택적이지만, 더 명확한 피드백을 줄 수 있음)
-        if (!tagRepository.existsById(tagId)) {
-            throw new IllegalArgumentException("해당 ID의 태그를 찾을 수 없습니다. ID: " + tagId);
-        }
-        tagRepository.deleteById(tagId);
+        Tag tag = tagRepository.findById(tagId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 태그를 찾을 수 없습니다. ID: " + tagId));
+        tagRepository.delete(tag);
+        eventPublisher.publishEvent(TagChangedEvent.deleted(tag.getId(), tag.getName()));
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package dev.bookmark.api.bookmark.service;
 import dev.bookmark.api.bookmark.domain.Bookmark;
 import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
 import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.repository.SearchCandidateRow;
 import dev.bookmark.api.folder.domain.Folder;
 import dev.bookmark.api.tag.domain.Tag;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -23,6 +25,9 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*; // JUnit의 Assertions
 import static org.assertj.core.api.Assertions.assertThat; // AssertJ의 Assertions (더 가독성 좋음)
 import static org.mockito.ArgumentMatchers.any; // Mockito에서 어떤 값이든 매칭
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when; // Mockito의 when()
 import org.springframework.data.domain.PageImpl;
 
@@ -284,4 +289,54 @@ class AppLevelSortSearchStrategyTest {
 
 
 
+
+    @Test
+    @DisplayName("TOP_K 모드에서도 전체 정렬과 같은 순서로 페이징하고, 요청한 페이지의 북마크만 불러와야 한다")
+    void search_withTopKMode_shouldReturnSamePageAsFullSort() {
+        // === Given (준비) ===
+        ReflectionTestUtils.setField(searchStrategy, "rankingMode", AppLevelSortSearchStrategy.RankingMode.TOP_K);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SearchCandidateRow> rows = new java.util.ArrayList<>();
+        List<Bookmark> pageBookmarks = new java.util.ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            rows.add(candidateRow((long) i, "Bookmark " + i, now.minusHours(i)));
+            if (i >= 4 && i < 9) {
+                Bookmark bookmark = Bookmark.builder().title("Bookmark " + i).url("url" + i).folder(folder_tech).build();
+                setPrivateField(bookmark, "id", (long) i);
+                pageBookmarks.add(bookmark);
+            }
+        }
+        // "Bookmark 11"만 키워드가 제목에 포함되어 가장 높은 점수를 받음
+        rows.set(11, candidateRow(11L, "Bookmark 11 someKeyword", now.minusHours(11)));
+
+        when(bookmarkRepository.findSearchCandidateRows("someKeyword", null)).thenReturn(rows);
+        when(bookmarkRepository.findAllWithTagsAndFolderByIdIn(anyCollection())).thenReturn(pageBookmarks);
+
+        // === When (실행): 두 번째 페이지, 페이지당 5개 ===
+        Page<BookmarkResponseDto> resultPage = searchStrategy.search("someKeyword", null, PageRequest.of(1, 5));
+
+        // === Then (검증) ===
+        // 1위는 11번, 이후 최신순 0, 1, 2, 3 → 두 번째 페이지는 4 ~ 8번
+        assertThat(resultPage.getTotalElements()).isEqualTo(12);
+        assertThat(resultPage.getTotalPages()).isEqualTo(3);
+        assertThat(resultPage.getContent()).extracting("title")
+                .containsExactly("Bookmark 4", "Bookmark 5", "Bookmark 6", "Bookmark 7", "Bookmark 8");
+        verify(bookmarkRepository).findAllWithTagsAndFolderByIdIn(List.of(4L, 5L, 6L, 7L, 8L));
+        verify(bookmarkRepository, never()).findByKeywordOrTags(any(), any());
+    }
+
+    // TOP_K 모드 테스트용 검색 후보 행 (태그 없음)
+    private SearchCandidateRow candidateRow(Long id, String title, LocalDateTime createdAt) {
+        return new SearchCandidateRow() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return title; }
+            @Override public String getDescription() { return null; }
+            @Override public LocalDateTime getCreatedAt() { return createdAt; }
+            @Override public Long getFolderId() { return null; }
+            @Override public Long getTagId() { return null; }
+            @Override public String getTagName() { return null; }
+        };
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.dto.BatchSearchQueryDto;
+import dev.bookmark.api.bookmark.dto.BatchSearchResponseDto;
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.tag.domain.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BatchSearchService 클래스에 대한 테스트
+ * 같은 데이터에서 일괄 검색의 검색별 결과가 단건 검색(AppLevelSortSearchStrategy)과 같은지 비교합니다.
+ */
+@DataJpaTest
+@Import({BatchSearchService.class, AppLevelSortSearchStrategy.class})
+class BatchSearchServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BatchSearchService batchSearchService;
+
+    @Autowired
+    private AppLevelSortSearchStrategy appLevelStrategy;
+
+    private Folder folder;
+    private Tag tag_java, tag_spring;
+
+    @BeforeEach
+    void setUp() {
+        folder = em.persist(Folder.builder().name("기술").build());
+        tag_java = em.persist(Tag.builder().name("Java").build());
+        tag_spring = em.persist(Tag.builder().name("Spring").build());
+    }
+
+    @Test
+    @DisplayName("일괄 검색의 각 결과는 같은 조건의 단건 검색과 같은 순서와 전체 개수를 가져야 한다")
+    void search_shouldMatchSingleSearches() {
+        persist("JPA 핵심", "연관관계 정리", LocalDateTime.now().minusDays(2), tag_java, tag_spring);
+        persist("Spring 기초", null, LocalDateTime.now().minusDays(1), tag_spring);
+        persist("입문서", "스프링 기초 정리", LocalDateTime.now());
+        for (int i = 0; i < 5; i++) {
+            persist("Java Stream " + i, null, LocalDateTime.now().minusHours(i), tag_java);
+        }
+        em.flush();
+        em.clear();
+
+        List<BatchSearchQueryDto> queries = List.of(
+                new BatchSearchQueryDto("JPA", List.of("Java", "Spring"), 0, 10),
+                new BatchSearchQueryDto("기초", null, 0, 10),
+                new BatchSearchQueryDto(null, List.of("java"), 1, 2),
+                new BatchSearchQueryDto("stream", List.of("Spring"), 0, 3),
+                new BatchSearchQueryDto("없는키워드", null, 0, 10));
+
+        BatchSearchResponseDto response = batchSearchService.search(queries);
+
+        assertThat(response.getResults()).hasSize(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            BatchSearchQueryDto query = queries.get(i);
+            Page<BookmarkResponseDto> expected = appLevelStrategy.search(query.getKeyword(), query.getTags(),
+                    PageRequest.of(query.getPage(), query.getSize()));
+            BatchSearchResponseDto.Result actual = response.getResults().get(i);
+
+            assertThat(actual.getTotalElements()).as("query %d", i).isEqualTo(expected.getTotalElements());
+            assertThat(actual.getContent()).as("query %d", i).extracting("id")
+                    .containsExactlyElementsOf(expected.getContent().stream().map(BookmarkResponseDto::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("검색 조건이 없는 검색이 하나라도 있으면 IllegalArgumentException이 발생해야 한다")
+    void search_withEmptyQuery_shouldThrow() {
+        List<BatchSearchQueryDto> queries = List.of(
+                new BatchSearchQueryDto("JPA", null, 0, 10),
+                new BatchSearchQueryDto(" ", List.of(), 0, 10));
+
+        assertThatThrownBy(() -> batchSearchService.search(queries))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색 조건(키워드 또는 태그)을 하나 이상 입력해주세요.");
+    }
+
+    private Bookmark persist(String title, String description, LocalDateTime createdAt, Tag... tags) {
+        Bookmark bookmark = Bookmark.builder()
+                .title(title)
+                .url("http://example.com/" + title.hashCode())
+                .description(description)
+                .folder(folder)
+                .build();
+        for (Tag tag : tags) {
+            bookmark.addTag(tag);
+        }
+        em.persist(bookmark);
+        em.flush();
+        // @CreationTimestamp 값을 테스트 시나리오에 맞게 덮어씁니다.
+        em.getEntityManager()
+                .createNativeQuery("UPDATE bookmarks SET created_at = ?1 WHERE bookmark_id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, bookmark.getId())
+                .executeUpdate();
+        return bookmark;
+    }
+}
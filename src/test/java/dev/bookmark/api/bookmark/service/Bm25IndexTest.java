@@ -0,0 +1,64 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bm25Index 클래스에 대한 단위 테스트
+ */
+class Bm25IndexTest {
+
+    private Bm25Index bm25Index;
+
+    @BeforeEach
+    void setUp() {
+        bm25Index = new Bm25Index(1.2, 0.75, 2);
+        bm25Index.add(snapshot(1L, "Spring JPA 가이드", "엔티티 매핑 docs"));
+        bm25Index.add(snapshot(2L, "Spring Boot 시작하기", null));
+        bm25Index.add(snapshot(3L, "Spring Security", "인증 설정 정리"));
+        bm25Index.add(snapshot(4L, "여행 계획", "맛집 목록"));
+    }
+
+    @Test
+    @DisplayName("여러 단어 중 일부만 포함해도 검색되고, 더 많은 단어가 일치할수록 점수가 높아야 한다")
+    void score_shouldRankDocumentsMatchingMoreTerms() {
+        Map<Long, Double> scores = bm25Index.score("spring jpa docs");
+
+        assertThat(scores).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(scores.get(1L)).isGreaterThan(scores.get(2L));
+        assertThat(scores.get(1L)).isGreaterThan(scores.get(3L));
+    }
+
+    @Test
+    @DisplayName("드문 단어 일치가 흔한 단어 일치보다 높은 점수를 받아야 한다")
+    void score_shouldWeightRareTermsHigher() {
+        Map<Long, Double> scores = bm25Index.score("spring 여행");
+
+        assertThat(bm25Index.documentFrequency("spring")).isEqualTo(3);
+        assertThat(bm25Index.documentFrequency("여행")).isEqualTo(1);
+        assertThat(scores.get(4L)).isGreaterThan(scores.get(2L));
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 이전 단어 통계가 제거되어야 한다")
+    void updateAndRemove_shouldReplaceStatistics() {
+        bm25Index.update(snapshot(2L, "Spring Boot 시작하기", null), snapshot(2L, "Kotlin 코루틴", null));
+
+        assertThat(bm25Index.documentFrequency("spring")).isEqualTo(2);
+        assertThat(bm25Index.score("kotlin")).containsOnlyKeys(2L);
+
+        bm25Index.remove(snapshot(4L, "여행 계획", "맛집 목록"));
+        assertThat(bm25Index.score("여행")).isEmpty();
+        assertThat(bm25Index.size()).isEqualTo(3);
+    }
+
+    private BookmarkSnapshot snapshot(Long id, String title, String description) {
+        return BookmarkSnapshot.builder().id(id).title(title).description(description).build();
+    }
+}
@@ -0,0 +1,180 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.dto.BookmarkBulkRequestDto;
+import dev.bookmark.api.bookmark.dto.BookmarkBulkResultDto;
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.bookmark.repository.BookmarkBulkJdbcRepository;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.tag.domain.Tag;
+import dev.bookmark.api.tag.repository.TagJdbcRepository;
+import dev.bookmark.api.tag.service.TagResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BookmarkBulkService 클래스에 대한 테스트
+ * 이미 그 상태인 북마크는 바뀐 수와 변경 이벤트에서 빠지는지 함께 확인합니다.
+ * 대상 수 한도는 3으로 둡니다.
+ */
+@DataJpaTest(properties = "bookmark.bulk.max-targets=3")
+@Import({BookmarkBulkService.class, BookmarkBulkJdbcRepository.class, BookmarkSnapshotLoader.class,
+        TagResolver.class, TagJdbcRepository.class})
+@RecordApplicationEvents
+class BookmarkBulkServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookmarkBulkService bulkService;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Folder dev;
+    private Folder spring;
+    private Folder archive;
+    private Tag java;
+    private Long jpa;
+    private Long boot;
+    private Long trip;
+
+    @BeforeEach
+    void setUp() {
+        dev = folder("개발", null);
+        spring = folder("Spring", dev);
+        archive = folder("보관", null);
+        java = em.persist(Tag.builder().name("Java").build());
+
+        jpa = bookmark("JPA 정리", dev, java);
+        boot = bookmark("Spring Boot 입문", spring);
+        trip = bookmark("여행 계획", archive);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("폴더 범위 filter로 고른 북마크를 옮기면, 이미 그 폴더에 있는 북마크는 바뀌지 않아야 한다")
+    void move_withFolderFilter_shouldMoveSubtreeBookmarks() {
+        BookmarkBulkResultDto result = bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.MOVE, null,
+                new BookmarkBulkRequestDto.Filter(null, null, dev.getId()), spring.getId(), null));
+
+        assertThat(result.getMatched()).isEqualTo(2);
+        assertThat(result.getBookmarksAffected()).isEqualTo(1);
+        em.clear();
+        assertThat(em.find(Bookmark.class, jpa).getFolder().getId()).isEqualTo(spring.getId());
+        assertThat(em.find(Bookmark.class, trip).getFolder().getId()).isEqualTo(archive.getId());
+        assertThat(events.stream(BookmarkChangedEvent.class))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getBookmarkId()).isEqualTo(jpa);
+                    assertThat(event.getAfter().getFolderId()).isEqualTo(spring.getId());
+                });
+    }
+
+    @Test
+    @DisplayName("태그를 추가하면 없는 연결만 추가하고, 제거하면 그 태그의 연결만 삭제해야 한다")
+    void addAndRemoveTags_shouldChangeOnlyMissingOrPresentLinks() {
+        BookmarkBulkResultDto added = bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.ADD_TAGS,
+                List.of(jpa, boot, boot, 999_999L), null, null, List.of("Java", "Bulk-Added")));
+
+        assertThat(added.getMatched()).isEqualTo(2);
+        assertThat(added.getBookmarksAffected()).isEqualTo(2);
+        assertThat(added.getTagLinksAffected()).isEqualTo(3); // jpa: Bulk-Added, boot: Java, Bulk-Added
+        assertThat(tagNames(jpa)).containsExactlyInAnyOrder("Java", "Bulk-Added");
+        assertThat(tagNames(boot)).containsExactlyInAnyOrder("Java", "Bulk-Added");
+
+        BookmarkBulkResultDto removed = bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.REMOVE_TAGS,
+                null, new BookmarkBulkRequestDto.Filter("spring", null, null), null, List.of("Java")));
+
+        assertThat(removed.getMatched()).isEqualTo(1);
+        assertThat(removed.getTagLinksAffected()).isEqualTo(1);
+        assertThat(tagNames(boot)).containsExactly("Bulk-Added");
+        assertThat(tagNames(jpa)).containsExactlyInAnyOrder("Java", "Bulk-Added");
+        assertThat(em.find(Tag.class, java.getId())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("태그 filter로 고른 북마크를 삭제하면 북마크와 태그 연결이 삭제되고 태그는 남아야 한다")
+    void delete_withTagFilter_shouldDeleteBookmarksAndLinks() {
+        BookmarkBulkResultDto result = bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.DELETE, null,
+                new BookmarkBulkRequestDto.Filter(null, List.of("JAVA"), null), null, null));
+
+        assertThat(result.getBookmarksAffected()).isEqualTo(1);
+        assertThat(result.getTagLinksAffected()).isEqualTo(1);
+        em.clear();
+        assertThat(em.find(Bookmark.class, jpa)).isNull();
+        assertThat(em.find(Bookmark.class, boot)).isNotNull();
+        assertThat(em.find(Tag.class, java.getId())).isNotNull();
+        assertThat(events.stream(BookmarkChangedEvent.class))
+                .extracting(BookmarkChangedEvent::getType)
+                .containsExactly(BookmarkChangedEvent.Type.DELETED);
+    }
+
+    @Test
+    @DisplayName("ids와 filter를 함께 주거나 작업에 필요한 값이 없으면 IllegalArgumentException이 발생해야 한다")
+    void execute_withInvalidRequest_shouldThrow() {
+        assertThatThrownBy(() -> bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.DELETE, List.of(jpa),
+                new BookmarkBulkRequestDto.Filter("JPA", null, null), null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.MOVE, List.of(jpa),
+                null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.DELETE, null,
+                new BookmarkBulkRequestDto.Filter(" ", List.of(), null), null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("ids나 filter로 고른 대상이 한도를 넘으면 아무것도 바꾸지 않고 IllegalArgumentException이 발생해야 한다")
+    void execute_withTooManyTargets_shouldRejectWithoutChanges() {
+        Long extra1 = bookmark("Spring Data JPA", spring);
+        Long extra2 = bookmark("Spring Security", spring);
+        em.flush();
+
+        assertThatThrownBy(() -> bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.DELETE, null,
+                new BookmarkBulkRequestDto.Filter(null, null, dev.getId()), null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 3개");
+        assertThatThrownBy(() -> bulkService.execute(new BookmarkBulkRequestDto(BookmarkBulkOperation.DELETE,
+                List.of(jpa, boot, extra1, extra2), null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        em.clear();
+        assertThat(em.find(Bookmark.class, jpa)).isNotNull();
+        assertThat(em.find(Bookmark.class, extra2)).isNotNull();
+        assertThat(events.stream(BookmarkChangedEvent.class)).isEmpty();
+    }
+
+    private List<String> tagNames(Long bookmarkId) {
+        em.clear();
+        return em.find(Bookmark.class, bookmarkId).getTags().stream().map(Tag::getName).toList();
+    }
+
+    private Folder folder(String name, Folder parent) {
+        Folder folder = em.persist(Folder.builder().name(name).parentFolder(parent).build());
+        folder.refreshPath();
+        return folder;
+    }
+
+    private Long bookmark(String title, Folder folder, Tag... tags) {
+        Bookmark bookmark = Bookmark.builder().title(title).url("https://example.com/" + title.hashCode()).folder(folder).build();
+        for (Tag tag : tags) {
+            bookmark.addTag(tag);
+        }
+        return em.persist(bookmark).getId();
+    }
+}
@@ -0,0 +1,123 @@
+package dev.bookmark.api.bookmark.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.repository.BookmarkExportJdbcRepository;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.tag.domain.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BookmarkExporter 클래스에 대한 테스트
+ * 내보낸 HTML을 NetscapeBookmarkParser로 다시 읽어 폴더 구조와 태그가 그대로인지 확인합니다.
+ */
+@DataJpaTest
+@Import({BookmarkExporter.class, BookmarkExportJdbcRepository.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class BookmarkExporterTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookmarkExporter exporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Folder dev = folder("개발", null);
+        Folder spring = folder("Spring <Boot>", dev);
+        folder("빈 폴더", dev);
+        Folder personal = folder("개인", null);
+        Tag java = em.persist(Tag.builder().name("Java").build());
+        Tag springTag = em.persist(Tag.builder().name("Spring").build());
+
+        bookmark("JPA & Hibernate", "https://hibernate.org?a=1&b=2", "ORM \"정리\"", spring, java, springTag);
+        bookmark("Java 문서", "https://docs.oracle.com", null, dev, java);
+        bookmark("여행", "https://example.com/trip", null, personal);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("HTML로 내보낸 파일을 다시 읽으면 폴더 경로, 제목, URL, 설명, 태그가 같아야 한다")
+    void writeHtml_shouldRoundTripThroughParser() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.write(BookmarkExportFormat.NETSCAPE_HTML, out);
+
+        List<ImportedBookmark> parsed = new ArrayList<>();
+        new NetscapeBookmarkParser().parse(new ByteArrayInputStream(out.toByteArray()), parsed::add);
+
+        assertThat(parsed).extracting(ImportedBookmark::getTitle)
+                .containsExactlyInAnyOrder("Java 문서", "JPA & Hibernate", "여행");
+        // 폴더 트리 순서: 상위 폴더(개발)의 북마크가 하위 폴더(개발/Spring)보다 먼저 나옵니다.
+        assertThat(titles(parsed)).containsSubsequence("Java 문서", "JPA & Hibernate");
+        ImportedBookmark jpa = find(parsed, "JPA & Hibernate");
+        assertThat(jpa.getUrl()).isEqualTo("https://hibernate.org?a=1&b=2");
+        assertThat(jpa.getDescription()).isEqualTo("ORM \"정리\"");
+        assertThat(jpa.getFolderPath()).containsExactly("개발", "Spring <Boot>");
+        assertThat(jpa.getTagNames()).containsExactly("Java", "Spring");
+        assertThat(jpa.getCreatedAt()).isNotNull();
+        assertThat(find(parsed, "여행").getFolderPath()).containsExactly("개인");
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("빈 폴더</H3>");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 북마크 하나씩, 폴더 이름 경로와 태그 이름을 담아야 한다")
+    void writeNdjson_shouldWriteOneBookmarkPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.write(BookmarkExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : lines) {
+            rows.add(objectMapper.readTree(line));
+        }
+        JsonNode jpa = rows.stream().filter(row -> row.get("title").asText().equals("JPA & Hibernate")).findFirst().orElseThrow();
+        assertThat(jpa.get("folderPath")).extracting(JsonNode::asText).containsExactly("개발", "Spring <Boot>");
+        assertThat(jpa.get("tags")).extracting(JsonNode::asText).containsExactly("Java", "Spring");
+        JsonNode trip = rows.stream().filter(row -> row.get("title").asText().equals("여행")).findFirst().orElseThrow();
+        assertThat(trip.get("tags")).isEmpty();
+    }
+
+    private static List<String> titles(List<ImportedBookmark> bookmarks) {
+        return bookmarks.stream().map(ImportedBookmark::getTitle).toList();
+    }
+
+    private static ImportedBookmark find(List<ImportedBookmark> bookmarks, String title) {
+        return bookmarks.stream().filter(bookmark -> bookmark.getTitle().equals(title)).findFirst().orElseThrow();
+    }
+
+    private Folder folder(String name, Folder parent) {
+        Folder folder = em.persist(Folder.builder().name(name).parentFolder(parent).build());
+        folder.refreshPath();
+        return folder;
+    }
+
+    private void bookmark(String title, String url, String description, Folder folder, Tag... tags) {
+        Bookmark bookmark = Bookmark.builder().title(title).url(url).description(description).folder(folder).build();
+        for (Tag tag : tags) {
+            bookmark.addTag(tag);
+        }
+        em.persist(bookmark);
+    }
+}
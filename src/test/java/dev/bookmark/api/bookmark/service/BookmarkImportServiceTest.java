@@ -0,0 +1,241 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.dto.BookmarkImportResultDto;
+import dev.bookmark.api.bookmark.repository.BookmarkImportJdbcRepository;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.tag.domain.Tag;
+import dev.bookmark.api.tag.repository.TagJdbcRepository;
+import dev.bookmark.api.tag.service.TagResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doCallRealMethod;
+
+/**
+ * BookmarkImportService 클래스에 대한 테스트
+ * 묶음 크기를 작게 두어 여러 묶음에 걸친 폴더/태그 재사용까지 확인합니다.
+ * 묶음 실패 테스트는 묶음마다 실제로 커밋/롤백되어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({BookmarkImportService.class, BookmarkImportJdbcRepository.class, TagResolver.class, TagJdbcRepository.class})
+@TestPropertySource(properties = "bookmark.import.chunk-size=2")
+class BookmarkImportServiceTest {
+
+    private static final String NETSCAPE_HTML = """
+            <!DOCTYPE NETSCAPE-Bookmark-file-1>
+            <META HTTP-EQUIV="Content-Type" CONTENT="text/html; charset=UTF-8">
+            <TITLE>Bookmarks</TITLE>
+            <H1>Bookmarks</H1>
+            <DL><p>
+                <DT><H3 ADD_DATE="1700000000">개발</H3>
+                <DL><p>
+                    <DT><A HREF="https://spring.io" ADD_DATE="1700000000" TAGS="Spring,Java">Spring &amp; Boot</A>
+                    <DD>스프링 공식 사이트
+                    <DT><H3>JPA</H3>
+                    <DL><p>
+                        <DT><A HREF="https://hibernate.org" TAGS="Java">Hibernate</A>
+                    </DL><p>
+                    <DT><A HREF="https://docs.oracle.com/javase">&#51088;&#48148; 문서</A>
+                </DL><p>
+                <DT><A HREF="">URL 없는 항목</A>
+                <DT><A HREF="https://example.com/untitled"></A>
+            </DL><p>
+            """;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookmarkImportService importService;
+
+    @MockitoSpyBean
+    private BookmarkImportJdbcRepository importRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Netscape HTML을 가져오면 폴더 구조를 대상 폴더 아래에 만들고, 기존 폴더와 태그는 재사용해야 한다")
+    void importNetscapeHtml_shouldCreateFolderTreeAndReuseExisting() throws Exception {
+        Folder target = em.persist(Folder.builder().name("브라우저").build());
+        target.refreshPath();
+        Folder existingDev = em.persist(Folder.builder().name("개발").parentFolder(target).build());
+        existingDev.refreshPath();
+        Tag existingJava = em.persist(Tag.builder().name("Java").build());
+        em.flush();
+
+        BookmarkImportResultDto result = importService.importBookmarks(stream(NETSCAPE_HTML),
+                BookmarkImportFormat.NETSCAPE_HTML, target.getId(), false);
+
+        assertThat(result.getParsed()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(4);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting("index").containsExactly(3L);
+        assertThat(result.getFoldersCreated()).isEqualTo(1); // 개발은 재사용, JPA만 생성
+        assertThat(result.getTagsCreated()).isEqualTo(1);    // Java는 재사용, Spring만 생성
+        assertThat(result.getProgress()).extracting("imported").containsExactly(2L, 4L);
+
+        em.clear();
+        Bookmark spring = findByUrl("https://spring.io");
+        assertThat(spring.getTitle()).isEqualTo("Spring & Boot");
+        assertThat(spring.getDescription()).isEqualTo("스프링 공식 사이트");
+        assertThat(spring.getFolder().getId()).isEqualTo(existingDev.getId());
+        assertThat(spring.getTags()).extracting("name").containsExactlyInAnyOrder("Spring", "Java");
+        assertThat(spring.getTags()).extracting("id").contains(existingJava.getId());
+
+        Bookmark hibernate = findByUrl("https://hibernate.org");
+        Folder jpa = em.find(Folder.class, hibernate.getFolder().getId());
+        assertThat(jpa.getName()).isEqualTo("JPA");
+        assertThat(jpa.getParentFolder().getId()).isEqualTo(existingDev.getId());
+        assertThat(jpa.getPath()).isEqualTo(existingDev.getPath() + jpa.getId() + "/");
+
+        assertThat(findByUrl("https://docs.oracle.com/javase").getTitle()).isEqualTo("자바 문서");
+        Bookmark untitled = findByUrl("https://example.com/untitled");
+        assertThat(untitled.getTitle()).isEqualTo("https://example.com/untitled");
+        assertThat(untitled.getFolder().getId()).isEqualTo(target.getId());
+    }
+
+    @Test
+    @DisplayName("대상 폴더 없이 JSON을 가져오면 최상위의 기본 폴더 아래에 저장하고, 다시 가져오면 같은 폴더를 재사용해야 한다")
+    void importJson_withoutFolder_shouldUseDefaultTopLevelFolder() throws Exception {
+        String json = """
+                [
+                  {"title": "JPA 정리", "url": "https://example.com/jpa", "folderPath": ["공부"], "tags": ["JPA", "JPA"],
+                   "createdAt": "2024-01-02T03:04:05", "unknown": 1},
+                  {"title": "루트", "url": "https://example.com/root"}
+                ]
+                """;
+
+        BookmarkImportResultDto first = importService.importBookmarks(stream(json), BookmarkImportFormat.JSON, null, false);
+        BookmarkImportResultDto second = importService.importBookmarks(stream(json), BookmarkImportFormat.JSON, null, false);
+
+        assertThat(first.getImported()).isEqualTo(2);
+        assertThat(first.getFoldersCreated()).isEqualTo(2); // 가져온 북마크, 공부
+        assertThat(second.getFoldersCreated()).isZero();
+        assertThat(second.getTagsCreated()).isZero();
+
+        em.clear();
+        List<Folder> topLevel = em.getEntityManager()
+                .createQuery("SELECT f FROM Folder f WHERE f.parentFolder IS NULL", Folder.class).getResultList();
+        assertThat(topLevel).extracting("name").containsExactly(BookmarkImportService.DEFAULT_FOLDER_NAME);
+        assertThat(topLevel.get(0).getPath()).isEqualTo("/" + topLevel.get(0).getId() + "/");
+
+        Bookmark jpa = findByUrl("https://example.com/jpa");
+        assertThat(jpa.getTags()).extracting("name").containsExactly("JPA");
+        assertThat(jpa.getCreatedAt()).isEqualTo("2024-01-02T03:04:05");
+        assertThat(jpa.getFolder().getName()).isEqualTo("공부");
+    }
+
+    @Test
+    @DisplayName("dedupe 모드에서는 이미 있는 URL과 파일 안에서 앞서 나온 URL을 정규화해 비교하고 가져오지 않아야 한다")
+    void importJson_withDedupe_shouldSkipExistingAndRepeatedUrls() throws Exception {
+        Folder target = em.persist(Folder.builder().name("중복").build());
+        target.refreshPath();
+        em.persist(Bookmark.builder().title("기존").url("https://Example.com/docs?utm_source=mail").folder(target).build());
+        em.flush();
+        String json = """
+                [
+                  {"title": "같은 문서", "url": "HTTPS://example.com:443/docs#intro"},
+                  {"title": "새 문서", "url": "https://example.com/new"},
+                  {"title": "새 문서 다시", "url": "https://example.com/new?fbclid=abc"},
+                  {"title": "또 새 문서", "url": "https://example.com/other"}
+                ]
+                """;
+
+        BookmarkImportResultDto result = importService.importBookmarks(stream(json), BookmarkImportFormat.JSON, target.getId(), true);
+
+        assertThat(result.getParsed()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getDuplicates()).isEqualTo(2);
+        assertThat(result.getSkipped()).isZero();
+        em.clear();
+        List<String> titles = em.getEntityManager()
+                .createQuery("SELECT b.title FROM Bookmark b WHERE b.folder.id = :folderId ORDER BY b.id", String.class)
+                .setParameter("folderId", target.getId())
+                .getResultList();
+        assertThat(titles).containsExactly("기존", "새 문서", "또 새 문서");
+    }
+
+    @Test
+    @DisplayName("북마크를 하나도 읽지 못한 잘못된 파일은 IllegalArgumentException이 발생해야 한다")
+    void importJson_notAnArray_shouldThrow() {
+        assertThatThrownBy(() -> importService.importBookmarks(stream("{\"url\": \"https://example.com\"}"),
+                BookmarkImportFormat.JSON, null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("JSON 가져오기 파일은 북마크 객체의 배열이어야 합니다.");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("묶음 저장이 실패하면 그 묶음의 태그까지 롤백하고, 실패한 묶음을 결과에 기록한 뒤 가져오기를 멈춰야 한다")
+    void importJson_whenChunkFails_shouldRollBackChunkAndStop() throws Exception {
+        String json = """
+                [
+                  {"title": "첫째", "url": "https://example.com/1", "tags": ["커밋 태그"]},
+                  {"title": "둘째", "url": "https://example.com/2"},
+                  {"title": "셋째", "url": "https://example.com/3", "tags": ["롤백 태그"]},
+                  {"title": "넷째", "url": "https://example.com/4"},
+                  {"title": "다섯째", "url": "https://example.com/5"}
+                ]
+                """;
+        // 두 번째 묶음의 bookmark_tags INSERT가 실패합니다.
+        doCallRealMethod().doThrow(new DataIntegrityViolationException("bookmark_tags"))
+                .when(importRepository).insertBookmarkTags(any(), any(), anyInt());
+        try {
+            BookmarkImportResultDto result = importService.importBookmarks(stream(json), BookmarkImportFormat.JSON, null, false);
+
+            assertThat(result.isCompleted()).isFalse();
+            assertThat(result.getParsed()).isEqualTo(4); // 다섯째는 읽지 않음
+            assertThat(result.getImported()).isEqualTo(2);
+            assertThat(result.getSkipped()).isEqualTo(2);
+            assertThat(result.getTagsCreated()).isEqualTo(1);
+            assertThat(result.getProgress()).extracting("imported").containsExactly(2L);
+            assertThat(result.getErrors()).hasSize(1);
+            assertThat(result.getErrors().get(0).getIndex()).isEqualTo(2);
+            assertThat(result.getErrors().get(0).getMessage()).startsWith("묶음 2의 북마크 2개를 저장하지 못해");
+
+            assertThat(jdbcTemplate.queryForList("SELECT title FROM bookmarks ORDER BY bookmark_id", String.class))
+                    .containsExactly("첫째", "둘째");
+            assertThat(jdbcTemplate.queryForList("SELECT name FROM tags", String.class)).containsExactly("커밋 태그");
+        } finally {
+            jdbcTemplate.update("DELETE FROM bookmark_tags");
+            jdbcTemplate.update("DELETE FROM bookmarks");
+            jdbcTemplate.update("DELETE FROM tags");
+            jdbcTemplate.update("DELETE FROM folders");
+        }
+    }
+
+    // 같은 URL을 여러 번 가져왔으면 먼저 가져온 북마크
+    private Bookmark findByUrl(String url) {
+        List<Bookmark> bookmarks = em.getEntityManager()
+                .createQuery("SELECT DISTINCT b FROM Bookmark b LEFT JOIN FETCH b.tags WHERE b.url = :url ORDER BY b.id", Bookmark.class)
+                .setParameter("url", url)
+                .getResultList();
+        assertThat(bookmarks).isNotEmpty();
+        return bookmarks.get(0);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,101 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.event.BookmarkChangedEvent;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.common.DataVersionTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BookmarkIndexMaintainer 클래스에 대한 테스트
+ * 커밋 이후 인덱스 반영과 데이터 버전 증가의 순서를 확인하기 위해 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({BookmarkIndexMaintainer.class, BookmarkSnapshotLoader.class, DataVersionTracker.class,
+        BookmarkIndexMaintainerTest.RecordingIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookmarkIndexMaintainerTest {
+
+    @Autowired
+    private RecordingIndex index;
+
+    @Autowired
+    private DataVersionTracker dataVersionTracker;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("커밋 직후 인덱스 반영 전에 실행된 검색 결과가 캐시되어도, 커밋 이후 검색은 변경이 반영된 결과를 반환해야 한다")
+    void onBookmarkChanged_shouldApplyIndexesBeforeDataVersionBump() {
+        // 인덱스에 담긴 북마크 수를 전체 개수로 반환하는 검색 전략을 캐시로 감쌉니다.
+        CachingSearchStrategy cachingStrategy = new CachingSearchStrategy(new IndexCountStrategy(index),
+                dataVersionTracker, 100, Duration.ofMinutes(5));
+        assertThat(cachingStrategy.search("JPA", null, PageRequest.of(0, 10)).getTotalElements()).isZero();
+
+        // 인덱스가 변경을 반영하기 직전에 다른 요청의 검색이 실행되는 상황을 재현합니다.
+        index.beforeApply = () -> cachingStrategy.search("JPA", null, PageRequest.of(0, 10));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(BookmarkChangedEvent.created(BookmarkSnapshot.builder()
+                        .id(1L).title("JPA 정리").createdAt(LocalDateTime.now()).build())));
+
+        assertThat(index.ids).containsExactly(1L);
+        assertThat(cachingStrategy.search("JPA", null, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+    }
+
+    /**
+     * 북마크 ID만 기록하고, 반영 직전에 지정한 작업을 실행하는 인덱스
+     */
+    static class RecordingIndex implements BookmarkIndex {
+        private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+        private Runnable beforeApply = () -> { };
+
+        @Override
+        public void add(BookmarkSnapshot snapshot) {
+            beforeApply.run();
+            ids.add(snapshot.getId());
+        }
+
+        @Override
+        public void remove(BookmarkSnapshot snapshot) {
+            beforeApply.run();
+            ids.remove(snapshot.getId());
+        }
+
+        @Override
+        public void clear() {
+            ids.clear();
+        }
+    }
+
+    private record IndexCountStrategy(RecordingIndex index) implements BookmarkSearchStrategy {
+        @Override
+        public Page<BookmarkResponseDto> search(String keyword, List<String> tagNames, Pageable pageable) {
+            return new PageImpl<>(List.of(), pageable, index.ids.size());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BookmarkIndexSnapshotFile 클래스에 대한 단위 테스트
+ */
+class BookmarkIndexSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("저장한 스냅샷을 메모리 매핑으로 읽으면 같은 내용과 스냅샷 시각을 돌려받아야 한다")
+    void writeThenRead_shouldRoundTrip() throws IOException {
+        Path path = tempDir.resolve("index.snapshot");
+        LocalDateTime snapshotTime = LocalDateTime.of(2025, 6, 1, 12, 30, 15, 123_456_789);
+        BookmarkSnapshot jpa = BookmarkSnapshot.builder()
+                .id(1L).title("JPA 핵심").description("연관관계 정리").folderId(10L)
+                .tagNames(List.of("Java", "Spring"))
+                .createdAt(snapshotTime.minusDays(1)).updatedAt(snapshotTime.minusHours(1))
+                .build();
+        BookmarkSnapshot noDescription = BookmarkSnapshot.builder()
+                .id(2L).title("Stream").folderId(null)
+                .createdAt(snapshotTime.minusDays(2))
+                .build();
+
+        BookmarkIndexSnapshotFile.write(path, snapshotTime, List.of(jpa, noDescription));
+        List<BookmarkSnapshot> read = new ArrayList<>();
+        LocalDateTime readTime = BookmarkIndexSnapshotFile.read(path, read::add);
+
+        assertThat(readTime).isEqualTo(snapshotTime);
+        assertThat(read).hasSize(2);
+        assertThat(read.get(0)).usingRecursiveComparison().isEqualTo(jpa);
+        assertThat(read.get(1)).usingRecursiveComparison().isEqualTo(noDescription);
+        assertThat(Files.exists(tempDir.resolve("index.snapshot.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘린 파일이나 형식 버전이 다른 파일은 IOException으로 거부해야 한다")
+    void read_truncatedOrUnknownVersion_shouldFail() throws IOException {
+        Path path = tempDir.resolve("index.snapshot");
+        BookmarkSnapshot snapshot = BookmarkSnapshot.builder().id(1L).title("JPA").tagNames(List.of("Java")).build();
+        BookmarkIndexSnapshotFile.write(path, LocalDateTime.now(), List.of(snapshot));
+        byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 6));
+        assertThatThrownBy(() -> BookmarkIndexSnapshotFile.read(path, s -> { })).isInstanceOf(IOException.class);
+
+        bytes[7] = (byte) (BookmarkIndexSnapshotFile.FORMAT_VERSION + 1); // 형식 버전 (int, 빅 엔디언)의 마지막 바이트
+        Files.write(path, bytes);
+        assertThatThrownBy(() -> BookmarkIndexSnapshotFile.read(path, s -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("버전");
+    }
+}
@@ -0,0 +1,149 @@
+package dev.bookmark.api.bookmark.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.repository.BookmarkSearchJdbcRepository;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.tag.domain.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BookmarkSearchStreamer 클래스에 대한 테스트
+ * 묶음 크기를 2로 두어 결과가 여러 묶음에 걸치도록 하고, 묶음마다 실행된 SQL은 SearchProfiler로 셉니다.
+ * (검색 쿼리는 JDBC로 실행되므로 기록되지 않고, 묶음별 북마크 조회만 기록됩니다)
+ */
+@DataJpaTest(properties = "bookmark.search.stream.chunk-size=2")
+@Import({BookmarkSearchStreamer.class, BookmarkSearchJdbcRepository.class, DbLevelSortSearchStrategy.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class BookmarkSearchStreamerTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookmarkSearchStreamer streamer;
+
+    @Autowired
+    private DbLevelSortSearchStrategy dbLevelStrategy;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Folder folder;
+    private Tag spring;
+
+    @BeforeEach
+    void setUp() {
+        folder = em.persist(Folder.builder().name("기술").build());
+        spring = em.persist(Tag.builder().name("Spring").build());
+        LocalDateTime sameTime = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            // 점수(태그 유무)와 생성일이 겹치는 북마크를 섞어 ID까지 비교되도록 합니다.
+            persist("Spring " + i, i % 2 == 0 ? sameTime : LocalDateTime.now().minusHours(i), i % 3 == 0);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("여러 묶음에 걸친 결과를 일반 검색과 같은 순서로 중복/누락 없이 쓰고, 묶음마다 한 번만 조회해야 한다")
+    void write_shouldStreamAllChunksInSearchOrder() throws Exception {
+        List<Long> expected = dbLevelStrategy.search("Spring", List.of("Spring"), PageRequest.of(0, 100))
+                .getContent().stream().map(BookmarkResponseDto::getId).toList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        SearchProfile profile = SearchProfiler.start();
+        try {
+            streamer.write("Spring", List.of("Spring"), out);
+        } finally {
+            SearchProfiler.stop();
+        }
+
+        assertThat(expected).hasSize(5);
+        assertThat(ids(out)).containsExactlyElementsOf(expected);
+        assertThat(profile.getStatements()).hasSize(3); // 2 + 2 + 1
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없으면 아무것도 쓰지 않고 북마크를 조회하지 않아야 한다")
+    void write_withNoResults_shouldWriteNothing() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        SearchProfile profile = SearchProfiler.start();
+        try {
+            streamer.write("없는 키워드", null, out);
+        } finally {
+            SearchProfiler.stop();
+        }
+
+        assertThat(out.size()).isZero();
+        assertThat(profile.getStatements()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쓰기에 실패하면 예외 없이 종료하고 다음 묶음은 조회하지 않아야 한다")
+    void write_whenClientDisconnects_shouldStopQuerying() {
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        SearchProfile profile = SearchProfiler.start();
+        try {
+            streamer.write("Spring", null, closed);
+        } finally {
+            SearchProfiler.stop();
+        }
+
+        assertThat(profile.getStatements()).hasSize(1);
+    }
+
+    private List<Long> ids(ByteArrayOutputStream out) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            ids.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        return ids;
+    }
+
+    private void persist(String title, LocalDateTime createdAt, boolean tagged) {
+        Bookmark bookmark = Bookmark.builder()
+                .title(title)
+                .url("http://example.com/" + title.hashCode())
+                .folder(folder)
+                .build();
+        if (tagged) {
+            bookmark.addTag(spring);
+        }
+        em.persist(bookmark);
+        em.flush();
+        // @CreationTimestamp 값을 테스트 시나리오에 맞게 덮어씁니다.
+        em.getEntityManager()
+                .createNativeQuery("UPDATE bookmarks SET created_at = ?1 WHERE bookmark_id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, bookmark.getId())
+                .executeUpdate();
+    }
+}
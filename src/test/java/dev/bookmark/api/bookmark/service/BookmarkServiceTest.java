@@ -0,0 +1,138 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkCreateRequestDto;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.common.DataVersionTracker;
+import dev.bookmark.api.common.ResourceETags;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.folder.repository.FolderRepository;
+import dev.bookmark.api.tag.repository.TagJdbcRepository;
+import dev.bookmark.api.tag.service.TagResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BookmarkService 클래스에 대한 테스트
+ * 중복 제거(dedupe) 생성이 같은 URL의 기존 북마크를 반환하는지, 새로 만들었는지를 결과로 알려주는지 확인합니다.
+ * 동시 생성 테스트는 각 요청이 따로 커밋되어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({BookmarkService.class, TagResolver.class, TagJdbcRepository.class, DbLevelSortSearchStrategy.class,
+        ResourceETags.class, DataVersionTracker.class})
+class BookmarkServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private FolderRepository folderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Folder dev;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 트랜잭션이 없는 테스트도 있으므로 폴더는 TransactionTemplate으로 저장합니다. (있으면 참여)
+        dev = new TransactionTemplate(transactionManager).execute(status -> {
+            Folder folder = folderRepository.save(Folder.builder().name("개발").build());
+            folder.refreshPath();
+            return folder;
+        });
+    }
+
+    @Test
+    @DisplayName("dedupe로 생성할 때 같은 URL의 북마크가 있으면 새로 만들지 않고 가장 오래된 북마크를 반환해야 한다")
+    void createBookmark_withDedupeAndExistingUrl_shouldReturnExisting() {
+        BookmarkCreateResult first = bookmarkService.createBookmark(request("https://spring.io/guides"), false);
+        bookmarkService.createBookmark(request("https://spring.io/guides"), false);
+        em.flush();
+        em.clear();
+
+        // 정규화하면 같은 URL (호스트 대소문자, 프래그먼트 차이)
+        BookmarkCreateResult result = bookmarkService.createBookmark(request("https://SPRING.io/guides#intro"), true);
+
+        assertThat(result.created()).isFalse();
+        assertThat(result.bookmark().getId()).isEqualTo(first.bookmark().getId());
+        assertThat(bookmarkRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 URL의 북마크가 없거나 dedupe가 아니면 새로 만들고 created를 true로 반환해야 한다")
+    void createBookmark_withoutDuplicateOrDedupe_shouldCreate() {
+        BookmarkCreateResult created = bookmarkService.createBookmark(request("https://hibernate.org"), true);
+        BookmarkCreateResult duplicated = bookmarkService.createBookmark(request("https://hibernate.org"), false);
+        em.flush();
+
+        assertThat(created.created()).isTrue();
+        assertThat(duplicated.created()).isTrue();
+        assertThat(duplicated.bookmark().getId()).isNotEqualTo(created.bookmark().getId());
+        assertThat(bookmarkRepository.findIdsByUrl("https://hibernate.org"))
+                .containsExactly(created.bookmark().getId(), duplicated.bookmark().getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 URL로 동시에 dedupe 생성을 요청해도 북마크는 하나만 만들어지고 나머지는 그 북마크를 반환해야 한다")
+    void createBookmark_withDedupeConcurrently_shouldCreateOnce() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        try {
+            List<Future<BookmarkCreateResult>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return bookmarkService.createBookmark(request("https://docs.spring.io/reference"), true);
+                }));
+            }
+            List<BookmarkCreateResult> results = new ArrayList<>();
+            for (Future<BookmarkCreateResult> future : futures) {
+                results.add(future.get());
+            }
+
+            List<Long> ids = bookmarkRepository.findIdsByUrl("https://docs.spring.io/reference");
+            assertThat(ids).hasSize(1);
+            assertThat(results).filteredOn(BookmarkCreateResult::created).hasSize(1);
+            assertThat(results).allSatisfy(result -> assertThat(result.bookmark().getId()).isEqualTo(ids.get(0)));
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM bookmark_tags");
+            jdbcTemplate.update("DELETE FROM bookmarks");
+            jdbcTemplate.update("DELETE FROM folders");
+        }
+    }
+
+    private BookmarkCreateRequestDto request(String url) {
+        return new BookmarkCreateRequestDto("제목", url, null, dev.getId(), List.of());
+    }
+}
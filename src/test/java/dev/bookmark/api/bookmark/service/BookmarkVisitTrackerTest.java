@@ -0,0 +1,138 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.repository.BookmarkVisitJdbcRepository;
+import dev.bookmark.api.folder.domain.Folder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BookmarkVisitTracker 클래스에 대한 테스트
+ * 주기적 flush가 끼어들지 않도록 주기를 길게 두고 flush()를 직접 호출합니다.
+ * 메트릭 레지스트리는 테스트 사이에 공유되므로 메트릭은 테스트 전후의 차이로 확인합니다.
+ */
+@DataJpaTest(properties = "bookmark.visit.flush-interval=PT1H")
+@Import({BookmarkVisitTracker.class, BookmarkVisitJdbcRepository.class, SimpleMeterRegistry.class})
+class BookmarkVisitTrackerTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookmarkVisitTracker visitTracker;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Folder dev;
+    private Long jpa;
+    private Long boot;
+    private Long docker;
+
+    @BeforeEach
+    void setUp() {
+        dev = em.persist(Folder.builder().name("개발").build());
+        dev.refreshPath();
+        jpa = bookmark("JPA 정리");
+        boot = bookmark("Spring Boot 입문");
+        docker = bookmark("Docker 입문");
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("방문을 모아 북마크당 한 행으로 반영하고, 없는 북마크의 방문은 버려야 한다")
+    void flush_shouldCoalesceVisitsAndDropMissingBookmarks() {
+        double recorded = count("bookmark.visit.recorded");
+        double coalesced = count("bookmark.visit.coalesced");
+        double missing = count("bookmark.visit.dropped", "reason", "missing");
+
+        visitTracker.recordVisit(jpa);
+        visitTracker.recordVisit(jpa);
+        visitTracker.recordVisit(jpa);
+        visitTracker.recordVisit(boot);
+        visitTracker.recordVisit(999_999L);
+
+        assertThat(visitTracker.flush()).isEqualTo(2);
+
+        assertThat(visitCount(jpa)).isEqualTo(3);
+        assertThat(visitCount(boot)).isEqualTo(1);
+        assertThat(visitCount(999_999L)).isZero();
+        assertThat(visitTracker.frecencyKey(jpa)).isGreaterThan(visitTracker.frecencyKey(boot));
+        assertThat(visitTracker.frecencyKey(docker)).isEqualTo(Frecency.NONE);
+        assertThat(count("bookmark.visit.recorded") - recorded).isEqualTo(5);
+        assertThat(count("bookmark.visit.coalesced") - coalesced).isEqualTo(2);
+        assertThat(count("bookmark.visit.dropped", "reason", "missing") - missing).isEqualTo(1);
+
+        // 이미 통계가 있는 북마크는 기존 행에 더합니다.
+        visitTracker.recordVisit(jpa);
+        assertThat(visitTracker.flush()).isEqualTo(1);
+        assertThat(visitCount(jpa)).isEqualTo(4);
+        assertThat(visitTracker.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("frecency 순 폴더 목록은 자주 방문한 북마크부터, 방문 기록이 없는 북마크는 뒤에 두어야 한다")
+    void findByFolderIdOrderByFrecency_shouldOrderByVisits() {
+        visitTracker.recordVisit(boot);
+        visitTracker.recordVisit(boot);
+        visitTracker.recordVisit(jpa);
+        visitTracker.flush();
+
+        assertThat(bookmarkRepository.findByFolderIdOrderByFrecency(dev.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(Bookmark::getId)
+                .containsExactly(boot, jpa, docker);
+    }
+
+    @Test
+    @DisplayName("반영을 기다리는 북마크가 max-pending개이면 새 북마크의 방문은 버리고, 기다리는 북마크의 방문은 계속 세야 한다")
+    void recordVisit_overCapacity_shouldDropNewBookmarks(@Autowired ApplicationContext context,
+                                                         @Autowired BookmarkVisitJdbcRepository visitRepository,
+                                                         @Autowired PlatformTransactionManager transactionManager) {
+        BookmarkVisitTracker tracker = new BookmarkVisitTracker(visitRepository, transactionManager,
+                context.getBeanProvider(MeterRegistry.class), 1);
+        double dropped = count("bookmark.visit.dropped", "reason", "capacity");
+
+        tracker.recordVisit(jpa);
+        tracker.recordVisit(boot);
+        tracker.recordVisit(jpa);
+        tracker.flush();
+
+        assertThat(visitCount(jpa)).isEqualTo(2);
+        assertThat(visitCount(boot)).isZero();
+        assertThat(count("bookmark.visit.dropped", "reason", "capacity") - dropped).isEqualTo(1);
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.counter(name, tags).count();
+    }
+
+    private long visitCount(Long bookmarkId) {
+        return jdbcTemplate.queryForList("SELECT visit_count FROM bookmark_visit_stats WHERE bookmark_id = ?", Long.class, bookmarkId)
+                .stream().findFirst().orElse(0L);
+    }
+
+    private Long bookmark(String title) {
+        return em.persist(Bookmark.builder().title(title).url("https://example.com/" + title.hashCode()).folder(dev).build()).getId();
+    }
+}
@@ -0,0 +1,81 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.common.DataVersionTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CachingSearchStrategy 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingSearchStrategyTest {
+
+    @Mock
+    private BookmarkSearchStrategy delegate;
+
+    private DataVersionTracker dataVersionTracker;
+    private CachingSearchStrategy cachingStrategy;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionTracker = new DataVersionTracker();
+        cachingStrategy = new CachingSearchStrategy(delegate, dataVersionTracker, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("같은 검색은 태그 순서가 달라도 캐시에서 반환되어야 한다")
+    void search_repeated_shouldHitCache() {
+        Page<BookmarkResponseDto> page = new PageImpl<>(List.of());
+        when(delegate.search(any(), any(), any())).thenReturn(page);
+
+        Page<BookmarkResponseDto> first = cachingStrategy.search("JPA", List.of("Spring", "Java"), PageRequest.of(0, 10));
+        Page<BookmarkResponseDto> second = cachingStrategy.search("JPA", List.of("Java", "Spring"), PageRequest.of(0, 10));
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).search(any(), any(), any());
+        assertThat(cachingStrategy.getStats().hitCount()).isEqualTo(1);
+        assertThat(cachingStrategy.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 페이지를 요청하거나 데이터 버전이 올라가면 다시 검색해야 한다")
+    void search_afterPageChangeOrDataChange_shouldMiss() {
+        when(delegate.search(any(), any(), any())).thenReturn(new PageImpl<>(List.of()));
+
+        cachingStrategy.search("JPA", null, PageRequest.of(0, 10));
+        cachingStrategy.search("JPA", null, PageRequest.of(1, 10));
+        dataVersionTracker.bump(DataVersionTracker.Scope.BOOKMARKS);
+        cachingStrategy.search("JPA", null, PageRequest.of(0, 10));
+
+        verify(delegate, times(3)).search(any(), any(), any());
+        assertThat(cachingStrategy.getStats().hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 조건이 없으면 위임하지 않고 예외가 발생해야 한다")
+    void search_withoutCriteria_shouldThrowWithoutDelegating() {
+        assertThatThrownBy(() -> cachingStrategy.search(" ", List.of(), PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색 조건(키워드 또는 태그)을 하나 이상 입력해주세요.");
+        verify(delegate, never()).search(any(), any(), any());
+    }
+}
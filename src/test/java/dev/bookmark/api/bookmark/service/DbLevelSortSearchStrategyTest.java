@@ -0,0 +1,350 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.CursorPageResponseDto;
+import dev.bookmark.api.bookmark.dto.FacetedPage;
+import dev.bookmark.api.bookmark.dto.SearchFacetsDto;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.repository.BookmarkVisitJdbcRepository;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.tag.domain.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * DbLevelSortSearchStrategy 클래스에 대한 테스트
+ * AppLevelSortSearchStrategyTest와 같은 시나리오를 실제 H2 DB에 저장한 뒤,
+ * 두 전략이 같은 순서와 같은 전체 개수를 반환하는지 비교합니다.
+ * 방문 기록은 주기적 flush가 끼어들지 않도록 주기를 길게 두고 flush()를 직접 호출해 반영합니다.
+ */
+@DataJpaTest(properties = "bookmark.visit.flush-interval=PT1H")
+@Import({DbLevelSortSearchStrategy.class, AppLevelSortSearchStrategy.class,
+        BookmarkVisitTracker.class, BookmarkVisitJdbcRepository.class, SimpleMeterRegistry.class})
+class DbLevelSortSearchStrategyTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DbLevelSortSearchStrategy dbLevelStrategy;
+
+    @Autowired
+    private AppLevelSortSearchStrategy appLevelStrategy;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private BookmarkVisitTracker visitTracker;
+
+    private Folder folder_tech;
+    private Tag tag_java, tag_spring;
+
+    @BeforeEach
+    void setUp() {
+        folder_tech = em.persist(Folder.builder().name("기술").build());
+        tag_java = em.persist(Tag.builder().name("Java").build());
+        tag_spring = em.persist(Tag.builder().name("Spring").build());
+    }
+
+    @Test
+    @DisplayName("키워드와 태그로 검색 시, 모든 조건에 맞는 북마크가 최상단에 정렬되어야 한다")
+    void search_withKeywordAndTags_shouldReturnSortedByScore() {
+        Bookmark jpa = persist("JPA 핵심", null, LocalDateTime.now().minusDays(1), tag_java, tag_spring);
+        Bookmark springBasic = persist("Spring 기초", null, LocalDateTime.now(), tag_spring);
+        clear();
+
+        Page<BookmarkResponseDto> resultPage = assertSameAsAppLevel("JPA", List.of("Java", "Spring"), PageRequest.of(0, 10));
+
+        assertThat(resultPage.getTotalElements()).isEqualTo(2);
+        assertThat(resultPage.getContent()).extracting("id").containsExactly(jpa.getId(), springBasic.getId());
+    }
+
+    @Test
+    @DisplayName("키워드로만 검색 시, 제목이나 설명에 키워드가 포함된 북마크만 반환되어야 한다")
+    void search_withKeywordOnly_shouldReturnMatchingBookmarks() {
+        persist("JPA 핵심", null, LocalDateTime.now(), tag_java);
+        persist("Spring 기초", null, LocalDateTime.now(), tag_spring);
+        persist("입문서", "스프링 기초 정리", LocalDateTime.now().minusDays(1));
+        clear();
+
+        Page<BookmarkResponseDto> resultPage = assertSameAsAppLevel("기초", null, PageRequest.of(0, 10));
+
+        assertThat(resultPage.getContent()).extracting("title").containsExactly("Spring 기초", "입문서");
+    }
+
+    @Test
+    @DisplayName("태그로만 검색 시, 해당 태그를 가진 북마크만 반환되어야 한다")
+    void search_withTagOnly_shouldReturnMatchingBookmarks() {
+        persist("JPA 핵심", null, LocalDateTime.now(), tag_java, tag_spring);
+        persist("Spring 기초", null, LocalDateTime.now(), tag_spring);
+        clear();
+
+        Page<BookmarkResponseDto> resultPage = assertSameAsAppLevel(null, List.of("Java"), PageRequest.of(0, 10));
+
+        assertThat(resultPage.getTotalElements()).isEqualTo(1);
+        assertThat(resultPage.getContent().get(0).getTags()).extracting("name").contains("Java");
+    }
+
+    @Test
+    @DisplayName("대소문자나 유니코드 조합 방식이 달라도 같은 북마크를 찾고 같은 점수로 정렬해야 한다")
+    void search_withDifferentCaseAndUnicodeForm_shouldMatchNormalized() {
+        Bookmark cafe = persist("Café 추천", null, LocalDateTime.now().minusDays(1), tag_java);
+        Bookmark spring = persist("SPRING 정리", null, LocalDateTime.now(), tag_spring);
+        clear();
+
+        // 키워드는 대문자 + 조합형(E + U+0301)으로, 태그는 소문자로 요청합니다.
+        Page<BookmarkResponseDto> cafePage = assertSameAsAppLevel("CAFE\u0301", List.of("java"), PageRequest.of(0, 10));
+        Page<BookmarkResponseDto> springPage = assertSameAsAppLevel("spring", List.of("SPRING", "java"), PageRequest.of(0, 10));
+
+        assertThat(cafePage.getContent()).extracting("id").containsExactly(cafe.getId());
+        // spring: 제목 20 + 태그 5 + 키워드/태그 30 = 55, cafe: 태그 5
+        assertThat(springPage.getContent()).extracting("id").containsExactly(spring.getId(), cafe.getId());
+    }
+
+    @Test
+    @DisplayName("패싯은 페이지와 무관하게 검색 결과 전체를 태그/폴더별로 세고, 두 순위 방식과 DB 집계가 같은 값을 반환해야 한다")
+    void searchWithFacets_shouldCountAllMatchesPerTagAndFolder() {
+        Folder folder_travel = em.persist(Folder.builder().name("여행").build());
+        persist("JPA 핵심", null, LocalDateTime.now().minusDays(3), tag_java, tag_spring);
+        persist("Spring 기초", null, LocalDateTime.now().minusDays(2), tag_spring);
+        Bookmark trip = persist("Spring 여행 정리", null, LocalDateTime.now().minusDays(1));
+        trip.setFolder(folder_travel);
+        persist("관계없는 글", null, LocalDateTime.now(), tag_java);
+        clear();
+
+        // "spring" 키워드 또는 Spring 태그: JPA 핵심, Spring 기초, Spring 여행 정리 (3개)
+        FacetedPage<BookmarkResponseDto> fullSort = appLevelStrategy.searchWithFacets("spring", List.of("Spring"), PageRequest.of(0, 1), 10);
+        ReflectionTestUtils.setField(appLevelStrategy, "rankingMode", AppLevelSortSearchStrategy.RankingMode.TOP_K);
+        FacetedPage<BookmarkResponseDto> topK;
+        try {
+            topK = appLevelStrategy.searchWithFacets("spring", List.of("Spring"), PageRequest.of(0, 1), 10);
+        } finally {
+            ReflectionTestUtils.setField(appLevelStrategy, "rankingMode", AppLevelSortSearchStrategy.RankingMode.FULL_SORT);
+        }
+        SearchFacetCounts counts = new SearchFacetCounts();
+        counts.addTags(bookmarkRepository.countTagFacets("spring", List.of("Spring"), null));
+        counts.addFolders(bookmarkRepository.countFolderFacets("spring", List.of("Spring"), null));
+        SearchFacetsDto aggregated = counts.top(10);
+
+        assertThat(fullSort.getContent()).hasSize(1);
+        assertThat(fullSort.getTotalElements()).isEqualTo(3);
+        // 많은 순: Spring 2, Java 1 / 기술 2, 여행 1
+        assertThat(fullSort.getFacets().getTags()).extracting("id", "count")
+                .containsExactly(tuple(tag_spring.getId(), 2), tuple(tag_java.getId(), 1));
+        assertThat(fullSort.getFacets().getFolders()).extracting("id", "count")
+                .containsExactly(tuple(folder_tech.getId(), 2), tuple(folder_travel.getId(), 1));
+        for (SearchFacetsDto facets : List.of(topK.getFacets(), aggregated)) {
+            assertThat(facets.getTags()).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(fullSort.getFacets().getTags());
+            assertThat(facets.getFolders()).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(fullSort.getFacets().getFolders());
+        }
+    }
+
+    @Test
+    @DisplayName("폴더 범위를 지정하면 그 폴더와 모든 하위 폴더의 북마크만 같은 순서로 반환해야 한다")
+    void searchInFolder_shouldReturnOnlyBookmarksInSubtree() {
+        folder_tech.refreshPath();
+        Folder folder_spring = em.persist(Folder.builder().name("Spring").parentFolder(folder_tech).build());
+        folder_spring.refreshPath();
+        Folder folder_other = em.persist(Folder.builder().name("기타").build());
+        folder_other.refreshPath();
+        Bookmark inRoot = persist("Spring 개요", null, LocalDateTime.now().minusDays(2));
+        Bookmark inChild = persist("Spring 트랜잭션", null, LocalDateTime.now().minusDays(1), tag_spring);
+        inChild.setFolder(folder_spring);
+        Bookmark outside = persist("Spring 다른 폴더", null, LocalDateTime.now(), tag_spring);
+        outside.setFolder(folder_other);
+        clear();
+
+        Page<BookmarkResponseDto> techPage = dbLevelStrategy.searchInFolder("spring", List.of("Spring"), folder_tech.getPath(), PageRequest.of(0, 10));
+        Page<BookmarkResponseDto> childPage = dbLevelStrategy.searchInFolder("spring", null, folder_spring.getPath(), PageRequest.of(0, 10));
+
+        assertThat(techPage.getTotalElements()).isEqualTo(2);
+        assertThat(techPage.getContent()).extracting("id").containsExactly(inChild.getId(), inRoot.getId());
+        assertThat(childPage.getContent()).extracting("id").containsExactly(inChild.getId());
+    }
+
+    @Test
+    @DisplayName("아무 검색 조건 없이 검색하면 IllegalArgumentException이 발생해야 한다")
+    void no_search_shouldThrow() {
+        assertThatThrownBy(() -> dbLevelStrategy.search(null, null, PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색 조건(키워드 또는 태그)을 하나 이상 입력해주세요.");
+    }
+
+    @Test
+    @DisplayName("결과가 없는 키워드로 검색 시, 빈 페이지를 반환해야 한다")
+    void search_withNonExistingKeyword_shouldReturnEmptyPage() {
+        persist("JPA 핵심", null, LocalDateTime.now(), tag_java);
+        clear();
+
+        Page<BookmarkResponseDto> resultPage = assertSameAsAppLevel("이런키워드는절대없을거야12345", null, PageRequest.of(0, 10));
+
+        assertThat(resultPage.getTotalElements()).isZero();
+        assertThat(resultPage.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("점수가 동일할 경우, 최신 생성된 북마크가 먼저 정렬되어야 한다")
+    void search_whenScoresAreEqual_shouldSortByCreationDateDescending() {
+        String keyword = "동일 점수 테스트";
+        Bookmark older = persist(keyword, null, LocalDateTime.now().minusDays(1));
+        Bookmark newer = persist(keyword, null, LocalDateTime.now());
+        clear();
+
+        Page<BookmarkResponseDto> resultPage = assertSameAsAppLevel(keyword, null, PageRequest.of(0, 10));
+
+        assertThat(resultPage.getContent()).extracting("id").containsExactly(newer.getId(), older.getId());
+    }
+
+    @Test
+    @DisplayName("방문 기록이 있으면 점수가 같은 북마크는 frecency 순으로, 두 전략과 커서 페이징이 같은 순서로 정렬해야 한다")
+    void search_withVisits_shouldBreakTiesByFrecencyInAllStrategies() {
+        String keyword = "동일 점수 방문";
+        Bookmark oldest = persist(keyword + " 1", null, LocalDateTime.now().minusDays(3));
+        Bookmark older = persist(keyword + " 2", null, LocalDateTime.now().minusDays(2));
+        Bookmark newer = persist(keyword + " 3", null, LocalDateTime.now().minusDays(1));
+        Bookmark tagged = persist(keyword + " 4", null, LocalDateTime.now().minusDays(4), tag_java);
+        clear();
+        // 생성일 순서를 뒤집도록 오래된 북마크를 더 많이 방문합니다. (tagged는 점수가 높으므로 방문이 없어도 맨 앞)
+        for (int i = 0; i < 3; i++) {
+            visitTracker.recordVisit(oldest.getId());
+        }
+        visitTracker.recordVisit(older.getId());
+        visitTracker.flush();
+
+        Page<BookmarkResponseDto> fullSort = assertSameAsAppLevel(keyword, List.of("Java"), PageRequest.of(0, 10));
+        ReflectionTestUtils.setField(appLevelStrategy, "rankingMode", AppLevelSortSearchStrategy.RankingMode.TOP_K);
+        try {
+            assertSameAsAppLevel(keyword, List.of("Java"), PageRequest.of(0, 10));
+            assertSameAsAppLevel(keyword, List.of("Java"), PageRequest.of(1, 2));
+        } finally {
+            ReflectionTestUtils.setField(appLevelStrategy, "rankingMode", AppLevelSortSearchStrategy.RankingMode.FULL_SORT);
+        }
+
+        assertThat(fullSort.getContent()).extracting("id")
+                .containsExactly(tagged.getId(), oldest.getId(), older.getId(), newer.getId());
+
+        List<Long> walked = new java.util.ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponseDto<BookmarkResponseDto> page = dbLevelStrategy.searchAfter(keyword, List.of("Java"), cursor, 1);
+            page.getContent().forEach(bookmark -> walked.add(bookmark.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(walked).containsExactly(tagged.getId(), oldest.getId(), older.getId(), newer.getId());
+    }
+
+    @Test
+    @DisplayName("페이징 로직이 올바르게 동작해야 한다")
+    void search_withPaging_shouldReturnCorrectPageInfo() {
+        for (int i = 0; i < 12; i++) {
+            persist("Bookmark " + i, null, LocalDateTime.now().minusHours(i));
+        }
+        clear();
+
+        Page<BookmarkResponseDto> resultPage = assertSameAsAppLevel("Bookmark", null, PageRequest.of(1, 5));
+
+        assertThat(resultPage.getTotalElements()).isEqualTo(12);
+        assertThat(resultPage.getTotalPages()).isEqualTo(3);
+        assertThat(resultPage.getNumber()).isEqualTo(1);
+        assertThat(resultPage.getContent()).hasSize(5);
+        assertThat(resultPage.getContent().get(0).getTitle()).isEqualTo("Bookmark 5");
+    }
+
+    @Test
+    @DisplayName("커서 기반 페이징으로 끝까지 읽으면 일반 검색과 같은 순서로 중복/누락 없이 반환되어야 한다")
+    void searchAfter_shouldWalkAllPagesInRankingOrder() {
+        LocalDateTime sameTime = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 12; i++) {
+            // 점수(태그 유무)와 생성일이 겹치는 북마크를 섞어 ID까지 비교되도록 합니다.
+            if (i % 3 == 0) {
+                persist("Spring " + i, null, sameTime, tag_spring);
+            } else {
+                persist("Spring " + i, null, i % 2 == 0 ? sameTime : LocalDateTime.now().minusHours(i));
+            }
+        }
+        clear();
+
+        List<Long> expected = dbLevelStrategy.search("Spring", List.of("Spring"), PageRequest.of(0, 100))
+                .getContent().stream().map(BookmarkResponseDto::getId).toList();
+
+        List<Long> walked = new java.util.ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponseDto<BookmarkResponseDto> page = dbLevelStrategy.searchAfter("Spring", List.of("Spring"), cursor, 5);
+            page.getContent().forEach(bookmark -> walked.add(bookmark.getId()));
+            assertThat(page.getNextCursor() != null).isEqualTo(page.isHasNext());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서로 검색하면 IllegalArgumentException이 발생해야 한다")
+    void searchAfter_withInvalidCursor_shouldThrow() {
+        assertThatThrownBy(() -> dbLevelStrategy.searchAfter("JPA", null, "잘못된커서", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    // 두 전략의 결과(순서, 전체 개수)가 같은지 확인하고 DB 전략의 결과를 반환합니다.
+    private Page<BookmarkResponseDto> assertSameAsAppLevel(String keyword, List<String> tagNames, Pageable pageable) {
+        Page<BookmarkResponseDto> expected = appLevelStrategy.search(keyword, tagNames, pageable);
+        Page<BookmarkResponseDto> actual = dbLevelStrategy.search(keyword, tagNames, pageable);
+
+        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+        assertThat(actual.getContent()).extracting("id")
+                .containsExactlyElementsOf(expected.getContent().stream().map(BookmarkResponseDto::getId).toList());
+        return actual;
+    }
+
+    private Bookmark persist(String title, String description, LocalDateTime createdAt, Tag... tags) {
+        Bookmark bookmark = Bookmark.builder()
+                .title(title)
+                .url("http://example.com/" + title.hashCode())
+                .description(description)
+                .folder(folder_tech)
+                .build();
+        for (Tag tag : tags) {
+            bookmark.addTag(tag);
+        }
+        em.persist(bookmark);
+        em.flush();
+        // @CreationTimestamp 값을 테스트 시나리오에 맞게 덮어씁니다.
+        em.getEntityManager()
+                .createNativeQuery("UPDATE bookmarks SET created_at = ?1 WHERE bookmark_id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, bookmark.getId())
+                .executeUpdate();
+        return bookmark;
+    }
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+}
@@ -0,0 +1,48 @@
+package dev.bookmark.api.bookmark.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Frecency 클래스에 대한 단위 테스트
+ */
+class FrecencyTest {
+
+    private static final long NOW = 1_750_000_000_000L;
+    private static final long HALF_LIFE = Frecency.HALF_LIFE.toMillis();
+
+    @Test
+    @DisplayName("같은 시각의 방문은 나누어 더해도 한 번에 더한 것과 같은 키가 되고, 점수는 방문 수와 같아야 한다")
+    void add_sameTime_shouldEqualTotalVisits() {
+        double split = Frecency.add(Frecency.add(null, 1, NOW), 2, NOW);
+        double once = Frecency.add(null, 3, NOW);
+
+        assertThat(split).isCloseTo(once, within(1e-9));
+        assertThat(Frecency.score(once, NOW)).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("방문의 가치는 반감기마다 절반이 되어야 한다")
+    void score_shouldHalvePerHalfLife() {
+        double key = Frecency.add(null, 4, NOW);
+
+        assertThat(Frecency.score(key, NOW + HALF_LIFE)).isCloseTo(2.0, within(1e-9));
+        assertThat(Frecency.score(key, NOW + 2 * HALF_LIFE)).isCloseTo(1.0, within(1e-9));
+        assertThat(Frecency.score(Frecency.add(key, 1, NOW + HALF_LIFE), NOW + HALF_LIFE)).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("키가 큰 쪽이 어느 시각에서든 점수도 커야 한다 (오래전 잦은 방문 < 최근 방문)")
+    void key_orderShouldMatchScoreOrderAtAnyTime() {
+        double oldButFrequent = Frecency.add(null, 10, NOW - 5 * HALF_LIFE); // 지금은 10 / 32
+        double recent = Frecency.add(null, 1, NOW);
+
+        assertThat(recent).isGreaterThan(oldButFrequent);
+        for (long at : new long[]{NOW, NOW + HALF_LIFE, NOW + 100 * HALF_LIFE}) {
+            assertThat(Frecency.score(recent, at)).isGreaterThan(Frecency.score(oldButFrequent, at));
+        }
+    }
+}
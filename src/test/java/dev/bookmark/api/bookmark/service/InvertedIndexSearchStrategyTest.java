@@ -0,0 +1,147 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.domain.Bookmark;
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.tag.domain.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * InvertedIndexSearchStrategy 클래스에 대한 단위 테스트
+ * 인덱스와 문서 저장소는 실제 객체를 사용하고, 페이지 북마크를 불러오는 Repository만 Mock으로 대체합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class InvertedIndexSearchStrategyTest {
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    private BookmarkInvertedIndex invertedIndex;
+    private TagBitmapIndex tagBitmapIndex;
+    private BookmarkDocumentStore documentStore;
+    private InvertedIndexSearchStrategy searchStrategy;
+
+    private Map<Long, Bookmark> bookmarks;
+
+    @BeforeEach
+    void setUp() {
+        invertedIndex = new BookmarkInvertedIndex();
+        tagBitmapIndex = new TagBitmapIndex();
+        documentStore = new BookmarkDocumentStore();
+        searchStrategy = new InvertedIndexSearchStrategy(invertedIndex, tagBitmapIndex, documentStore, bookmarkRepository);
+
+        Folder folder = Folder.builder().name("기술").build();
+        Tag tagJava = Tag.builder().name("Java").build();
+        Tag tagSpring = Tag.builder().name("Spring").build();
+
+        Bookmark jpa = bookmark(1L, "JPA 핵심", "영속성 컨텍스트 정리", folder, LocalDateTime.now().minusDays(2), tagJava, tagSpring);
+        Bookmark springBasic = bookmark(2L, "Spring 기초", null, folder, LocalDateTime.now().minusDays(1), tagSpring);
+        Bookmark travel = bookmark(3L, "여름 휴가 계획", "숙소 예약", folder, LocalDateTime.now());
+        bookmarks = Map.of(1L, jpa, 2L, springBasic, 3L, travel);
+        bookmarks.values().forEach(bookmark -> index(BookmarkSnapshot.from(bookmark)));
+
+        lenient().when(bookmarkRepository.findAllWithTagsAndFolderByIdIn(anyCollection()))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).stream()
+                        .map(bookmarks::get)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("키워드와 태그로 검색 시, 모든 조건에 맞는 북마크가 최상단에 정렬되어야 한다")
+    void search_withKeywordAndTags_shouldReturnSortedByScore() {
+        Page<BookmarkResponseDto> resultPage = searchStrategy.search("JPA", List.of("Java", "Spring"), PageRequest.of(0, 10));
+
+        assertThat(resultPage.getTotalElements()).isEqualTo(2);
+        assertThat(resultPage.getContent()).extracting("title").containsExactly("JPA 핵심", "Spring 기초");
+    }
+
+    @Test
+    @DisplayName("키워드는 대소문자를 구분하지 않고 단어의 접두어로도 검색되어야 한다")
+    void search_withKeywordPrefix_shouldMatchCaseInsensitively() {
+        Page<BookmarkResponseDto> resultPage = searchStrategy.search("spr", null, PageRequest.of(0, 10));
+
+        assertThat(resultPage.getContent()).extracting("title").containsExactly("Spring 기초");
+    }
+
+    @Test
+    @DisplayName("북마크가 수정되면 이전 토큰으로는 더 이상 검색되지 않아야 한다")
+    void update_shouldReplaceIndexedTokens() {
+        Bookmark travel = bookmarks.get(3L);
+        BookmarkSnapshot before = BookmarkSnapshot.from(travel);
+        travel.updateDetails("겨울 여행 계획", null, null);
+        BookmarkSnapshot after = BookmarkSnapshot.from(travel);
+        invertedIndex.update(before, after);
+        documentStore.update(before, after);
+
+        assertThat(searchStrategy.search("여름", null, PageRequest.of(0, 10)).getTotalElements()).isZero();
+        assertThat(searchStrategy.search("겨울", null, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("북마크가 삭제되면 검색 결과에서 제외되어야 한다")
+    void remove_shouldExcludeBookmark() {
+        BookmarkSnapshot snapshot = BookmarkSnapshot.from(bookmarks.get(2L));
+        invertedIndex.remove(snapshot);
+        tagBitmapIndex.remove(snapshot);
+        documentStore.remove(snapshot);
+
+        Page<BookmarkResponseDto> resultPage = searchStrategy.search(null, List.of("Spring"), PageRequest.of(0, 10));
+
+        assertThat(resultPage.getContent()).extracting("title").containsExactly("JPA 핵심");
+    }
+
+    @Test
+    @DisplayName("아무 검색 조건 없이 검색하면 IllegalArgumentException이 발생해야 한다")
+    void search_withoutCriteria_shouldThrow() {
+        assertThatThrownBy(() -> searchStrategy.search(null, null, PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색 조건(키워드 또는 태그)을 하나 이상 입력해주세요.");
+    }
+
+    private void index(BookmarkSnapshot snapshot) {
+        invertedIndex.add(snapshot);
+        tagBitmapIndex.add(snapshot);
+        documentStore.add(snapshot);
+    }
+
+    private Bookmark bookmark(Long id, String title, String description, Folder folder, LocalDateTime createdAt, Tag... tags) {
+        Bookmark bookmark = Bookmark.builder().title(title).url("http://example.com/" + id).description(description).folder(folder).build();
+        for (Tag tag : tags) {
+            bookmark.addTag(tag);
+        }
+        setPrivateField(bookmark, "id", id);
+        setPrivateField(bookmark, "createdAt", createdAt);
+        return bookmark;
+    }
+
+    // 테스트를 위해 private 필드에 값을 설정하는 헬퍼 메소드
+    private void setPrivateField(Object object, String fieldName, Object value) {
+        try {
+            java.lang.reflect.Field field = object.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(object, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
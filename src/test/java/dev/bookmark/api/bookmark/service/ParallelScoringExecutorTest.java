@@ -0,0 +1,69 @@
+package dev.bookmark.api.bookmark.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ParallelScoringExecutor 클래스에 대한 단위 테스트
+ */
+class ParallelScoringExecutorTest {
+
+    // threshold 0: 항상 병렬 경로를 사용
+    private final ParallelScoringExecutor executor = new ParallelScoringExecutor(0, 4, 2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("병렬 경로의 결과는 순차 경로와 같은 순서여야 한다 (전체 정렬, 동점 포함)")
+    void scoreAndRank_fullSort_shouldMatchSequentialOrder() {
+        List<SearchCandidate> candidates = candidates(10_000);
+        Function<SearchCandidate, ScoredCandidate> scorer = candidate -> new ScoredCandidate(candidate, (int) (candidate.getId() % 7), Frecency.NONE);
+
+        List<ScoredCandidate> sequential = ParallelScoringExecutor.rankSequentially(
+                candidates, 0, candidates.size(), scorer, ScoredCandidate.RANKING, Integer.MAX_VALUE);
+        List<ScoredCandidate> parallel = executor.scoreAndRank(candidates, scorer, ScoredCandidate.RANKING, Integer.MAX_VALUE);
+
+        assertThat(ids(parallel)).isEqualTo(ids(sequential));
+    }
+
+    @Test
+    @DisplayName("limit이 있으면 병렬 경로도 상위 limit개만 같은 순서로 반환해야 한다")
+    void scoreAndRank_topK_shouldMatchSequentialOrder() {
+        List<SearchCandidate> candidates = candidates(10_000);
+        Function<SearchCandidate, ScoredCandidate> scorer = candidate -> new ScoredCandidate(candidate, (int) (candidate.getId() % 13), Frecency.NONE);
+
+        List<ScoredCandidate> sequential = ParallelScoringExecutor.rankSequentially(
+                candidates, 0, candidates.size(), scorer, ScoredCandidate.RANKING, 30);
+        List<ScoredCandidate> parallel = executor.scoreAndRank(candidates, scorer, ScoredCandidate.RANKING, 30);
+
+        assertThat(parallel).hasSize(30);
+        assertThat(ids(parallel)).isEqualTo(ids(sequential));
+    }
+
+    private static List<SearchCandidate> candidates(int count) {
+        Random random = new Random(7);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<SearchCandidate> candidates = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            // 생성일이 겹치도록 만들어 ID까지 비교되는 경우를 포함합니다.
+            candidates.add(new SearchCandidate(id, "북마크 " + id, null, base.plusDays(random.nextInt(30)), List.of()));
+        }
+        return candidates;
+    }
+
+    private static List<Long> ids(List<ScoredCandidate> scored) {
+        return scored.stream().map(s -> s.getCandidate().getId()).toList();
+    }
+}
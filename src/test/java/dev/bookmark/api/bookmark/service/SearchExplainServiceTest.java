@@ -0,0 +1,78 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import dev.bookmark.api.bookmark.dto.ExplainedBookmarkDto;
+import dev.bookmark.api.bookmark.dto.SearchExplainResponseDto;
+import dev.bookmark.api.common.DataVersionTracker;
+import dev.bookmark.api.tag.dto.TagResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SearchExplainService 클래스에 대한 단위 테스트
+ */
+class SearchExplainServiceTest {
+
+    @Test
+    @DisplayName("캐시를 거치지 않고 전략을 실행하며, 단계 시간/SQL/후보 수/점수 내역을 반환해야 한다")
+    void explain_shouldProfileStrategyAndBreakDownScores() {
+        AtomicInteger calls = new AtomicInteger();
+        BookmarkSearchStrategy profiledStrategy = (keyword, tagNames, pageable) -> {
+            calls.incrementAndGet();
+            SearchProfiler.recordStatement("select b1_0.id from bookmark b1_0");
+            SearchProfiler.recordCandidates(2);
+            return SearchProfiler.time("query", () -> page(pageable));
+        };
+        CachingSearchStrategy cachingStrategy = new CachingSearchStrategy(profiledStrategy, new DataVersionTracker(), 100, Duration.ofMinutes(5));
+        cachingStrategy.search("JPA", List.of("Java", "Spring"), PageRequest.of(0, 10)); // 캐시에 미리 저장
+        SearchExplainService explainService = new SearchExplainService(cachingStrategy);
+
+        SearchExplainResponseDto response = explainService.explain("JPA", List.of("Java", "Spring"), PageRequest.of(0, 10));
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(response.getCandidateCount()).isEqualTo(2);
+        assertThat(response.getStatements()).containsExactly("select b1_0.id from bookmark b1_0");
+        assertThat(response.getStageNanos()).containsKey("query");
+        assertThat(response.getTotalNanos()).isGreaterThanOrEqualTo(response.getStageNanos().get("query"));
+
+        ExplainedBookmarkDto first = response.getResults().get(0);
+        assertThat(first.isTitleHit()).isTrue();
+        assertThat(first.getTagMatchCount()).isEqualTo(2);
+        assertThat(first.getAllTagsBonus()).isEqualTo(SearchScoring.ALL_TAGS_MATCH_BONUS);
+        assertThat(first.getComboBonus()).isEqualTo(SearchScoring.KEYWORD_AND_TAG_BONUS);
+        assertThat(first.getScore()).isEqualTo(SearchScoring.calculateScore("JPA 핵심", null,
+                List.of("Java", "Spring"), "JPA", List.of("Java", "Spring")));
+
+        ExplainedBookmarkDto second = response.getResults().get(1);
+        assertThat(second.isTitleHit()).isFalse();
+        assertThat(second.isDescriptionHit()).isTrue();
+        assertThat(second.getAllTagsBonus()).isZero();
+        assertThat(second.getScore()).isEqualTo(SearchScoring.calculateScore("ORM", "JPA 소개",
+                List.of("Spring"), "JPA", List.of("Java", "Spring")));
+        assertThat(SearchProfiler.isActive()).isFalse();
+    }
+
+    private static Page<BookmarkResponseDto> page(Pageable pageable) {
+        BookmarkResponseDto jpa = BookmarkResponseDto.builder()
+                .id(1L).title("JPA 핵심").createdAt(LocalDateTime.now())
+                .tags(List.of(TagResponseDto.builder().id(1L).name("Java").build(),
+                        TagResponseDto.builder().id(2L).name("Spring").build()))
+                .build();
+        BookmarkResponseDto orm = BookmarkResponseDto.builder()
+                .id(2L).title("ORM").description("JPA 소개").createdAt(LocalDateTime.now())
+                .tags(List.of(TagResponseDto.builder().id(2L).name("Spring").build()))
+                .build();
+        return new PageImpl<>(List.of(jpa, orm), pageable, 2);
+    }
+}
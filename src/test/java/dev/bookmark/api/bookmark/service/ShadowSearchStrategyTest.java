@@ -0,0 +1,118 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ShadowSearchStrategy 클래스와 결과 비교 지표(SearchResultComparison)에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ShadowSearchStrategyTest {
+
+    @Mock
+    private BookmarkSearchStrategy primary;
+
+    @Mock
+    private BookmarkSearchStrategy shadow;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("primary 결과로 응답하고, 샘플링된 검색은 shadow로도 실행해 지연 시간과 결과 차이를 기록해야 한다")
+    void search_sampled_shouldServePrimaryAndRecordComparison() {
+        Page<BookmarkResponseDto> primaryPage = page(1L, 2L, 3L, 4L);
+        when(primary.search(any(), any(), any())).thenReturn(primaryPage);
+        when(shadow.search(any(), any(), any())).thenReturn(page(2L, 1L, 3L, 5L));
+        ShadowSearchStrategy strategy = strategy(1.0, Runnable::run); // 같은 스레드에서 바로 실행
+
+        Page<BookmarkResponseDto> result = strategy.search("JPA", List.of("Java"), PageRequest.of(0, 10));
+
+        assertThat(result).isSameAs(primaryPage);
+        assertThat(meterRegistry.get("bookmark.search.shadow.latency").tag("role", "primary").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("bookmark.search.shadow.latency").tag("role", "shadow").timer().count()).isEqualTo(1);
+        // 공통 {1, 2, 3} / 합집합 {1, 2, 3, 4, 5}
+        assertThat(meterRegistry.get("bookmark.search.shadow.jaccard").summary().mean()).isCloseTo(0.6, within(1e-9));
+        // 공통 결과의 순위: primary (1, 2, 3), shadow (2, 1, 3) → 1 - 6 * 2 / (3 * 8) = 0.5
+        assertThat(meterRegistry.get("bookmark.search.shadow.rank-correlation").summary().mean()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않거나 대기열이 가득 차면 shadow를 실행하지 않아야 한다")
+    void search_notSampledOrRejected_shouldSkipShadow() {
+        when(primary.search(any(), any(), any())).thenReturn(page(1L));
+
+        strategy(0.0, Runnable::run).search("JPA", null, PageRequest.of(0, 10));
+        strategy(1.0, runnable -> {
+            throw new RejectedExecutionException();
+        }).search("JPA", null, PageRequest.of(0, 10));
+
+        verify(shadow, never()).search(any(), any(), any());
+        assertThat(meterRegistry.get("bookmark.search.shadow.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("shadow 실행이 실패해도 primary 결과를 반환하고 오류 횟수만 기록해야 한다")
+    void search_shadowFails_shouldStillServePrimary() {
+        Page<BookmarkResponseDto> primaryPage = page(1L);
+        when(primary.search(any(), any(), any())).thenReturn(primaryPage);
+        when(shadow.search(any(), any(), any())).thenThrow(new IllegalStateException("index not ready"));
+
+        Page<BookmarkResponseDto> result = strategy(1.0, Runnable::run).search("JPA", null, PageRequest.of(0, 10));
+
+        assertThat(result).isSameAs(primaryPage);
+        assertThat(meterRegistry.get("bookmark.search.shadow.errors").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("순위가 같으면 상관계수 1, 정반대면 -1, 공통 결과가 2개 미만이면 NaN이어야 한다")
+    void rankCorrelation_shouldFollowSpearman() {
+        assertThat(SearchResultComparison.topKRankCorrelation(List.of(1L, 2L, 3L), List.of(1L, 2L, 3L), 10)).isEqualTo(1.0);
+        assertThat(SearchResultComparison.topKRankCorrelation(List.of(1L, 2L, 3L), List.of(3L, 2L, 1L), 10)).isEqualTo(-1.0);
+        assertThat(SearchResultComparison.topKRankCorrelation(List.of(1L, 2L), List.of(2L, 3L), 10)).isNaN();
+        assertThat(SearchResultComparison.topKJaccard(List.of(), List.of(), 10)).isEqualTo(1.0);
+        assertThat(SearchResultComparison.topKJaccard(List.of(1L, 2L, 3L), List.of(1L, 9L, 3L), 2)).isCloseTo(1.0 / 3, within(1e-9));
+    }
+
+    private ShadowSearchStrategy strategy(double sampleRate, Executor executor) {
+        return new ShadowSearchStrategy(primary, "appLevelSortSearchStrategy", shadow, "bm25SearchStrategy",
+                sampleRate, 10, executor, new TransactionTemplate(transactionManager), meterRegistry);
+    }
+
+    private static Page<BookmarkResponseDto> page(Long... ids) {
+        List<BookmarkResponseDto> content = List.of(ids).stream()
+                .map(id -> BookmarkResponseDto.builder().id(id).title("bookmark " + id).build())
+                .collect(Collectors.toList());
+        return new PageImpl<>(content);
+    }
+}
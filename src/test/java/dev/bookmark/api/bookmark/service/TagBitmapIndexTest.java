@@ -0,0 +1,66 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TagBitmapIndex 클래스에 대한 단위 테스트
+ */
+class TagBitmapIndexTest {
+
+    private TagBitmapIndex tagBitmapIndex;
+
+    @BeforeEach
+    void setUp() {
+        tagBitmapIndex = new TagBitmapIndex();
+        tagBitmapIndex.add(snapshot(1L, "Java", "Spring", "JPA"));
+        tagBitmapIndex.add(snapshot(2L, "Spring"));
+        tagBitmapIndex.add(snapshot(3L, "Java"));
+        tagBitmapIndex.add(snapshot(4L, "여행"));
+    }
+
+    @Test
+    @DisplayName("OR/AND 조건은 비트맵 합집합/교집합으로 계산되어야 한다 (대소문자 무시)")
+    void anyOfAndAllOf_shouldUseUnionAndIntersection() {
+        assertThat(tagBitmapIndex.anyOf(List.of("java", "SPRING")).toArray()).containsExactly(1, 2, 3);
+        assertThat(tagBitmapIndex.allOf(List.of("java", "SPRING")).toArray()).containsExactly(1);
+        assertThat(tagBitmapIndex.allOf(List.of("Java", "없는태그")).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("북마크별 태그 일치 개수는 북마크의 태그 목록을 훑은 결과와 같아야 한다")
+    void countMatches_shouldMatchTagScan() {
+        List<String> requested = List.of("Java", "Spring", "JPA");
+        TagMatchCounts counts = tagBitmapIndex.countMatches(requested);
+
+        assertThat(counts.count(1L)).isEqualTo(3);
+        assertThat(counts.count(2L)).isEqualTo(1);
+        assertThat(counts.count(3L)).isEqualTo(1);
+        assertThat(counts.count(4L)).isZero();
+        assertThat(counts.getMatched().getCardinality()).isEqualTo(3);
+        assertThat(counts.getAllMatched().toArray()).containsExactly(1);
+        assertThat(counts.count(1L)).isEqualTo((int) SearchScoring.countMatchingTags(List.of("Java", "Spring", "JPA"), requested));
+    }
+
+    @Test
+    @DisplayName("수정 시 추가/제거된 태그만 반영되어야 한다")
+    void update_shouldApplyTagDiff() {
+        tagBitmapIndex.update(snapshot(2L, "Spring"), snapshot(2L, "Java"));
+
+        assertThat(tagBitmapIndex.cardinality("spring")).isEqualTo(1);
+        assertThat(tagBitmapIndex.cardinality("java")).isEqualTo(3);
+
+        tagBitmapIndex.remove(snapshot(4L, "여행"));
+        assertThat(tagBitmapIndex.cardinality("여행")).isZero();
+    }
+
+    private BookmarkSnapshot snapshot(Long id, String... tagNames) {
+        return BookmarkSnapshot.builder().id(id).title("북마크 " + id).tagNames(List.of(tagNames)).build();
+    }
+}
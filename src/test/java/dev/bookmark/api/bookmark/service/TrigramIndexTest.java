@@ -0,0 +1,58 @@
+package dev.bookmark.api.bookmark.service;
+
+import dev.bookmark.api.bookmark.event.BookmarkSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TrigramIndex 클래스에 대한 단위 테스트
+ */
+class TrigramIndexTest {
+
+    private TrigramIndex trigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        trigramIndex = new TrigramIndex();
+        trigramIndex.add(snapshot(1L, "Spring Boot 가이드", "JPA 연관관계 정리"));
+        trigramIndex.add(snapshot(2L, "Java Stream", null));
+        trigramIndex.add(snapshot(3L, "여행 계획", "Boot camp 일정"));
+    }
+
+    @Test
+    @DisplayName("후보에는 제목 또는 설명에 키워드를 포함하는 북마크가 모두 들어 있어야 한다 (대소문자 무시)")
+    void findCandidates_shouldContainAllSubstringMatches() {
+        assertThat(trigramIndex.findCandidates("boot").toArray()).containsExactly(1, 3);
+        assertThat(trigramIndex.findCandidates("연관관계").toArray()).containsExactly(1);
+        assertThat(trigramIndex.findCandidates("STREAM").toArray()).containsExactly(2);
+        assertThat(trigramIndex.findCandidates("없는키워드").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("트라이그램으로 좁힐 수 없는 키워드(3글자 미만, LIKE 와일드카드)는 null을 반환해야 한다")
+    void findCandidates_shouldReturnNullWhenNotNarrowable() {
+        assertThat(trigramIndex.findCandidates("JP")).isNull();
+        assertThat(trigramIndex.findCandidates("Sp%ng")).isNull();
+        assertThat(trigramIndex.findCandidates("Java_Stream")).isNull();
+        assertThat(trigramIndex.findCandidates(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 바뀐 트라이그램만 반영되어야 한다")
+    void updateAndRemove_shouldApplyGramDiff() {
+        trigramIndex.update(snapshot(2L, "Java Stream", null), snapshot(2L, "Kotlin Flow", null));
+
+        assertThat(trigramIndex.findCandidates("stream").isEmpty()).isTrue();
+        assertThat(trigramIndex.findCandidates("kotlin").toArray()).containsExactly(2);
+
+        trigramIndex.remove(snapshot(3L, "여행 계획", "Boot camp 일정"));
+        assertThat(trigramIndex.findCandidates("boot").toArray()).containsExactly(1);
+    }
+
+    private BookmarkSnapshot snapshot(Long id, String title, String description) {
+        return BookmarkSnapshot.builder().id(id).title(title).description(description).build();
+    }
+}
@@ -0,0 +1,34 @@
+package dev.bookmark.api.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CanonicalUrl 클래스에 대한 단위 테스트
+ */
+class CanonicalUrlTest {
+
+    @Test
+    @DisplayName("표기만 다른 같은 URL은 같은 정규화 URL과 해시가 되어야 한다")
+    void canonicalize_shouldIgnoreCosmeticDifferences() {
+        String canonical = CanonicalUrl.canonicalize("https://example.com/a/b?x=%2f");
+
+        assertThat(CanonicalUrl.canonicalize(" HTTPS://Example.COM:443/a/./c/../b?utm_source=mail&x=%2F#top ")).isEqualTo(canonical);
+        assertThat(CanonicalUrl.canonicalize("https://example.com./a/b?x=%2F&fbclid=abc")).isEqualTo(canonical);
+        assertThat(CanonicalUrl.hash(canonical)).hasSize(CanonicalUrl.HASH_LENGTH)
+                .isEqualTo(CanonicalUrl.hash(CanonicalUrl.canonicalize("https://EXAMPLE.com/a/b?x=%2f")));
+        assertThat(CanonicalUrl.canonicalize("http://example.com")).isEqualTo("http://example.com/");
+    }
+
+    @Test
+    @DisplayName("경로 대소문자, 기본이 아닌 포트, 다른 쿼리는 다른 URL로 남아야 한다")
+    void canonicalize_shouldKeepMeaningfulDifferences() {
+        assertThat(CanonicalUrl.canonicalize("https://example.com/Docs")).isNotEqualTo(CanonicalUrl.canonicalize("https://example.com/docs"));
+        assertThat(CanonicalUrl.canonicalize("http://example.com:8080/")).isEqualTo("http://example.com:8080/");
+        assertThat(CanonicalUrl.canonicalize("https://example.com/?page=2")).isNotEqualTo(CanonicalUrl.canonicalize("https://example.com/?page=3"));
+        assertThat(CanonicalUrl.canonicalize("mailto:someone@example.com ")).isEqualTo("mailto:someone@example.com");
+        assertThat(CanonicalUrl.canonicalize(null)).isNull();
+    }
+}
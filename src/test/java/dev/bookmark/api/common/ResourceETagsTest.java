@@ -0,0 +1,60 @@
+package dev.bookmark.api.common;
+
+import dev.bookmark.api.tag.event.TagChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ResourceETags 클래스에 대한 단위 테스트
+ */
+class ResourceETagsTest {
+
+    private final DataVersionTracker dataVersionTracker = new DataVersionTracker();
+    private final ResourceETags resourceETags = new ResourceETags(dataVersionTracker);
+
+    @Test
+    @DisplayName("목록 ETag는 지정한 종류의 데이터가 바뀔 때만 달라져야 한다")
+    void ofScopes_shouldChangeOnlyWhenScopeChanges() {
+        String tags = resourceETags.ofScopes(DataVersionTracker.Scope.TAGS);
+
+        dataVersionTracker.bump(DataVersionTracker.Scope.BOOKMARKS);
+        assertThat(resourceETags.ofScopes(DataVersionTracker.Scope.TAGS)).isEqualTo(tags);
+
+        dataVersionTracker.onTagChanged(TagChangedEvent.created(1L, "Java"));
+        assertThat(resourceETags.ofScopes(DataVersionTracker.Scope.TAGS)).isNotEqualTo(tags)
+                .startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("엔티티 ETag는 수정 시각과 태그 이름 변경으로 달라지고, 태그 생성이나 마이크로초 미만의 차이로는 달라지지 않아야 한다")
+    void ofEntity_shouldFollowUpdatedAtAndTagNames() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 5, 1, 12, 0, 0, 123_456_789);
+        String eTag = resourceETags.ofEntity(updatedAt, null);
+
+        assertThat(resourceETags.ofEntity(updatedAt.withNano(123_456_000), null)).isEqualTo(eTag);
+        assertThat(resourceETags.ofEntity(updatedAt.plusNanos(1_000), null)).isNotEqualTo(eTag);
+        assertThat(resourceETags.ofEntity(updatedAt, updatedAt)).isNotEqualTo(eTag);
+
+        dataVersionTracker.onTagChanged(TagChangedEvent.created(1L, "Java"));
+        assertThat(resourceETags.ofEntity(updatedAt, null)).isEqualTo(eTag);
+
+        dataVersionTracker.onTagChanged(TagChangedEvent.renamed(1L, "Java", "JDK"));
+        assertThat(resourceETags.ofEntity(updatedAt, null)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("If-Match는 같은 ETag나 *이면 일치하고, 약한 ETag나 다른 ETag면 일치하지 않아야 한다")
+    void matches_shouldUseStrongComparison() {
+        String eTag = resourceETags.ofEntity(LocalDateTime.now());
+
+        assertThat(ResourceETags.matches(null, eTag)).isTrue();
+        assertThat(ResourceETags.matches("\"other\", " + eTag, eTag)).isTrue();
+        assertThat(ResourceETags.matches("*", eTag)).isTrue();
+        assertThat(ResourceETags.matches("W/" + eTag, eTag)).isFalse();
+        assertThat(ResourceETags.matches("\"other\"", eTag)).isFalse();
+    }
+}
@@ -0,0 +1,106 @@
+package dev.bookmark.api.folder.service;
+
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.folder.dto.FolderCreateRequestDto;
+import dev.bookmark.api.folder.dto.FolderUpdateRequestDto;
+import dev.bookmark.api.folder.repository.FolderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FolderService 클래스에 대한 테스트
+ * 폴더 생성/이동/삭제 시 폴더 경로(materialized path)가 함께 유지되는지 확인합니다.
+ */
+@DataJpaTest
+@Import(FolderService.class)
+class FolderServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private FolderService folderService;
+
+    @Autowired
+    private FolderRepository folderRepository;
+
+    @Test
+    @DisplayName("폴더를 만들면 부모 경로 뒤에 자신의 ID를 붙인 경로가 저장되어야 한다")
+    void createFolder_shouldStorePath() {
+        Long root = folderService.createFolder(new FolderCreateRequestDto("개발")).getId();
+        Long child = folderService.createFolder(new FolderCreateRequestDto("Spring", root)).getId();
+        clear();
+
+        assertThat(path(root)).isEqualTo("/" + root + "/");
+        assertThat(path(child)).isEqualTo("/" + root + "/" + child + "/");
+    }
+
+    @Test
+    @DisplayName("폴더를 옮기면 자신과 모든 하위 폴더의 경로가 새 부모 아래로 바뀌어야 한다")
+    void updateFolder_withNewParent_shouldMoveSubtreePaths() {
+        Long dev = folderService.createFolder(new FolderCreateRequestDto("개발")).getId();
+        Long spring = folderService.createFolder(new FolderCreateRequestDto("Spring", dev)).getId();
+        Long jpa = folderService.createFolder(new FolderCreateRequestDto("JPA", spring)).getId();
+        Long archive = folderService.createFolder(new FolderCreateRequestDto("보관")).getId();
+        clear();
+
+        folderService.updateFolder(spring, new FolderUpdateRequestDto(null, archive));
+        clear();
+
+        assertThat(path(spring)).isEqualTo("/" + archive + "/" + spring + "/");
+        assertThat(path(jpa)).isEqualTo("/" + archive + "/" + spring + "/" + jpa + "/");
+        assertThat(path(dev)).isEqualTo("/" + dev + "/");
+
+        // 최상위로 옮기는 경우
+        folderService.updateFolder(spring, new FolderUpdateRequestDto(null, null));
+        clear();
+        assertThat(path(jpa)).isEqualTo("/" + spring + "/" + jpa + "/");
+    }
+
+    @Test
+    @DisplayName("폴더를 자신의 하위 폴더 아래로 옮기면 IllegalArgumentException이 발생해야 한다")
+    void updateFolder_withDescendantAsParent_shouldThrow() {
+        Long dev = folderService.createFolder(new FolderCreateRequestDto("개발")).getId();
+        Long spring = folderService.createFolder(new FolderCreateRequestDto("Spring", dev)).getId();
+        Long jpa = folderService.createFolder(new FolderCreateRequestDto("JPA", spring)).getId();
+        clear();
+
+        assertThatThrownBy(() -> folderService.updateFolder(dev, new FolderUpdateRequestDto(null, jpa)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("하위 폴더를 부모 폴더로 지정할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("강제 삭제하면 경로로 찾은 모든 하위 폴더가 함께 삭제되어야 한다")
+    void deleteFolder_withForce_shouldDeleteSubtree() {
+        Long dev = folderService.createFolder(new FolderCreateRequestDto("개발")).getId();
+        Long spring = folderService.createFolder(new FolderCreateRequestDto("Spring", dev)).getId();
+        Long jpa = folderService.createFolder(new FolderCreateRequestDto("JPA", spring)).getId();
+        Long archive = folderService.createFolder(new FolderCreateRequestDto("보관")).getId();
+        clear();
+
+        folderService.deleteFolder(dev, true);
+        clear();
+
+        assertThat(folderRepository.findAllById(List.of(dev, spring, jpa))).isEmpty();
+        assertThat(folderRepository.existsById(archive)).isTrue();
+    }
+
+    private String path(Long folderId) {
+        return em.find(Folder.class, folderId).getPath();
+    }
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+}
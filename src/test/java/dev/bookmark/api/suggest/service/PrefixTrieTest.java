@@ -0,0 +1,55 @@
+package dev.bookmark.api.suggest.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PrefixTrie 클래스에 대한 단위 테스트
+ */
+class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie(4, 3); // 깊이 4, 노드당 상위 3개
+        trie.put("Spring", 50);
+        trie.put("Spring Boot", 30);
+        trie.put("Spring Data JPA", 20);
+        trie.put("Spark", 10);
+        trie.put("Java", 40);
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 항목을 대소문자 구분 없이 가중치 순으로 반환해야 한다")
+    void find_shouldReturnTopByWeight() {
+        assertThat(trie.find("sp", 10)).extracting("text").containsExactly("Spring", "Spring Boot", "Spring Data JPA");
+        assertThat(trie.find("SPA", 10)).extracting("text").containsExactly("Spark");
+        assertThat(trie.find("x", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트라이 깊이보다 긴 접두어도 올바르게 걸러내야 한다")
+    void find_withPrefixLongerThanDepth_shouldFilterDeepestNode() {
+        assertThat(trie.find("spring d", 10)).extracting("text").containsExactly("Spring Data JPA");
+        assertThat(trie.find("spring", 2)).extracting("text").containsExactly("Spring", "Spring Boot");
+    }
+
+    @Test
+    @DisplayName("가중치가 바뀌거나 항목이 삭제되면 상위 목록이 다시 계산되어야 한다")
+    void adjustAndRemove_shouldRecomputeTopLists() {
+        trie.adjust("Spark", 100);     // 110으로 상승 → 1위
+        assertThat(trie.find("s", 10)).extracting("text").containsExactly("Spark", "Spring", "Spring Boot");
+
+        trie.put("Spark", 1);          // 1로 하락 → 상위 3개에서 밀려나고 Spring Data JPA가 다시 들어옴
+        assertThat(trie.find("s", 10)).extracting("text").containsExactly("Spring", "Spring Boot", "Spring Data JPA");
+
+        trie.remove("Spring");
+        trie.adjust("Spring Boot", -30); // 0 이하가 되면 제거
+        assertThat(trie.find("s", 10)).extracting("text").containsExactly("Spring Data JPA", "Spark");
+        assertThat(trie.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,174 @@
+package dev.bookmark.api.suggest.service;
+
+import dev.bookmark.api.bookmark.dto.BookmarkCreateRequestDto;
+import dev.bookmark.api.bookmark.dto.BookmarkUpdateRequestDto;
+import dev.bookmark.api.bookmark.repository.BookmarkRepository;
+import dev.bookmark.api.bookmark.service.BookmarkService;
+import dev.bookmark.api.bookmark.service.DbLevelSortSearchStrategy;
+import dev.bookmark.api.common.DataVersionTracker;
+import dev.bookmark.api.common.ResourceETags;
+import dev.bookmark.api.folder.domain.Folder;
+import dev.bookmark.api.folder.repository.FolderRepository;
+import dev.bookmark.api.suggest.dto.SuggestionDto;
+import dev.bookmark.api.tag.dto.TagCreateRequestDto;
+import dev.bookmark.api.tag.repository.TagJdbcRepository;
+import dev.bookmark.api.tag.repository.TagRepository;
+import dev.bookmark.api.tag.service.TagResolver;
+import dev.bookmark.api.tag.service.TagService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * SuggestionIndex 클래스에 대한 테스트
+ * 서비스로 북마크/태그를 변경해 커밋 이후 이벤트로 트라이가 갱신되도록 하므로 테스트 트랜잭션 없이 실행합니다.
+ * 단계마다 트라이 내용을 확인하고, DB에서 새로 구축한 인덱스와 같은지 비교합니다.
+ */
+@DataJpaTest
+@Import({SuggestionIndex.class, BookmarkService.class, TagService.class, TagResolver.class, TagJdbcRepository.class,
+        DbLevelSortSearchStrategy.class, ResourceETags.class, DataVersionTracker.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SuggestionIndexTest {
+
+    // 비교할 접두어 (트라이의 모든 항목이 하나 이상에 걸리도록)
+    private static final List<String> PREFIXES = List.of("s", "spring", "spring b", "d", "j", "k");
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private FolderRepository folderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long folderId;
+
+    @BeforeEach
+    void setUp() {
+        folderId = new TransactionTemplate(transactionManager).execute(status -> {
+            Folder folder = folderRepository.save(Folder.builder().name("개발").build());
+            folder.refreshPath();
+            return folder.getId();
+        });
+        suggestionIndex.rebuild(); // 테스트에서는 ApplicationReadyEvent가 발행되지 않음
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM bookmark_tags");
+        jdbcTemplate.update("DELETE FROM bookmarks");
+        jdbcTemplate.update("DELETE FROM tags");
+        jdbcTemplate.update("DELETE FROM folders");
+    }
+
+    @Test
+    @DisplayName("북마크 생성/제목 수정/삭제와 태그 이름 변경/삭제 이벤트로 갱신한 트라이가 DB에서 새로 구축한 결과와 같아야 한다")
+    void events_shouldKeepTriesInSyncWithDatabase() {
+        // 1. 생성: 같은 제목은 북마크 수, 태그는 사용 횟수로 셉니다.
+        create("Spring 가이드", "Spring", "Java");
+        Long second = create("Spring 가이드", "Spring");
+        Long third = create("Docker 정리", "Docker");
+
+        assertThat(suggestionIndex.suggestTitles("spring", 10)).extracting("text", "usageCount")
+                .containsExactly(tuple("Spring 가이드", 2L));
+        assertThat(suggestionIndex.suggestTags("s", 10)).extracting("text", "usageCount")
+                .containsExactly(tuple("Spring", 2L));
+        assertMatchesRebuild();
+
+        // 2. 제목과 태그 수정: 이전 제목은 하나 줄고, 새 제목이 추가됩니다.
+        bookmarkService.updateBookmark(second, new BookmarkUpdateRequestDto("Spring Boot 입문", null, null, null, List.of("Java")));
+
+        assertThat(suggestionIndex.suggestTitles("spring", 10)).extracting("text", "usageCount")
+                .containsExactly(tuple("Spring Boot 입문", 1L), tuple("Spring 가이드", 1L));
+        assertThat(suggestionIndex.suggestTags("j", 10)).extracting("text", "usageCount")
+                .containsExactly(tuple("Java", 2L));
+        assertThat(suggestionIndex.suggestTags("s", 10)).extracting("text", "usageCount")
+                .containsExactly(tuple("Spring", 1L));
+        assertMatchesRebuild();
+
+        // 3. 삭제: 마지막 북마크가 삭제된 제목은 제거되고, 태그는 사용 횟수 0으로 남습니다.
+        bookmarkService.deleteBookmark(third);
+
+        assertThat(suggestionIndex.suggestTitles("d", 10)).isEmpty();
+        assertThat(suggestionIndex.suggestTags("d", 10)).extracting("text", "usageCount")
+                .containsExactly(tuple("Docker", 0L));
+        assertMatchesRebuild();
+
+        // 4. 태그 이름 변경: 사용 횟수를 유지한 채 새 이름으로 옮겨집니다.
+        tagService.updateTag(tagId("Java"), tagRequest("Kotlin"));
+
+        assertThat(suggestionIndex.suggestTags("j", 10)).isEmpty();
+        assertThat(suggestionIndex.suggestTags("k", 10)).extracting("text", "usageCount")
+                .containsExactly(tuple("Kotlin", 2L));
+        assertMatchesRebuild();
+
+        // 5. 태그 삭제: 트라이에서 제거됩니다.
+        tagService.deleteTag(tagId("Docker"));
+
+        assertThat(suggestionIndex.suggestTags("d", 10)).isEmpty();
+        assertMatchesRebuild();
+    }
+
+    // 이벤트로 갱신한 인덱스와 DB 집계로 새로 구축한 인덱스가 모든 접두어에서 같은 후보를 반환하는지 확인합니다.
+    private void assertMatchesRebuild() {
+        SuggestionIndex rebuilt = new SuggestionIndex(tagRepository, bookmarkRepository);
+        rebuilt.rebuild();
+        for (String prefix : PREFIXES) {
+            assertThat(texts(suggestionIndex.suggestTags(prefix, SuggestionIndex.MAX_SUGGESTIONS)))
+                    .as("tags: %s", prefix)
+                    .isEqualTo(texts(rebuilt.suggestTags(prefix, SuggestionIndex.MAX_SUGGESTIONS)));
+            assertThat(texts(suggestionIndex.suggestTitles(prefix, SuggestionIndex.MAX_SUGGESTIONS)))
+                    .as("titles: %s", prefix)
+                    .isEqualTo(texts(rebuilt.suggestTitles(prefix, SuggestionIndex.MAX_SUGGESTIONS)));
+        }
+    }
+
+    private static List<String> texts(List<SuggestionDto> suggestions) {
+        return suggestions.stream().map(suggestion -> suggestion.getText() + "=" + suggestion.getUsageCount()).toList();
+    }
+
+    private Long create(String title, String... tagNames) {
+        return bookmarkService.createBookmark(new BookmarkCreateRequestDto(title,
+                "https://example.com/" + title.hashCode() + "/" + tagNames.length, null, folderId, List.of(tagNames))).getId();
+    }
+
+    private Long tagId(String name) {
+        return tagRepository.findByName(name).orElseThrow().getId();
+    }
+
+    private static TagCreateRequestDto tagRequest(String name) {
+        TagCreateRequestDto request = new TagCreateRequestDto();
+        request.setName(name);
+        return request;
+    }
+}
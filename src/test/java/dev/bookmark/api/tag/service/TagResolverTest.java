@@ -0,0 +1,160 @@
+package dev.bookmark.api.tag.service;
+
+import dev.bookmark.api.tag.domain.Tag;
+import dev.bookmark.api.tag.repository.TagJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TagResolver 클래스에 대한 테스트
+ * 여러 스레드가 커밋된 태그를 보아야 하므로 테스트 트랜잭션 없이 실행하고, 테스트마다 다른 태그 이름을 사용합니다.
+ * 커넥션을 더 빌리지 않는지 확인하기 위해 크기가 작은 커넥션 풀(Hikari)을 쓰고, 커넥션을 기다리는 시간을 짧게 둡니다.
+ */
+@DataJpaTest(properties = {"spring.datasource.hikari.maximum-pool-size=" + TagResolverTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=2000"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TagResolver.class, TagJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TagResolverTest {
+
+    static final int POOL_SIZE = 4;
+
+    @Autowired
+    private TagResolver tagResolver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("없는 태그는 한 번에 만들고, 다시 요청하면 만들지 않고 같은 ID를 반환해야 한다")
+    void resolve_shouldCreateMissingTagsOnceAndReuseThem() {
+        jdbcTemplate.update("INSERT INTO tags (name, name_normalized, created_at) VALUES ('기존', '기존', CURRENT_TIMESTAMP)");
+
+        TagResolver.Resolution first = tagResolver.resolve(List.of("기존", "Batch-A", "Batch-B", "Batch-A", " "));
+        TagResolver.Resolution second = tagResolver.resolve(List.of("Batch-B", "기존", "Batch-A"));
+
+        assertThat(first.ids()).containsOnlyKeys("기존", "Batch-A", "Batch-B");
+        assertThat(first.createdNames()).containsExactly("Batch-A", "Batch-B");
+        assertThat(second.createdNames()).isEmpty();
+        assertThat(second.ids()).isEqualTo(first.ids());
+        assertThat(jdbcTemplate.queryForObject("SELECT name_normalized FROM tags WHERE name = 'Batch-A'", String.class))
+                .isEqualTo("batch-a");
+    }
+
+    @Test
+    @DisplayName("같은 새 태그를 동시에 요청해도 태그는 하나만 만들어지고 모두 같은 ID를 받아야 한다")
+    void resolve_concurrently_shouldCreateEachTagOnce() throws Exception {
+        List<String> names = List.of("Race-1", "Race-2", "Race-3");
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<TagResolver.Resolution>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return tagResolver.resolve(names);
+                }));
+            }
+            start.countDown();
+
+            TagResolver.Resolution first = futures.get(0).get();
+            int created = 0;
+            for (Future<TagResolver.Resolution> future : futures) {
+                TagResolver.Resolution resolution = future.get();
+                assertThat(resolution.ids()).isEqualTo(first.ids());
+                created += resolution.createdNames().size();
+            }
+            assertThat(created).isEqualTo(names.size());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE name LIKE 'Race-%'", Integer.class))
+                .isEqualTo(names.size());
+    }
+
+    @Test
+    @DisplayName("모든 커넥션을 호출한 트랜잭션이 잡고 있어도 커넥션을 더 빌리지 않고 같은 새 태그를 하나만 만들어야 한다")
+    void resolve_inCallerTransactionsWithFullPool_shouldNotBorrowAnotherConnection() throws Exception {
+        List<String> names = List.of("Pool-1", "Pool-2");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+        CyclicBarrier allConnectionsHeld = new CyclicBarrier(POOL_SIZE);
+        try {
+            List<Future<Map<String, Long>>> futures = new ArrayList<>();
+            for (int i = 0; i < POOL_SIZE; i++) {
+                futures.add(executor.submit(() -> transaction.execute(status -> {
+                    jdbcTemplate.queryForObject("SELECT 1", Integer.class); // 트랜잭션의 커넥션을 확실히 잡아 둡니다.
+                    await(allConnectionsHeld);
+                    return tagResolver.resolve(names).ids();
+                })));
+            }
+
+            Map<String, Long> first = futures.get(0).get(30, TimeUnit.SECONDS);
+            assertThat(first).containsOnlyKeys(names);
+            for (Future<Map<String, Long>> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE name LIKE 'Pool-%'", Integer.class))
+                .isEqualTo(names.size());
+    }
+
+    @Test
+    @DisplayName("호출한 트랜잭션이 롤백되면 만든 태그도 남지 않고, 다음 요청에서 다시 만들어야 한다")
+    void resolve_whenCallerRollsBack_shouldNotKeepOrCacheTag() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(tagResolver.resolve(List.of("Rollback")).createdNames()).containsExactly("Rollback");
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE name = 'Rollback'", Integer.class)).isZero();
+        assertThat(tagResolver.resolve(List.of("Rollback")).createdNames()).containsExactly("Rollback");
+    }
+
+    @Test
+    @DisplayName("캐시에 있던 태그가 삭제되었으면 resolveTags는 태그를 다시 만들어야 한다")
+    void resolveTags_withStaleCache_shouldRecreateTag() {
+        Long oldId = tagResolver.resolve(List.of("Stale")).ids().get("Stale");
+        jdbcTemplate.update("DELETE FROM tags WHERE tag_id = ?", oldId);
+
+        List<Tag> tags = tagResolver.resolveTags(List.of("Stale"));
+
+        assertThat(tags).extracting(Tag::getName).containsExactly("Stale");
+        assertThat(tags.get(0).getId()).isNotEqualTo(oldId);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}